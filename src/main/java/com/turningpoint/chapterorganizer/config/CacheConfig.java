@@ -0,0 +1,58 @@
+package com.turningpoint.chapterorganizer.config;
+
+import com.turningpoint.chapterorganizer.dto.MemberSummaryDto;
+import com.turningpoint.chapterorganizer.entity.Chapter;
+import com.turningpoint.chapterorganizer.entity.Institution;
+import com.turningpoint.chapterorganizer.service.CalendarFeed;
+import com.turningpoint.chapterorganizer.util.BoundedCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Near-caches for rarely changing reference data, expanded recurring event
+ * occurrences and rendered calendar feeds. Their statistics are reported by
+ * the metrics endpoint.
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public BoundedCache<Long, Chapter> chapterCache(
+            @Value("${app.cache.chapters.max-size:2000}") int maximumSize,
+            @Value("${app.cache.chapters.ttl-seconds:600}") long ttlSeconds) {
+        return new BoundedCache<>("chapters", maximumSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    @Bean
+    public BoundedCache<Long, Institution> institutionCache(
+            @Value("${app.cache.institutions.max-size:2000}") int maximumSize,
+            @Value("${app.cache.institutions.ttl-seconds:3600}") long ttlSeconds) {
+        return new BoundedCache<>("institutions", maximumSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    @Bean
+    public BoundedCache<Long, List<MemberSummaryDto>> officerRosterCache(
+            @Value("${app.cache.officer-rosters.max-size:5000}") int maximumSize,
+            @Value("${app.cache.officer-rosters.ttl-seconds:600}") long ttlSeconds) {
+        return new BoundedCache<>("officerRosters", maximumSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    @Bean
+    public BoundedCache<String, List<LocalDateTime>> recurringOccurrenceCache(
+            @Value("${app.cache.recurring-occurrences.max-size:20000}") int maximumSize,
+            @Value("${app.cache.recurring-occurrences.ttl-seconds:3600}") long ttlSeconds) {
+        return new BoundedCache<>("recurringOccurrences", maximumSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    @Bean
+    public BoundedCache<String, CalendarFeed> calendarFeedCache(
+            @Value("${app.cache.calendar-feeds.max-size:5000}") int maximumSize,
+            @Value("${app.cache.calendar-feeds.ttl-seconds:3600}") long ttlSeconds) {
+        return new BoundedCache<>("calendarFeeds", maximumSize, Duration.ofSeconds(ttlSeconds));
+    }
+}
@@ -0,0 +1,81 @@
+package com.turningpoint.chapterorganizer.controller;
+
+import com.turningpoint.chapterorganizer.service.CalendarFeed;
+import com.turningpoint.chapterorganizer.service.CalendarFeedService;
+import com.turningpoint.chapterorganizer.util.ICalendar;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * iCalendar (.ics) feeds for calendar apps. Responses carry an ETag; a
+ * request whose If-None-Match matches it gets 304 Not Modified without a
+ * body.
+ */
+@RestController
+@RequestMapping("/api/calendar")
+@CrossOrigin(origins = "*")
+public class CalendarFeedController {
+
+    private static final MediaType CALENDAR = MediaType.parseMediaType(ICalendar.CONTENT_TYPE);
+
+    @Autowired
+    private CalendarFeedService calendarFeedService;
+
+    @GetMapping("/chapters/{chapterId}.ics")
+    public ResponseEntity<byte[]> getChapterFeed(@PathVariable Long chapterId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        try {
+            return feedResponse(calendarFeedService.getChapterFeed(chapterId), ifNoneMatch);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/members/{memberId}.ics")
+    public ResponseEntity<byte[]> getMemberFeed(@PathVariable Long memberId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        try {
+            return feedResponse(calendarFeedService.getMemberFeed(memberId), ifNoneMatch);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    private static ResponseEntity<byte[]> feedResponse(CalendarFeed feed, String ifNoneMatch) {
+        if (matches(ifNoneMatch, feed.getETag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(feed.getETag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(feed.getETag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(CALENDAR)
+                .body(feed.getContent());
+    }
+
+    // Weak comparison (RFC 9110): W/ prefixes are ignored
+    static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
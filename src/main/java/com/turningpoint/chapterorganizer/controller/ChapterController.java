@@ -1,13 +1,24 @@
 package com.turningpoint.chapterorganizer.controller;
 
+import com.turningpoint.chapterorganizer.dto.ChapterDetailDto;
+import com.turningpoint.chapterorganizer.dto.ChapterDto;
+import com.turningpoint.chapterorganizer.dto.ChapterSummaryDto;
+import com.turningpoint.chapterorganizer.dto.CursorPage;
 import com.turningpoint.chapterorganizer.entity.Chapter;
+import com.turningpoint.chapterorganizer.service.ChapterDetailService;
 import com.turningpoint.chapterorganizer.service.ChapterService;
+import com.turningpoint.chapterorganizer.util.DataFormat;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api")
@@ -17,21 +28,73 @@ public class ChapterController {
     @Autowired
     private ChapterService chapterService;
 
+    @Autowired
+    private ChapterDetailService chapterDetailService;
+
+    private static final Set<String> EXPANDABLE = Set.of(
+            ChapterService.EXPAND_MEMBERS, ChapterService.EXPAND_EVENTS);
+
+    /**
+     * Without paging parameters this returns every active chapter, as before.
+     * Passing limit and/or cursor switches to keyset pagination over slim
+     * chapter summaries; expand=members,events opts into the nested lists.
+     */
     @GetMapping("/chapters")
-    public ResponseEntity<List<Chapter>> getAllChapters() {
+    public ResponseEntity<?> getAllChapters(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) String expand) {
         try {
-            List<Chapter> chapters = chapterService.getAllActiveChapters();
-            return ResponseEntity.ok(chapters);
+            if (limit == null && cursor == null) {
+                List<Chapter> chapters = chapterService.getAllActiveChapters();
+                return ResponseEntity.ok(chapters);
+            }
+
+            Set<String> expansions = parseExpand(expand);
+            if (!EXPANDABLE.containsAll(expansions)) {
+                return ResponseEntity.badRequest().build();
+            }
+
+            CursorPage<ChapterSummaryDto> page = chapterService.getActiveChapterSummaries(cursor, limit, expansions);
+            return ResponseEntity.ok(page);
         } catch (Exception e) {
             return ResponseEntity.internalServerError().build();
         }
     }
 
+    private Set<String> parseExpand(String expand) {
+        if (expand == null || expand.isBlank()) {
+            return Collections.emptySet();
+        }
+        return Arrays.stream(expand.split(","))
+                .map(String::trim)
+                .map(String::toLowerCase)
+                .filter(value -> !value.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
+
+    /**
+     * Download every chapter as CSV (default) or NDJSON, optionally gzipped.
+     * Rows are streamed from the database straight into the response.
+     */
+    @GetMapping("/chapters/export")
+    public ResponseEntity<StreamingResponseBody> exportChapters(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        try {
+            DataFormat dataFormat = DataFormat.fromName(format);
+            return ExportResponses.attachment("chapters", dataFormat, gzip,
+                    out -> chapterService.exportChapters(dataFormat, out));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 
     @GetMapping("/chapters/{id}")
-    public ResponseEntity<Chapter> getChapterById(@PathVariable Long id) {
+    public ResponseEntity<ChapterDto> getChapterById(@PathVariable Long id) {
         try {
-            Optional<Chapter> chapter = chapterService.getChapterById(id);
+            Optional<ChapterDto> chapter = chapterService.getChapter(id);
             return chapter.map(ResponseEntity::ok)
                          .orElse(ResponseEntity.notFound().build());
         } catch (Exception e) {
@@ -39,6 +102,21 @@ public class ChapterController {
         }
     }
 
+    /**
+     * Chapter page payload: chapter fields, active member count, president,
+     * officers and next upcoming events, served from a per-chapter cache
+     */
+    @GetMapping("/chapters/{id}/summary")
+    public ResponseEntity<ChapterDetailDto> getChapterSummary(@PathVariable Long id) {
+        try {
+            Optional<ChapterDetailDto> detail = chapterDetailService.getChapterDetail(id);
+            return detail.map(ResponseEntity::ok)
+                         .orElse(ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     @PostMapping("/chapters")
     public ResponseEntity<Chapter> createChapter(@RequestBody Chapter chapter) {
         try {
@@ -1,25 +1,77 @@
 package com.turningpoint.chapterorganizer.controller;
 
+import com.turningpoint.chapterorganizer.dto.CapacityAlert;
+import com.turningpoint.chapterorganizer.dto.CheckInAck;
+import com.turningpoint.chapterorganizer.dto.CursorPage;
+import com.turningpoint.chapterorganizer.dto.EventSummaryDto;
+import com.turningpoint.chapterorganizer.dto.ProvisionalRsvp;
 import com.turningpoint.chapterorganizer.entity.Event;
+import com.turningpoint.chapterorganizer.entity.EventRSVP;
+import com.turningpoint.chapterorganizer.entity.EventType;
+import com.turningpoint.chapterorganizer.service.EventCapacityAlertService;
+import com.turningpoint.chapterorganizer.service.EventCheckInService;
+import com.turningpoint.chapterorganizer.service.EventRsvpQueue;
+import com.turningpoint.chapterorganizer.service.EventRsvpService;
+import com.turningpoint.chapterorganizer.service.EventService;
+import com.turningpoint.chapterorganizer.service.EventWaitlistService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/events")
 @CrossOrigin(origins = "*")
 public class EventController {
 
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRsvpService eventRsvpService;
+
+    @Autowired
+    private EventRsvpQueue eventRsvpQueue;
+
+    @Autowired
+    private EventWaitlistService eventWaitlistService;
+
+    @Autowired
+    private EventCapacityAlertService capacityAlertService;
+
+    @Autowired
+    private EventCheckInService eventCheckInService;
+
+    /**
+     * Keyset page of event summaries in a time window, ordered by date. from
+     * defaults to now and to to 90 days later; the window may not exceed 366
+     * days. Filters: chapterId, type and includeCancelled. Pass nextCursor
+     * back as cursor for the following page.
+     */
     @GetMapping
-    public ResponseEntity<List<Event>> getAllEvents() {
+    public ResponseEntity<CursorPage<EventSummaryDto>> getEvents(
+            @RequestParam(required = false) Long chapterId,
+            @RequestParam(required = false) EventType type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "false") boolean includeCancelled,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit) {
         try {
-            // For now, return an empty list since we don't have EventService injected
-            // This would be implemented with proper event service
-            return ResponseEntity.ok(List.of());
+            return ResponseEntity.ok(eventService.getEvents(chapterId, type, from, to, includeCancelled, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             return ResponseEntity.internalServerError().build();
         }
@@ -28,23 +80,293 @@ public class EventController {
     @GetMapping("/{id}")
     public ResponseEntity<Event> getEventById(@PathVariable Long id) {
         try {
-            // Placeholder implementation
+            Optional<Event> event = eventService.getEventById(id);
+            return event.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * A chapter's events in a time window; same parameters as the event listing
+     */
+    @GetMapping("/chapter/{chapterId}")
+    public ResponseEntity<CursorPage<EventSummaryDto>> getEventsByChapter(
+            @PathVariable Long chapterId,
+            @RequestParam(required = false) EventType type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "false") boolean includeCancelled,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit) {
+        return getEvents(chapterId, type, from, to, includeCancelled, cursor, limit);
+    }
+
+    /**
+     * A chapter's active events between two dates (from inclusive, to
+     * exclusive) for calendar views; defaults to the current month
+     */
+    @GetMapping("/chapter/{chapterId}/calendar")
+    public ResponseEntity<List<EventSummaryDto>> getChapterCalendar(
+            @PathVariable Long chapterId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            return ResponseEntity.ok(eventService.getChapterCalendar(chapterId, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Events that would overlap an event of the chapter at that time and
+     * location: those of the same chapter or at the same venue starting less
+     * than an hour apart. For checking a time before creating an event.
+     */
+    @GetMapping("/conflicts")
+    public ResponseEntity<List<EventSummaryDto>> findConflicts(
+            @RequestParam(required = false) Long chapterId,
+            @RequestParam(required = false) String location,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start) {
+        try {
+            return ResponseEntity.ok(eventService.findConflicts(chapterId, location, start, null));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Events overlapping an existing event; see the conflict check above
+     */
+    @GetMapping("/{id}/conflicts")
+    public ResponseEntity<List<EventSummaryDto>> getConflicts(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(eventService.getConflicts(id));
+        } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
         } catch (Exception e) {
             return ResponseEntity.internalServerError().build();
         }
     }
 
+    /**
+     * Server-sent stream of capacity alerts, optionally for one chapter: a
+     * "snapshot" event with the events currently nearly full or full, then a
+     * "capacity" event whenever an event becomes nearly full, full, available
+     * again or closed
+     */
+    @GetMapping(value = "/capacity-alerts", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCapacityAlerts(@RequestParam(required = false) Long chapterId) {
+        return capacityAlertService.subscribe(chapterId);
+    }
+
+    /**
+     * Upcoming events with at most five seats left, from memory
+     */
+    @GetMapping("/nearly-full")
+    public ResponseEntity<List<CapacityAlert>> getNearlyFullEvents(@RequestParam(required = false) Long chapterId) {
+        try {
+            return ResponseEntity.ok(capacityAlertService.getAlertingEvents(chapterId));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/chapter/{chapterId}/upcoming")
+    public ResponseEntity<List<EventSummaryDto>> getUpcomingEventsByChapter(@PathVariable Long chapterId,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(eventService.getUpcomingEventSummaries(chapterId, limit));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/chapter/{chapterId}/count/upcoming")
+    public ResponseEntity<Long> countUpcomingEventsByChapter(@PathVariable Long chapterId) {
+        try {
+            return ResponseEntity.ok(eventService.countUpcomingEventsByChapter(chapterId));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     @PostMapping
-    public ResponseEntity<Map<String, Object>> createEvent(@RequestBody Map<String, Object> event) {
+    public ResponseEntity<Event> createEvent(@RequestBody Event event) {
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(eventService.createEvent(event));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<Event> updateEvent(@PathVariable Long id, @RequestBody Event event) {
+        try {
+            return ResponseEntity.ok(eventService.updateEvent(id, event));
+        } catch (IllegalArgumentException e) {
+            return eventService.getEventById(id).isPresent()
+                    ? ResponseEntity.badRequest().build()
+                    : ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteEvent(@PathVariable Long id) {
+        try {
+            eventService.cancelEvent(id);
+            return ResponseEntity.noContent().build();
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @PutMapping("/{id}/register")
+    public ResponseEntity<Event> registerAttendee(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(eventService.registerAttendee(id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @PutMapping("/{id}/unregister")
+    public ResponseEntity<Event> unregisterAttendee(@PathVariable Long id) {
         try {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Event creation endpoint working");
-            response.put("timestamp", LocalDateTime.now());
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(eventService.unregisterAttendee(id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * RSVP a member to an event, taking one of its seats. Repeating an RSVP
+     * is harmless. With waitlist=true a member RSVPing to a full event joins
+     * its waitlist instead (status WAITLISTED). 400 when the member or event
+     * does not exist, the event was cancelled or it is full, which it is
+     * while members are on its waitlist.
+     */
+    @PostMapping("/{id}/rsvps")
+    public ResponseEntity<EventRSVP> rsvp(@PathVariable Long id, @RequestParam Long memberId,
+            @RequestParam(defaultValue = "false") boolean waitlist) {
+        try {
+            return ResponseEntity.ok(waitlist
+                    ? eventWaitlistService.join(id, memberId)
+                    : eventWaitlistService.rsvp(id, memberId));
+        } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
+        } catch (DataIntegrityViolationException e) {
+            // The same member's RSVP committed concurrently
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * RSVP through the write-behind queue, for bursts. 202 when a seat is
+     * held and the RSVP queued, 400 when the event is full or unavailable,
+     * 503 when the queue is full.
+     */
+    @PostMapping("/{id}/rsvps/queued")
+    public ResponseEntity<ProvisionalRsvp> queueRsvp(@PathVariable Long id, @RequestParam Long memberId) {
+        try {
+            ProvisionalRsvp result = eventRsvpQueue.rsvp(id, memberId);
+            if (result.isAccepted()) {
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(result);
+            }
+            if (result.getDecision() == ProvisionalRsvp.Decision.BUSY) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "1").body(result);
+            }
+            return ResponseEntity.badRequest().body(result);
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/{id}/rsvps/{memberId}")
+    public ResponseEntity<EventRSVP> getRsvp(@PathVariable Long id, @PathVariable Long memberId) {
+        try {
+            return eventRsvpService.getRsvp(id, memberId).map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Check a member in at the door. 202 once the scan is logged, 200 when
+     * the member was already scanned, 503 when the check-in log is
+     * unavailable. Check-ins are applied to the RSVP and the event's
+     * checked-in count shortly after; members without a GOING RSVP are not
+     * checked in.
+     */
+    @PostMapping("/{id}/check-ins")
+    public ResponseEntity<CheckInAck> checkIn(@PathVariable Long id, @RequestParam Long memberId) {
+        try {
+            CheckInAck ack = eventCheckInService.checkIn(id, memberId);
+            if (!ack.isAccepted()) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "1").body(ack);
+            }
+            return ack.getStatus() == CheckInAck.Status.DUPLICATE
+                    ? ResponseEntity.ok(ack)
+                    : ResponseEntity.status(HttpStatus.ACCEPTED).body(ack);
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Counters of the check-in path: scans accepted, duplicates, RSVPs
+     * checked in, scans of members already checked in, unmatched scans and
+     * scans not yet applied
+     */
+    @GetMapping("/check-ins/stats")
+    public ResponseEntity<Map<String, Long>> getCheckInStats() {
+        try {
+            return ResponseEntity.ok(eventCheckInService.getStats());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Cancel a member's RSVP, or take them off the waitlist. A freed seat
+     * goes to the next member on the waitlist.
+     */
+    @DeleteMapping("/{id}/rsvps/{memberId}")
+    public ResponseEntity<Void> cancelRsvp(@PathVariable Long id, @PathVariable Long memberId) {
+        try {
+            return eventWaitlistService.leave(id, memberId).isPresent()
+                    ? ResponseEntity.noContent().build()
+                    : ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Member ids on the event's waitlist, next to be promoted first
+     */
+    @GetMapping("/{id}/waitlist")
+    public ResponseEntity<List<Long>> getWaitlist(@PathVariable Long id,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(eventWaitlistService.getWaitlist(id, limit));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
         }
     }
 }
@@ -0,0 +1,47 @@
+package com.turningpoint.chapterorganizer.controller;
+
+import com.turningpoint.chapterorganizer.util.DataFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Builds download responses for streamed exports. The body is written on an
+ * async request thread after the headers are sent, so errors must be
+ * detected before calling this.
+ */
+final class ExportResponses {
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private ExportResponses() {
+    }
+
+    /**
+     * Attachment response named {@code <baseName>.<ext>}, or {@code .<ext>.gz}
+     * with an application/gzip body when gzip is requested
+     */
+    static ResponseEntity<StreamingResponseBody> attachment(String baseName, DataFormat format, boolean gzip,
+            StreamingResponseBody body) {
+        String filename = baseName + "." + format.getExtension() + (gzip ? ".gz" : "");
+        MediaType contentType = gzip
+                ? MediaType.parseMediaType("application/gzip")
+                : MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8");
+
+        StreamingResponseBody stream = !gzip ? body : out -> {
+            GZIPOutputStream compressed = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+            body.writeTo(compressed);
+            compressed.finish();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(stream);
+    }
+}
@@ -1,12 +1,33 @@
 package com.turningpoint.chapterorganizer.controller;
 
+import com.turningpoint.chapterorganizer.dto.CursorPage;
+import com.turningpoint.chapterorganizer.dto.DuplicateScanResult;
+import com.turningpoint.chapterorganizer.dto.MemberImportResult;
+import com.turningpoint.chapterorganizer.dto.MemberPickerDto;
+import com.turningpoint.chapterorganizer.dto.MemberSearchCriteria;
+import com.turningpoint.chapterorganizer.dto.MemberSummaryDto;
+import com.turningpoint.chapterorganizer.dto.MemberTransferRequest;
+import com.turningpoint.chapterorganizer.dto.MemberTransferResult;
+import com.turningpoint.chapterorganizer.entity.DuplicateMemberCandidate;
+import com.turningpoint.chapterorganizer.entity.DuplicateReviewStatus;
 import com.turningpoint.chapterorganizer.entity.Member;
+import com.turningpoint.chapterorganizer.entity.MemberRole;
+import com.turningpoint.chapterorganizer.service.ChapterService;
+import com.turningpoint.chapterorganizer.service.MemberDuplicateService;
+import com.turningpoint.chapterorganizer.service.MemberImportService;
 import com.turningpoint.chapterorganizer.service.MemberService;
+import com.turningpoint.chapterorganizer.util.DataFormat;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -17,6 +38,15 @@ public class MemberController {
     @Autowired
     private MemberService memberService;
 
+    @Autowired
+    private MemberImportService memberImportService;
+
+    @Autowired
+    private ChapterService chapterService;
+
+    @Autowired
+    private MemberDuplicateService memberDuplicateService;
+
     @GetMapping
     public ResponseEntity<List<Member>> getAllMembers() {
         try {
@@ -28,6 +58,66 @@ public class MemberController {
         }
     }
 
+    /**
+     * Search members by any combination of chapterId, name, firstName,
+     * lastName, email, role, major, graduationYear and active. Text filters
+     * are case-insensitive prefix matches. Results are keyset-paginated by id:
+     * pass nextCursor back as cursor for the following page.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CursorPage<MemberSummaryDto>> searchMembers(
+            MemberSearchCriteria criteria,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(memberService.searchMembers(criteria, cursor, limit));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Member picker suggestions for a partially typed name ("jo sm"): the
+     * best matching active members, optionally within one chapter, with
+     * their chapter names. limit defaults to 10 and is capped at 50.
+     */
+    @GetMapping("/picker")
+    public ResponseEntity<List<MemberPickerDto>> searchMemberPicker(
+            @RequestParam String q,
+            @RequestParam(required = false) Long chapterId,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(memberService.searchMemberPicker(q, chapterId, limit));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Download members as CSV (default) or NDJSON, optionally gzipped: all
+     * members, or one chapter's when chapterId is given (inactive included).
+     * Rows are streamed from the database straight into the response.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMembers(
+            @RequestParam(required = false) Long chapterId,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        try {
+            DataFormat dataFormat = DataFormat.fromName(format);
+            if (chapterId != null && chapterService.getChapterById(chapterId).isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            String baseName = chapterId == null ? "members" : "chapter-" + chapterId + "-members";
+            return ExportResponses.attachment(baseName, dataFormat, gzip,
+                    out -> memberService.exportMembers(chapterId, dataFormat, out));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Member> getMemberById(@PathVariable Long id) {
         try {
@@ -49,6 +139,89 @@ public class MemberController {
         }
     }
 
+    /**
+     * Active officers of a chapter, highest office first (cached per chapter)
+     */
+    @GetMapping("/chapter/{chapterId}/officers")
+    public ResponseEntity<List<MemberSummaryDto>> getChapterOfficers(@PathVariable Long chapterId) {
+        try {
+            return ResponseEntity.ok(memberService.getOfficerRoster(chapterId));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Active member counts by role for a comma-separated list of chapters,
+     * e.g. /role-counts?chapterIds=1,2,3, answered by a single grouped query
+     */
+    @GetMapping("/role-counts")
+    public ResponseEntity<Map<Long, Map<MemberRole, Long>>> getRoleCounts(@RequestParam List<Long> chapterIds) {
+        try {
+            return ResponseEntity.ok(memberService.getRoleHistograms(new LinkedHashSet<>(chapterIds)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Probable duplicate member pairs found by the last scans, most likely
+     * first. status defaults to PENDING (the review queue); limit defaults
+     * to 50 and is capped at 500.
+     */
+    @GetMapping("/duplicates")
+    public ResponseEntity<List<DuplicateMemberCandidate>> getDuplicateCandidates(
+            @RequestParam(required = false) DuplicateReviewStatus status,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(memberDuplicateService.getCandidates(status, limit));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Start a duplicate member scan in the background: 202 when started,
+     * 409 when a scan is already running
+     */
+    @PostMapping("/duplicates/scan")
+    public ResponseEntity<Void> startDuplicateScan() {
+        try {
+            return memberDuplicateService.startScan()
+                    ? ResponseEntity.accepted().build()
+                    : ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Summary of the last completed duplicate scan; 204 if none has completed yet
+     */
+    @GetMapping("/duplicates/scan")
+    public ResponseEntity<DuplicateScanResult> getLastDuplicateScan() {
+        DuplicateScanResult lastScan = memberDuplicateService.getLastScan();
+        return lastScan == null ? ResponseEntity.noContent().build() : ResponseEntity.ok(lastScan);
+    }
+
+    /**
+     * Confirm or dismiss a candidate pair, e.g. /duplicates/7?status=DISMISSED.
+     * 400 for an unknown candidate or a PENDING status.
+     */
+    @PutMapping("/duplicates/{id}")
+    public ResponseEntity<DuplicateMemberCandidate> reviewDuplicateCandidate(@PathVariable Long id,
+            @RequestParam DuplicateReviewStatus status) {
+        try {
+            return ResponseEntity.ok(memberDuplicateService.reviewCandidate(id, status));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     @PostMapping
     public ResponseEntity<Member> createMember(@RequestBody Member member) {
         try {
@@ -59,6 +232,41 @@ public class MemberController {
         }
     }
 
+    /**
+     * Bulk import from a CSV (with header row) or NDJSON request body. The body
+     * is streamed; the response reports imported/failed counts and per-row errors.
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<MemberImportResult> importMembers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestParam(required = false) Long chapterId,
+            InputStream body) {
+        try {
+            MemberImportResult result = memberImportService.importMembers(
+                    body, DataFormat.fromContentType(contentType), chapterId);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Move all members of one chapter, or a subset filtered by memberIds,
+     * role and/or active, to another chapter in one set-based operation
+     */
+    @PostMapping("/transfer")
+    public ResponseEntity<MemberTransferResult> transferMembers(@RequestBody MemberTransferRequest request) {
+        try {
+            return ResponseEntity.ok(memberService.transferMembers(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Member> updateMember(@PathVariable Long id, @RequestBody Member member) {
         try {
@@ -1,5 +1,8 @@
 package com.turningpoint.chapterorganizer.controller;
 
+import com.turningpoint.chapterorganizer.service.MemberEmailFilter;
+import com.turningpoint.chapterorganizer.util.BoundedCache;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -7,12 +10,19 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api")
 @CrossOrigin(origins = "*")
 public class MonitoringController {
 
+    @Autowired
+    private List<BoundedCache<?, ?>> caches;
+
+    @Autowired
+    private MemberEmailFilter memberEmailFilter;
+
         @GetMapping("/health")
     public ResponseEntity<Map<String, Object>> getHealth() {
         Map<String, Object> health = new HashMap<>();
@@ -54,6 +64,10 @@ public class MonitoringController {
             "osName", System.getProperty("os.name"),
             "osVersion", System.getProperty("os.version")
         ));
+        metrics.put("caches", caches.stream()
+            .map(BoundedCache::stats)
+            .collect(Collectors.toList()));
+        metrics.put("memberEmailFilter", memberEmailFilter.stats());
         
         return ResponseEntity.ok(metrics);
     }
@@ -0,0 +1,127 @@
+package com.turningpoint.chapterorganizer.controller;
+
+import com.turningpoint.chapterorganizer.entity.Event;
+import com.turningpoint.chapterorganizer.entity.RecurringEvent;
+import com.turningpoint.chapterorganizer.service.RecurringEventService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/recurring-events")
+@CrossOrigin(origins = "*")
+public class RecurringEventController {
+
+    @Autowired
+    private RecurringEventService recurringEventService;
+
+    @GetMapping("/{id}")
+    public ResponseEntity<RecurringEvent> getRecurringEventById(@PathVariable Long id) {
+        try {
+            Optional<RecurringEvent> recurringEvent = recurringEventService.getRecurringEventById(id);
+            return recurringEvent.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/chapter/{chapterId}")
+    public ResponseEntity<List<RecurringEvent>> getRecurringEventsByChapter(@PathVariable Long chapterId) {
+        try {
+            return ResponseEntity.ok(recurringEventService.getRecurringEventsByChapter(chapterId));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @PostMapping
+    public ResponseEntity<RecurringEvent> createRecurringEvent(@RequestBody RecurringEvent recurringEvent) {
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(recurringEventService.createRecurringEvent(recurringEvent));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<RecurringEvent> updateRecurringEvent(@PathVariable Long id,
+            @RequestBody RecurringEvent recurringEvent) {
+        try {
+            return ResponseEntity.ok(recurringEventService.updateRecurringEvent(id, recurringEvent));
+        } catch (IllegalArgumentException e) {
+            return recurringEventService.getRecurringEventById(id).isPresent()
+                    ? ResponseEntity.badRequest().build()
+                    : ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteRecurringEvent(@PathVariable Long id) {
+        try {
+            recurringEventService.cancelRecurringEvent(id);
+            return ResponseEntity.noContent().build();
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * The event for one occurrence, created from the series on first use, so
+     * that the occurrence can be edited or RSVPed to on its own. 400 when the
+     * series has no occurrence on that date.
+     */
+    @PostMapping("/{id}/occurrences/{date}")
+    public ResponseEntity<Event> materializeOccurrence(@PathVariable Long id,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        try {
+            return ResponseEntity.ok(recurringEventService.materializeOccurrence(id, date));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (DataIntegrityViolationException e) {
+            // The same occurrence was materialized concurrently
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Skip one occurrence of the series
+     */
+    @PostMapping("/{id}/exceptions/{date}")
+    public ResponseEntity<RecurringEvent> skipOccurrence(@PathVariable Long id,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        try {
+            return ResponseEntity.ok(recurringEventService.skipOccurrence(id, date));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Undo skipping an occurrence
+     */
+    @DeleteMapping("/{id}/exceptions/{date}")
+    public ResponseEntity<RecurringEvent> restoreOccurrence(@PathVariable Long id,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        try {
+            return ResponseEntity.ok(recurringEventService.restoreOccurrence(id, date));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.turningpoint.chapterorganizer.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * An event's seats crossing a capacity threshold, pushed to dashboards.
+ * {@code level} is the event's new level and {@code previousLevel} the one
+ * it left.
+ */
+public class CapacityAlert {
+
+    public enum Level {
+        AVAILABLE,
+        // Few seats left
+        NEARLY_FULL,
+        FULL,
+        // The event was cancelled or has started
+        CLOSED
+    }
+
+    private final Long eventId;
+    private final Long chapterId;
+    private final String title;
+    private final LocalDateTime eventDateTime;
+    private final Level level;
+    private final Level previousLevel;
+    private final Integer currentAttendees;
+    private final Integer maxAttendees;
+
+    public CapacityAlert(Long eventId, Long chapterId, String title, LocalDateTime eventDateTime, Level level,
+            Level previousLevel, Integer currentAttendees, Integer maxAttendees) {
+        this.eventId = eventId;
+        this.chapterId = chapterId;
+        this.title = title;
+        this.eventDateTime = eventDateTime;
+        this.level = level;
+        this.previousLevel = previousLevel;
+        this.currentAttendees = currentAttendees;
+        this.maxAttendees = maxAttendees;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public Long getChapterId() {
+        return chapterId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public LocalDateTime getEventDateTime() {
+        return eventDateTime;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public Level getPreviousLevel() {
+        return previousLevel;
+    }
+
+    public Integer getCurrentAttendees() {
+        return currentAttendees;
+    }
+
+    public Integer getMaxAttendees() {
+        return maxAttendees;
+    }
+
+    public Integer getRemainingSeats() {
+        if (maxAttendees == null) {
+            return null;
+        }
+        return Math.max(0, maxAttendees - (currentAttendees == null ? 0 : currentAttendees));
+    }
+}
@@ -0,0 +1,115 @@
+package com.turningpoint.chapterorganizer.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Everything a chapter page renders in one payload: the chapter itself, its
+ * active member count, president, officer roster and next upcoming events.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChapterDetailDto {
+
+    private Long id;
+    private String name;
+    private String universityName;
+    private String state;
+    private String city;
+    private String description;
+    private Boolean active;
+    private Integer activeMemberCount;
+    private MemberSummaryDto president;
+    private List<MemberSummaryDto> officers = new ArrayList<>();
+    private List<EventSummaryDto> upcomingEvents = new ArrayList<>();
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getUniversityName() {
+        return universityName;
+    }
+
+    public void setUniversityName(String universityName) {
+        this.universityName = universityName;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public Integer getActiveMemberCount() {
+        return activeMemberCount;
+    }
+
+    public void setActiveMemberCount(Integer activeMemberCount) {
+        this.activeMemberCount = activeMemberCount;
+    }
+
+    public MemberSummaryDto getPresident() {
+        return president;
+    }
+
+    public void setPresident(MemberSummaryDto president) {
+        this.president = president;
+    }
+
+    public List<MemberSummaryDto> getOfficers() {
+        return officers;
+    }
+
+    public void setOfficers(List<MemberSummaryDto> officers) {
+        this.officers = officers;
+    }
+
+    public List<EventSummaryDto> getUpcomingEvents() {
+        return upcomingEvents;
+    }
+
+    public void setUpcomingEvents(List<EventSummaryDto> upcomingEvents) {
+        this.upcomingEvents = upcomingEvents;
+    }
+}
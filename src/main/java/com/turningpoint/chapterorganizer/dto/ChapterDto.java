@@ -0,0 +1,121 @@
+package com.turningpoint.chapterorganizer.dto;
+
+import com.turningpoint.chapterorganizer.entity.Chapter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A chapter's own columns, as returned when a single chapter is looked up.
+ * Members and events are not included; they have endpoints of their own.
+ */
+public class ChapterDto {
+
+    private Long id;
+    private String name;
+    private String universityName;
+    private String state;
+    private String city;
+    private String description;
+    private Boolean active;
+    private Integer activeMemberCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public ChapterDto() {
+    }
+
+    public ChapterDto(Chapter chapter, Integer activeMemberCount) {
+        this.id = chapter.getId();
+        this.name = chapter.getName();
+        this.universityName = chapter.getUniversityName();
+        this.state = chapter.getState();
+        this.city = chapter.getCity();
+        this.description = chapter.getDescription();
+        this.active = chapter.getActive();
+        this.activeMemberCount = activeMemberCount;
+        this.createdAt = chapter.getCreatedAt();
+        this.updatedAt = chapter.getUpdatedAt();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getUniversityName() {
+        return universityName;
+    }
+
+    public void setUniversityName(String universityName) {
+        this.universityName = universityName;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public Integer getActiveMemberCount() {
+        return activeMemberCount;
+    }
+
+    public void setActiveMemberCount(Integer activeMemberCount) {
+        this.activeMemberCount = activeMemberCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
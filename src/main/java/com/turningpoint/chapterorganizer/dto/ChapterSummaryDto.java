@@ -0,0 +1,122 @@
+package com.turningpoint.chapterorganizer.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Slim read model of a chapter for list pages. Members and events are only
+ * populated when explicitly requested through the {@code expand} parameter.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChapterSummaryDto {
+
+    private Long id;
+    private String name;
+    private String universityName;
+    private String state;
+    private String city;
+    private Boolean active;
+    private Integer activeMemberCount;
+    private LocalDateTime createdAt;
+    private List<MemberSummaryDto> members;
+    private List<EventSummaryDto> events;
+
+    // Constructors
+    public ChapterSummaryDto() {
+    }
+
+    public ChapterSummaryDto(Long id, String name, String universityName, String state, String city,
+            Boolean active, Integer activeMemberCount, LocalDateTime createdAt) {
+        this.id = id;
+        this.name = name;
+        this.universityName = universityName;
+        this.state = state;
+        this.city = city;
+        this.active = active;
+        this.activeMemberCount = activeMemberCount;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getUniversityName() {
+        return universityName;
+    }
+
+    public void setUniversityName(String universityName) {
+        this.universityName = universityName;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public Integer getActiveMemberCount() {
+        return activeMemberCount;
+    }
+
+    public void setActiveMemberCount(Integer activeMemberCount) {
+        this.activeMemberCount = activeMemberCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public List<MemberSummaryDto> getMembers() {
+        return members;
+    }
+
+    public void setMembers(List<MemberSummaryDto> members) {
+        this.members = members;
+    }
+
+    public List<EventSummaryDto> getEvents() {
+        return events;
+    }
+
+    public void setEvents(List<EventSummaryDto> events) {
+        this.events = events;
+    }
+}
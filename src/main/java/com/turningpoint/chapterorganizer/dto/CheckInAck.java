@@ -0,0 +1,42 @@
+package com.turningpoint.chapterorganizer.dto;
+
+/**
+ * The immediate answer to a check-in scan. ACCEPTED means the scan is on
+ * disk and will be applied to the member's RSVP shortly.
+ */
+public class CheckInAck {
+
+    public enum Status {
+        ACCEPTED,
+        // The member was already scanned in at the event
+        DUPLICATE,
+        // The scan could not be written to the log; retry it
+        UNAVAILABLE
+    }
+
+    private final Long eventId;
+    private final Long memberId;
+    private final Status status;
+
+    public CheckInAck(Long eventId, Long memberId, Status status) {
+        this.eventId = eventId;
+        this.memberId = memberId;
+        this.status = status;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isAccepted() {
+        return status == Status.ACCEPTED || status == Status.DUPLICATE;
+    }
+}
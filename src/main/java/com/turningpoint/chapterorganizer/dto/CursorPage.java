@@ -0,0 +1,55 @@
+package com.turningpoint.chapterorganizer.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing. {@code nextCursor} is the key to
+ * pass back as {@code cursor} to fetch the following page, or null when the
+ * listing is exhausted. {@code totalCount}, when present, is the number of
+ * matches across all pages; listings that report it do so on the first page
+ * only.
+ */
+public class CursorPage<T> {
+
+    private final List<T> items;
+    private final Long nextCursor;
+    private final boolean hasMore;
+    private final int limit;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long totalCount;
+
+    public CursorPage(List<T> items, Long nextCursor, boolean hasMore, int limit) {
+        this(items, nextCursor, hasMore, limit, null);
+    }
+
+    public CursorPage(List<T> items, Long nextCursor, boolean hasMore, int limit, Long totalCount) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+        this.limit = limit;
+        this.totalCount = totalCount;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public Long getTotalCount() {
+        return totalCount;
+    }
+}
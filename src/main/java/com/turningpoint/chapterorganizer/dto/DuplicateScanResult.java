@@ -0,0 +1,65 @@
+package com.turningpoint.chapterorganizer.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Summary of one duplicate member scan
+ */
+public class DuplicateScanResult {
+
+    private final LocalDateTime startedAt;
+    private final long durationMs;
+    private final int members;
+    private final int blocks;
+    private final int windowedBlocks;
+    private final long comparisons;
+    private final int candidates;
+    private final int queued;
+
+    public DuplicateScanResult(LocalDateTime startedAt, long durationMs, int members, int blocks,
+            int windowedBlocks, long comparisons, int candidates, int queued) {
+        this.startedAt = startedAt;
+        this.durationMs = durationMs;
+        this.members = members;
+        this.blocks = blocks;
+        this.windowedBlocks = windowedBlocks;
+        this.comparisons = comparisons;
+        this.candidates = candidates;
+        this.queued = queued;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public int getMembers() {
+        return members;
+    }
+
+    public int getBlocks() {
+        return blocks;
+    }
+
+    public int getWindowedBlocks() {
+        return windowedBlocks;
+    }
+
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    public int getCandidates() {
+        return candidates;
+    }
+
+    /**
+     * Candidates written to the review queue: those not already confirmed or dismissed
+     */
+    public int getQueued() {
+        return queued;
+    }
+}
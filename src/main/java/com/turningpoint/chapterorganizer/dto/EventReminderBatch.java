@@ -0,0 +1,86 @@
+package com.turningpoint.chapterorganizer.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One batch of reminders for an event, handed to a reminder sender. Large
+ * events are reminded in several batches.
+ */
+public class EventReminderBatch {
+
+    private final Long eventId;
+    private final String title;
+    private final LocalDateTime eventDateTime;
+    private final String location;
+    private final int minutesBefore;
+    private final List<Recipient> recipients;
+
+    public EventReminderBatch(Long eventId, String title, LocalDateTime eventDateTime, String location,
+            int minutesBefore, List<Recipient> recipients) {
+        this.eventId = eventId;
+        this.title = title;
+        this.eventDateTime = eventDateTime;
+        this.location = location;
+        this.minutesBefore = minutesBefore;
+        this.recipients = recipients;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public LocalDateTime getEventDateTime() {
+        return eventDateTime;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public int getMinutesBefore() {
+        return minutesBefore;
+    }
+
+    public List<Recipient> getRecipients() {
+        return recipients;
+    }
+
+    /**
+     * A member going to the event
+     */
+    public static class Recipient {
+
+        private final Long memberId;
+        private final String firstName;
+        private final String lastName;
+        private final String email;
+
+        public Recipient(Long memberId, String firstName, String lastName, String email) {
+            this.memberId = memberId;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.email = email;
+        }
+
+        public Long getMemberId() {
+            return memberId;
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public String getLastName() {
+            return lastName;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+    }
+}
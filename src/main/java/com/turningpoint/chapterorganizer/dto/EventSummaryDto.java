@@ -0,0 +1,114 @@
+package com.turningpoint.chapterorganizer.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.turningpoint.chapterorganizer.entity.EventType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Slim read model of an event, used wherever an event is listed rather than
+ * edited. Occurrences of a recurring event carry its id and the occurrence
+ * date; those not stored as an event of their own have no {@code id}.
+ */
+public class EventSummaryDto {
+
+    private Long id;
+    private Long chapterId;
+    private String title;
+    private LocalDateTime eventDateTime;
+    private String location;
+    private EventType type;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long recurringEventId;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LocalDate occurrenceDate;
+
+    // Constructors
+    public EventSummaryDto() {
+    }
+
+    public EventSummaryDto(Long id, Long chapterId, String title, LocalDateTime eventDateTime,
+            String location, EventType type) {
+        this.id = id;
+        this.chapterId = chapterId;
+        this.title = title;
+        this.eventDateTime = eventDateTime;
+        this.location = location;
+        this.type = type;
+    }
+
+    public EventSummaryDto(Long id, Long chapterId, String title, LocalDateTime eventDateTime,
+            String location, EventType type, Long recurringEventId, LocalDate occurrenceDate) {
+        this(id, chapterId, title, eventDateTime, location, type);
+        this.recurringEventId = recurringEventId;
+        this.occurrenceDate = occurrenceDate;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getChapterId() {
+        return chapterId;
+    }
+
+    public void setChapterId(Long chapterId) {
+        this.chapterId = chapterId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public LocalDateTime getEventDateTime() {
+        return eventDateTime;
+    }
+
+    public void setEventDateTime(LocalDateTime eventDateTime) {
+        this.eventDateTime = eventDateTime;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public EventType getType() {
+        return type;
+    }
+
+    public void setType(EventType type) {
+        this.type = type;
+    }
+
+    public Long getRecurringEventId() {
+        return recurringEventId;
+    }
+
+    public void setRecurringEventId(Long recurringEventId) {
+        this.recurringEventId = recurringEventId;
+    }
+
+    public LocalDate getOccurrenceDate() {
+        return occurrenceDate;
+    }
+
+    public void setOccurrenceDate(LocalDate occurrenceDate) {
+        this.occurrenceDate = occurrenceDate;
+    }
+}
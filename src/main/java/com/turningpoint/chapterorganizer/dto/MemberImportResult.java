@@ -0,0 +1,85 @@
+package com.turningpoint.chapterorganizer.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk member import. Only the first {@code maxErrors} row
+ * errors are kept so the report stays small for very large files;
+ * {@code errorsTruncated} says whether any were dropped.
+ */
+public class MemberImportResult {
+
+    private final int maxErrors;
+    private long totalRows;
+    private long imported;
+    private long failed;
+    private boolean errorsTruncated;
+    private final List<RowError> errors = new ArrayList<>();
+
+    public MemberImportResult(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    public void addRow() {
+        totalRows++;
+    }
+
+    public void addImported(int count) {
+        imported += count;
+    }
+
+    public void addError(long line, String email, String message) {
+        failed++;
+        if (errors.size() < maxErrors) {
+            errors.add(new RowError(line, email, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public static class RowError {
+
+        private final long line;
+        private final String email;
+        private final String message;
+
+        public RowError(long line, String email, String message) {
+            this.line = line;
+            this.email = email;
+            this.message = message;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.turningpoint.chapterorganizer.dto;
+
+/**
+ * Member picker suggestion: just enough to show and select a member
+ */
+public class MemberPickerDto {
+
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private Long chapterId;
+    private String chapterName;
+
+    // Constructors
+    public MemberPickerDto() {
+    }
+
+    public MemberPickerDto(Long id, String firstName, String lastName, Long chapterId, String chapterName) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.chapterId = chapterId;
+        this.chapterName = chapterName;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public Long getChapterId() {
+        return chapterId;
+    }
+
+    public void setChapterId(Long chapterId) {
+        this.chapterId = chapterId;
+    }
+
+    public String getChapterName() {
+        return chapterName;
+    }
+
+    public void setChapterName(String chapterName) {
+        this.chapterName = chapterName;
+    }
+
+    // Helper method for full name
+    public String getFullName() {
+        return firstName + " " + lastName;
+    }
+}
@@ -0,0 +1,94 @@
+package com.turningpoint.chapterorganizer.dto;
+
+import com.turningpoint.chapterorganizer.entity.MemberRole;
+
+/**
+ * Optional filters of a member search, bound from query parameters. Text
+ * filters match case-insensitively on the start of the value; each word of
+ * {@code name} must match the start of either the first or the last name.
+ */
+public class MemberSearchCriteria {
+
+    private Long chapterId;
+    private String name;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private MemberRole role;
+    private String major;
+    private String graduationYear;
+    private Boolean active;
+
+    // Getters and Setters
+    public Long getChapterId() {
+        return chapterId;
+    }
+
+    public void setChapterId(Long chapterId) {
+        this.chapterId = chapterId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public MemberRole getRole() {
+        return role;
+    }
+
+    public void setRole(MemberRole role) {
+        this.role = role;
+    }
+
+    public String getMajor() {
+        return major;
+    }
+
+    public void setMajor(String major) {
+        this.major = major;
+    }
+
+    public String getGraduationYear() {
+        return graduationYear;
+    }
+
+    public void setGraduationYear(String graduationYear) {
+        this.graduationYear = graduationYear;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+}
@@ -0,0 +1,74 @@
+package com.turningpoint.chapterorganizer.dto;
+
+import com.turningpoint.chapterorganizer.entity.MemberRole;
+
+/**
+ * Slim read model of a member, used wherever a member is listed rather than
+ * edited.
+ */
+public class MemberSummaryDto {
+
+    private Long id;
+    private Long chapterId;
+    private String firstName;
+    private String lastName;
+    private MemberRole role;
+
+    // Constructors
+    public MemberSummaryDto() {
+    }
+
+    public MemberSummaryDto(Long id, Long chapterId, String firstName, String lastName, MemberRole role) {
+        this.id = id;
+        this.chapterId = chapterId;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.role = role;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getChapterId() {
+        return chapterId;
+    }
+
+    public void setChapterId(Long chapterId) {
+        this.chapterId = chapterId;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public MemberRole getRole() {
+        return role;
+    }
+
+    public void setRole(MemberRole role) {
+        this.role = role;
+    }
+
+    // Helper method for full name
+    public String getFullName() {
+        return firstName + " " + lastName;
+    }
+}
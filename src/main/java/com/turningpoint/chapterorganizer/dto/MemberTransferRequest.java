@@ -0,0 +1,59 @@
+package com.turningpoint.chapterorganizer.dto;
+
+import com.turningpoint.chapterorganizer.entity.MemberRole;
+
+import java.util.List;
+
+/**
+ * Bulk transfer of members between chapters. Without filters every member of
+ * the source chapter moves; memberIds, role and active narrow the selection.
+ */
+public class MemberTransferRequest {
+
+    private Long sourceChapterId;
+    private Long targetChapterId;
+    private List<Long> memberIds;
+    private MemberRole role;
+    private Boolean active;
+
+    // Getters and Setters
+    public Long getSourceChapterId() {
+        return sourceChapterId;
+    }
+
+    public void setSourceChapterId(Long sourceChapterId) {
+        this.sourceChapterId = sourceChapterId;
+    }
+
+    public Long getTargetChapterId() {
+        return targetChapterId;
+    }
+
+    public void setTargetChapterId(Long targetChapterId) {
+        this.targetChapterId = targetChapterId;
+    }
+
+    public List<Long> getMemberIds() {
+        return memberIds;
+    }
+
+    public void setMemberIds(List<Long> memberIds) {
+        this.memberIds = memberIds;
+    }
+
+    public MemberRole getRole() {
+        return role;
+    }
+
+    public void setRole(MemberRole role) {
+        this.role = role;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+}
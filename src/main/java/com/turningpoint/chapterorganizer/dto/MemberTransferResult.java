@@ -0,0 +1,35 @@
+package com.turningpoint.chapterorganizer.dto;
+
+/**
+ * Outcome of a bulk member transfer
+ */
+public class MemberTransferResult {
+
+    private final Long sourceChapterId;
+    private final Long targetChapterId;
+    private final int transferred;
+    private final int activeTransferred;
+
+    public MemberTransferResult(Long sourceChapterId, Long targetChapterId, int transferred, int activeTransferred) {
+        this.sourceChapterId = sourceChapterId;
+        this.targetChapterId = targetChapterId;
+        this.transferred = transferred;
+        this.activeTransferred = activeTransferred;
+    }
+
+    public Long getSourceChapterId() {
+        return sourceChapterId;
+    }
+
+    public Long getTargetChapterId() {
+        return targetChapterId;
+    }
+
+    public int getTransferred() {
+        return transferred;
+    }
+
+    public int getActiveTransferred() {
+        return activeTransferred;
+    }
+}
@@ -0,0 +1,46 @@
+package com.turningpoint.chapterorganizer.dto;
+
+/**
+ * The immediate answer to a queued RSVP. ACCEPTED means a seat was held
+ * for the member and the RSVP will be written shortly; the RSVP itself
+ * can then be looked up once flushed.
+ */
+public class ProvisionalRsvp {
+
+    public enum Decision {
+        ACCEPTED,
+        // The member already has a queued RSVP to the event
+        ALREADY_QUEUED,
+        FULL,
+        // The event does not exist or was cancelled
+        UNAVAILABLE,
+        // The queue is full; retry later
+        BUSY
+    }
+
+    private final Long eventId;
+    private final Long memberId;
+    private final Decision decision;
+
+    public ProvisionalRsvp(Long eventId, Long memberId, Decision decision) {
+        this.eventId = eventId;
+        this.memberId = memberId;
+        this.decision = decision;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public Decision getDecision() {
+        return decision;
+    }
+
+    public boolean isAccepted() {
+        return decision == Decision.ACCEPTED || decision == Decision.ALREADY_QUEUED;
+    }
+}
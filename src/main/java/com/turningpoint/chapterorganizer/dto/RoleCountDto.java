@@ -0,0 +1,32 @@
+package com.turningpoint.chapterorganizer.dto;
+
+import com.turningpoint.chapterorganizer.entity.MemberRole;
+
+/**
+ * One cell of a per-chapter role histogram: active members of a chapter
+ * holding a role
+ */
+public class RoleCountDto {
+
+    private final Long chapterId;
+    private final MemberRole role;
+    private final long count;
+
+    public RoleCountDto(Long chapterId, MemberRole role, long count) {
+        this.chapterId = chapterId;
+        this.role = role;
+        this.count = count;
+    }
+
+    public Long getChapterId() {
+        return chapterId;
+    }
+
+    public MemberRole getRole() {
+        return role;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
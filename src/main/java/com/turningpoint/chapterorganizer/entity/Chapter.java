@@ -13,11 +13,14 @@ import java.util.List;
 import java.util.Objects;
 
 @Entity
-@Table(name = "chapters")
+@Table(name = "chapters", indexes = {
+        @Index(name = "idx_chapters_state_active_member_count", columnList = "state, active, active_member_count")
+})
 public class Chapter {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chapterIdGenerator")
+    @SequenceGenerator(name = "chapterIdGenerator", sequenceName = "chapters_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Chapter name is required")
@@ -48,6 +51,12 @@ public class Chapter {
     @Column(nullable = false)
     private Boolean active = true;
 
+    // Denormalized count of active members, maintained by MemberService through
+    // atomic UPDATE statements. Never written by entity flushes so a stale
+    // Chapter instance cannot overwrite a concurrent adjustment.
+    @Column(name = "active_member_count", nullable = false, updatable = false)
+    private Integer activeMemberCount = 0;
+
     @OneToMany(mappedBy = "chapter", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private List<Member> members = new ArrayList<>();
 
@@ -130,6 +139,14 @@ public class Chapter {
         this.active = active;
     }
 
+    public Integer getActiveMemberCount() {
+        return activeMemberCount;
+    }
+
+    public void setActiveMemberCount(Integer activeMemberCount) {
+        this.activeMemberCount = activeMemberCount;
+    }
+
     public List<Member> getMembers() {
         return members;
     }
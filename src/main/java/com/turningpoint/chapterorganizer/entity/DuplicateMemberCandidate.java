@@ -0,0 +1,121 @@
+package com.turningpoint.chapterorganizer.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * A pair of members the duplicate detector thinks may be the same person,
+ * waiting for (or recording) a human review. The pair is stored with the
+ * lower member id first.
+ */
+@Entity
+@Table(name = "member_duplicate_candidates",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"member_id", "duplicate_member_id"}))
+public class DuplicateMemberCandidate {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "duplicateCandidateIdGenerator")
+    @SequenceGenerator(name = "duplicateCandidateIdGenerator", sequenceName = "member_duplicate_candidates_seq",
+            allocationSize = 50)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "duplicate_member_id", nullable = false)
+    private Long duplicateMemberId;
+
+    @Column(nullable = false)
+    private Double score;
+
+    // Comma-separated signals that matched, e.g. "EMAIL,NAME"
+    @Column(nullable = false)
+    private String reasons;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DuplicateReviewStatus status = DuplicateReviewStatus.PENDING;
+
+    @CreationTimestamp
+    @Column(name = "detected_at", nullable = false, updatable = false)
+    private LocalDateTime detectedAt;
+
+    @Column(name = "reviewed_at")
+    private LocalDateTime reviewedAt;
+
+    // Constructors
+    public DuplicateMemberCandidate() {}
+
+    public DuplicateMemberCandidate(Long memberId, Long duplicateMemberId, Double score, String reasons) {
+        this.memberId = memberId;
+        this.duplicateMemberId = duplicateMemberId;
+        this.score = score;
+        this.reasons = reasons;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public void setMemberId(Long memberId) {
+        this.memberId = memberId;
+    }
+
+    public Long getDuplicateMemberId() {
+        return duplicateMemberId;
+    }
+
+    public void setDuplicateMemberId(Long duplicateMemberId) {
+        this.duplicateMemberId = duplicateMemberId;
+    }
+
+    public Double getScore() {
+        return score;
+    }
+
+    public void setScore(Double score) {
+        this.score = score;
+    }
+
+    public String getReasons() {
+        return reasons;
+    }
+
+    public void setReasons(String reasons) {
+        this.reasons = reasons;
+    }
+
+    public DuplicateReviewStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(DuplicateReviewStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getDetectedAt() {
+        return detectedAt;
+    }
+
+    public void setDetectedAt(LocalDateTime detectedAt) {
+        this.detectedAt = detectedAt;
+    }
+
+    public LocalDateTime getReviewedAt() {
+        return reviewedAt;
+    }
+
+    public void setReviewedAt(LocalDateTime reviewedAt) {
+        this.reviewedAt = reviewedAt;
+    }
+}
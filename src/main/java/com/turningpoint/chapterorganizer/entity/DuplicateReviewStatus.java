@@ -0,0 +1,22 @@
+package com.turningpoint.chapterorganizer.entity;
+
+public enum DuplicateReviewStatus {
+    PENDING("Pending"),
+    CONFIRMED("Confirmed"),
+    DISMISSED("Dismissed");
+
+    private final String displayName;
+
+    DuplicateReviewStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
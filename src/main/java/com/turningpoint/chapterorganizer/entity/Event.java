@@ -1,5 +1,7 @@
 package com.turningpoint.chapterorganizer.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -7,15 +9,17 @@ import jakarta.validation.constraints.Size;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events", uniqueConstraints = @UniqueConstraint(columnNames = {"recurring_event_id", "occurrence_date"}))
 public class Event {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "eventIdGenerator")
+    @SequenceGenerator(name = "eventIdGenerator", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Event title is required")
@@ -42,17 +46,43 @@ public class Event {
     @Column(name = "max_attendees")
     private Integer maxAttendees;
 
-    @Column(name = "current_attendees")
+    // Only changed by the atomic seat updates in EventRepository, so saving an
+    // event never writes back a stale count
+    @Column(name = "current_attendees", updatable = false)
     private Integer currentAttendees = 0;
 
+    // Members checked in at the door; likewise only changed by EventRepository#addCheckIns
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "checked_in_count", nullable = false, updatable = false)
+    private Integer checkedInCount = 0;
+
     @NotNull(message = "Active status is required")
     @Column(nullable = false)
     private Boolean active = true;
 
+    // Accepted in request bodies ({"chapter": {"id": 1}}) but not serialized, which would loop through chapter.events
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "chapter_id", nullable = false)
     private Chapter chapter;
 
+    // Set when this event overrides one occurrence of a recurring event
+    @Column(name = "recurring_event_id", updatable = false)
+    private Long recurringEventId;
+
+    @Column(name = "occurrence_date", updatable = false)
+    private LocalDate occurrenceDate;
+
+    // Last reminder sent: its lead in minutes and the start time it was for. Only
+    // claimed by EventRepository#claimReminder, so a moved event is reminded again
+    @JsonIgnore
+    @Column(name = "reminder_sent_minutes", insertable = false, updatable = false)
+    private Integer reminderSentMinutes;
+
+    @JsonIgnore
+    @Column(name = "reminder_sent_for", insertable = false, updatable = false)
+    private LocalDateTime reminderSentFor;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -136,6 +166,10 @@ public class Event {
         this.currentAttendees = currentAttendees;
     }
 
+    public Integer getCheckedInCount() {
+        return checkedInCount;
+    }
+
     public Boolean getActive() {
         return active;
     }
@@ -152,6 +186,22 @@ public class Event {
         this.chapter = chapter;
     }
 
+    public Long getRecurringEventId() {
+        return recurringEventId;
+    }
+
+    public void setRecurringEventId(Long recurringEventId) {
+        this.recurringEventId = recurringEventId;
+    }
+
+    public LocalDate getOccurrenceDate() {
+        return occurrenceDate;
+    }
+
+    public void setOccurrenceDate(LocalDate occurrenceDate) {
+        this.occurrenceDate = occurrenceDate;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -164,6 +214,14 @@ public class Event {
         return updatedAt;
     }
 
+    public Integer getReminderSentMinutes() {
+        return reminderSentMinutes;
+    }
+
+    public LocalDateTime getReminderSentFor() {
+        return reminderSentFor;
+    }
+
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
@@ -177,18 +235,6 @@ public class Event {
         return !isFull();
     }
 
-    public void incrementAttendees() {
-        if (canAcceptMoreAttendees()) {
-            this.currentAttendees++;
-        }
-    }
-
-    public void decrementAttendees() {
-        if (this.currentAttendees > 0) {
-            this.currentAttendees--;
-        }
-    }
-
     // equals and hashCode based on business key (title + eventDateTime + chapter)
     @Override
     public boolean equals(Object o) {
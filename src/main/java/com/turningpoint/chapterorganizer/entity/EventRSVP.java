@@ -0,0 +1,129 @@
+package com.turningpoint.chapterorganizer.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * A member's RSVP to an event. There is at most one row per event and
+ * member; a GOING RSVP holds one of the event's seats (counted in
+ * events.current_attendees). A WAITLISTED RSVP waits for a seat, ordered
+ * by waitlist priority and then by when it joined the waitlist.
+ */
+@Entity
+@Table(name = "event_rsvps", uniqueConstraints = @UniqueConstraint(columnNames = {"event_id", "member_id"}))
+public class EventRSVP {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "eventRsvpIdGenerator")
+    @SequenceGenerator(name = "eventRsvpIdGenerator", sequenceName = "event_rsvps_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RSVPStatus status = RSVPStatus.GOING;
+
+    // Lower goes first; set while on the waitlist
+    @Column(name = "waitlist_priority")
+    private Integer waitlistPriority;
+
+    @Column(name = "waitlisted_at")
+    private LocalDateTime waitlistedAt;
+
+    // When the member was scanned in at the event; set by the check-in batches only
+    @Column(name = "checked_in_at", insertable = false, updatable = false)
+    private LocalDateTime checkedInAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public EventRSVP() {}
+
+    public EventRSVP(Long eventId, Long memberId, RSVPStatus status) {
+        this.eventId = eventId;
+        this.memberId = memberId;
+        this.status = status;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public void setMemberId(Long memberId) {
+        this.memberId = memberId;
+    }
+
+    public RSVPStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(RSVPStatus status) {
+        this.status = status;
+    }
+
+    public Integer getWaitlistPriority() {
+        return waitlistPriority;
+    }
+
+    public void setWaitlistPriority(Integer waitlistPriority) {
+        this.waitlistPriority = waitlistPriority;
+    }
+
+    public LocalDateTime getWaitlistedAt() {
+        return waitlistedAt;
+    }
+
+    public void setWaitlistedAt(LocalDateTime waitlistedAt) {
+        this.waitlistedAt = waitlistedAt;
+    }
+
+    public LocalDateTime getCheckedInAt() {
+        return checkedInAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
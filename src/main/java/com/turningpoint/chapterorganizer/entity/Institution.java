@@ -6,7 +6,8 @@ import jakarta.persistence.*;
 @Table(name = "institutions")
 public class Institution {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "institutionIdGenerator")
+    @SequenceGenerator(name = "institutionIdGenerator", sequenceName = "institutions_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -16,7 +16,8 @@ import java.util.Objects;
 public class Member {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "memberIdGenerator")
+    @SequenceGenerator(name = "memberIdGenerator", sequenceName = "members_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "First name is required")
@@ -0,0 +1,22 @@
+package com.turningpoint.chapterorganizer.entity;
+
+public enum RSVPStatus {
+    GOING("Going"),
+    WAITLISTED("Waitlisted"),
+    CANCELLED("Cancelled");
+
+    private final String displayName;
+
+    RSVPStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,62 @@
+package com.turningpoint.chapterorganizer.entity;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * How often a recurring event repeats. The n-th occurrence is computed
+ * directly from the first one, so finding the occurrences in a window
+ * never walks the series from its start. Monthly occurrences keep the first
+ * occurrence's day of month, or fall on the month's last day when it is
+ * shorter.
+ */
+public enum RecurrencePattern {
+    DAILY("Daily", ChronoUnit.DAYS, 1),
+    WEEKLY("Weekly", ChronoUnit.DAYS, 7),
+    MONTHLY("Monthly", ChronoUnit.MONTHS, 1);
+
+    private final String displayName;
+    private final ChronoUnit unit;
+    private final int unitsPerStep;
+
+    RecurrencePattern(String displayName, ChronoUnit unit, int unitsPerStep) {
+        this.displayName = displayName;
+        this.unit = unit;
+        this.unitsPerStep = unitsPerStep;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Start of occurrence {@code index} (0 is {@code first}) when repeating
+     * every {@code interval} steps
+     */
+    public LocalDateTime occurrence(LocalDateTime first, int interval, long index) {
+        return first.plus(index * interval * unitsPerStep, unit);
+    }
+
+    /**
+     * Index of the first occurrence starting at or after {@code time}
+     */
+    public long firstIndexAtOrAfter(LocalDateTime first, int interval, LocalDateTime time) {
+        if (!time.isAfter(first)) {
+            return 0;
+        }
+        long index = unit.between(first, time) / ((long) interval * unitsPerStep);
+        // between() truncates and month lengths vary, so settle the estimate with a step either way
+        while (index > 0 && !occurrence(first, interval, index - 1).isBefore(time)) {
+            index--;
+        }
+        while (occurrence(first, interval, index).isBefore(time)) {
+            index++;
+        }
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,303 @@
+package com.turningpoint.chapterorganizer.entity;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A chapter event that repeats, such as a weekly meeting. The rule is
+ * stored once and its occurrences are expanded on demand. The series starts
+ * at {@code startDateTime} and ends after {@code occurrenceLimit}
+ * occurrences or at {@code untilDateTime}, whichever comes first; without
+ * either it repeats indefinitely.
+ *
+ * Single occurrences can be skipped ({@code excludedDates}) or overridden
+ * by an {@link Event} row carrying this rule's id and the occurrence date.
+ */
+@Entity
+@Table(name = "recurring_events")
+public class RecurringEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recurringEventIdGenerator")
+    @SequenceGenerator(name = "recurringEventIdGenerator", sequenceName = "recurring_events_seq", allocationSize = 50)
+    private Long id;
+
+    @NotBlank(message = "Event title is required")
+    @Size(min = 2, max = 150, message = "Event title must be between 2 and 150 characters")
+    @Column(nullable = false)
+    private String title;
+
+    @Size(max = 1000, message = "Description cannot exceed 1000 characters")
+    @Column(length = 1000)
+    private String description;
+
+    @Size(max = 200, message = "Location cannot exceed 200 characters")
+    private String location;
+
+    @NotNull(message = "Event type is required")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EventType type = EventType.MEETING;
+
+    @Column(name = "max_attendees")
+    private Integer maxAttendees;
+
+    @NotNull(message = "Start date and time is required")
+    @Column(name = "start_date_time", nullable = false)
+    private LocalDateTime startDateTime;
+
+    @NotNull(message = "Recurrence pattern is required")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RecurrencePattern pattern = RecurrencePattern.WEEKLY;
+
+    // Repeat every n days, weeks or months
+    @Min(value = 1, message = "Repeat interval must be at least 1")
+    @Column(name = "repeat_interval", nullable = false)
+    private Integer repeatInterval = 1;
+
+    @Min(value = 1, message = "Occurrence limit must be at least 1")
+    @Column(name = "occurrence_limit")
+    private Integer occurrenceLimit;
+
+    @Column(name = "until_date_time")
+    private LocalDateTime untilDateTime;
+
+    // Start of the last occurrence, derived from the limits; null while the series is open-ended
+    @Column(name = "series_end")
+    private LocalDateTime seriesEnd;
+
+    @ElementCollection
+    @CollectionTable(name = "recurring_event_exceptions", joinColumns = @JoinColumn(name = "recurring_event_id"))
+    @Column(name = "excluded_date", nullable = false)
+    private Set<LocalDate> excludedDates = new HashSet<>();
+
+    @NotNull(message = "Active status is required")
+    @Column(nullable = false)
+    private Boolean active = true;
+
+    // Accepted in request bodies ({"chapter": {"id": 1}}) but not serialized, which would loop through the chapter
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "chapter_id", nullable = false)
+    private Chapter chapter;
+
+    // Bumped by every change to the rule or its excluded dates; part of the occurrence cache key
+    @Version
+    private Long version;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public RecurringEvent() {
+    }
+
+    public RecurringEvent(String title, LocalDateTime startDateTime, RecurrencePattern pattern, Chapter chapter) {
+        this.title = title;
+        this.startDateTime = startDateTime;
+        this.pattern = pattern;
+        this.chapter = chapter;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public EventType getType() {
+        return type;
+    }
+
+    public void setType(EventType type) {
+        this.type = type;
+    }
+
+    public Integer getMaxAttendees() {
+        return maxAttendees;
+    }
+
+    public void setMaxAttendees(Integer maxAttendees) {
+        this.maxAttendees = maxAttendees;
+    }
+
+    public LocalDateTime getStartDateTime() {
+        return startDateTime;
+    }
+
+    public void setStartDateTime(LocalDateTime startDateTime) {
+        this.startDateTime = startDateTime;
+    }
+
+    public RecurrencePattern getPattern() {
+        return pattern;
+    }
+
+    public void setPattern(RecurrencePattern pattern) {
+        this.pattern = pattern;
+    }
+
+    public Integer getRepeatInterval() {
+        return repeatInterval;
+    }
+
+    public void setRepeatInterval(Integer repeatInterval) {
+        this.repeatInterval = repeatInterval;
+    }
+
+    public Integer getOccurrenceLimit() {
+        return occurrenceLimit;
+    }
+
+    public void setOccurrenceLimit(Integer occurrenceLimit) {
+        this.occurrenceLimit = occurrenceLimit;
+    }
+
+    public LocalDateTime getUntilDateTime() {
+        return untilDateTime;
+    }
+
+    public void setUntilDateTime(LocalDateTime untilDateTime) {
+        this.untilDateTime = untilDateTime;
+    }
+
+    public LocalDateTime getSeriesEnd() {
+        return seriesEnd;
+    }
+
+    public void setSeriesEnd(LocalDateTime seriesEnd) {
+        this.seriesEnd = seriesEnd;
+    }
+
+    public Set<LocalDate> getExcludedDates() {
+        return excludedDates;
+    }
+
+    public void setExcludedDates(Set<LocalDate> excludedDates) {
+        this.excludedDates = excludedDates;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public Chapter getChapter() {
+        return chapter;
+    }
+
+    public void setChapter(Chapter chapter) {
+        this.chapter = chapter;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    // Helper methods
+
+    /**
+     * Start of occurrence {@code index}, 0 being the first
+     */
+    public LocalDateTime occurrence(long index) {
+        return pattern.occurrence(startDateTime, repeatInterval, index);
+    }
+
+    // equals and hashCode based on business key (title + startDateTime + chapter)
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        RecurringEvent that = (RecurringEvent) o;
+        return Objects.equals(title, that.title) &&
+                Objects.equals(startDateTime, that.startDateTime) &&
+                Objects.equals(chapter, that.chapter);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(title, startDateTime, chapter);
+    }
+
+    @Override
+    public String toString() {
+        return "RecurringEvent{" +
+                "id=" + id +
+                ", title='" + title + '\'' +
+                ", startDateTime=" + startDateTime +
+                ", pattern=" + pattern +
+                ", repeatInterval=" + repeatInterval +
+                ", active=" + active +
+                '}';
+    }
+}
@@ -1,16 +1,24 @@
 package com.turningpoint.chapterorganizer.repository;
 
+import com.turningpoint.chapterorganizer.dto.ChapterSummaryDto;
 import com.turningpoint.chapterorganizer.entity.Chapter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ChapterRepository extends JpaRepository<Chapter, Long> {
+public interface ChapterRepository extends JpaRepository<Chapter, Long>, JpaSpecificationExecutor<Chapter> {
 
     // Find chapter by name (case-insensitive)
     Optional<Chapter> findByNameIgnoreCase(String name);
@@ -33,8 +41,8 @@ public interface ChapterRepository extends JpaRepository<Chapter, Long> {
     // Find chapters by state and active status
     List<Chapter> findByStateIgnoreCaseAndActive(String state, Boolean active);
 
-    // Custom query to find chapters by state with member count
-    @Query("SELECT c FROM Chapter c WHERE c.state = :state AND c.active = true ORDER BY SIZE(c.members) DESC")
+    // Custom query to find chapters by state ordered by the denormalized active member count
+    @Query("SELECT c FROM Chapter c WHERE c.state = :state AND c.active = true ORDER BY c.activeMemberCount DESC, c.id ASC")
     List<Chapter> findActiveChaptersByStateOrderByMemberCount(@Param("state") String state);
 
     // Custom query to search chapters by multiple criteria
@@ -61,4 +69,56 @@ public interface ChapterRepository extends JpaRepository<Chapter, Long> {
     // Find chapters with upcoming events
     @Query("SELECT DISTINCT c FROM Chapter c JOIN c.events e WHERE e.eventDateTime > CURRENT_TIMESTAMP AND e.active = true AND c.active = true")
     List<Chapter> findChaptersWithUpcomingEvents();
-}
\ No newline at end of file
+
+    // Keyset page of active chapter summaries, ordered by id, starting after the given id
+    @Query("SELECT new com.turningpoint.chapterorganizer.dto.ChapterSummaryDto(" +
+            "c.id, c.name, c.universityName, c.state, c.city, c.active, c.activeMemberCount, c.createdAt) " +
+            "FROM Chapter c WHERE c.active = true AND c.id > :afterId ORDER BY c.id ASC")
+    List<ChapterSummaryDto> findActiveChapterSummariesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // A chapter's own columns joined with its active officers, one row per officer
+    // (a single row with null member columns when the chapter has no officers)
+    @Query("SELECT c.id, c.name, c.universityName, c.state, c.city, c.description, c.active, c.activeMemberCount, " +
+            "m.id, m.firstName, m.lastName, m.role " +
+            "FROM Chapter c LEFT JOIN c.members m ON m.active = true AND " +
+            "m.role IN ('PRESIDENT', 'VICE_PRESIDENT', 'SECRETARY', 'TREASURER', 'OFFICER') " +
+            "WHERE c.id = :chapterId")
+    List<Object[]> findChapterWithOfficers(@Param("chapterId") Long chapterId);
+
+    // Summaries of every chapter, used to build the in-memory search index
+    @Query("SELECT new com.turningpoint.chapterorganizer.dto.ChapterSummaryDto(" +
+            "c.id, c.name, c.universityName, c.state, c.city, c.active, c.activeMemberCount, c.createdAt) " +
+            "FROM Chapter c")
+    List<ChapterSummaryDto> findAllChapterSummaries();
+
+    // The active member counter alone, which changes too often to be cached with the chapter
+    @Query("SELECT c.activeMemberCount FROM Chapter c WHERE c.id = :chapterId")
+    Optional<Integer> findActiveMemberCountById(@Param("chapterId") Long chapterId);
+
+    // Atomically shift the active member counter of a chapter
+    @Modifying
+    @Query("UPDATE Chapter c SET c.activeMemberCount = c.activeMemberCount + :delta WHERE c.id = :chapterId")
+    int adjustActiveMemberCount(@Param("chapterId") Long chapterId, @Param("delta") int delta);
+
+    // Recompute active member counters that have drifted from the members table
+    @Modifying
+    @Query("UPDATE Chapter c SET c.activeMemberCount = " +
+            "(SELECT COUNT(m) FROM Member m WHERE m.chapter.id = c.id AND m.active = true) " +
+            "WHERE c.activeMemberCount <> " +
+            "(SELECT COUNT(m) FROM Member m WHERE m.chapter.id = c.id AND m.active = true)")
+    int reconcileActiveMemberCounts();
+
+    // Every chapter id, used to resolve chapter references of a bulk import in one query
+    @Query("SELECT c.id FROM Chapter c")
+    List<Long> findAllChapterIds();
+
+    // Forward-only, read-only cursor over chapters for exports; must be consumed
+    // inside a transaction and closed
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT c FROM Chapter c ORDER BY c.id")
+    Stream<Chapter> streamAll();
+}
@@ -0,0 +1,46 @@
+package com.turningpoint.chapterorganizer.repository;
+
+import com.turningpoint.chapterorganizer.entity.Chapter;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.turningpoint.chapterorganizer.repository.SearchPatterns.containsPattern;
+import static com.turningpoint.chapterorganizer.repository.SearchPatterns.upper;
+
+/**
+ * Index-friendly chapter search predicates. Only the criteria actually
+ * supplied become SQL predicates, so Postgres can plan against the trigram
+ * and UPPER() indexes instead of a catch-all ":x IS NULL OR ..." query.
+ */
+public final class ChapterSpecifications {
+
+    private ChapterSpecifications() {
+    }
+
+    public static Specification<Chapter> matchingCriteria(String name, String universityName, String state,
+            String city, Boolean active) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (name != null) {
+                predicates.add(cb.like(cb.upper(root.get("name")), containsPattern(name), SearchPatterns.ESCAPE));
+            }
+            if (universityName != null) {
+                predicates.add(cb.like(cb.upper(root.get("universityName")), containsPattern(universityName),
+                        SearchPatterns.ESCAPE));
+            }
+            if (state != null) {
+                predicates.add(cb.equal(cb.upper(root.get("state")), upper(state)));
+            }
+            if (city != null) {
+                predicates.add(cb.equal(cb.upper(root.get("city")), upper(city)));
+            }
+            if (active != null) {
+                predicates.add(cb.equal(root.get("active"), active));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
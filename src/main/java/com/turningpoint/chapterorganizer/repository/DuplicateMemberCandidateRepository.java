@@ -0,0 +1,29 @@
+package com.turningpoint.chapterorganizer.repository;
+
+import com.turningpoint.chapterorganizer.entity.DuplicateMemberCandidate;
+import com.turningpoint.chapterorganizer.entity.DuplicateReviewStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DuplicateMemberCandidateRepository extends JpaRepository<DuplicateMemberCandidate, Long> {
+
+    // Review queue, most likely duplicates first
+    List<DuplicateMemberCandidate> findByStatusOrderByScoreDescIdAsc(DuplicateReviewStatus status, Pageable pageable);
+
+    long countByStatus(DuplicateReviewStatus status);
+
+    // Pairs (memberId, duplicateMemberId) a reviewer already decided on, which a new scan must not re-queue
+    @Query("SELECT c.memberId, c.duplicateMemberId FROM DuplicateMemberCandidate c WHERE c.status <> :status")
+    List<Object[]> findPairsByStatusNot(@Param("status") DuplicateReviewStatus status);
+
+    @Modifying
+    @Query("DELETE FROM DuplicateMemberCandidate c WHERE c.status = :status")
+    int deleteByStatus(@Param("status") DuplicateReviewStatus status);
+}
@@ -0,0 +1,19 @@
+package com.turningpoint.chapterorganizer.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Batched RSVP writes that Spring Data cannot derive. Mixed into
+ * {@link EventRSVPRepository}.
+ */
+public interface EventRSVPBulkRepository {
+
+    /**
+     * Mark the GOING RSVPs of the given (event, member) pairs as checked in
+     * at the given times, in one JDBC batch. RSVPs already checked in are
+     * left alone, so applying the same check-ins again changes nothing.
+     * Returns per pair whether its RSVP was checked in now.
+     */
+    boolean[] checkIn(List<Long> eventIds, List<Long> memberIds, List<LocalDateTime> checkedInAt);
+}
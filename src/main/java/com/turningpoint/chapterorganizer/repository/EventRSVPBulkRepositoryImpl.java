@@ -0,0 +1,43 @@
+package com.turningpoint.chapterorganizer.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+class EventRSVPBulkRepositoryImpl implements EventRSVPBulkRepository {
+
+    private static final String CHECK_IN_SQL = "UPDATE event_rsvps SET checked_in_at = ?, updated_at = ? "
+            + "WHERE event_id = ? AND member_id = ? AND status = 'GOING' AND checked_in_at IS NULL";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public boolean[] checkIn(List<Long> eventIds, List<Long> memberIds, List<LocalDateTime> checkedInAt) {
+        entityManager.flush();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(CHECK_IN_SQL)) {
+                for (int i = 0; i < eventIds.size(); i++) {
+                    statement.setTimestamp(1, Timestamp.valueOf(checkedInAt.get(i)));
+                    // Bulk updates bypass @UpdateTimestamp, so stamp the rows explicitly
+                    statement.setTimestamp(2, now);
+                    statement.setLong(3, eventIds.get(i));
+                    statement.setLong(4, memberIds.get(i));
+                    statement.addBatch();
+                }
+                int[] counts = statement.executeBatch();
+                boolean[] checkedIn = new boolean[counts.length];
+                for (int i = 0; i < counts.length; i++) {
+                    checkedIn[i] = counts[i] > 0;
+                }
+                return checkedIn;
+            }
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package com.turningpoint.chapterorganizer.repository;
+
+import com.turningpoint.chapterorganizer.entity.EventRSVP;
+import com.turningpoint.chapterorganizer.entity.RSVPStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EventRSVPRepository extends JpaRepository<EventRSVP, Long>, EventRSVPBulkRepository {
+
+    // Find a member's RSVP to an event
+    Optional<EventRSVP> findByEventIdAndMemberId(Long eventId, Long memberId);
+
+    // RSVPs of several members to an event
+    List<EventRSVP> findByEventIdAndMemberIdIn(Long eventId, Collection<Long> memberIds);
+
+    // Waitlisted RSVPs of active events that have not started, to rebuild the waitlists
+    @Query("SELECT r FROM EventRSVP r WHERE r.status = com.turningpoint.chapterorganizer.entity.RSVPStatus.WAITLISTED " +
+            "AND r.eventId IN (SELECT e.id FROM Event e WHERE e.active = true AND e.eventDateTime > :now)")
+    List<EventRSVP> findWaitlistedForUpcomingEvents(@Param("now") LocalDateTime now);
+
+    // (event id, member id) of the RSVPs among the given events and members that are already checked in
+    @Query("SELECT r.eventId, r.memberId FROM EventRSVP r " +
+            "WHERE r.eventId IN :eventIds AND r.memberId IN :memberIds AND r.checkedInAt IS NOT NULL")
+    List<Object[]> findCheckedIn(@Param("eventIds") Collection<Long> eventIds,
+            @Param("memberIds") Collection<Long> memberIds);
+
+    // Count RSVPs to an event with a status
+    long countByEventIdAndStatus(Long eventId, RSVPStatus status);
+
+    // A member's RSVPs with one of the statuses
+    List<EventRSVP> findByMemberIdAndStatusIn(Long memberId, Collection<RSVPStatus> statuses);
+
+    // Status changes that hold or free a seat are single conditional UPDATEs: 1 if the RSVP was in the
+    // expected state, 0 if a concurrent change got there first. Concurrent callers serialize on the row
+    // lock, so exactly one of them moves the seat. Bulk updates bypass @UpdateTimestamp, hence :now.
+
+    // Cancel a member's GOING RSVP; 1 if its seat is to be given back
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE event_rsvps SET status = 'CANCELLED', updated_at = :now " +
+            "WHERE event_id = :eventId AND member_id = :memberId AND status = 'GOING'", nativeQuery = true)
+    int cancelGoing(@Param("eventId") Long eventId, @Param("memberId") Long memberId,
+            @Param("now") LocalDateTime now);
+
+    // Make a member's existing RSVP GOING; 1 if it was not already, so the seat taken for it is kept
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE event_rsvps SET status = 'GOING', waitlist_priority = NULL, waitlisted_at = NULL, " +
+            "updated_at = :now WHERE event_id = :eventId AND member_id = :memberId AND status <> 'GOING'",
+            nativeQuery = true)
+    int markGoing(@Param("eventId") Long eventId, @Param("memberId") Long memberId,
+            @Param("now") LocalDateTime now);
+
+    // Take a member off an event's waitlist; 0 if they are no longer waitlisted, e.g. promoted meanwhile
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE event_rsvps SET status = 'CANCELLED', waitlist_priority = NULL, waitlisted_at = NULL, " +
+            "updated_at = :now WHERE event_id = :eventId AND member_id = :memberId AND status = 'WAITLISTED'",
+            nativeQuery = true)
+    int cancelWaitlisted(@Param("eventId") Long eventId, @Param("memberId") Long memberId,
+            @Param("now") LocalDateTime now);
+
+    // Promote the RSVPs that are still waitlisted; returns how many were, i.e. the seats they need
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE event_rsvps SET status = 'GOING', waitlist_priority = NULL, waitlisted_at = NULL, " +
+            "updated_at = :now WHERE id IN (:ids) AND status = 'WAITLISTED'", nativeQuery = true)
+    int promoteWaitlisted(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // What a member's calendar feed is rendered from: the count and latest update of their RSVPs and
+    // the latest update of the events they are for. Native because calendar apps poll it.
+    @Query(value = "SELECT COUNT(*), MAX(r.updated_at), MAX(e.updated_at) FROM event_rsvps r " +
+            "JOIN events e ON e.id = r.event_id WHERE r.member_id = :memberId", nativeQuery = true)
+    List<Object[]> findMemberFeedStamp(@Param("memberId") Long memberId);
+
+    // (member id, first name, last name, email) of members with an RSVP of a status, after a member id,
+    // e.g. to page through who to remind
+    @Query("SELECT m.id, m.firstName, m.lastName, m.email FROM EventRSVP r, Member m " +
+            "WHERE m.id = r.memberId AND r.eventId = :eventId AND r.status = :status AND m.id > :afterMemberId " +
+            "ORDER BY m.id")
+    List<Object[]> findMemberContacts(@Param("eventId") Long eventId, @Param("status") RSVPStatus status,
+            @Param("afterMemberId") Long afterMemberId, Pageable pageable);
+}
@@ -1,17 +1,27 @@
 package com.turningpoint.chapterorganizer.repository;
 
+import com.turningpoint.chapterorganizer.dto.EventSummaryDto;
 import com.turningpoint.chapterorganizer.entity.Event;
 import com.turningpoint.chapterorganizer.entity.EventType;
+import com.turningpoint.chapterorganizer.entity.RSVPStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event> {
 
     // Find events by chapter ID
     List<Event> findByChapterId(Long chapterId);
@@ -89,7 +99,149 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     @Query("SELECT e FROM Event e WHERE e.maxAttendees IS NOT NULL AND (e.maxAttendees - e.currentAttendees) <= 5 AND e.eventDateTime > :now AND e.active = true")
     List<Event> findEventsNearlyFull(@Param("now") LocalDateTime now);
 
+    // (id, chapter id, title, date, current attendees, max attendees, active) of the given events, for capacity alerts
+    @Query("SELECT e.id, e.chapter.id, e.title, e.eventDateTime, e.currentAttendees, e.maxAttendees, e.active " +
+            "FROM Event e WHERE e.id IN :ids")
+    List<Object[]> findCapacityRows(@Param("ids") Collection<Long> ids);
+
     // Find events with available spots
     @Query("SELECT e FROM Event e WHERE (e.maxAttendees IS NULL OR e.currentAttendees < e.maxAttendees) AND e.eventDateTime > :now AND e.active = true ORDER BY e.eventDateTime ASC")
     List<Event> findEventsWithAvailableSpots(@Param("now") LocalDateTime now);
-}
\ No newline at end of file
+
+    // Upcoming event summaries for a set of chapters in a single query
+    @Query("SELECT new com.turningpoint.chapterorganizer.dto.EventSummaryDto(" +
+            "e.id, e.chapter.id, e.title, e.eventDateTime, e.location, e.type) " +
+            "FROM Event e WHERE e.chapter.id IN :chapterIds AND e.eventDateTime > :now AND e.active = true " +
+            "ORDER BY e.chapter.id, e.eventDateTime ASC")
+    List<EventSummaryDto> findUpcomingEventSummariesByChapterIds(
+            @Param("chapterIds") Collection<Long> chapterIds,
+            @Param("now") LocalDateTime now);
+
+    // Next upcoming event summaries for one chapter, bounded by the pageable
+    @Query("SELECT new com.turningpoint.chapterorganizer.dto.EventSummaryDto(" +
+            "e.id, e.chapter.id, e.title, e.eventDateTime, e.location, e.type) " +
+            "FROM Event e WHERE e.chapter.id = :chapterId AND e.eventDateTime > :now AND e.active = true " +
+            "ORDER BY e.eventDateTime ASC")
+    List<EventSummaryDto> findUpcomingEventSummariesByChapter(
+            @Param("chapterId") Long chapterId,
+            @Param("now") LocalDateTime now,
+            Pageable pageable);
+
+    // A chapter's active event summaries in [start, end), for calendar views, bounded by the pageable
+    @Query("SELECT new com.turningpoint.chapterorganizer.dto.EventSummaryDto(" +
+            "e.id, e.chapter.id, e.title, e.eventDateTime, e.location, e.type, e.recurringEventId, e.occurrenceDate) " +
+            "FROM Event e WHERE e.chapter.id = :chapterId AND e.eventDateTime >= :start " +
+            "AND e.eventDateTime < :end AND e.active = true " +
+            "ORDER BY e.eventDateTime ASC, e.id ASC")
+    List<EventSummaryDto> findEventSummariesByChapterBetween(
+            @Param("chapterId") Long chapterId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            Pageable pageable);
+
+    // Active event summaries starting from a point in time; what the in-process schedule index is built from
+    @Query("SELECT new com.turningpoint.chapterorganizer.dto.EventSummaryDto(" +
+            "e.id, e.chapter.id, e.title, e.eventDateTime, e.location, e.type, e.recurringEventId, e.occurrenceDate) " +
+            "FROM Event e WHERE e.active = true AND e.eventDateTime >= :from")
+    List<EventSummaryDto> findActiveEventSummariesFrom(@Param("from") LocalDateTime from);
+
+    // Active event summaries starting in (start, end) of a chapter or at a venue (trimmed, lower-case location)
+    @Query("SELECT new com.turningpoint.chapterorganizer.dto.EventSummaryDto(" +
+            "e.id, e.chapter.id, e.title, e.eventDateTime, e.location, e.type, e.recurringEventId, e.occurrenceDate) " +
+            "FROM Event e WHERE e.active = true AND e.eventDateTime > :start AND e.eventDateTime < :end " +
+            "AND (e.chapter.id = :chapterId OR LOWER(TRIM(e.location)) = :venue) " +
+            "ORDER BY e.eventDateTime ASC, e.id ASC")
+    List<EventSummaryDto> findEventSummariesOverlapping(
+            @Param("chapterId") Long chapterId,
+            @Param("venue") String venue,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    // A chapter's events starting from a point in time, bounded by the pageable; the contents of its calendar feed
+    List<Event> findByChapterIdAndEventDateTimeGreaterThanEqualOrderByEventDateTimeAsc(Long chapterId,
+            LocalDateTime from, Pageable pageable);
+
+    // A chapter's events changed since a point in time, to update its calendar feed
+    List<Event> findByChapterIdAndUpdatedAtGreaterThanEqual(Long chapterId, LocalDateTime since);
+
+    // What a chapter's calendar feed is rendered from: its events' count and latest update, and its
+    // recurring events' count, version total and latest update. Native because calendar apps poll it.
+    @Query(value = "SELECT (SELECT COUNT(*) FROM events WHERE chapter_id = :chapterId), " +
+            "(SELECT MAX(updated_at) FROM events WHERE chapter_id = :chapterId), " +
+            "(SELECT COUNT(*) FROM recurring_events WHERE chapter_id = :chapterId), " +
+            "(SELECT SUM(version) FROM recurring_events WHERE chapter_id = :chapterId), " +
+            "(SELECT MAX(updated_at) FROM recurring_events WHERE chapter_id = :chapterId)", nativeQuery = true)
+    List<Object[]> findChapterFeedStamp(@Param("chapterId") Long chapterId);
+
+    // The event overriding one occurrence of a recurring event
+    Optional<Event> findByRecurringEventIdAndOccurrenceDate(Long recurringEventId, LocalDate occurrenceDate);
+
+    // (recurring event id, occurrence date) of the overridden occurrences of the given rules between two dates
+    @Query("SELECT e.recurringEventId, e.occurrenceDate FROM Event e WHERE e.recurringEventId IN :recurringEventIds " +
+            "AND e.occurrenceDate >= :fromDate AND e.occurrenceDate <= :toDate")
+    List<Object[]> findOccurrenceOverrides(
+            @Param("recurringEventIds") Collection<Long> recurringEventIds,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
+    // Take one seat in a single conditional UPDATE: 1 if the event is active and
+    // had room, 0 otherwise. Concurrent callers serialize on the row lock, and
+    // the condition is checked against the latest count, so seats are never oversold.
+    // Native SQL because this runs on every RSVP: a JPQL bulk update is re-parsed
+    // and re-translated on each call, which cost more than the UPDATE itself.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE events SET current_attendees = current_attendees + 1 " +
+            "WHERE id = :id AND active = TRUE " +
+            "AND (max_attendees IS NULL OR current_attendees < max_attendees)", nativeQuery = true)
+    int reserveSeat(@Param("id") Long id);
+
+    // Load an event and lock its row until the transaction ends, holding off seat updates
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Event e WHERE e.id = :id")
+    Optional<Event> findByIdForUpdate(@Param("id") Long id);
+
+    // Take count seats at once, all or none; used to apply a batch of queued RSVPs
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE events SET current_attendees = current_attendees + :count " +
+            "WHERE id = :id AND active = TRUE " +
+            "AND (max_attendees IS NULL OR current_attendees + :count <= max_attendees)", nativeQuery = true)
+    int reserveSeats(@Param("id") Long id, @Param("count") int count);
+
+    // Give back one seat; 0 if the event does not exist or has no attendees
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE events SET current_attendees = current_attendees - 1 " +
+            "WHERE id = :id AND current_attendees > 0", nativeQuery = true)
+    int releaseSeat(@Param("id") Long id);
+
+    // Count members checked in at the door
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE events SET checked_in_count = checked_in_count + :count WHERE id = :id", nativeQuery = true)
+    int addCheckIns(@Param("id") Long id, @Param("count") int count);
+
+    // (id, date, active, reminder sent for, reminder sent minutes) of upcoming active events with an RSVP
+    // of the status, for scheduling reminders
+    @Query("SELECT e.id, e.eventDateTime, e.active, e.reminderSentFor, e.reminderSentMinutes FROM Event e " +
+            "WHERE e.active = true AND e.eventDateTime > :now " +
+            "AND EXISTS (SELECT r.id FROM EventRSVP r WHERE r.eventId = e.id AND r.status = :status)")
+    List<Object[]> findReminderRows(@Param("now") LocalDateTime now, @Param("status") RSVPStatus status);
+
+    // The same columns for one event, whether or not it is active
+    @Query("SELECT e.id, e.eventDateTime, e.active, e.reminderSentFor, e.reminderSentMinutes FROM Event e " +
+            "WHERE e.id = :id")
+    List<Object[]> findReminderRow(@Param("id") Long id);
+
+    /**
+     * Record that the reminder {@code minutes} before the event starting at
+     * {@code at} is being sent. Matches only while the event is active,
+     * still starts then and has not had this or a later reminder for that
+     * start, so each reminder is claimed once.
+     *
+     * @return 1 if claimed, 0 otherwise
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE events SET reminder_sent_minutes = :minutes, reminder_sent_for = :at " +
+            "WHERE id = :id AND active = TRUE AND event_date_time = :at " +
+            "AND (reminder_sent_for IS NULL OR reminder_sent_for <> :at OR reminder_sent_minutes > :minutes)",
+            nativeQuery = true)
+    int claimReminder(@Param("id") Long id, @Param("at") LocalDateTime at, @Param("minutes") int minutes);
+}
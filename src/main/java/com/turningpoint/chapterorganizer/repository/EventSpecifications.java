@@ -0,0 +1,61 @@
+package com.turningpoint.chapterorganizer.repository;
+
+import com.turningpoint.chapterorganizer.entity.Event;
+import com.turningpoint.chapterorganizer.entity.EventType;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.turningpoint.chapterorganizer.repository.SearchPatterns.containsPattern;
+
+/**
+ * Index-friendly event search predicates; the dynamic counterpart of
+ * {@link EventRepository#findEventsByCriteria}.
+ */
+public final class EventSpecifications {
+
+    private EventSpecifications() {
+    }
+
+    public static Specification<Event> matchingCriteria(Long chapterId, String title, EventType type,
+            String location, LocalDateTime startDate, LocalDateTime endDate, Boolean active) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (chapterId != null) {
+                predicates.add(cb.equal(root.get("chapter").get("id"), chapterId));
+            }
+            if (title != null) {
+                predicates.add(cb.like(cb.upper(root.get("title")), containsPattern(title), SearchPatterns.ESCAPE));
+            }
+            if (type != null) {
+                predicates.add(cb.equal(root.get("type"), type));
+            }
+            if (location != null) {
+                predicates.add(cb.like(cb.upper(root.get("location")), containsPattern(location),
+                        SearchPatterns.ESCAPE));
+            }
+            if (startDate != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("eventDateTime"), startDate));
+            }
+            if (endDate != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("eventDateTime"), endDate));
+            }
+            if (active != null) {
+                predicates.add(cb.equal(root.get("active"), active));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Events after the given one in (eventDateTime, id) order, for keyset pagination
+     */
+    public static Specification<Event> after(LocalDateTime eventDateTime, Long id) {
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.get("eventDateTime"), eventDateTime),
+                cb.and(cb.equal(root.get("eventDateTime"), eventDateTime), cb.greaterThan(root.get("id"), id)));
+    }
+}
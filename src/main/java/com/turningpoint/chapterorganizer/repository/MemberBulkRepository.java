@@ -0,0 +1,21 @@
+package com.turningpoint.chapterorganizer.repository;
+
+import com.turningpoint.chapterorganizer.entity.MemberRole;
+
+import java.util.Collection;
+
+/**
+ * Set-based member operations that Spring Data cannot derive. Mixed into
+ * {@link MemberRepository}.
+ */
+public interface MemberBulkRepository {
+
+    /**
+     * Move the members of one chapter with the given active flag to another
+     * chapter in a single UPDATE, optionally restricted to the given member ids
+     * and/or role. Pending changes are flushed first and the persistence
+     * context is cleared afterwards. Returns the number of members moved.
+     */
+    int moveMembersToChapter(Long sourceChapterId, Long targetChapterId, boolean active,
+            Collection<Long> memberIds, MemberRole role);
+}
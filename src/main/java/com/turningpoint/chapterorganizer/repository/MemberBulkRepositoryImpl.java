@@ -0,0 +1,51 @@
+package com.turningpoint.chapterorganizer.repository;
+
+import com.turningpoint.chapterorganizer.entity.Chapter;
+import com.turningpoint.chapterorganizer.entity.Member;
+import com.turningpoint.chapterorganizer.entity.MemberRole;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+class MemberBulkRepositoryImpl implements MemberBulkRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int moveMembersToChapter(Long sourceChapterId, Long targetChapterId, boolean active,
+            Collection<Long> memberIds, MemberRole role) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Member> update = cb.createCriteriaUpdate(Member.class);
+        Root<Member> root = update.from(Member.class);
+
+        // Bulk updates bypass @UpdateTimestamp, so stamp the rows explicitly
+        update.set(root.<Chapter>get("chapter"), entityManager.getReference(Chapter.class, targetChapterId));
+        update.set(root.<LocalDateTime>get("updatedAt"), LocalDateTime.now());
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(root.get("chapter").get("id"), sourceChapterId));
+        predicates.add(cb.equal(root.get("active"), active));
+        if (memberIds != null && !memberIds.isEmpty()) {
+            predicates.add(root.get("id").in(memberIds));
+        }
+        if (role != null) {
+            predicates.add(cb.equal(root.get("role"), role));
+        }
+        update.where(predicates.toArray(new Predicate[0]));
+
+        entityManager.flush();
+        int moved = entityManager.createQuery(update).executeUpdate();
+        // Members already loaded in this context still point at the old chapter
+        entityManager.clear();
+        return moved;
+    }
+}
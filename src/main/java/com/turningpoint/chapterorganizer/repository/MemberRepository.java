@@ -1,17 +1,26 @@
 package com.turningpoint.chapterorganizer.repository;
 
+import com.turningpoint.chapterorganizer.dto.MemberSummaryDto;
+import com.turningpoint.chapterorganizer.dto.RoleCountDto;
 import com.turningpoint.chapterorganizer.entity.Member;
 import com.turningpoint.chapterorganizer.entity.MemberRole;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface MemberRepository extends JpaRepository<Member, Long> {
+public interface MemberRepository extends JpaRepository<Member, Long>, JpaSpecificationExecutor<Member>,
+        MemberBulkRepository {
 
     // Find member by email
     Optional<Member> findByEmail(String email);
@@ -44,6 +53,9 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     // Check if email exists
     boolean existsByEmail(String email);
 
+    // Check if email exists in any letter case (for imports)
+    boolean existsByEmailIgnoreCase(String email);
+
     // Check if email exists for a different member (for updates)
     boolean existsByEmailAndIdNot(String email, Long id);
 
@@ -52,25 +64,6 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @Query("SELECT m FROM Member m WHERE m.chapter.id = :chapterId AND m.role IN ('PRESIDENT', 'VICE_PRESIDENT', 'SECRETARY', 'TREASURER', 'OFFICER') AND m.active = true ORDER BY m.role")
     List<Member> findChapterOfficers(@Param("chapterId") Long chapterId);
 
-    // Custom query to search members by multiple criteria within a chapter
-    @Query("SELECT m FROM Member m WHERE m.chapter.id = :chapterId AND " +
-            "(:firstName IS NULL OR LOWER(m.firstName) LIKE LOWER(CONCAT('%', :firstName, '%'))) AND " +
-            "(:lastName IS NULL OR LOWER(m.lastName) LIKE LOWER(CONCAT('%', :lastName, '%'))) AND " +
-            "(:email IS NULL OR LOWER(m.email) LIKE LOWER(CONCAT('%', :email, '%'))) AND " +
-            "(:role IS NULL OR m.role = :role) AND " +
-            "(:major IS NULL OR LOWER(m.major) LIKE LOWER(CONCAT('%', :major, '%'))) AND " +
-            "(:graduationYear IS NULL OR m.graduationYear = :graduationYear) AND " +
-            "(:active IS NULL OR m.active = :active)")
-    List<Member> findMembersByCriteria(
-            @Param("chapterId") Long chapterId,
-            @Param("firstName") String firstName,
-            @Param("lastName") String lastName,
-            @Param("email") String email,
-            @Param("role") MemberRole role,
-            @Param("major") String major,
-            @Param("graduationYear") String graduationYear,
-            @Param("active") Boolean active);
-
     // Count active members by chapter
     @Query("SELECT COUNT(m) FROM Member m WHERE m.chapter.id = :chapterId AND m.active = true")
     Long countActiveMembersByChapter(@Param("chapterId") Long chapterId);
@@ -79,7 +72,71 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @Query("SELECT COUNT(m) FROM Member m WHERE m.chapter.id = :chapterId AND m.role = :role AND m.active = true")
     Long countMembersByRoleInChapter(@Param("chapterId") Long chapterId, @Param("role") MemberRole role);
 
+    // Active member counts per (chapter, role) for a set of chapters in a single grouped query
+    @Query("SELECT new com.turningpoint.chapterorganizer.dto.RoleCountDto(m.chapter.id, m.role, COUNT(m)) " +
+            "FROM Member m WHERE m.chapter.id IN :chapterIds AND m.active = true " +
+            "GROUP BY m.chapter.id, m.role")
+    List<RoleCountDto> countActiveMembersByRoleForChapters(@Param("chapterIds") Collection<Long> chapterIds);
+
+    // Active officer summaries of a chapter (everyone above MEMBER)
+    @Query("SELECT new com.turningpoint.chapterorganizer.dto.MemberSummaryDto(" +
+            "m.id, m.chapter.id, m.firstName, m.lastName, m.role) " +
+            "FROM Member m WHERE m.chapter.id = :chapterId AND m.active = true " +
+            "AND m.role <> 'MEMBER'")
+    List<MemberSummaryDto> findActiveOfficerSummaries(@Param("chapterId") Long chapterId);
+
     // Find the president of a chapter
     @Query("SELECT m FROM Member m WHERE m.chapter.id = :chapterId AND m.role = 'PRESIDENT' AND m.active = true")
     Optional<Member> findChapterPresident(@Param("chapterId") Long chapterId);
-}
\ No newline at end of file
+
+    // Active member summaries for a set of chapters in a single query
+    @Query("SELECT new com.turningpoint.chapterorganizer.dto.MemberSummaryDto(" +
+            "m.id, m.chapter.id, m.firstName, m.lastName, m.role) " +
+            "FROM Member m WHERE m.chapter.id IN :chapterIds AND m.active = true " +
+            "ORDER BY m.chapter.id, m.lastName, m.firstName")
+    List<MemberSummaryDto> findActiveMemberSummariesByChapterIds(@Param("chapterIds") Collection<Long> chapterIds);
+
+    // Every member email, lower-cased, for in-memory duplicate checks during bulk imports
+    @Query("SELECT LOWER(m.email) FROM Member m")
+    List<String> findAllNormalizedEmails();
+
+    // Every member email, lower-cased, streamed for building the email Bloom filter
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT LOWER(m.email) FROM Member m")
+    Stream<String> streamNormalizedEmails();
+
+    // Forward-only, read-only cursors over members for exports; must be consumed
+    // inside a transaction and closed
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT m FROM Member m ORDER BY m.id")
+    Stream<Member> streamAll();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT m FROM Member m WHERE m.chapter.id = :chapterId ORDER BY m.id")
+    Stream<Member> streamByChapterId(@Param("chapterId") Long chapterId);
+
+    // Rows (id, chapterId, firstName, lastName, active) for building the in-memory name index
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT m.id, m.chapter.id, m.firstName, m.lastName, m.active FROM Member m")
+    Stream<Object[]> streamNameIndexRows();
+
+    @Query("SELECT m.id, m.chapter.id, m.firstName, m.lastName, m.active FROM Member m WHERE m.chapter.id = :chapterId")
+    List<Object[]> findNameIndexRowsByChapterId(@Param("chapterId") Long chapterId);
+
+    // Rows (id, firstName, lastName, email, phoneNumber) for the duplicate member scan
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT m.id, m.firstName, m.lastName, m.email, m.phoneNumber FROM Member m")
+    Stream<Object[]> streamDuplicateScanRows();
+
+    // The ids among the given ones that belong to a member
+    @Query("SELECT m.id FROM Member m WHERE m.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+}
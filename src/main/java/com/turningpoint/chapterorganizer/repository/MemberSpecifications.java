@@ -0,0 +1,81 @@
+package com.turningpoint.chapterorganizer.repository;
+
+import com.turningpoint.chapterorganizer.dto.MemberSearchCriteria;
+import com.turningpoint.chapterorganizer.entity.Member;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.turningpoint.chapterorganizer.repository.SearchPatterns.prefixPattern;
+
+/**
+ * Index-friendly member search predicates. Only supplied criteria become SQL
+ * predicates, and text criteria are anchored prefix matches on UPPER(col), so
+ * Postgres can use the text_pattern_ops indexes (V8) as range scans.
+ */
+public final class MemberSpecifications {
+
+    private MemberSpecifications() {
+    }
+
+    public static Specification<Member> matchingCriteria(MemberSearchCriteria criteria) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (criteria.getChapterId() != null) {
+                predicates.add(cb.equal(root.get("chapter").get("id"), criteria.getChapterId()));
+            }
+            if (hasText(criteria.getName())) {
+                // "ann sm" needs every word to start either the first or the last name
+                for (String word : criteria.getName().trim().split("\\s+")) {
+                    String pattern = prefixPattern(word);
+                    predicates.add(cb.or(
+                            startsWith(cb, cb.upper(root.get("firstName")), pattern),
+                            startsWith(cb, cb.upper(root.get("lastName")), pattern)));
+                }
+            }
+            if (hasText(criteria.getFirstName())) {
+                predicates.add(startsWith(cb, cb.upper(root.get("firstName")),
+                        prefixPattern(criteria.getFirstName().trim())));
+            }
+            if (hasText(criteria.getLastName())) {
+                predicates.add(startsWith(cb, cb.upper(root.get("lastName")),
+                        prefixPattern(criteria.getLastName().trim())));
+            }
+            if (hasText(criteria.getEmail())) {
+                predicates.add(startsWith(cb, cb.upper(root.get("email")), prefixPattern(criteria.getEmail().trim())));
+            }
+            if (criteria.getRole() != null) {
+                predicates.add(cb.equal(root.get("role"), criteria.getRole()));
+            }
+            if (hasText(criteria.getMajor())) {
+                predicates.add(startsWith(cb, cb.upper(root.get("major")), prefixPattern(criteria.getMajor().trim())));
+            }
+            if (hasText(criteria.getGraduationYear())) {
+                predicates.add(cb.equal(root.get("graduationYear"), criteria.getGraduationYear().trim()));
+            }
+            if (criteria.getActive() != null) {
+                predicates.add(cb.equal(root.get("active"), criteria.getActive()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Keyset continuation: members after the given id
+     */
+    public static Specification<Member> idAfter(Long id) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), id);
+    }
+
+    private static Predicate startsWith(CriteriaBuilder cb, Expression<String> column, String pattern) {
+        return cb.like(column, pattern, SearchPatterns.ESCAPE);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
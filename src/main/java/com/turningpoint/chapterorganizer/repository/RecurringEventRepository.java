@@ -0,0 +1,37 @@
+package com.turningpoint.chapterorganizer.repository;
+
+import com.turningpoint.chapterorganizer.entity.EventType;
+import com.turningpoint.chapterorganizer.entity.RecurringEvent;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RecurringEventRepository extends JpaRepository<RecurringEvent, Long> {
+
+    // Find active recurring events by chapter ID
+    List<RecurringEvent> findByChapterIdAndActiveTrueOrderByStartDateTimeAsc(Long chapterId);
+
+    // Load a recurring event and lock its row until the transaction ends, serializing materializations
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM RecurringEvent r WHERE r.id = :id")
+    Optional<RecurringEvent> findByIdForUpdate(@Param("id") Long id);
+
+    // Active rules with an occurrence that may start in [start, end); chapterId and type are optional filters
+    @Query("SELECT r FROM RecurringEvent r WHERE r.active = true " +
+            "AND r.startDateTime < :end AND (r.seriesEnd IS NULL OR r.seriesEnd >= :start) " +
+            "AND (:chapterId IS NULL OR r.chapter.id = :chapterId) " +
+            "AND (:type IS NULL OR r.type = :type)")
+    List<RecurringEvent> findActiveOverlapping(
+            @Param("chapterId") Long chapterId,
+            @Param("type") EventType type,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+}
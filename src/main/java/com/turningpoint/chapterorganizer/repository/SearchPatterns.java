@@ -0,0 +1,43 @@
+package com.turningpoint.chapterorganizer.repository;
+
+import java.util.Locale;
+
+/**
+ * Builds LIKE patterns for the Specification-based searches. Patterns are
+ * upper-cased to match the UPPER(col) shape of the trigram and prefix
+ * indexes, and LIKE wildcards in user input are escaped so they match
+ * literally.
+ */
+public final class SearchPatterns {
+
+    public static final char ESCAPE = '\\';
+
+    private SearchPatterns() {
+    }
+
+    public static String upper(String value) {
+        return value.toUpperCase(Locale.ROOT);
+    }
+
+    public static String containsPattern(String value) {
+        return "%" + escape(upper(value)) + "%";
+    }
+
+    /**
+     * Anchored pattern ("X%"), which a btree text_pattern_ops index can serve as a range scan
+     */
+    public static String prefixPattern(String value) {
+        return escape(upper(value)) + "%";
+    }
+
+    static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                escaped.append(ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,56 @@
+package com.turningpoint.chapterorganizer.service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A rendered iCalendar feed. {@code stamp} identifies the data it was
+ * rendered from and {@code eTag} is derived from it. Chapter feeds also
+ * keep their rendered components, so that a later change only re-renders
+ * the events that changed.
+ */
+public class CalendarFeed {
+
+    private final byte[] content;
+    private final String eTag;
+    private final String stamp;
+    private final Map<String, String> components;
+    private final long eventCount;
+    private final LocalDateTime lastEventUpdate;
+
+    public CalendarFeed(byte[] content, String eTag, String stamp, Map<String, String> components,
+            long eventCount, LocalDateTime lastEventUpdate) {
+        this.content = content;
+        this.eTag = eTag;
+        this.stamp = stamp;
+        this.components = Collections.unmodifiableMap(components);
+        this.eventCount = eventCount;
+        this.lastEventUpdate = lastEventUpdate;
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public String getStamp() {
+        return stamp;
+    }
+
+    // Rendered VEVENT blocks by component key, in feed order
+    Map<String, String> getComponents() {
+        return components;
+    }
+
+    long getEventCount() {
+        return eventCount;
+    }
+
+    LocalDateTime getLastEventUpdate() {
+        return lastEventUpdate;
+    }
+}
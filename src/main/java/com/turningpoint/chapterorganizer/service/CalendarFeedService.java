@@ -0,0 +1,314 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.entity.Chapter;
+import com.turningpoint.chapterorganizer.entity.Event;
+import com.turningpoint.chapterorganizer.entity.EventRSVP;
+import com.turningpoint.chapterorganizer.entity.Member;
+import com.turningpoint.chapterorganizer.entity.RSVPStatus;
+import com.turningpoint.chapterorganizer.entity.RecurrencePattern;
+import com.turningpoint.chapterorganizer.entity.RecurringEvent;
+import com.turningpoint.chapterorganizer.repository.EventRSVPRepository;
+import com.turningpoint.chapterorganizer.repository.EventRepository;
+import com.turningpoint.chapterorganizer.repository.MemberRepository;
+import com.turningpoint.chapterorganizer.repository.RecurringEventRepository;
+import com.turningpoint.chapterorganizer.util.BoundedCache;
+import com.turningpoint.chapterorganizer.util.Hashing;
+import com.turningpoint.chapterorganizer.util.ICalendar;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * iCalendar feeds of a chapter's events and of the events a member RSVPed
+ * to, for calendar apps that subscribe to them and poll every few minutes.
+ *
+ * Every request first reads a cheap change stamp of the feed's data (row
+ * counts and latest update times). Its ETag is derived from that stamp, and
+ * the rendered feed is cached with it, so a poll with no changes costs one
+ * aggregate query and no rendering. When a chapter's events change, only
+ * the changed events are rendered again; changes to its recurring events,
+ * or deleted events, rebuild the feed. Recurring events are written as
+ * RRULEs, with overridden occurrences as RECURRENCE-ID components.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CalendarFeedService {
+
+    // Past events kept in feeds, so that recent events do not vanish from calendars
+    public static final int HISTORY_DAYS = 90;
+    public static final int MAX_FEED_EVENTS = 2000;
+    // Events have no end time; calendars show them with this duration
+    public static final String EVENT_DURATION = "PT1H";
+
+    private static final String PRODUCT_ID = "-//Turning Point//Chapter Organizer//EN";
+    private static final String UID_DOMAIN = "@chapter-organizer";
+    private static final Set<RSVPStatus> MEMBER_FEED_STATUSES = EnumSet.of(RSVPStatus.GOING, RSVPStatus.WAITLISTED);
+
+    private final EventRepository eventRepository;
+    private final EventRSVPRepository rsvpRepository;
+    private final RecurringEventRepository recurringEventRepository;
+    private final MemberRepository memberRepository;
+    private final ChapterService chapterService;
+    private final BoundedCache<String, CalendarFeed> feedCache;
+
+    @Autowired
+    public CalendarFeedService(EventRepository eventRepository, EventRSVPRepository rsvpRepository,
+            RecurringEventRepository recurringEventRepository, MemberRepository memberRepository,
+            ChapterService chapterService, BoundedCache<String, CalendarFeed> calendarFeedCache) {
+        this.eventRepository = eventRepository;
+        this.rsvpRepository = rsvpRepository;
+        this.recurringEventRepository = recurringEventRepository;
+        this.memberRepository = memberRepository;
+        this.chapterService = chapterService;
+        this.feedCache = calendarFeedCache;
+    }
+
+    /**
+     * Feed of a chapter's events and recurring events
+     */
+    public CalendarFeed getChapterFeed(Long chapterId) {
+        Chapter chapter = chapterService.getChapterById(chapterId)
+                .orElseThrow(() -> new IllegalArgumentException("Chapter not found with id: " + chapterId));
+        Object[] row = eventRepository.findChapterFeedStamp(chapterId).get(0);
+        long eventCount = ((Number) row[0]).longValue();
+        LocalDateTime lastEventUpdate = toLocalDateTime(row[1]);
+        String recurringStamp = row[2] + "/" + row[3] + "/" + toLocalDateTime(row[4]) + "/" + chapter.getName();
+        String stamp = eventCount + "/" + lastEventUpdate + "|" + recurringStamp;
+
+        String key = "chapter:" + chapterId;
+        CalendarFeed cached = feedCache.get(key);
+        if (cached != null && cached.getStamp().equals(stamp)) {
+            return cached;
+        }
+        CalendarFeed feed = null;
+        if (cached != null && cached.getStamp().endsWith("|" + recurringStamp)) {
+            feed = updateChapterFeed(chapter, cached, stamp, eventCount, lastEventUpdate);
+        }
+        if (feed == null) {
+            feed = buildChapterFeed(chapter, stamp, eventCount, lastEventUpdate);
+        }
+        feedCache.put(key, feed);
+        return feed;
+    }
+
+    /**
+     * Feed of the events a member is going to or waitlisted for, across
+     * chapters; waitlisted ones are marked tentative
+     */
+    public CalendarFeed getMemberFeed(Long memberId) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("Member not found with id: " + memberId));
+        Object[] row = rsvpRepository.findMemberFeedStamp(memberId).get(0);
+        String name = member.getFirstName() + " " + member.getLastName();
+        String stamp = row[0] + "/" + toLocalDateTime(row[1]) + "/" + toLocalDateTime(row[2]) + "|" + name;
+
+        String key = "member:" + memberId;
+        CalendarFeed cached = feedCache.get(key);
+        if (cached != null && cached.getStamp().equals(stamp)) {
+            return cached;
+        }
+
+        Map<Long, RSVPStatus> statuses = new HashMap<>();
+        for (EventRSVP rsvp : rsvpRepository.findByMemberIdAndStatusIn(memberId, MEMBER_FEED_STATUSES)) {
+            statuses.put(rsvp.getEventId(), rsvp.getStatus());
+        }
+        LocalDateTime since = LocalDateTime.now().minusDays(HISTORY_DAYS);
+        List<Event> events = eventRepository.findAllById(statuses.keySet()).stream()
+                .filter(event -> !event.getEventDateTime().isBefore(since))
+                .sorted(Comparator.comparing(Event::getEventDateTime))
+                .limit(MAX_FEED_EVENTS)
+                .collect(Collectors.toList());
+        Map<String, String> components = new LinkedHashMap<>();
+        for (Event event : events) {
+            components.put(eventKey(event),
+                    renderEvent(event, null, statuses.get(event.getId()) == RSVPStatus.WAITLISTED));
+        }
+        CalendarFeed feed = assemble(key, name + " - My Events", components, stamp, 0, null);
+        feedCache.put(key, feed);
+        return feed;
+    }
+
+    private CalendarFeed buildChapterFeed(Chapter chapter, String stamp, long eventCount,
+            LocalDateTime lastEventUpdate) {
+        Map<Long, RecurringEvent> recurringEvents = activeRecurringEvents(chapter.getId());
+        Map<String, String> components = new LinkedHashMap<>();
+        for (RecurringEvent recurringEvent : recurringEvents.values()) {
+            components.put("recurring:" + recurringEvent.getId(), renderRecurringEvent(recurringEvent));
+        }
+        List<Event> events = eventRepository.findByChapterIdAndEventDateTimeGreaterThanEqualOrderByEventDateTimeAsc(
+                chapter.getId(), LocalDateTime.now().minusDays(HISTORY_DAYS), PageRequest.of(0, MAX_FEED_EVENTS));
+        for (Event event : events) {
+            components.put(eventKey(event), renderEvent(event, recurringEvents, false));
+        }
+        return assemble("chapter:" + chapter.getId(), chapter.getName() + " Events", components, stamp,
+                eventCount, lastEventUpdate);
+    }
+
+    // Re-render only the events changed since the cached feed; null when the feed must be rebuilt
+    private CalendarFeed updateChapterFeed(Chapter chapter, CalendarFeed cached, String stamp, long eventCount,
+            LocalDateTime lastEventUpdate) {
+        if (cached.getLastEventUpdate() == null || lastEventUpdate == null) {
+            return null;
+        }
+        // Inclusive, so events updated in the same instant as the last one are not missed
+        List<Event> changed = eventRepository.findByChapterIdAndUpdatedAtGreaterThanEqual(chapter.getId(),
+                cached.getLastEventUpdate());
+        Map<Long, RecurringEvent> recurringEvents = changed.stream().anyMatch(e -> e.getRecurringEventId() != null)
+                ? activeRecurringEvents(chapter.getId())
+                : Map.of();
+        Map<String, String> components = new LinkedHashMap<>(cached.getComponents());
+        int added = 0;
+        for (Event event : changed) {
+            if (components.put(eventKey(event), renderEvent(event, recurringEvents, false)) == null) {
+                added++;
+            }
+        }
+        if (cached.getEventCount() + added != eventCount) {
+            // Events were deleted, or ones outside the feed's window changed
+            return null;
+        }
+        return assemble("chapter:" + chapter.getId(), chapter.getName() + " Events", components, stamp,
+                eventCount, lastEventUpdate);
+    }
+
+    private Map<Long, RecurringEvent> activeRecurringEvents(Long chapterId) {
+        Map<Long, RecurringEvent> recurringEvents = new LinkedHashMap<>();
+        for (RecurringEvent recurringEvent : recurringEventRepository
+                .findByChapterIdAndActiveTrueOrderByStartDateTimeAsc(chapterId)) {
+            recurringEvents.put(recurringEvent.getId(), recurringEvent);
+        }
+        return recurringEvents;
+    }
+
+    private static CalendarFeed assemble(String key, String name, Map<String, String> components, String stamp,
+            long eventCount, LocalDateTime lastEventUpdate) {
+        StringBuilder out = new StringBuilder(256 + components.size() * 320);
+        ICalendar.line(out, "BEGIN", "VCALENDAR");
+        ICalendar.line(out, "VERSION", "2.0");
+        ICalendar.line(out, "PRODID", PRODUCT_ID);
+        ICalendar.line(out, "CALSCALE", "GREGORIAN");
+        ICalendar.line(out, "METHOD", "PUBLISH");
+        ICalendar.line(out, "X-WR-CALNAME", ICalendar.text(name));
+        components.values().forEach(out::append);
+        ICalendar.line(out, "END", "VCALENDAR");
+        // Weak: regenerating from the same data may differ in which past events are kept
+        String eTag = "W/\"" + Long.toHexString(Hashing.hash64(key + "|" + stamp)) + "\"";
+        return new CalendarFeed(ICalendar.toBytes(out), eTag, stamp, components, eventCount, lastEventUpdate);
+    }
+
+    private static String eventKey(Event event) {
+        return "event:" + event.getId();
+    }
+
+    private static String renderEvent(Event event, Map<Long, RecurringEvent> recurringEvents, boolean tentative) {
+        StringBuilder out = new StringBuilder(320);
+        ICalendar.line(out, "BEGIN", "VEVENT");
+        RecurringEvent series = event.getRecurringEventId() == null || recurringEvents == null
+                ? null : recurringEvents.get(event.getRecurringEventId());
+        if (series != null) {
+            // Replaces one occurrence of the series' RRULE
+            ICalendar.line(out, "UID", "recurring-" + series.getId() + UID_DOMAIN);
+            ICalendar.line(out, "RECURRENCE-ID", ICalendar.dateTime(
+                    event.getOccurrenceDate().atTime(series.getStartDateTime().toLocalTime())));
+        } else {
+            ICalendar.line(out, "UID", "event-" + event.getId() + UID_DOMAIN);
+        }
+        ICalendar.line(out, "DTSTAMP", ICalendar.utcDateTime(lastRevised(event.getUpdatedAt(), event.getCreatedAt())));
+        ICalendar.line(out, "DTSTART", ICalendar.dateTime(event.getEventDateTime()));
+        ICalendar.line(out, "DURATION", EVENT_DURATION);
+        appendDetails(out, event.getTitle(), event.getLocation(), event.getDescription(),
+                event.getType() != null ? event.getType().getDisplayName() : null);
+        ICalendar.line(out, "STATUS", !Boolean.TRUE.equals(event.getActive())
+                ? "CANCELLED"
+                : tentative ? "TENTATIVE" : "CONFIRMED");
+        ICalendar.line(out, "END", "VEVENT");
+        return out.toString();
+    }
+
+    private static String renderRecurringEvent(RecurringEvent recurringEvent) {
+        StringBuilder out = new StringBuilder(400);
+        ICalendar.line(out, "BEGIN", "VEVENT");
+        ICalendar.line(out, "UID", "recurring-" + recurringEvent.getId() + UID_DOMAIN);
+        ICalendar.line(out, "DTSTAMP", ICalendar.utcDateTime(
+                lastRevised(recurringEvent.getUpdatedAt(), recurringEvent.getCreatedAt())));
+        ICalendar.line(out, "DTSTART", ICalendar.dateTime(recurringEvent.getStartDateTime()));
+        ICalendar.line(out, "DURATION", EVENT_DURATION);
+        ICalendar.line(out, "RRULE", recurrenceRule(recurringEvent));
+        if (!recurringEvent.getExcludedDates().isEmpty()) {
+            List<String> excluded = new ArrayList<>();
+            for (LocalDate date : new TreeSet<>(recurringEvent.getExcludedDates())) {
+                excluded.add(ICalendar.dateTime(date.atTime(recurringEvent.getStartDateTime().toLocalTime())));
+            }
+            ICalendar.line(out, "EXDATE", String.join(",", excluded));
+        }
+        appendDetails(out, recurringEvent.getTitle(), recurringEvent.getLocation(), recurringEvent.getDescription(),
+                recurringEvent.getType() != null ? recurringEvent.getType().getDisplayName() : null);
+        ICalendar.line(out, "STATUS", "CONFIRMED");
+        ICalendar.line(out, "END", "VEVENT");
+        return out.toString();
+    }
+
+    static String recurrenceRule(RecurringEvent recurringEvent) {
+        StringBuilder rule = new StringBuilder("FREQ=").append(recurringEvent.getPattern().name());
+        if (recurringEvent.getRepeatInterval() != null && recurringEvent.getRepeatInterval() > 1) {
+            rule.append(";INTERVAL=").append(recurringEvent.getRepeatInterval());
+        }
+        int day = recurringEvent.getStartDateTime().getDayOfMonth();
+        if (recurringEvent.getPattern() == RecurrencePattern.MONTHLY && day > 28) {
+            // An RRULE skips months without that day; ours falls on the month's last day instead
+            rule.append(";BYMONTHDAY=28");
+            for (int d = 29; d <= day; d++) {
+                rule.append(',').append(d);
+            }
+            rule.append(";BYSETPOS=-1");
+        }
+        if (recurringEvent.getSeriesEnd() != null) {
+            rule.append(";UNTIL=").append(ICalendar.dateTime(recurringEvent.getSeriesEnd()));
+        }
+        return rule.toString();
+    }
+
+    private static void appendDetails(StringBuilder out, String title, String location, String description,
+            String category) {
+        ICalendar.line(out, "SUMMARY", ICalendar.text(title));
+        if (location != null && !location.isBlank()) {
+            ICalendar.line(out, "LOCATION", ICalendar.text(location));
+        }
+        if (description != null && !description.isBlank()) {
+            ICalendar.line(out, "DESCRIPTION", ICalendar.text(description));
+        }
+        if (category != null) {
+            ICalendar.line(out, "CATEGORIES", ICalendar.text(category));
+        }
+    }
+
+    private static Instant lastRevised(LocalDateTime updatedAt, LocalDateTime createdAt) {
+        LocalDateTime revised = updatedAt != null ? updatedAt : createdAt;
+        return revised == null ? Instant.EPOCH : revised.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    // Native queries return timestamps as java.sql.Timestamp or LocalDateTime depending on the driver
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
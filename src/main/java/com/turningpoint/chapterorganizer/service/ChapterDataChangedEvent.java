@@ -0,0 +1,33 @@
+package com.turningpoint.chapterorganizer.service;
+
+/**
+ * Published by the services whenever a write touches a chapter's own row or
+ * its members or events. Read-side caches listen for it after commit to drop
+ * their copy of that chapter. A null chapter id means any chapter may have
+ * changed (bulk maintenance jobs).
+ */
+public class ChapterDataChangedEvent {
+
+    private final Long chapterId;
+
+    public ChapterDataChangedEvent(Long chapterId) {
+        this.chapterId = chapterId;
+    }
+
+    public static ChapterDataChangedEvent allChapters() {
+        return new ChapterDataChangedEvent(null);
+    }
+
+    public Long getChapterId() {
+        return chapterId;
+    }
+
+    public boolean isAllChapters() {
+        return chapterId == null;
+    }
+
+    @Override
+    public String toString() {
+        return "ChapterDataChangedEvent{chapterId=" + chapterId + '}';
+    }
+}
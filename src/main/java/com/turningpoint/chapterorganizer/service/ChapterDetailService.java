@@ -0,0 +1,139 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.dto.ChapterDetailDto;
+import com.turningpoint.chapterorganizer.dto.MemberSummaryDto;
+import com.turningpoint.chapterorganizer.entity.MemberRole;
+import com.turningpoint.chapterorganizer.repository.ChapterRepository;
+import com.turningpoint.chapterorganizer.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Builds the chapter page read model ({@link ChapterDetailDto}) with two
+ * statements - the chapter row joined with its officers, then its next
+ * upcoming events - and caches the result per chapter.
+ *
+ * Cached entries are dropped when a {@link ChapterDataChangedEvent} for the
+ * chapter is published and its transaction commits. Every invalidation bumps
+ * a per-chapter generation, and a load only caches its result if the
+ * generation did not move while it was reading, so a read that raced a
+ * write can never put the pre-write state back into the cache.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ChapterDetailService {
+
+    public static final int UPCOMING_EVENT_LIMIT = 5;
+
+    private final ChapterRepository chapterRepository;
+    private final EventRepository eventRepository;
+
+    private final Map<Long, ChapterDetailDto> cache = new ConcurrentHashMap<>();
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+    private final AtomicLong globalGeneration = new AtomicLong();
+
+    @Autowired
+    public ChapterDetailService(ChapterRepository chapterRepository, EventRepository eventRepository) {
+        this.chapterRepository = chapterRepository;
+        this.eventRepository = eventRepository;
+    }
+
+    /**
+     * Get the detail summary of a chapter, or empty if the chapter does not exist
+     */
+    public Optional<ChapterDetailDto> getChapterDetail(Long chapterId) {
+        ChapterDetailDto cached = cache.get(chapterId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long global = globalGeneration.get();
+        long generation = generations.getOrDefault(chapterId, 0L);
+        Optional<ChapterDetailDto> loaded = load(chapterId);
+        loaded.ifPresent(detail -> {
+            if (globalGeneration.get() == global && generations.getOrDefault(chapterId, 0L) == generation) {
+                cache.put(chapterId, detail);
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * Drop the cached summary of a chapter once the publishing transaction commits
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onChapterDataChanged(ChapterDataChangedEvent event) {
+        if (event.isAllChapters()) {
+            evictAll();
+        } else {
+            evict(event.getChapterId());
+        }
+    }
+
+    public void evict(Long chapterId) {
+        generations.merge(chapterId, 1L, Long::sum);
+        cache.remove(chapterId);
+    }
+
+    public void evictAll() {
+        globalGeneration.incrementAndGet();
+        cache.clear();
+    }
+
+    public int cachedCount() {
+        return cache.size();
+    }
+
+    private Optional<ChapterDetailDto> load(Long chapterId) {
+        List<Object[]> rows = chapterRepository.findChapterWithOfficers(chapterId);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Object[] first = rows.get(0);
+        ChapterDetailDto detail = new ChapterDetailDto();
+        detail.setId((Long) first[0]);
+        detail.setName((String) first[1]);
+        detail.setUniversityName((String) first[2]);
+        detail.setState((String) first[3]);
+        detail.setCity((String) first[4]);
+        detail.setDescription((String) first[5]);
+        detail.setActive((Boolean) first[6]);
+        detail.setActiveMemberCount((Integer) first[7]);
+
+        List<MemberSummaryDto> officers = new ArrayList<>();
+        for (Object[] row : rows) {
+            if (row[8] != null) {
+                officers.add(new MemberSummaryDto((Long) row[8], chapterId, (String) row[9], (String) row[10],
+                        (MemberRole) row[11]));
+            }
+        }
+        // Highest office first (enum order), then by name for a stable roster
+        officers.sort(Comparator.comparing(MemberSummaryDto::getRole)
+                .thenComparing(MemberSummaryDto::getLastName, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(MemberSummaryDto::getId));
+        detail.setOfficers(officers);
+        officers.stream()
+                .filter(officer -> officer.getRole() == MemberRole.PRESIDENT)
+                .findFirst()
+                .ifPresent(detail::setPresident);
+
+        detail.setUpcomingEvents(eventRepository.findUpcomingEventSummariesByChapter(
+                chapterId, LocalDateTime.now(), PageRequest.of(0, UPCOMING_EVENT_LIMIT)));
+        return Optional.of(detail);
+    }
+}
@@ -0,0 +1,36 @@
+package com.turningpoint.chapterorganizer.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically repairs drift between chapters.active_member_count and the
+ * members table, e.g. after manual SQL fixes or writes that bypassed
+ * MemberService.
+ */
+@Component
+public class ChapterMemberCountReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChapterMemberCountReconciler.class);
+
+    private final ChapterService chapterService;
+
+    @Autowired
+    public ChapterMemberCountReconciler(ChapterService chapterService) {
+        this.chapterService = chapterService;
+    }
+
+    @Scheduled(initialDelayString = "${app.chapters.member-count-reconcile-initial-delay-ms:60000}",
+            fixedDelayString = "${app.chapters.member-count-reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        int repaired = chapterService.reconcileActiveMemberCounts();
+        if (repaired > 0) {
+            logger.warn("Repaired active member count drift on {} chapter(s)", repaired);
+        } else {
+            logger.debug("Active member counts are consistent");
+        }
+    }
+}
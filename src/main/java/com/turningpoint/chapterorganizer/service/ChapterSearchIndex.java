@@ -0,0 +1,303 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.dto.ChapterSummaryDto;
+import com.turningpoint.chapterorganizer.entity.Chapter;
+import com.turningpoint.chapterorganizer.repository.ChapterRepository;
+import com.turningpoint.chapterorganizer.util.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process search index over the chapter directory (name, university,
+ * state and city). Substring matches on name and university are narrowed
+ * through trigram posting lists and state/city through exact-match maps,
+ * so directory searches never scan the chapters table.
+ *
+ * The index is built once the application is ready (after the data
+ * initializers have run) and is kept current by ChapterService. Changes are
+ * applied after the surrounding transaction commits so a rollback never
+ * leaves the index ahead of the database. Until the first build completes
+ * {@link #isReady()} is false and callers should fall back to the database.
+ *
+ * Multi-node deployments should set {@code app.search.mode=database}: the
+ * index is then never built and searches go to the trigram-indexed queries.
+ */
+@Component
+public class ChapterSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChapterSearchIndex.class);
+
+    static final int GRAM_SIZE = 3;
+
+    private final ChapterRepository chapterRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Long, Entry> entries = new HashMap<>();
+    private Map<String, Set<Long>> nameGrams = new HashMap<>();
+    private Map<String, Set<Long>> universityGrams = new HashMap<>();
+    private Map<String, Set<Long>> byState = new HashMap<>();
+    private Map<String, Set<Long>> byCity = new HashMap<>();
+    private volatile boolean ready;
+    private boolean enabled = true;
+
+    @Autowired
+    public ChapterSearchIndex(ChapterRepository chapterRepository) {
+        this.chapterRepository = chapterRepository;
+    }
+
+    @Value("${app.search.mode:memory}")
+    public void setSearchMode(String searchMode) {
+        this.enabled = !"database".equalsIgnoreCase(searchMode);
+    }
+
+    /**
+     * (Re)build the index from the chapters table
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            logger.info("Chapter search index disabled; searches use the database");
+            return;
+        }
+        // Read under the write lock so a chapter saved meanwhile is applied after the rebuild, not lost
+        lock.writeLock().lock();
+        try {
+            List<ChapterSummaryDto> chapters = chapterRepository.findAllChapterSummaries();
+            entries = new HashMap<>();
+            nameGrams = new HashMap<>();
+            universityGrams = new HashMap<>();
+            byState = new HashMap<>();
+            byCity = new HashMap<>();
+            for (ChapterSummaryDto chapter : chapters) {
+                add(new Entry(chapter.getId(), chapter.getName(), chapter.getUniversityName(),
+                        chapter.getState(), chapter.getCity(), chapter.getActive()));
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Chapter search index built with {} chapters", size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find chapter ids matching every supplied criterion, ordered by id. Name
+     * and university are case-insensitive substring matches; state and city
+     * are case-insensitive exact matches; null criteria are ignored.
+     */
+    public List<Long> search(String name, String universityName, String state, String city, Boolean active) {
+        String nameQuery = normalize(name);
+        String universityQuery = normalize(universityName);
+        String stateQuery = normalize(state);
+        String cityQuery = normalize(city);
+
+        lock.readLock().lock();
+        try {
+            // Start from the most selective posting list available, then verify every candidate
+            Collection<Long> candidates = null;
+            candidates = narrower(candidates, stateQuery == null ? null : byState.getOrDefault(stateQuery, Set.of()));
+            candidates = narrower(candidates, cityQuery == null ? null : byCity.getOrDefault(cityQuery, Set.of()));
+            candidates = narrower(candidates, gramCandidates(nameGrams, nameQuery));
+            candidates = narrower(candidates, gramCandidates(universityGrams, universityQuery));
+            if (candidates == null) {
+                candidates = entries.keySet();
+            }
+
+            List<Long> matches = new ArrayList<>();
+            for (Long id : candidates) {
+                Entry entry = entries.get(id);
+                if (entry != null && entry.matches(nameQuery, universityQuery, stateQuery, cityQuery, active)) {
+                    matches.add(id);
+                }
+            }
+            Collections.sort(matches);
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reflect a created or updated chapter once the current transaction commits
+     */
+    public void onChapterSaved(Chapter chapter) {
+        if (!enabled) {
+            return;
+        }
+        Entry entry = new Entry(chapter.getId(), chapter.getName(), chapter.getUniversityName(),
+                chapter.getState(), chapter.getCity(), chapter.getActive());
+        TransactionHooks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(entry.id);
+                add(entry);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Drop a permanently deleted chapter once the current transaction commits
+     */
+    public void onChapterRemoved(Long chapterId) {
+        if (!enabled) {
+            return;
+        }
+        TransactionHooks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(chapterId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private void add(Entry entry) {
+        entries.put(entry.id, entry);
+        addGrams(nameGrams, entry.name, entry.id);
+        addGrams(universityGrams, entry.university, entry.id);
+        if (entry.state != null) {
+            byState.computeIfAbsent(entry.state, key -> new HashSet<>()).add(entry.id);
+        }
+        if (entry.city != null) {
+            byCity.computeIfAbsent(entry.city, key -> new HashSet<>()).add(entry.id);
+        }
+    }
+
+    private void remove(Long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        removeGrams(nameGrams, entry.name, id);
+        removeGrams(universityGrams, entry.university, id);
+        removeFrom(byState, entry.state, id);
+        removeFrom(byCity, entry.city, id);
+    }
+
+    private static void addGrams(Map<String, Set<Long>> postings, String value, Long id) {
+        for (String gram : grams(value)) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    private static void removeGrams(Map<String, Set<Long>> postings, String value, Long id) {
+        for (String gram : grams(value)) {
+            removeFrom(postings, gram, id);
+        }
+    }
+
+    private static void removeFrom(Map<String, Set<Long>> postings, String key, Long id) {
+        if (key == null) {
+            return;
+        }
+        Set<Long> ids = postings.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Smallest posting list among the query's trigrams, or null when the query
+     * is too short to narrow anything down. Candidates are verified later, so
+     * intersecting every list is unnecessary.
+     */
+    private static Set<Long> gramCandidates(Map<String, Set<Long>> postings, String query) {
+        if (query == null || query.length() < GRAM_SIZE) {
+            return null;
+        }
+        Set<Long> smallest = null;
+        for (String gram : grams(query)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return Set.of();
+            }
+            if (smallest == null || ids.size() < smallest.size()) {
+                smallest = ids;
+            }
+        }
+        return smallest;
+    }
+
+    private static Collection<Long> narrower(Collection<Long> current, Collection<Long> next) {
+        if (next == null) {
+            return current;
+        }
+        return current == null || next.size() < current.size() ? next : current;
+    }
+
+    static Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        if (value != null) {
+            for (int i = 0; i + GRAM_SIZE <= value.length(); i++) {
+                grams.add(value.substring(i, i + GRAM_SIZE));
+            }
+        }
+        return grams;
+    }
+
+    static String normalize(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+        private final Long id;
+        private final String name;
+        private final String university;
+        private final String state;
+        private final String city;
+        private final Boolean active;
+
+        private Entry(Long id, String name, String university, String state, String city, Boolean active) {
+            this.id = id;
+            this.name = normalize(name);
+            this.university = normalize(university);
+            this.state = normalize(state);
+            this.city = normalize(city);
+            this.active = active;
+        }
+
+        private boolean matches(String nameQuery, String universityQuery, String stateQuery, String cityQuery,
+                Boolean activeQuery) {
+            return (nameQuery == null || (name != null && name.contains(nameQuery)))
+                    && (universityQuery == null || (university != null && university.contains(universityQuery)))
+                    && (stateQuery == null || stateQuery.equals(state))
+                    && (cityQuery == null || cityQuery.equals(city))
+                    && (activeQuery == null || activeQuery.equals(active));
+        }
+    }
+}
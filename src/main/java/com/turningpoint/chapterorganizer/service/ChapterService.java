@@ -1,23 +1,80 @@
 package com.turningpoint.chapterorganizer.service;
 
+import com.turningpoint.chapterorganizer.dto.ChapterDto;
+import com.turningpoint.chapterorganizer.dto.ChapterSummaryDto;
+import com.turningpoint.chapterorganizer.dto.CursorPage;
+import com.turningpoint.chapterorganizer.dto.EventSummaryDto;
+import com.turningpoint.chapterorganizer.dto.MemberSummaryDto;
 import com.turningpoint.chapterorganizer.entity.Chapter;
 import com.turningpoint.chapterorganizer.repository.ChapterRepository;
+import com.turningpoint.chapterorganizer.repository.ChapterSpecifications;
+import com.turningpoint.chapterorganizer.repository.EventRepository;
+import com.turningpoint.chapterorganizer.repository.MemberRepository;
+import com.turningpoint.chapterorganizer.util.BoundedCache;
+import com.turningpoint.chapterorganizer.util.DataFormat;
+import com.turningpoint.chapterorganizer.util.RecordWriter;
+import com.turningpoint.chapterorganizer.util.TransactionHooks;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class ChapterService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final String EXPAND_MEMBERS = "members";
+    public static final String EXPAND_EVENTS = "events";
+
+    /**
+     * Columns of a chapter export, in output order
+     */
+    public static final List<String> EXPORT_COLUMNS = List.of("id", "name", "universityName", "state", "city",
+            "description", "active", "activeMemberCount", "createdAt", "updatedAt");
+
+    // Rows between persistence context clears while streaming an export
+    static final int EXPORT_CLEAR_INTERVAL = 1000;
+
     private final ChapterRepository chapterRepository;
+    private final MemberRepository memberRepository;
+    private final EventRepository eventRepository;
+    private final ChapterSearchIndex searchIndex;
+    private final EventScheduleIndex scheduleIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BoundedCache<Long, Chapter> chapterCache;
+    private final EntityManager entityManager;
 
     @Autowired
-    public ChapterService(ChapterRepository chapterRepository) {
+    public ChapterService(ChapterRepository chapterRepository, MemberRepository memberRepository,
+            EventRepository eventRepository, ChapterSearchIndex searchIndex, EventScheduleIndex scheduleIndex,
+            ApplicationEventPublisher eventPublisher, BoundedCache<Long, Chapter> chapterCache,
+            EntityManager entityManager) {
         this.chapterRepository = chapterRepository;
+        this.memberRepository = memberRepository;
+        this.eventRepository = eventRepository;
+        this.searchIndex = searchIndex;
+        this.scheduleIndex = scheduleIndex;
+        this.eventPublisher = eventPublisher;
+        this.chapterCache = chapterCache;
+        this.entityManager = entityManager;
     }
 
     /**
@@ -35,15 +92,35 @@ public class ChapterService {
             chapter.setActive(true);
         }
 
-        return chapterRepository.save(chapter);
+        // A new chapter has no members yet; the counter is owned by MemberService
+        chapter.setActiveMemberCount(0);
+
+        Chapter savedChapter = chapterRepository.save(chapter);
+        searchIndex.onChapterSaved(savedChapter);
+        cacheAfterCommit(savedChapter);
+        return savedChapter;
     }
 
     /**
-     * Get chapter by ID
+     * Get chapter by ID. Served from the chapter near-cache: the result is a
+     * detached, read-only snapshot of the chapter's own columns (members,
+     * events and the active member count are not included) and must not be
+     * saved back.
      */
     @Transactional(readOnly = true)
     public Optional<Chapter> getChapterById(Long id) {
-        return chapterRepository.findById(id);
+        return Optional.ofNullable(chapterCache.getOrLoad(id,
+                key -> chapterRepository.findById(key).map(ChapterService::snapshot).orElse(null)));
+    }
+
+    /**
+     * Get a chapter's own columns: the cached snapshot plus its current
+     * active member count
+     */
+    @Transactional(readOnly = true)
+    public Optional<ChapterDto> getChapter(Long id) {
+        return getChapterById(id).map(chapter ->
+                new ChapterDto(chapter, chapterRepository.findActiveMemberCountById(id).orElse(0)));
     }
 
     /**
@@ -70,11 +147,58 @@ public class ChapterService {
         return chapterRepository.findByActiveTrue();
     }
 
+    /**
+     * Get a keyset page of active chapter summaries ordered by id. Pass the
+     * previous page's nextCursor to continue; expand may contain "members"
+     * and/or "events" to attach those lists with one extra query each.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ChapterSummaryDto> getActiveChapterSummaries(Long cursor, Integer limit, Set<String> expand) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        long afterId = cursor == null ? 0L : cursor;
+
+        // Fetch one extra row to learn whether another page exists
+        List<ChapterSummaryDto> rows = chapterRepository.findActiveChapterSummariesAfter(
+                afterId, PageRequest.of(0, pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<ChapterSummaryDto> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        if (!page.isEmpty() && expand != null && !expand.isEmpty()) {
+            expandSummaries(page, expand);
+        }
+
+        Long nextCursor = hasMore ? page.get(page.size() - 1).getId() : null;
+        return new CursorPage<>(page, nextCursor, hasMore, pageSize);
+    }
+
+    private void expandSummaries(List<ChapterSummaryDto> page, Set<String> expand) {
+        List<Long> chapterIds = page.stream().map(ChapterSummaryDto::getId).collect(Collectors.toList());
+
+        if (expand.contains(EXPAND_MEMBERS)) {
+            Map<Long, List<MemberSummaryDto>> membersByChapter = memberRepository
+                    .findActiveMemberSummariesByChapterIds(chapterIds).stream()
+                    .collect(Collectors.groupingBy(MemberSummaryDto::getChapterId));
+            page.forEach(chapter -> chapter.setMembers(
+                    membersByChapter.getOrDefault(chapter.getId(), Collections.emptyList())));
+        }
+
+        if (expand.contains(EXPAND_EVENTS)) {
+            Map<Long, List<EventSummaryDto>> eventsByChapter = eventRepository
+                    .findUpcomingEventSummariesByChapterIds(chapterIds, LocalDateTime.now()).stream()
+                    .collect(Collectors.groupingBy(EventSummaryDto::getChapterId));
+            page.forEach(chapter -> chapter.setEvents(
+                    eventsByChapter.getOrDefault(chapter.getId(), Collections.emptyList())));
+        }
+    }
+
     /**
      * Search chapters by state
      */
     @Transactional(readOnly = true)
     public List<Chapter> searchChaptersByState(String state) {
+        if (searchIndex.isReady()) {
+            return findChaptersByIds(searchIndex.search(null, null, state, null, true));
+        }
         return chapterRepository.findByStateIgnoreCaseAndActive(state, true);
     }
 
@@ -83,6 +207,9 @@ public class ChapterService {
      */
     @Transactional(readOnly = true)
     public List<Chapter> searchChaptersByUniversity(String universityName) {
+        if (searchIndex.isReady()) {
+            return findChaptersByIds(searchIndex.search(null, universityName, null, null, null));
+        }
         return chapterRepository.findByUniversityNameContainingIgnoreCase(universityName);
     }
 
@@ -92,7 +219,28 @@ public class ChapterService {
     @Transactional(readOnly = true)
     public List<Chapter> searchChapters(String name, String universityName, String state,
             String city, Boolean active) {
-        return chapterRepository.findChaptersByCriteria(name, universityName, state, city, active);
+        if (searchIndex.isReady()) {
+            return findChaptersByIds(searchIndex.search(name, universityName, state, city, active));
+        }
+        return chapterRepository.findAll(
+                ChapterSpecifications.matchingCriteria(name, universityName, state, city, active),
+                Sort.by("id"));
+    }
+
+    /**
+     * Load chapters resolved by the search index with a single primary-key
+     * lookup, preserving the index's ordering
+     */
+    private List<Chapter> findChaptersByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, Chapter> chaptersById = chapterRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Chapter::getId, chapter -> chapter));
+        return ids.stream()
+                .map(chaptersById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -124,7 +272,11 @@ public class ChapterService {
             existingChapter.setActive(updatedChapter.getActive());
         }
 
-        return chapterRepository.save(existingChapter);
+        Chapter savedChapter = chapterRepository.save(existingChapter);
+        searchIndex.onChapterSaved(savedChapter);
+        eventPublisher.publishEvent(new ChapterDataChangedEvent(id));
+        cacheAfterCommit(savedChapter);
+        return savedChapter;
     }
 
     /**
@@ -136,6 +288,9 @@ public class ChapterService {
 
         chapter.setActive(false);
         chapterRepository.save(chapter);
+        searchIndex.onChapterSaved(chapter);
+        eventPublisher.publishEvent(new ChapterDataChangedEvent(id));
+        cacheAfterCommit(chapter);
     }
 
     /**
@@ -146,6 +301,11 @@ public class ChapterService {
             throw new IllegalArgumentException("Chapter not found with id: " + id);
         }
         chapterRepository.deleteById(id);
+        searchIndex.onChapterRemoved(id);
+        // Its events are deleted with it
+        scheduleIndex.onChapterRemoved(id);
+        eventPublisher.publishEvent(new ChapterDataChangedEvent(id));
+        TransactionHooks.afterCommit(() -> chapterCache.invalidate(id));
     }
 
     /**
@@ -156,7 +316,39 @@ public class ChapterService {
                 .orElseThrow(() -> new IllegalArgumentException("Chapter not found with id: " + id));
 
         chapter.setActive(true);
-        return chapterRepository.save(chapter);
+        Chapter savedChapter = chapterRepository.save(chapter);
+        searchIndex.onChapterSaved(savedChapter);
+        eventPublisher.publishEvent(new ChapterDataChangedEvent(id));
+        cacheAfterCommit(savedChapter);
+        return savedChapter;
+    }
+
+    /**
+     * Write-through: store a snapshot of the saved chapter once the
+     * transaction commits. Only this service writes chapter rows, so the
+     * cache needs no other invalidation; member and event changes do not
+     * touch the snapshot.
+     */
+    private void cacheAfterCommit(Chapter chapter) {
+        Chapter snapshot = snapshot(chapter);
+        TransactionHooks.afterCommit(() -> chapterCache.put(snapshot.getId(), snapshot));
+    }
+
+    /**
+     * Copy of the chapter's own columns, safe to share across threads and
+     * transactions because it has no lazy collections to initialize. The
+     * active member count is left out: it changes with every member write.
+     */
+    static Chapter snapshot(Chapter chapter) {
+        Chapter copy = new Chapter(chapter.getName(), chapter.getUniversityName(), chapter.getState(),
+                chapter.getCity());
+        copy.setId(chapter.getId());
+        copy.setDescription(chapter.getDescription());
+        copy.setActive(chapter.getActive());
+        copy.setActiveMemberCount(null);
+        copy.setCreatedAt(chapter.getCreatedAt());
+        copy.setUpdatedAt(chapter.getUpdatedAt());
+        return copy;
     }
 
     /**
@@ -182,4 +374,49 @@ public class ChapterService {
     public List<Chapter> getActiveChaptersByStateOrderByMemberCount(String state) {
         return chapterRepository.findActiveChaptersByStateOrderByMemberCount(state);
     }
-}
\ No newline at end of file
+
+    /**
+     * Shift the denormalized active member counter of a chapter
+     */
+    public void adjustActiveMemberCount(Long chapterId, int delta) {
+        if (chapterId != null && delta != 0) {
+            chapterRepository.adjustActiveMemberCount(chapterId, delta);
+        }
+    }
+
+    /**
+     * Repair active member counters that drifted from the members table.
+     * Returns the number of chapters that were corrected.
+     */
+    public int reconcileActiveMemberCounts() {
+        int corrected = chapterRepository.reconcileActiveMemberCounts();
+        if (corrected > 0) {
+            eventPublisher.publishEvent(ChapterDataChangedEvent.allChapters());
+        }
+        return corrected;
+    }
+
+    /**
+     * Stream every chapter (including inactive) to the output as CSV or NDJSON
+     * through a forward-only cursor, clearing the persistence context every
+     * {@value #EXPORT_CLEAR_INTERVAL} rows. Returns the number of rows written.
+     */
+    @Transactional(readOnly = true)
+    public long exportChapters(DataFormat format, OutputStream out) throws IOException {
+        long rows = 0;
+        try (Stream<Chapter> chapters = chapterRepository.streamAll();
+                RecordWriter writer = RecordWriter.create(format, out, EXPORT_COLUMNS)) {
+            Iterator<Chapter> it = chapters.iterator();
+            while (it.hasNext()) {
+                Chapter chapter = it.next();
+                writer.write(chapter.getId(), chapter.getName(), chapter.getUniversityName(),
+                        chapter.getState(), chapter.getCity(), chapter.getDescription(), chapter.getActive(),
+                        chapter.getActiveMemberCount(), chapter.getCreatedAt(), chapter.getUpdatedAt());
+                if (++rows % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return rows;
+    }
+}
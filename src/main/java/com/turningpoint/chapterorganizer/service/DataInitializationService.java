@@ -84,15 +84,14 @@ public class DataInitializationService implements CommandLineRunner {
             new Institution("Purdue University", "University", "West Lafayette", "IN", "USA")
         };
 
-        for (Institution institution : institutions) {
-            institutionRepository.save(institution);
-        }
+        institutionRepository.saveAll(java.util.Arrays.asList(institutions));
     }
 
     private void initializeChapters() {
         // Get some institutions for sample chapters
         java.util.List<Institution> institutions = institutionRepository.findAll();
         if (institutions.size() >= 10) {
+            java.util.List<Chapter> chapters = new java.util.ArrayList<>();
             for (int i = 0; i < Math.min(20, institutions.size()); i++) {
                 Institution institution = institutions.get(i);
                 Chapter chapter = new Chapter();
@@ -102,8 +101,9 @@ public class DataInitializationService implements CommandLineRunner {
                 chapter.setCity(institution.getLocation());
                 chapter.setActive(true);
                 chapter.setDescription("A vibrant chapter dedicated to creating positive change at " + institution.getName());
-                chapterRepository.save(chapter);
+                chapters.add(chapter);
             }
+            chapterRepository.saveAll(chapters);
         }
     }
 }
\ No newline at end of file
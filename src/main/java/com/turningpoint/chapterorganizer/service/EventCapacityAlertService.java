@@ -0,0 +1,295 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.dto.CapacityAlert;
+import com.turningpoint.chapterorganizer.dto.CapacityAlert.Level;
+import com.turningpoint.chapterorganizer.entity.Event;
+import com.turningpoint.chapterorganizer.repository.EventRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Capacity alerts for dashboards, pushed as server-sent events instead of
+ * polling the nearly-full query. An event is NEARLY_FULL with at most
+ * {@value #NEARLY_FULL_SEATS} seats left (as in
+ * {@link EventRepository#findEventsNearlyFull}) and FULL with none.
+ *
+ * Seat changes only mark their event as changed, after commit
+ * ({@link EventCapacityChangedEvent}, {@link EventSeatsFreedEvent}). Every
+ * {@code app.events.capacity-alerts.interval-ms} a background thread reads
+ * the seats of the changed events in one query and sends an alert for each
+ * event whose level changed, so a burst of RSVPs costs one query per
+ * interval and counts never drift from the database. The events currently
+ * nearly full or full are kept in memory; new subscribers get them first
+ * as a snapshot. They are seeded from the database at startup.
+ *
+ * Only seat changes made by this instance are seen, like the other
+ * in-process state.
+ */
+@Service
+public class EventCapacityAlertService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventCapacityAlertService.class);
+
+    public static final int NEARLY_FULL_SEATS = 5;
+    static final String SNAPSHOT_EVENT = "snapshot";
+    static final String ALERT_EVENT = "capacity";
+    // Keeps idle streams from being closed by proxies
+    static final long HEARTBEAT_INTERVAL_MS = 25000;
+    private static final int QUERY_BATCH_SIZE = 1000;
+
+    private final EventRepository eventRepository;
+
+    private final Set<Long> changed = ConcurrentHashMap.newKeySet();
+    // Last alert of every event currently nearly full or full
+    private final Map<Long, CapacityAlert> alerting = new ConcurrentHashMap<>();
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService dispatcher;
+    private long lastHeartbeat = System.currentTimeMillis();
+
+    private long intervalMs = 250;
+    private long streamTimeoutMs = 1800000;
+
+    @Autowired
+    public EventCapacityAlertService(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @Value("${app.events.capacity-alerts.interval-ms:250}")
+    public void setIntervalMs(long intervalMs) {
+        this.intervalMs = intervalMs;
+    }
+
+    /**
+     * How long an alert stream stays open; clients reconnect after it ends
+     */
+    @Value("${app.events.capacity-alerts.stream-timeout-ms:1800000}")
+    public void setStreamTimeoutMs(long streamTimeoutMs) {
+        this.streamTimeoutMs = streamTimeoutMs;
+    }
+
+    @PostConstruct
+    void start() {
+        dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-capacity-alerts");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher.scheduleWithFixedDelay(() -> {
+            try {
+                dispatch();
+            } catch (RuntimeException e) {
+                logger.error("Dispatching capacity alerts failed", e);
+            }
+        }, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        dispatcher.shutdownNow();
+        subscriptions.forEach(subscription -> subscription.emitter.complete());
+        subscriptions.clear();
+    }
+
+    /**
+     * Seed the events that are already nearly full or full
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        for (Event event : eventRepository.findEventsNearlyFull(LocalDateTime.now())) {
+            Level level = levelOf(event.getCurrentAttendees(), event.getMaxAttendees());
+            if (level != Level.AVAILABLE) {
+                alerting.put(event.getId(), new CapacityAlert(event.getId(),
+                        event.getChapter() != null ? event.getChapter().getId() : null, event.getTitle(),
+                        event.getEventDateTime(), level, level, event.getCurrentAttendees(),
+                        event.getMaxAttendees()));
+            }
+        }
+        logger.info("Capacity alerts seeded with {} nearly full event(s)", alerting.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCapacityChanged(EventCapacityChangedEvent event) {
+        changed.add(event.getEventId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatsFreed(EventSeatsFreedEvent event) {
+        changed.add(event.getEventId());
+    }
+
+    /**
+     * Stream of capacity alerts, optionally for one chapter's events. It
+     * starts with a {@value #SNAPSHOT_EVENT} event listing the events
+     * currently nearly full or full, followed by a {@value #ALERT_EVENT}
+     * event per change.
+     */
+    public SseEmitter subscribe(Long chapterId) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        Subscription subscription = new Subscription(emitter, chapterId);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(error -> subscriptions.remove(subscription));
+        subscriptions.add(subscription);
+        // Alerts dispatched meanwhile may arrive before the snapshot; the snapshot is still current
+        send(subscription, SseEmitter.event().name(SNAPSHOT_EVENT).data(getAlertingEvents(chapterId)));
+        return emitter;
+    }
+
+    /**
+     * Events currently nearly full or full, optionally of one chapter, by date
+     */
+    public List<CapacityAlert> getAlertingEvents(Long chapterId) {
+        List<CapacityAlert> events = new ArrayList<>();
+        for (CapacityAlert alert : alerting.values()) {
+            if (chapterId == null || chapterId.equals(alert.getChapterId())) {
+                events.add(alert);
+            }
+        }
+        events.sort(Comparator.comparing(CapacityAlert::getEventDateTime).thenComparing(CapacityAlert::getEventId));
+        return events;
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    private void dispatch() {
+        for (CapacityAlert alert : dispatchChanges()) {
+            for (Subscription subscription : subscriptions) {
+                if (subscription.chapterId == null || subscription.chapterId.equals(alert.getChapterId())) {
+                    // A builder appends to itself when built, so each subscriber gets its own
+                    send(subscription, SseEmitter.event().name(ALERT_EVENT).data(alert));
+                }
+            }
+        }
+        long now = System.currentTimeMillis();
+        if (now - lastHeartbeat >= HEARTBEAT_INTERVAL_MS) {
+            lastHeartbeat = now;
+            subscriptions.forEach(subscription -> send(subscription, SseEmitter.event().comment("heartbeat")));
+        }
+    }
+
+    /**
+     * Read the seats of the events changed since the last call and work out
+     * which crossed a threshold; also closes events that have started
+     *
+     * @return the alerts to send, in no particular order
+     */
+    List<CapacityAlert> dispatchChanges() {
+        List<CapacityAlert> alerts = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> batch = new ArrayList<>();
+        Iterator<Long> pending = changed.iterator();
+        while (pending.hasNext()) {
+            batch.add(pending.next());
+            pending.remove();
+            if (batch.size() == QUERY_BATCH_SIZE || !pending.hasNext()) {
+                alerts.addAll(levelChanges(batch, now));
+                batch.clear();
+            }
+        }
+        for (CapacityAlert alert : alerting.values()) {
+            if (alert.getEventDateTime() != null && alert.getEventDateTime().isBefore(now)) {
+                alerting.remove(alert.getEventId());
+                alerts.add(closed(alert));
+            }
+        }
+        return alerts;
+    }
+
+    private List<CapacityAlert> levelChanges(List<Long> eventIds, LocalDateTime now) {
+        Map<Long, Object[]> rows = new HashMap<>();
+        for (Object[] row : eventRepository.findCapacityRows(eventIds)) {
+            rows.put((Long) row[0], row);
+        }
+        List<CapacityAlert> alerts = new ArrayList<>();
+        for (Long eventId : eventIds) {
+            CapacityAlert last = alerting.get(eventId);
+            Level previous = last == null ? Level.AVAILABLE : last.getLevel();
+            Object[] row = rows.get(eventId);
+            LocalDateTime eventDateTime = row == null ? null : (LocalDateTime) row[3];
+            if (row == null || !Boolean.TRUE.equals(row[6]) || eventDateTime == null || eventDateTime.isBefore(now)) {
+                if (last != null) {
+                    alerting.remove(eventId);
+                    alerts.add(closed(last));
+                }
+                continue;
+            }
+            Integer current = (Integer) row[4];
+            Integer max = (Integer) row[5];
+            Level level = levelOf(current, max);
+            CapacityAlert alert = new CapacityAlert(eventId, (Long) row[1], (String) row[2], eventDateTime, level,
+                    previous, current, max);
+            if (level == Level.AVAILABLE) {
+                alerting.remove(eventId);
+            } else {
+                // Kept current even without a level change, for snapshots
+                alerting.put(eventId, alert);
+            }
+            if (level != previous) {
+                alerts.add(alert);
+            }
+        }
+        return alerts;
+    }
+
+    static Level levelOf(Integer currentAttendees, Integer maxAttendees) {
+        if (maxAttendees == null) {
+            return Level.AVAILABLE;
+        }
+        int remaining = maxAttendees - (currentAttendees == null ? 0 : currentAttendees);
+        if (remaining <= 0) {
+            return Level.FULL;
+        }
+        return remaining <= NEARLY_FULL_SEATS ? Level.NEARLY_FULL : Level.AVAILABLE;
+    }
+
+    private static CapacityAlert closed(CapacityAlert last) {
+        return new CapacityAlert(last.getEventId(), last.getChapterId(), last.getTitle(), last.getEventDateTime(),
+                Level.CLOSED, last.getLevel(), last.getCurrentAttendees(), last.getMaxAttendees());
+    }
+
+    private void send(Subscription subscription, SseEmitter.SseEventBuilder message) {
+        try {
+            subscription.emitter.send(message);
+        } catch (IOException | IllegalStateException e) {
+            // The client went away; the emitter's callbacks may not have run yet
+            subscriptions.remove(subscription);
+            subscription.emitter.completeWithError(e);
+        }
+    }
+
+    private static final class Subscription {
+        private final SseEmitter emitter;
+        private final Long chapterId;
+
+        private Subscription(SseEmitter emitter, Long chapterId) {
+            this.emitter = emitter;
+            this.chapterId = chapterId;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.turningpoint.chapterorganizer.service;
+
+/**
+ * Published when seats of an event were taken, or its capacity was lowered
+ * or it was cancelled. Seats given back publish {@link EventSeatsFreedEvent}
+ * instead. Capacity alerts listen for both after commit.
+ */
+public class EventCapacityChangedEvent {
+
+    private final Long eventId;
+
+    public EventCapacityChangedEvent(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    @Override
+    public String toString() {
+        return "EventCapacityChangedEvent{eventId=" + eventId + '}';
+    }
+}
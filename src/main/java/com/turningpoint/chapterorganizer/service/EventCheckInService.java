@@ -0,0 +1,347 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.dto.CheckInAck;
+import com.turningpoint.chapterorganizer.dto.CheckInAck.Status;
+import com.turningpoint.chapterorganizer.repository.EventRSVPRepository;
+import com.turningpoint.chapterorganizer.repository.EventRepository;
+import com.turningpoint.chapterorganizer.util.AppendLog;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Check-ins at the door, for volunteers scanning hundreds of members within
+ * minutes. A scan is appended to a local {@link AppendLog} and acknowledged
+ * once it is on disk; repeated scans of the same member are answered from
+ * memory without touching the log. Every
+ * {@code app.events.check-in.apply-interval-ms} a background thread applies
+ * the logged scans in batches of {@code batch-size}: one JDBC batch marks
+ * the GOING RSVPs as checked in and one update per event adds to its
+ * checked-in count, in a single transaction. The log is then checkpointed.
+ *
+ * After a crash the scans past the checkpoint are applied again at
+ * startup. Applying is idempotent, because an RSVP that is already checked
+ * in is neither updated nor counted again; such scans are reported as
+ * already checked in and stay remembered, so rescanning the member is a
+ * duplicate. Scans of members without a GOING RSVP are not applied and are
+ * forgotten, so they can be scanned again once the member has RSVPed.
+ */
+@Service
+public class EventCheckInService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventCheckInService.class);
+
+    static final String LOG_NAME = "check-ins";
+    // An event's scans are remembered for deduplication until this long after its last one
+    static final Duration DEDUPE_RETENTION = Duration.ofHours(12);
+
+    private final EventRSVPRepository rsvpRepository;
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, EventScans> scans = new ConcurrentHashMap<>();
+    // In log order; only the applier removes from it
+    private final ConcurrentLinkedQueue<Scan> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final Object appendLock = new Object();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder alreadyCheckedIn = new LongAdder();
+    private final LongAdder unmatched = new LongAdder();
+    private AppendLog log;
+    private ScheduledExecutorService applier;
+    // Guarded by appendLock
+    private boolean accepting;
+
+    private String logDirectory = "data/check-in";
+    private boolean fsync = true;
+    private int batchSize = 500;
+    private long applyIntervalMs = 100;
+    private long compactBytes = 16 * 1024 * 1024;
+
+    @Autowired
+    public EventCheckInService(EventRSVPRepository rsvpRepository, EventRepository eventRepository,
+            PlatformTransactionManager transactionManager) {
+        this.rsvpRepository = rsvpRepository;
+        this.eventRepository = eventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Value("${app.events.check-in.log-dir:data/check-in}")
+    public void setLogDirectory(String logDirectory) {
+        this.logDirectory = logDirectory;
+    }
+
+    /**
+     * Whether a scan is forced to disk before it is acknowledged
+     */
+    @Value("${app.events.check-in.fsync:true}")
+    public void setFsync(boolean fsync) {
+        this.fsync = fsync;
+    }
+
+    @Value("${app.events.check-in.batch-size:500}")
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Value("${app.events.check-in.apply-interval-ms:100}")
+    public void setApplyIntervalMs(long applyIntervalMs) {
+        this.applyIntervalMs = applyIntervalMs;
+    }
+
+    /**
+     * Log size from which it is emptied once all of it has been applied
+     */
+    @Value("${app.events.check-in.compact-bytes:16777216}")
+    public void setCompactBytes(long compactBytes) {
+        this.compactBytes = compactBytes;
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        log = new AppendLog(Path.of(logDirectory), LOG_NAME, compactBytes);
+        List<AppendLog.Entry> entries = log.unapplied();
+        for (AppendLog.Entry entry : entries) {
+            Scan scan = Scan.parse(entry.getRecord(), entry.getEnd());
+            scansOf(scan.eventId).memberIds.add(scan.memberId);
+            pending.add(scan);
+            pendingCount.incrementAndGet();
+        }
+        if (!entries.isEmpty()) {
+            logger.info("Replaying {} check-in(s) from the log", entries.size());
+        }
+        synchronized (appendLock) {
+            accepting = true;
+        }
+        applier = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-check-ins");
+            thread.setDaemon(true);
+            return thread;
+        });
+        applier.scheduleWithFixedDelay(() -> {
+            try {
+                applyPending();
+            } catch (RuntimeException e) {
+                logger.error("Applying check-ins failed", e);
+            }
+        }, applyIntervalMs, applyIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop taking scans and apply the logged ones
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException, IOException {
+        synchronized (appendLock) {
+            accepting = false;
+        }
+        applier.shutdown();
+        applier.awaitTermination(10, TimeUnit.SECONDS);
+        applyPending();
+        log.close();
+    }
+
+    /**
+     * Record a scan of the member at the event
+     */
+    public CheckInAck checkIn(Long eventId, Long memberId) {
+        EventScans eventScans = scansOf(eventId);
+        eventScans.lastScan = System.currentTimeMillis();
+        if (!eventScans.memberIds.add(memberId)) {
+            duplicates.increment();
+            return new CheckInAck(eventId, memberId, Status.DUPLICATE);
+        }
+        long end;
+        try {
+            synchronized (appendLock) {
+                if (!accepting) {
+                    eventScans.memberIds.remove(memberId);
+                    return new CheckInAck(eventId, memberId, Status.UNAVAILABLE);
+                }
+                Scan scan = new Scan(eventId, memberId, LocalDateTime.now(), 0);
+                end = log.write(scan.format());
+                // Queued under the lock so that scans are applied in log order
+                pending.add(scan.at(end));
+                pendingCount.incrementAndGet();
+            }
+            if (fsync) {
+                log.sync(end);
+            }
+        } catch (IOException e) {
+            // A scan that reached the log is still applied; a retry is idempotent
+            eventScans.memberIds.remove(memberId);
+            logger.error("Logging check-in of member {} at event {} failed", memberId, eventId, e);
+            return new CheckInAck(eventId, memberId, Status.UNAVAILABLE);
+        }
+        accepted.increment();
+        return new CheckInAck(eventId, memberId, Status.ACCEPTED);
+    }
+
+    /**
+     * Apply the logged scans, in batches of {@code batch-size}
+     *
+     * @return the number of RSVPs checked in
+     */
+    public synchronized int applyPending() {
+        int checkedIn = 0;
+        while (true) {
+            List<Scan> batch = new ArrayList<>(batchSize);
+            Iterator<Scan> iterator = pending.iterator();
+            while (iterator.hasNext() && batch.size() < batchSize) {
+                batch.add(iterator.next());
+            }
+            if (batch.isEmpty()) {
+                break;
+            }
+            Outcome[] outcomes = transactionTemplate.execute(status -> apply(batch));
+            for (int i = 0; i < batch.size(); i++) {
+                pending.poll();
+                pendingCount.decrementAndGet();
+                if (outcomes[i] == Outcome.CHECKED_IN) {
+                    checkedIn++;
+                } else if (outcomes[i] == Outcome.ALREADY_CHECKED_IN) {
+                    // Applied before a crash; keep the member remembered so rescans stay duplicates
+                    alreadyCheckedIn.increment();
+                } else {
+                    // No GOING RSVP: let the member be scanned again
+                    unmatched.increment();
+                    scansOf(batch.get(i).eventId).memberIds.remove(batch.get(i).memberId);
+                }
+            }
+            try {
+                log.checkpoint(batch.get(batch.size() - 1).end);
+            } catch (IOException e) {
+                // Replayed at the next start, which is harmless
+                logger.warn("Checkpointing the check-in log failed", e);
+            }
+        }
+        applied.add(checkedIn);
+        pruneScans();
+        return checkedIn;
+    }
+
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("accepted", accepted.sum());
+        stats.put("duplicates", duplicates.sum());
+        stats.put("applied", applied.sum());
+        stats.put("alreadyCheckedIn", alreadyCheckedIn.sum());
+        stats.put("unmatched", unmatched.sum());
+        stats.put("pending", (long) pendingCount.get());
+        stats.put("logBytes", log.size());
+        return stats;
+    }
+
+    private Outcome[] apply(List<Scan> batch) {
+        List<Long> eventIds = new ArrayList<>(batch.size());
+        List<Long> memberIds = new ArrayList<>(batch.size());
+        List<LocalDateTime> scannedAt = new ArrayList<>(batch.size());
+        for (Scan scan : batch) {
+            eventIds.add(scan.eventId);
+            memberIds.add(scan.memberId);
+            scannedAt.add(scan.scannedAt);
+        }
+        boolean[] applies = rsvpRepository.checkIn(eventIds, memberIds, scannedAt);
+        Outcome[] outcomes = new Outcome[applies.length];
+        Map<Long, Integer> perEvent = new HashMap<>();
+        Set<Long> unmatchedEvents = new HashSet<>();
+        Set<Long> unmatchedMembers = new HashSet<>();
+        for (int i = 0; i < applies.length; i++) {
+            if (applies[i]) {
+                outcomes[i] = Outcome.CHECKED_IN;
+                perEvent.merge(eventIds.get(i), 1, Integer::sum);
+            } else {
+                outcomes[i] = Outcome.UNMATCHED;
+                unmatchedEvents.add(eventIds.get(i));
+                unmatchedMembers.add(memberIds.get(i));
+            }
+        }
+        perEvent.forEach(eventRepository::addCheckIns);
+        if (!unmatchedEvents.isEmpty()) {
+            // Tell RSVPs checked in before a crash from scans without a GOING RSVP
+            Map<Long, Set<Long>> checkedIn = new HashMap<>();
+            for (Object[] row : rsvpRepository.findCheckedIn(unmatchedEvents, unmatchedMembers)) {
+                checkedIn.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((Long) row[1]);
+            }
+            for (int i = 0; i < outcomes.length; i++) {
+                if (outcomes[i] == Outcome.UNMATCHED
+                        && checkedIn.getOrDefault(eventIds.get(i), Set.of()).contains(memberIds.get(i))) {
+                    outcomes[i] = Outcome.ALREADY_CHECKED_IN;
+                }
+            }
+        }
+        return outcomes;
+    }
+
+    private EventScans scansOf(Long eventId) {
+        return scans.computeIfAbsent(eventId, id -> new EventScans());
+    }
+
+    private void pruneScans() {
+        long cutoff = System.currentTimeMillis() - DEDUPE_RETENTION.toMillis();
+        scans.values().removeIf(eventScans -> eventScans.lastScan < cutoff);
+    }
+
+    private enum Outcome { CHECKED_IN, ALREADY_CHECKED_IN, UNMATCHED }
+
+    private static final class EventScans {
+        private final Set<Long> memberIds = ConcurrentHashMap.newKeySet();
+        private volatile long lastScan = System.currentTimeMillis();
+    }
+
+    private static final class Scan {
+        private final Long eventId;
+        private final Long memberId;
+        private final LocalDateTime scannedAt;
+        // Log position just after the scan's record
+        private final long end;
+
+        private Scan(Long eventId, Long memberId, LocalDateTime scannedAt, long end) {
+            this.eventId = eventId;
+            this.memberId = memberId;
+            this.scannedAt = scannedAt;
+            this.end = end;
+        }
+
+        private Scan at(long end) {
+            return new Scan(eventId, memberId, scannedAt, end);
+        }
+
+        private String format() {
+            return eventId + "," + memberId + "," + scannedAt;
+        }
+
+        private static Scan parse(String record, long end) {
+            String[] fields = record.split(",");
+            return new Scan(Long.valueOf(fields[0]), Long.valueOf(fields[1]), LocalDateTime.parse(fields[2]), end);
+        }
+    }
+}
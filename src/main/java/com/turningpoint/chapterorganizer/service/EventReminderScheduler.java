@@ -0,0 +1,318 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.dto.EventReminderBatch;
+import com.turningpoint.chapterorganizer.entity.Event;
+import com.turningpoint.chapterorganizer.entity.RSVPStatus;
+import com.turningpoint.chapterorganizer.repository.EventRSVPRepository;
+import com.turningpoint.chapterorganizer.repository.EventRepository;
+import com.turningpoint.chapterorganizer.util.TimingWheel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reminders to the members going to an event, sent
+ * {@code app.events.reminders.lead-minutes} before it starts (24 hours and
+ * 1 hour by default).
+ *
+ * Each upcoming event with members going has one timer per reminder in a
+ * {@link TimingWheel}, so scheduling and cancelling are O(1) however many
+ * are pending. The timers are loaded from the database at startup; an
+ * event is added at its first RSVP ({@link EventCapacityChangedEvent}) and
+ * rescheduled when it is moved or cancelled
+ * ({@link EventScheduleChangedEvent}). A background thread advances the
+ * wheel every {@code tick-ms}. A due reminder is first claimed on the
+ * event row ({@link EventRepository#claimReminder}), which also records it
+ * for restarts, then the members going at that moment are sent it through
+ * the {@link ReminderSender} in batches of {@code batch-size}.
+ *
+ * Reminders are sent at most once: a batch whose sending fails is not
+ * retried. Members who RSVP after a reminder went out get only the later
+ * ones.
+ */
+@Service
+public class EventReminderScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventReminderScheduler.class);
+
+    // Reminders missed by less than this, e.g. during a restart, are sent late; older ones are skipped
+    static final Duration MISSED_REMINDER_GRACE = Duration.ofMinutes(30);
+    // Five levels of 64 slots: with one-second ticks, timers up to 34 years ahead are placed directly
+    private static final int WHEEL_LEVELS = 5;
+
+    private final EventRepository eventRepository;
+    private final EventRSVPRepository rsvpRepository;
+    private final ReminderSender sender;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    // Guarded by this, like the wheel's timers they hold
+    private final Map<Long, List<TimingWheel.Timer<Reminder>>> scheduled = new HashMap<>();
+    private TimingWheel<Reminder> wheel;
+    private ScheduledExecutorService dispatcher;
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private List<Integer> leadMinutes = List.of(1440, 60);
+    private long tickMs = 1000;
+    private int batchSize = 500;
+
+    @Autowired
+    public EventReminderScheduler(EventRepository eventRepository, EventRSVPRepository rsvpRepository,
+            ReminderSender sender, PlatformTransactionManager transactionManager) {
+        this(eventRepository, rsvpRepository, sender, transactionManager, Clock.systemDefaultZone());
+    }
+
+    EventReminderScheduler(EventRepository eventRepository, EventRSVPRepository rsvpRepository,
+            ReminderSender sender, PlatformTransactionManager transactionManager, Clock clock) {
+        this.eventRepository = eventRepository;
+        this.rsvpRepository = rsvpRepository;
+        this.sender = sender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.wheel = new TimingWheel<>(tickMs, WHEEL_LEVELS, clock.millis());
+    }
+
+    /**
+     * How long before an event its reminders go out, in minutes
+     */
+    @Value("${app.events.reminders.lead-minutes:1440,60}")
+    public synchronized void setLeadMinutes(List<Integer> leadMinutes) {
+        List<Integer> sorted = new ArrayList<>(leadMinutes);
+        // Latest reminder last, so it wins when several were missed
+        sorted.sort((a, b) -> Integer.compare(b, a));
+        this.leadMinutes = List.copyOf(sorted);
+    }
+
+    @Value("${app.events.reminders.tick-ms:1000}")
+    public synchronized void setTickMs(long tickMs) {
+        this.tickMs = tickMs;
+        this.wheel = new TimingWheel<>(tickMs, WHEEL_LEVELS, clock.millis());
+    }
+
+    /**
+     * Members per batch handed to the sender
+     */
+    @Value("${app.events.reminders.batch-size:500}")
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    void start() {
+        dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-reminders");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher.scheduleWithFixedDelay(() -> {
+            try {
+                dispatchDue();
+            } catch (RuntimeException e) {
+                logger.error("Sending event reminders failed", e);
+            }
+        }, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        dispatcher.shutdownNow();
+    }
+
+    /**
+     * Schedule the reminders of all upcoming events with members going
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Object[]> rows = eventRepository.findReminderRows(LocalDateTime.now(clock), RSVPStatus.GOING);
+        for (Object[] row : rows) {
+            schedule(row);
+        }
+        logger.info("Scheduled {} reminder(s) for {} upcoming event(s)", getPendingCount(), rows.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCapacityChanged(EventCapacityChangedEvent event) {
+        // Seats taken: the event needs reminders if it had none yet
+        if (!isScheduled(event.getEventId())) {
+            refresh(event.getEventId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(EventScheduleChangedEvent event) {
+        refresh(event.getEventId());
+    }
+
+    public synchronized boolean isScheduled(Long eventId) {
+        return scheduled.containsKey(eventId);
+    }
+
+    public synchronized int getPendingCount() {
+        return wheel.size();
+    }
+
+    public long getSentCount() {
+        return sent.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * Send the reminders that are due
+     *
+     * @return how many reminders (event and lead) were due
+     */
+    int dispatchDue() {
+        List<Reminder> due;
+        synchronized (this) {
+            due = wheel.advance(clock.millis());
+            for (Reminder reminder : due) {
+                List<TimingWheel.Timer<Reminder>> timers = scheduled.get(reminder.eventId);
+                if (timers != null) {
+                    timers.removeIf(timer -> timer.getPayload() == reminder);
+                    if (timers.isEmpty()) {
+                        scheduled.remove(reminder.eventId);
+                    }
+                }
+            }
+        }
+        for (Reminder reminder : due) {
+            deliver(reminder);
+        }
+        return due.size();
+    }
+
+    private void refresh(Long eventId) {
+        List<Object[]> rows = eventRepository.findReminderRow(eventId);
+        if (rows.isEmpty()) {
+            unschedule(eventId);
+        } else {
+            schedule(rows.get(0));
+        }
+    }
+
+    /**
+     * (Re)schedule an event's reminders from its row: id, date, active,
+     * reminder sent for, reminder sent minutes
+     */
+    private synchronized void schedule(Object[] row) {
+        Long eventId = (Long) row[0];
+        LocalDateTime eventDateTime = (LocalDateTime) row[1];
+        LocalDateTime sentFor = (LocalDateTime) row[3];
+        Integer sentMinutes = (Integer) row[4];
+        unschedule(eventId);
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (!Boolean.TRUE.equals(row[2]) || eventDateTime == null || !eventDateTime.isAfter(now)) {
+            return;
+        }
+
+        List<TimingWheel.Timer<Reminder>> timers = new ArrayList<>();
+        Integer missed = null;
+        for (int lead : leadMinutes) {
+            if (eventDateTime.equals(sentFor) && sentMinutes != null && sentMinutes <= lead) {
+                continue;
+            }
+            LocalDateTime dueAt = eventDateTime.minusMinutes(lead);
+            if (dueAt.isAfter(now)) {
+                timers.add(wheel.schedule(toMillis(dueAt), new Reminder(eventId, eventDateTime, lead)));
+            } else if (!dueAt.isBefore(now.minus(MISSED_REMINDER_GRACE))) {
+                missed = lead;
+            }
+        }
+        if (missed != null) {
+            timers.add(wheel.schedule(clock.millis(), new Reminder(eventId, eventDateTime, missed)));
+        }
+        if (!timers.isEmpty()) {
+            scheduled.put(eventId, timers);
+        }
+    }
+
+    private synchronized void unschedule(Long eventId) {
+        List<TimingWheel.Timer<Reminder>> timers = scheduled.remove(eventId);
+        if (timers != null) {
+            timers.forEach(wheel::cancel);
+        }
+    }
+
+    private void deliver(Reminder reminder) {
+        Optional<Event> claimed = transactionTemplate.execute(status -> {
+            if (eventRepository.claimReminder(reminder.eventId, reminder.eventDateTime, reminder.minutesBefore) == 0) {
+                return Optional.<Event>empty();
+            }
+            return eventRepository.findById(reminder.eventId);
+        });
+        if (claimed == null || claimed.isEmpty()) {
+            // Cancelled, moved or already sent, e.g. by another instance
+            return;
+        }
+        Event event = claimed.get();
+
+        Long afterMemberId = 0L;
+        while (true) {
+            List<Object[]> rows = rsvpRepository.findMemberContacts(reminder.eventId, RSVPStatus.GOING,
+                    afterMemberId, PageRequest.of(0, batchSize));
+            if (rows.isEmpty()) {
+                return;
+            }
+            List<EventReminderBatch.Recipient> recipients = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                recipients.add(new EventReminderBatch.Recipient((Long) row[0], (String) row[1], (String) row[2],
+                        (String) row[3]));
+            }
+            try {
+                sender.send(new EventReminderBatch(event.getId(), event.getTitle(), event.getEventDateTime(),
+                        event.getLocation(), reminder.minutesBefore, recipients));
+                sent.add(recipients.size());
+            } catch (Exception e) {
+                failed.add(recipients.size());
+                logger.error("Sending {} reminder(s) for event {} failed", recipients.size(), reminder.eventId, e);
+            }
+            if (rows.size() < batchSize) {
+                return;
+            }
+            afterMemberId = (Long) rows.get(rows.size() - 1)[0];
+        }
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    private static final class Reminder {
+        private final Long eventId;
+        private final LocalDateTime eventDateTime;
+        private final int minutesBefore;
+
+        private Reminder(Long eventId, LocalDateTime eventDateTime, int minutesBefore) {
+            this.eventId = eventId;
+            this.eventDateTime = eventDateTime;
+            this.minutesBefore = minutesBefore;
+        }
+    }
+}
@@ -0,0 +1,397 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.dto.ProvisionalRsvp;
+import com.turningpoint.chapterorganizer.dto.ProvisionalRsvp.Decision;
+import com.turningpoint.chapterorganizer.entity.Event;
+import com.turningpoint.chapterorganizer.entity.EventRSVP;
+import com.turningpoint.chapterorganizer.entity.RSVPStatus;
+import com.turningpoint.chapterorganizer.repository.EventRSVPRepository;
+import com.turningpoint.chapterorganizer.repository.EventRepository;
+import com.turningpoint.chapterorganizer.repository.MemberRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Write-behind RSVPs for bursts, e.g. when an in-person event opens. An RSVP
+ * gets an immediate provisional answer from an in-memory seat ledger and,
+ * when accepted, waits in a bounded queue. A background thread flushes the
+ * queue every {@code app.events.rsvp-queue.flush-interval-ms} in batches of
+ * up to {@code flush-size}: per event, one conditional UPDATE takes all of
+ * the batch's seats and the RSVP rows are inserted together. When the queue
+ * holds {@code capacity} RSVPs new ones are turned away as BUSY.
+ *
+ * The database stays the authority on seats. Each batch locks the event row
+ * and writes only the RSVPs that still fit; the rest are dropped, e.g. when
+ * seats were taken through {@link EventRsvpService} meanwhile. While members
+ * are on the event's waitlist it counts as full, both when queueing and when
+ * writing, so queued RSVPs do not take seats freed for them. After a flush
+ * the event's ledger is reloaded from the database on next use. Queued
+ * RSVPs are flushed before shutdown.
+ */
+@Service
+public class EventRsvpQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventRsvpQueue.class);
+
+    private final EventRSVPRepository rsvpRepository;
+    private final EventRepository eventRepository;
+    private final MemberRepository memberRepository;
+    private final EventWaitlistService waitlistService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, SeatLedger> ledgers = new ConcurrentHashMap<>();
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private BlockingQueue<PendingRsvp> queue;
+    private ScheduledExecutorService flusher;
+    // Held shared while queueing and exclusively to stop, so nothing is queued after the final flush
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+    private boolean accepting = true;
+
+    private int capacity = 10000;
+    private int flushSize = 500;
+    private long flushIntervalMs = 50;
+
+    @Autowired
+    public EventRsvpQueue(EventRSVPRepository rsvpRepository, EventRepository eventRepository,
+            MemberRepository memberRepository, EventWaitlistService waitlistService,
+            PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher) {
+        this.rsvpRepository = rsvpRepository;
+        this.eventRepository = eventRepository;
+        this.memberRepository = memberRepository;
+        this.waitlistService = waitlistService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Most RSVPs waiting to be written; beyond this new RSVPs are BUSY
+     */
+    @Value("${app.events.rsvp-queue.capacity:10000}")
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Value("${app.events.rsvp-queue.flush-size:500}")
+    public void setFlushSize(int flushSize) {
+        this.flushSize = flushSize;
+    }
+
+    @Value("${app.events.rsvp-queue.flush-interval-ms:50}")
+    public void setFlushIntervalMs(long flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-rsvp-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(() -> {
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                logger.error("Flushing queued RSVPs failed", e);
+            }
+        }, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Hold a seat for the member and queue the RSVP, or say why not
+     */
+    public ProvisionalRsvp rsvp(Long eventId, Long memberId) {
+        acceptLock.readLock().lock();
+        try {
+            if (!accepting) {
+                return new ProvisionalRsvp(eventId, memberId, Decision.BUSY);
+            }
+            return enqueue(eventId, memberId);
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+    }
+
+    private ProvisionalRsvp enqueue(Long eventId, Long memberId) {
+        SeatLedger ledger;
+        Take take;
+        do {
+            ledger = ledger(eventId);
+            if (ledger == null) {
+                return new ProvisionalRsvp(eventId, memberId, Decision.UNAVAILABLE);
+            }
+            if (waitlistService.hasWaitlist(eventId)) {
+                return new ProvisionalRsvp(eventId, memberId, Decision.FULL);
+            }
+            if (!ledger.queuedMembers.add(memberId)) {
+                return new ProvisionalRsvp(eventId, memberId, Decision.ALREADY_QUEUED);
+            }
+            take = ledger.take();
+            if (take != Take.TAKEN) {
+                ledger.queuedMembers.remove(memberId);
+            }
+            // A retired ledger was flushed meanwhile; take from a fresh one
+        } while (take == Take.RETIRED);
+        if (take == Take.FULL) {
+            return new ProvisionalRsvp(eventId, memberId, Decision.FULL);
+        }
+        if (!queue.offer(new PendingRsvp(eventId, memberId, ledger))) {
+            ledger.giveBack();
+            ledger.queuedMembers.remove(memberId);
+            return new ProvisionalRsvp(eventId, memberId, Decision.BUSY);
+        }
+        return new ProvisionalRsvp(eventId, memberId, Decision.ACCEPTED);
+    }
+
+    /**
+     * Write everything queued so far, in batches of {@code flush-size}
+     *
+     * @return the number of RSVPs written
+     */
+    public synchronized int flush() {
+        int written = 0;
+        List<PendingRsvp> batch = new ArrayList<>(flushSize);
+        while (queue.drainTo(batch, flushSize) > 0) {
+            Map<Long, List<PendingRsvp>> byEvent = new LinkedHashMap<>();
+            for (PendingRsvp pending : batch) {
+                byEvent.computeIfAbsent(pending.eventId, id -> new ArrayList<>()).add(pending);
+            }
+            for (Map.Entry<Long, List<PendingRsvp>> entry : byEvent.entrySet()) {
+                int eventWritten = flushEvent(entry.getKey(), entry.getValue());
+                flushed.add(eventWritten);
+                written += eventWritten;
+            }
+            batch.clear();
+        }
+        return written;
+    }
+
+    public int getQueued() {
+        return queue.size();
+    }
+
+    public long getFlushed() {
+        return flushed.sum();
+    }
+
+    /**
+     * Accepted RSVPs that could not be written, e.g. because the event filled
+     * up through another path or the member does not exist
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    private int flushEvent(Long eventId, List<PendingRsvp> pending) {
+        int written;
+        try {
+            Integer result = transactionTemplate.execute(status -> writeBatch(eventId, pending));
+            written = result == null ? 0 : result;
+        } catch (RuntimeException e) {
+            // e.g. the same member's RSVP was written through EventRsvpService meanwhile
+            logger.warn("Batch of {} RSVPs to event {} failed, writing them one at a time: {}",
+                    pending.size(), eventId, e.getMessage());
+            written = writeOneByOne(eventId, pending);
+        }
+        for (PendingRsvp item : pending) {
+            item.ledger.queuedMembers.remove(item.memberId);
+            item.ledger.queued.decrementAndGet();
+        }
+        // Reload the seats from the database next time, picking up changes made elsewhere. Retiring
+        // excludes a concurrent take, whose seat the reloaded ledger would not know about
+        SeatLedger ledger = pending.get(0).ledger;
+        ledgers.computeIfPresent(eventId, (id, current) -> current == ledger && ledger.retireIfIdle() ? null : current);
+        return written;
+    }
+
+    // Write the RSVPs that still fit, with the event row locked so the free seats cannot change meanwhile
+    private int writeBatch(Long eventId, List<PendingRsvp> pending) {
+        Optional<Event> event = eventRepository.findByIdForUpdate(eventId);
+        if (event.isEmpty() || !Boolean.TRUE.equals(event.get().getActive())) {
+            dropped.add(pending.size());
+            logger.info("Dropped {} queued RSVPs to unavailable event {}", pending.size(), eventId);
+            return 0;
+        }
+        Integer max = event.get().getMaxAttendees();
+        int current = event.get().getCurrentAttendees() == null ? 0 : event.get().getCurrentAttendees();
+        int free = max == null ? Integer.MAX_VALUE : Math.max(0, max - current);
+        if (waitlistService.hasWaitlist(eventId)) {
+            // Seats freed meanwhile belong to the members waiting for them
+            free = 0;
+        }
+
+        Set<Long> memberIds = new HashSet<>();
+        pending.forEach(item -> memberIds.add(item.memberId));
+        Set<Long> knownMembers = new HashSet<>(memberRepository.findExistingIds(memberIds));
+        Map<Long, EventRSVP> existing = new HashMap<>();
+        for (EventRSVP rsvp : rsvpRepository.findByEventIdAndMemberIdIn(eventId, memberIds)) {
+            existing.put(rsvp.getMemberId(), rsvp);
+        }
+
+        List<EventRSVP> toWrite = new ArrayList<>(pending.size());
+        for (PendingRsvp item : pending) {
+            EventRSVP rsvp = existing.get(item.memberId);
+            if (rsvp != null && rsvp.getStatus() == RSVPStatus.GOING) {
+                continue;
+            }
+            if (rsvp == null && !knownMembers.contains(item.memberId)) {
+                dropped.increment();
+                continue;
+            }
+            if (toWrite.size() == free) {
+                dropped.increment();
+                continue;
+            }
+            if (rsvp == null) {
+                rsvp = new EventRSVP(eventId, item.memberId, RSVPStatus.GOING);
+            }
+            rsvp.setStatus(RSVPStatus.GOING);
+            rsvp.setWaitlistPriority(null);
+            rsvp.setWaitlistedAt(null);
+            toWrite.add(rsvp);
+        }
+        if (toWrite.size() < pending.size()) {
+            logger.debug("{} of {} queued RSVPs to event {} written", toWrite.size(), pending.size(), eventId);
+        }
+        if (toWrite.isEmpty()) {
+            return 0;
+        }
+        if (eventRepository.reserveSeats(eventId, toWrite.size()) == 0) {
+            throw new IllegalStateException("Seats of locked event " + eventId + " changed during a batch");
+        }
+        rsvpRepository.saveAll(toWrite);
+        rsvpRepository.flush();
+        eventPublisher.publishEvent(new EventCapacityChangedEvent(eventId));
+        return toWrite.size();
+    }
+
+    private int writeOneByOne(Long eventId, List<PendingRsvp> pending) {
+        int written = 0;
+        for (PendingRsvp item : pending) {
+            try {
+                waitlistService.rsvp(eventId, item.memberId);
+                written++;
+            } catch (RuntimeException e) {
+                dropped.increment();
+                logger.info("Dropped queued RSVP of member {} to event {}: {}", item.memberId, eventId,
+                        e.getMessage());
+            }
+        }
+        return written;
+    }
+
+    // The event's ledger, loaded from the database on first use; null if the event is unavailable
+    private SeatLedger ledger(Long eventId) {
+        SeatLedger ledger = ledgers.get(eventId);
+        if (ledger != null) {
+            return ledger;
+        }
+        Optional<Event> event = eventRepository.findById(eventId);
+        if (event.isEmpty() || !Boolean.TRUE.equals(event.get().getActive())) {
+            return null;
+        }
+        Integer max = event.get().getMaxAttendees();
+        int current = event.get().getCurrentAttendees() == null ? 0 : event.get().getCurrentAttendees();
+        SeatLedger loaded = new SeatLedger(max == null ? Integer.MAX_VALUE : Math.max(0, max - current));
+        SeatLedger raced = ledgers.putIfAbsent(eventId, loaded);
+        return raced != null ? raced : loaded;
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        acceptLock.writeLock().lock();
+        try {
+            accepting = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+        if (flusher != null) {
+            flusher.shutdown();
+            flusher.awaitTermination(30, TimeUnit.SECONDS);
+        }
+        int written = flush();
+        logger.info("RSVP queue drained at shutdown: {} RSVPs written", written);
+    }
+
+    private enum Take { TAKEN, FULL, RETIRED }
+
+    // Seats this process may still hand out for one event; retired once nothing is queued for it
+    private static final class SeatLedger {
+        private int available;
+        private boolean retired;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final Set<Long> queuedMembers = ConcurrentHashMap.newKeySet();
+
+        private SeatLedger(int available) {
+            this.available = available;
+        }
+
+        private synchronized Take take() {
+            if (retired) {
+                return Take.RETIRED;
+            }
+            if (available <= 0) {
+                return Take.FULL;
+            }
+            if (available != Integer.MAX_VALUE) {
+                available--;
+            }
+            queued.incrementAndGet();
+            return Take.TAKEN;
+        }
+
+        private synchronized void giveBack() {
+            queued.decrementAndGet();
+            if (available != Integer.MAX_VALUE) {
+                available++;
+            }
+        }
+
+        private synchronized boolean retireIfIdle() {
+            retired = queued.get() == 0;
+            return retired;
+        }
+    }
+
+    private static final class PendingRsvp {
+        private final Long eventId;
+        private final Long memberId;
+        private final SeatLedger ledger;
+
+        private PendingRsvp(Long eventId, Long memberId, SeatLedger ledger) {
+            this.eventId = eventId;
+            this.memberId = memberId;
+            this.ledger = ledger;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.entity.Event;
+import com.turningpoint.chapterorganizer.entity.EventRSVP;
+import com.turningpoint.chapterorganizer.entity.RSVPStatus;
+import com.turningpoint.chapterorganizer.repository.EventRSVPRepository;
+import com.turningpoint.chapterorganizer.repository.EventRepository;
+import com.turningpoint.chapterorganizer.repository.MemberRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Member RSVPs to events. A GOING RSVP holds one seat, taken from
+ * events.current_attendees by a single conditional UPDATE
+ * ({@link EventRepository#reserveSeat}) rather than a read-check-write in
+ * the JVM, so concurrent RSVPs to a popular event can never oversell it or
+ * lose updates.
+ *
+ * The seat is taken before the RSVP row is written, so once an event is
+ * full a rejected RSVP costs one UPDATE that matches no row and writes
+ * nothing. If writing the RSVP fails the transaction rolls back, seat
+ * included. The unique (event_id, member_id) constraint turns a member's
+ * concurrent duplicate RSVPs into one seat. Changing the status of an
+ * existing RSVP is a conditional UPDATE too, so concurrent cancels give
+ * the seat back once and concurrent re-RSVPs keep one seat.
+ */
+@Service
+@Transactional
+public class EventRsvpService {
+
+    private final EventRSVPRepository rsvpRepository;
+    private final EventRepository eventRepository;
+    private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public EventRsvpService(EventRSVPRepository rsvpRepository, EventRepository eventRepository,
+            MemberRepository memberRepository, ApplicationEventPublisher eventPublisher) {
+        this.rsvpRepository = rsvpRepository;
+        this.eventRepository = eventRepository;
+        this.memberRepository = memberRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * RSVP a member to an event, taking a seat. Repeating the RSVP returns
+     * the existing one without taking another seat.
+     *
+     * @throws IllegalArgumentException if the member or event does not exist,
+     *         the event was cancelled or it has no seats left
+     */
+    public EventRSVP rsvp(Long eventId, Long memberId) {
+        return tryRsvp(eventId, memberId)
+                .orElseThrow(() -> new IllegalArgumentException("Event is already at maximum capacity"));
+    }
+
+    /**
+     * Like {@link #rsvp}, but empty instead of an exception when the event
+     * has no seats left
+     */
+    public Optional<EventRSVP> tryRsvp(Long eventId, Long memberId) {
+        Optional<EventRSVP> existing = rsvpRepository.findByEventIdAndMemberId(eventId, memberId);
+        if (existing.isPresent() && existing.get().getStatus() == RSVPStatus.GOING) {
+            return existing;
+        }
+        if (existing.isEmpty() && !memberRepository.existsById(memberId)) {
+            throw new IllegalArgumentException("Member not found with id: " + memberId);
+        }
+
+        if (eventRepository.reserveSeat(eventId) == 0) {
+            checkAvailable(eventId);
+            return Optional.empty();
+        }
+
+        if (existing.isPresent() && rsvpRepository.markGoing(eventId, memberId, LocalDateTime.now()) == 0) {
+            // Made GOING concurrently, with a seat of its own: give back the one just taken
+            eventRepository.releaseSeat(eventId);
+            return rsvpRepository.findByEventIdAndMemberId(eventId, memberId);
+        }
+        EventRSVP saved = existing.isPresent()
+                ? rsvpRepository.findByEventIdAndMemberId(eventId, memberId).orElseThrow()
+                : rsvpRepository.saveAndFlush(new EventRSVP(eventId, memberId, RSVPStatus.GOING));
+        eventPublisher.publishEvent(new EventCapacityChangedEvent(eventId));
+        return Optional.of(saved);
+    }
+
+    /**
+     * Cancel a member's RSVP and give its seat back; no-op if the member is
+     * not going. Of concurrent cancels only one gives the seat back.
+     */
+    public Optional<EventRSVP> cancelRsvp(Long eventId, Long memberId) {
+        if (rsvpRepository.cancelGoing(eventId, memberId, LocalDateTime.now()) > 0
+                && eventRepository.releaseSeat(eventId) > 0) {
+            eventPublisher.publishEvent(new EventSeatsFreedEvent(eventId));
+        }
+        return rsvpRepository.findByEventIdAndMemberId(eventId, memberId);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<EventRSVP> getRsvp(Long eventId, Long memberId) {
+        return rsvpRepository.findByEventIdAndMemberId(eventId, memberId);
+    }
+
+    @Transactional(readOnly = true)
+    public long countGoing(Long eventId) {
+        return rsvpRepository.countByEventIdAndStatus(eventId, RSVPStatus.GOING);
+    }
+
+    // Throws if the conditional UPDATE took no seat because the event is missing or cancelled
+    private void checkAvailable(Long eventId) {
+        Optional<Event> event = eventRepository.findById(eventId);
+        if (event.isEmpty()) {
+            throw new IllegalArgumentException("Event not found with id: " + eventId);
+        }
+        if (!Boolean.TRUE.equals(event.get().getActive())) {
+            throw new IllegalArgumentException("Event has been cancelled");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.turningpoint.chapterorganizer.service;
+
+/**
+ * Published when an event was moved to another time or cancelled. Event
+ * reminders listen for it after commit to reschedule.
+ */
+public class EventScheduleChangedEvent {
+
+    private final Long eventId;
+
+    public EventScheduleChangedEvent(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    @Override
+    public String toString() {
+        return "EventScheduleChangedEvent{eventId=" + eventId + '}';
+    }
+}
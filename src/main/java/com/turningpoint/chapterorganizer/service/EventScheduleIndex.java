@@ -0,0 +1,372 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.dto.EventSummaryDto;
+import com.turningpoint.chapterorganizer.entity.Event;
+import com.turningpoint.chapterorganizer.entity.EventType;
+import com.turningpoint.chapterorganizer.repository.EventRepository;
+import com.turningpoint.chapterorganizer.util.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process index of active events from shortly before now onwards, for
+ * event listings, chapter calendars and scheduling conflict checks.
+ *
+ * Events are kept in sets ordered by start time: one over all events, one
+ * per chapter and one per venue (trimmed, lower-case location). A range is
+ * found in logarithmic time and then read in order. Events have no end
+ * time and all count as lasting {@link #EVENT_DURATION}, so two events
+ * overlap exactly when their starts are less than that apart; an overlap
+ * check is a range lookup around the start.
+ *
+ * Like {@link ChapterSearchIndex}, the index is built when the application
+ * is ready, kept current by event writes applied after commit, and disabled
+ * by {@code app.search.mode=database}. Past events are dropped from it every
+ * hour. Queries return nothing for ranges that start before what the index
+ * holds, or while it is not built; callers then query the database.
+ */
+@Component
+public class EventScheduleIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventScheduleIndex.class);
+
+    // Events have no end time; this is how long one counts as taking, as in calendar feeds
+    public static final Duration EVENT_DURATION = Duration.ofHours(1);
+
+    // Past events kept, so that checks around the current time are still answered here
+    static final Duration RETAINED_HISTORY = Duration.ofDays(1);
+
+    private static final Comparator<Entry> START_ORDER = Comparator.comparing((Entry entry) -> entry.start)
+            .thenComparingLong(entry -> entry.id);
+
+    private final EventRepository eventRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Long, Entry> entries = new HashMap<>();
+    private NavigableSet<Entry> byStart = new TreeSet<>(START_ORDER);
+    private Map<Long, NavigableSet<Entry>> byChapter = new HashMap<>();
+    private Map<String, NavigableSet<Entry>> byVenue = new HashMap<>();
+    // Earliest start held; null until the index is built
+    private LocalDateTime indexedFrom;
+    private boolean enabled = true;
+
+    @Autowired
+    public EventScheduleIndex(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @Value("${app.search.mode:memory}")
+    public void setSearchMode(String searchMode) {
+        this.enabled = !"database".equalsIgnoreCase(searchMode);
+    }
+
+    /**
+     * (Re)build the index from the events table
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            logger.info("Event schedule index disabled; event listings use the database");
+            return;
+        }
+        LocalDateTime from = LocalDateTime.now().minus(RETAINED_HISTORY);
+        int size;
+        // Loaded under the lock, so writes committed meanwhile are applied after the load, not lost
+        lock.writeLock().lock();
+        try {
+            entries = new HashMap<>();
+            byStart = new TreeSet<>(START_ORDER);
+            byChapter = new HashMap<>();
+            byVenue = new HashMap<>();
+            for (EventSummaryDto summary : eventRepository.findActiveEventSummariesFrom(from)) {
+                add(new Entry(summary));
+            }
+            indexedFrom = from;
+            size = entries.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Event schedule index built with {} events", size);
+    }
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return indexedFrom != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Active events starting in [{@code from}, {@code to}), ordered by start
+     * and id, at most {@code limit}; or, with {@code afterId}, those after
+     * ({@code from}, {@code afterId}) in that order. chapterId and type are
+     * optional filters. Empty if the index does not cover {@code from}.
+     */
+    public Optional<List<EventSummaryDto>> find(Long chapterId, EventType type, LocalDateTime from, Long afterId,
+            LocalDateTime to, int limit) {
+        lock.readLock().lock();
+        try {
+            if (!covers(from)) {
+                return Optional.empty();
+            }
+            NavigableSet<Entry> events = chapterId == null ? byStart : byChapter.get(chapterId);
+            List<EventSummaryDto> found = new ArrayList<>();
+            if (events == null || !from.isBefore(to)) {
+                return Optional.of(found);
+            }
+            Entry lower = afterId == null ? probe(from, Long.MIN_VALUE) : probe(from, afterId);
+            for (Entry entry : events.subSet(lower, afterId == null, probe(to, Long.MIN_VALUE), false)) {
+                if (found.size() >= limit) {
+                    break;
+                }
+                if (type == null || type == entry.summary.getType()) {
+                    found.add(entry.summary);
+                }
+            }
+            return Optional.of(found);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Active events of the chapter or at the venue that overlap an event
+     * starting at {@code start}, other than {@code excludeEventId}, ordered by
+     * start. Empty if the index does not cover the time around {@code start}.
+     */
+    public Optional<List<EventSummaryDto>> findOverlapping(Long chapterId, String location, LocalDateTime start,
+            Long excludeEventId) {
+        LocalDateTime from = start.minus(EVENT_DURATION);
+        Entry lower = probe(from, Long.MAX_VALUE);
+        Entry upper = probe(start.plus(EVENT_DURATION), Long.MIN_VALUE);
+        String venue = venueKey(location);
+
+        lock.readLock().lock();
+        try {
+            if (!covers(from)) {
+                return Optional.empty();
+            }
+            NavigableSet<Entry> overlapping = new TreeSet<>(START_ORDER);
+            NavigableSet<Entry> chapterEvents = chapterId == null ? null : byChapter.get(chapterId);
+            if (chapterEvents != null) {
+                overlapping.addAll(chapterEvents.subSet(lower, false, upper, false));
+            }
+            NavigableSet<Entry> venueEvents = venue == null ? null : byVenue.get(venue);
+            if (venueEvents != null) {
+                overlapping.addAll(venueEvents.subSet(lower, false, upper, false));
+            }
+            List<EventSummaryDto> found = new ArrayList<>(overlapping.size());
+            for (Entry entry : overlapping) {
+                if (!entry.id.equals(excludeEventId)) {
+                    found.add(entry.summary);
+                }
+            }
+            return Optional.of(found);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Start of an indexed event
+     */
+    public Optional<LocalDateTime> getStart(Long eventId) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(eventId);
+            return entry == null ? Optional.empty() : Optional.of(entry.start);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reflect a created, updated or cancelled event once the current
+     * transaction commits
+     */
+    public void onEventSaved(Event event) {
+        if (!enabled) {
+            return;
+        }
+        Long eventId = event.getId();
+        Entry entry = Boolean.TRUE.equals(event.getActive()) && event.getEventDateTime() != null
+                ? new Entry(new EventSummaryDto(eventId,
+                        event.getChapter() != null ? event.getChapter().getId() : null,
+                        event.getTitle(), event.getEventDateTime(), event.getLocation(), event.getType(),
+                        event.getRecurringEventId(), event.getOccurrenceDate()))
+                : null;
+        TransactionHooks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                if (indexedFrom == null) {
+                    return;
+                }
+                remove(eventId);
+                if (entry != null && !entry.start.isBefore(indexedFrom)) {
+                    add(entry);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Drop the events of a permanently deleted chapter once the current
+     * transaction commits
+     */
+    public void onChapterRemoved(Long chapterId) {
+        if (!enabled) {
+            return;
+        }
+        TransactionHooks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                NavigableSet<Entry> chapterEvents = byChapter.get(chapterId);
+                if (chapterEvents != null) {
+                    for (Entry entry : new ArrayList<>(chapterEvents)) {
+                        remove(entry.id);
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Drop events that started more than {@link #RETAINED_HISTORY} ago
+     */
+    @Scheduled(initialDelayString = "${app.events.schedule-index.prune-interval-ms:3600000}",
+            fixedDelayString = "${app.events.schedule-index.prune-interval-ms:3600000}")
+    public void prune() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(RETAINED_HISTORY);
+        lock.writeLock().lock();
+        try {
+            if (indexedFrom == null || !cutoff.isAfter(indexedFrom)) {
+                return;
+            }
+            Iterator<Entry> past = byStart.headSet(probe(cutoff, Long.MIN_VALUE), false).iterator();
+            while (past.hasNext()) {
+                Entry entry = past.next();
+                past.remove();
+                entries.remove(entry.id);
+                removeFrom(byChapter, entry.chapterId, entry);
+                removeFrom(byVenue, entry.venue, entry);
+            }
+            indexedFrom = cutoff;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean covers(LocalDateTime from) {
+        return indexedFrom != null && !from.isBefore(indexedFrom);
+    }
+
+    private void add(Entry entry) {
+        entries.put(entry.id, entry);
+        byStart.add(entry);
+        if (entry.chapterId != null) {
+            byChapter.computeIfAbsent(entry.chapterId, key -> new TreeSet<>(START_ORDER)).add(entry);
+        }
+        if (entry.venue != null) {
+            byVenue.computeIfAbsent(entry.venue, key -> new TreeSet<>(START_ORDER)).add(entry);
+        }
+    }
+
+    private void remove(Long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        byStart.remove(entry);
+        removeFrom(byChapter, entry.chapterId, entry);
+        removeFrom(byVenue, entry.venue, entry);
+    }
+
+    private static <K> void removeFrom(Map<K, NavigableSet<Entry>> sets, K key, Entry entry) {
+        if (key == null) {
+            return;
+        }
+        NavigableSet<Entry> set = sets.get(key);
+        if (set != null) {
+            set.remove(entry);
+            if (set.isEmpty()) {
+                sets.remove(key);
+            }
+        }
+    }
+
+    /**
+     * The venue an event location names: trimmed and lower-cased, or null
+     * for no location
+     */
+    static String venueKey(String location) {
+        if (location == null || location.isBlank()) {
+            return null;
+        }
+        return location.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // A search bound ordered like an event starting at start with the given id
+    private static Entry probe(LocalDateTime start, long id) {
+        return new Entry(id, start);
+    }
+
+    private static final class Entry {
+        private final Long id;
+        private final LocalDateTime start;
+        private final Long chapterId;
+        private final String venue;
+        private final EventSummaryDto summary;
+
+        private Entry(EventSummaryDto summary) {
+            this.id = summary.getId();
+            this.start = summary.getEventDateTime();
+            this.chapterId = summary.getChapterId();
+            this.venue = venueKey(summary.getLocation());
+            this.summary = summary;
+        }
+
+        private Entry(long id, LocalDateTime start) {
+            this.id = id;
+            this.start = start;
+            this.chapterId = null;
+            this.venue = null;
+            this.summary = null;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.turningpoint.chapterorganizer.service;
+
+/**
+ * Published when seats of an event may have become available, i.e. an RSVP
+ * or registration was cancelled or the event's capacity was raised. The
+ * waitlist listens for it after commit to promote waiting members.
+ */
+public class EventSeatsFreedEvent {
+
+    private final Long eventId;
+
+    public EventSeatsFreedEvent(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    @Override
+    public String toString() {
+        return "EventSeatsFreedEvent{eventId=" + eventId + '}';
+    }
+}
@@ -0,0 +1,396 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.dto.CursorPage;
+import com.turningpoint.chapterorganizer.dto.EventSummaryDto;
+import com.turningpoint.chapterorganizer.entity.Chapter;
+import com.turningpoint.chapterorganizer.entity.Event;
+import com.turningpoint.chapterorganizer.entity.EventType;
+import com.turningpoint.chapterorganizer.repository.EventRepository;
+import com.turningpoint.chapterorganizer.repository.EventSpecifications;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+public class EventService {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final int DEFAULT_WINDOW_DAYS = 90;
+    // Listings never span more than this, so a chapter with years of history cannot return everything at once
+    public static final int MAX_WINDOW_DAYS = 366;
+    public static final int MAX_CALENDAR_EVENTS = 1000;
+
+    // Listing order: by start; at the same start, occurrences of recurring events (no id) come before events
+    private static final Comparator<EventSummaryDto> LISTING_ORDER = Comparator
+            .comparing(EventSummaryDto::getEventDateTime)
+            .thenComparing(summary -> summary.getId() != null)
+            .thenComparing(summary -> summary.getId() != null ? summary.getId() : summary.getRecurringEventId());
+
+    private final EventRepository eventRepository;
+    private final ChapterService chapterService;
+    private final RecurringEventService recurringEventService;
+    private final EventScheduleIndex scheduleIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public EventService(EventRepository eventRepository, ChapterService chapterService,
+            RecurringEventService recurringEventService, EventScheduleIndex scheduleIndex,
+            ApplicationEventPublisher eventPublisher) {
+        this.eventRepository = eventRepository;
+        this.chapterService = chapterService;
+        this.recurringEventService = recurringEventService;
+        this.scheduleIndex = scheduleIndex;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Create a new event for an existing chapter
+     */
+    public Event createEvent(Event event) {
+        if (event.getChapter() == null || event.getChapter().getId() == null) {
+            throw new IllegalArgumentException("Chapter is required for event creation");
+        }
+        Long chapterId = event.getChapter().getId();
+        Chapter chapter = chapterService.getChapterById(chapterId)
+                .orElseThrow(() -> new IllegalArgumentException("Chapter not found with id: " + chapterId));
+        event.setChapter(chapter);
+
+        validateEventDateTime(event.getEventDateTime());
+        if (event.getActive() == null) {
+            event.setActive(true);
+        }
+        if (event.getCurrentAttendees() == null) {
+            event.setCurrentAttendees(0);
+        }
+        validateCapacity(event.getMaxAttendees(), event.getCurrentAttendees());
+
+        Event savedEvent = eventRepository.save(event);
+        scheduleIndex.onEventSaved(savedEvent);
+        publishChapterChanged(event);
+        return savedEvent;
+    }
+
+    /**
+     * Get event by ID
+     */
+    @Transactional(readOnly = true)
+    public Optional<Event> getEventById(Long id) {
+        return eventRepository.findById(id);
+    }
+
+    /**
+     * Keyset page of event summaries between {@code from} and {@code to},
+     * ordered by date and time, including the occurrences of recurring
+     * events. {@code from} defaults to now and {@code to} to
+     * {@value #DEFAULT_WINDOW_DAYS} days later; the window may not exceed
+     * {@value #MAX_WINDOW_DAYS} days. chapterId and type are optional filters.
+     * Pass the previous page's nextCursor to continue.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<EventSummaryDto> getEvents(Long chapterId, EventType type, LocalDateTime from,
+            LocalDateTime to, boolean includeCancelled, Long cursor, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        LocalDateTime start = from != null ? from : LocalDateTime.now();
+        LocalDateTime end = to != null ? to : start.plusDays(DEFAULT_WINDOW_DAYS);
+        validateWindow(start, end);
+
+        LocalDateTime eventsStart = start;
+        Long afterEventId = null;
+        LocalDateTime occurrencesStart = start;
+        Long afterRecurringEventId = null;
+        if (cursor != null && cursor < 0) {
+            // The previous page ended with an occurrence; events at its start come after it
+            occurrencesStart = recurringEventService.getCursorOccurrenceStart(cursor);
+            afterRecurringEventId = RecurringEventService.cursorRecurringEventId(cursor);
+            eventsStart = occurrencesStart;
+        } else if (cursor != null) {
+            LocalDateTime lastStart = scheduleIndex.getStart(cursor).orElseGet(() -> eventRepository.findById(cursor)
+                    .orElseThrow(() -> new IllegalArgumentException("Event not found with id: " + cursor))
+                    .getEventDateTime());
+            eventsStart = lastStart;
+            afterEventId = cursor;
+            occurrencesStart = lastStart;
+            afterRecurringEventId = Long.MAX_VALUE;
+        }
+
+        // Fetch one extra row to learn whether another page exists. The window end is inclusive for events.
+        Optional<List<EventSummaryDto>> indexed = includeCancelled ? Optional.empty()
+                : scheduleIndex.find(chapterId, type, eventsStart, afterEventId, end.plusNanos(1), pageSize + 1);
+        List<EventSummaryDto> items = new ArrayList<>(indexed.isPresent() ? indexed.get()
+                : findEventSummaries(chapterId, type, eventsStart, afterEventId, end, includeCancelled,
+                        pageSize + 1));
+        items.addAll(recurringEventService.getOccurrenceSummaries(chapterId, type, occurrencesStart,
+                end.plusNanos(1), afterRecurringEventId, pageSize + 1));
+        items.sort(LISTING_ORDER);
+
+        boolean hasMore = items.size() > pageSize;
+        List<EventSummaryDto> page = hasMore ? new ArrayList<>(items.subList(0, pageSize)) : items;
+        Long nextCursor = hasMore ? cursorOf(page.get(page.size() - 1)) : null;
+        return new CursorPage<>(page, nextCursor, hasMore, pageSize);
+    }
+
+    /**
+     * A chapter's active events from {@code from} (inclusive) to {@code to}
+     * (exclusive), including occurrences of its recurring events, for
+     * calendar views. Defaults to the current month; the range may not
+     * exceed {@value #MAX_WINDOW_DAYS} days and at most
+     * {@value #MAX_CALENDAR_EVENTS} events are returned.
+     */
+    @Transactional(readOnly = true)
+    public List<EventSummaryDto> getChapterCalendar(Long chapterId, LocalDate from, LocalDate to) {
+        LocalDate start = from != null ? from : LocalDate.now().withDayOfMonth(1);
+        LocalDate end = to != null ? to : start.plusMonths(1);
+        validateWindow(start.atStartOfDay(), end.atStartOfDay());
+        Optional<List<EventSummaryDto>> indexed = scheduleIndex.find(chapterId, null, start.atStartOfDay(), null,
+                end.atStartOfDay(), MAX_CALENDAR_EVENTS);
+        List<EventSummaryDto> events = new ArrayList<>(indexed.isPresent() ? indexed.get()
+                : eventRepository.findEventSummariesByChapterBetween(chapterId, start.atStartOfDay(),
+                        end.atStartOfDay(), PageRequest.of(0, MAX_CALENDAR_EVENTS)));
+        events.addAll(recurringEventService.getOccurrenceSummaries(chapterId, null, start.atStartOfDay(),
+                end.atStartOfDay(), null, MAX_CALENDAR_EVENTS));
+        events.sort(LISTING_ORDER);
+        return events.size() > MAX_CALENDAR_EVENTS ? new ArrayList<>(events.subList(0, MAX_CALENDAR_EVENTS)) : events;
+    }
+
+    /**
+     * Active events and recurring event occurrences that overlap an event of
+     * the chapter starting at {@code start} at {@code location}: those of the
+     * same chapter or at the same venue starting less than
+     * {@link EventScheduleIndex#EVENT_DURATION} apart. {@code excludeEventId}
+     * (the event being checked) is left out.
+     */
+    @Transactional(readOnly = true)
+    public List<EventSummaryDto> findConflicts(Long chapterId, String location, LocalDateTime start,
+            Long excludeEventId) {
+        if (start == null) {
+            throw new IllegalArgumentException("Event date and time is required");
+        }
+        List<EventSummaryDto> overlapping = new ArrayList<>(scheduleIndex
+                .findOverlapping(chapterId, location, start, excludeEventId)
+                .orElseGet(() -> eventRepository.findEventSummariesOverlapping(chapterId,
+                        EventScheduleIndex.venueKey(location), start.minus(EventScheduleIndex.EVENT_DURATION),
+                        start.plus(EventScheduleIndex.EVENT_DURATION)).stream()
+                        .filter(summary -> !summary.getId().equals(excludeEventId))
+                        .collect(Collectors.toList())));
+        String venue = EventScheduleIndex.venueKey(location);
+        for (EventSummaryDto occurrence : recurringEventService.getOccurrenceSummaries(null, null,
+                start.minus(EventScheduleIndex.EVENT_DURATION).plusNanos(1),
+                start.plus(EventScheduleIndex.EVENT_DURATION), null, MAX_PAGE_SIZE)) {
+            if ((chapterId != null && chapterId.equals(occurrence.getChapterId()))
+                    || (venue != null && venue.equals(EventScheduleIndex.venueKey(occurrence.getLocation())))) {
+                overlapping.add(occurrence);
+            }
+        }
+        overlapping.sort(LISTING_ORDER);
+        return overlapping;
+    }
+
+    /**
+     * Conflicts of an existing event; see {@link #findConflicts}
+     */
+    @Transactional(readOnly = true)
+    public List<EventSummaryDto> getConflicts(Long id) {
+        Event event = eventRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Event not found with id: " + id));
+        return findConflicts(event.getChapter() != null ? event.getChapter().getId() : null, event.getLocation(),
+                event.getEventDateTime(), id);
+    }
+
+    /**
+     * Get upcoming active events for a chapter
+     */
+    @Transactional(readOnly = true)
+    public List<Event> getUpcomingEventsByChapter(Long chapterId) {
+        return eventRepository.findUpcomingEventsByChapter(chapterId, LocalDateTime.now());
+    }
+
+    /**
+     * Next upcoming event summaries for a chapter, at most {@code limit}
+     */
+    @Transactional(readOnly = true)
+    public List<EventSummaryDto> getUpcomingEventSummaries(Long chapterId, Integer limit) {
+        int size = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        return eventRepository.findUpcomingEventSummariesByChapter(chapterId, LocalDateTime.now(),
+                PageRequest.of(0, size));
+    }
+
+    /**
+     * Get events of a type in a chapter
+     */
+    @Transactional(readOnly = true)
+    public List<Event> getEventsByType(Long chapterId, EventType type) {
+        return eventRepository.findByTypeAndChapterId(type, chapterId);
+    }
+
+    /**
+     * Count upcoming active events for a chapter
+     */
+    @Transactional(readOnly = true)
+    public Long countUpcomingEventsByChapter(Long chapterId) {
+        return eventRepository.countUpcomingEventsByChapter(chapterId, LocalDateTime.now());
+    }
+
+    /**
+     * Update the event fields present in {@code updatedEvent}. The chapter,
+     * attendee count and active flag are not changed here; use cancelEvent
+     * to cancel.
+     */
+    public Event updateEvent(Long id, Event updatedEvent) {
+        Event existingEvent = eventRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Event not found with id: " + id));
+
+        boolean moved = false;
+        if (updatedEvent.getEventDateTime() != null
+                && !updatedEvent.getEventDateTime().equals(existingEvent.getEventDateTime())) {
+            validateEventDateTime(updatedEvent.getEventDateTime());
+            existingEvent.setEventDateTime(updatedEvent.getEventDateTime());
+            moved = true;
+        }
+        boolean capacityRaised = false;
+        boolean capacityChanged = false;
+        if (updatedEvent.getMaxAttendees() != null) {
+            validateCapacity(updatedEvent.getMaxAttendees(), existingEvent.getCurrentAttendees());
+            capacityRaised = existingEvent.getMaxAttendees() != null
+                    && updatedEvent.getMaxAttendees() > existingEvent.getMaxAttendees();
+            capacityChanged = !updatedEvent.getMaxAttendees().equals(existingEvent.getMaxAttendees());
+            existingEvent.setMaxAttendees(updatedEvent.getMaxAttendees());
+        }
+
+        // Update the fields that were supplied
+        if (updatedEvent.getTitle() != null) {
+            existingEvent.setTitle(updatedEvent.getTitle());
+        }
+        if (updatedEvent.getDescription() != null) {
+            existingEvent.setDescription(updatedEvent.getDescription());
+        }
+        if (updatedEvent.getLocation() != null) {
+            existingEvent.setLocation(updatedEvent.getLocation());
+        }
+        if (updatedEvent.getType() != null) {
+            existingEvent.setType(updatedEvent.getType());
+        }
+
+        Event savedEvent = eventRepository.save(existingEvent);
+        scheduleIndex.onEventSaved(savedEvent);
+        publishChapterChanged(existingEvent);
+        if (capacityRaised) {
+            eventPublisher.publishEvent(new EventSeatsFreedEvent(id));
+        } else if (capacityChanged) {
+            eventPublisher.publishEvent(new EventCapacityChangedEvent(id));
+        }
+        if (moved) {
+            eventPublisher.publishEvent(new EventScheduleChangedEvent(id));
+        }
+        return savedEvent;
+    }
+
+    /**
+     * Cancel an event (soft delete)
+     */
+    public void cancelEvent(Long id) {
+        Event event = eventRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Event not found with id: " + id));
+        event.setActive(false);
+        eventRepository.save(event);
+        scheduleIndex.onEventSaved(event);
+        publishChapterChanged(event);
+        eventPublisher.publishEvent(new EventCapacityChangedEvent(id));
+        eventPublisher.publishEvent(new EventScheduleChangedEvent(id));
+    }
+
+    /**
+     * Take one more attendee. The seat is reserved with a single conditional
+     * UPDATE, so concurrent registrations can never exceed maxAttendees.
+     */
+    public Event registerAttendee(Long id) {
+        if (eventRepository.reserveSeat(id) == 0) {
+            Event event = eventRepository.findById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("Event not found with id: " + id));
+            throw new IllegalArgumentException(Boolean.TRUE.equals(event.getActive())
+                    ? "Event is already at maximum capacity"
+                    : "Event has been cancelled");
+        }
+        eventPublisher.publishEvent(new EventCapacityChangedEvent(id));
+        return eventRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Event not found with id: " + id));
+    }
+
+    /**
+     * Release one attendee's place
+     */
+    public Event unregisterAttendee(Long id) {
+        if (eventRepository.releaseSeat(id) > 0) {
+            eventPublisher.publishEvent(new EventSeatsFreedEvent(id));
+        }
+        return eventRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Event not found with id: " + id));
+    }
+
+    private List<EventSummaryDto> findEventSummaries(Long chapterId, EventType type, LocalDateTime start,
+            Long afterEventId, LocalDateTime end, boolean includeCancelled, int limit) {
+        Specification<Event> spec = EventSpecifications.matchingCriteria(chapterId, null, type, null, start, end,
+                includeCancelled ? null : Boolean.TRUE);
+        if (afterEventId != null) {
+            spec = spec.and(EventSpecifications.after(start, afterEventId));
+        }
+        List<Event> rows = eventRepository.findBy(spec,
+                query -> query.sortBy(Sort.by("eventDateTime", "id")).limit(limit).all());
+        List<EventSummaryDto> summaries = new ArrayList<>(rows.size());
+        rows.forEach(event -> summaries.add(new EventSummaryDto(event.getId(),
+                event.getChapter() != null ? event.getChapter().getId() : null,
+                event.getTitle(), event.getEventDateTime(), event.getLocation(), event.getType(),
+                event.getRecurringEventId(), event.getOccurrenceDate())));
+        return summaries;
+    }
+
+    private static void validateEventDateTime(LocalDateTime eventDateTime) {
+        if (eventDateTime == null) {
+            throw new IllegalArgumentException("Event date and time is required");
+        }
+        if (eventDateTime.isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Event date and time cannot be in the past");
+        }
+    }
+
+    private static void validateCapacity(Integer maxAttendees, Integer currentAttendees) {
+        if (maxAttendees != null && maxAttendees < (currentAttendees == null ? 0 : currentAttendees)) {
+            throw new IllegalArgumentException("Max attendees cannot be less than current attendees");
+        }
+    }
+
+    private static void validateWindow(LocalDateTime start, LocalDateTime end) {
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("Time window end must not be before its start");
+        }
+        if (Duration.between(start, end).compareTo(Duration.ofDays(MAX_WINDOW_DAYS)) > 0) {
+            throw new IllegalArgumentException("Time window cannot exceed " + MAX_WINDOW_DAYS + " days");
+        }
+    }
+
+    private static Long cursorOf(EventSummaryDto summary) {
+        return summary.getId() != null
+                ? summary.getId()
+                : RecurringEventService.occurrenceCursor(summary.getRecurringEventId(), summary.getOccurrenceDate());
+    }
+
+    private void publishChapterChanged(Event event) {
+        if (event.getChapter() != null && event.getChapter().getId() != null) {
+            eventPublisher.publishEvent(new ChapterDataChangedEvent(event.getChapter().getId()));
+        }
+    }
+}
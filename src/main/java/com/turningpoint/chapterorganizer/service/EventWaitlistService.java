@@ -0,0 +1,475 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.entity.Event;
+import com.turningpoint.chapterorganizer.entity.EventRSVP;
+import com.turningpoint.chapterorganizer.entity.Member;
+import com.turningpoint.chapterorganizer.entity.MemberRole;
+import com.turningpoint.chapterorganizer.entity.RSVPStatus;
+import com.turningpoint.chapterorganizer.repository.EventRSVPRepository;
+import com.turningpoint.chapterorganizer.repository.EventRepository;
+import com.turningpoint.chapterorganizer.repository.MemberRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Event waitlists. A member who RSVPs to a full event is put on its
+ * waitlist and promoted to GOING as soon as a seat frees up: officers
+ * before general members, then in the order they joined.
+ *
+ * Each event's waitlist is kept in memory as an ordered set, so promoting
+ * the next member and leaving the waitlist are O(log n). Only events with
+ * members waiting have one: the waitlists of upcoming events are loaded from
+ * the WAITLISTED rows of event_rsvps on first use, so they survive
+ * restarts, and a waitlist is dropped once it is empty or its event was
+ * cancelled or has started. Promotions run on a background thread after the transaction
+ * that freed the seat commits ({@link EventSeatsFreedEvent}). They lock
+ * the event row, so direct RSVPs wait meanwhile, and take all the seats
+ * freed at once, e.g. after the capacity was raised. While anybody is
+ * waiting, RSVPs that skip the waitlist find the event full
+ * ({@link #rsvp}), so a freed seat cannot be taken ahead of them.
+ */
+@Service
+public class EventWaitlistService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventWaitlistService.class);
+
+    public static final int OFFICER_PRIORITY = 0;
+    public static final int MEMBER_PRIORITY = 1;
+    public static final int DEFAULT_LIST_LIMIT = 50;
+    public static final int MAX_LIST_LIMIT = 500;
+    static final int PROMOTION_BATCH_SIZE = 500;
+    // How often waitlists of events that have started are dropped
+    static final long SWEEP_INTERVAL_MINUTES = 60;
+
+    private static final Comparator<Entry> PROMOTION_ORDER = Comparator
+            .comparingInt((Entry entry) -> entry.priority)
+            .thenComparing(entry -> entry.waitlistedAt)
+            .thenComparingLong(entry -> entry.rsvpId);
+
+    private final EventRsvpService rsvpService;
+    private final EventRSVPRepository rsvpRepository;
+    private final EventRepository eventRepository;
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Non-empty waitlists only; entries are added and dropped through compute so neither is lost
+    private final Map<Long, Waitlist> waitlists = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+    // Events with freed seats, coalesced until the promoter gets to them
+    private final Set<Long> freed = ConcurrentHashMap.newKeySet();
+    private ScheduledExecutorService promoter;
+
+    @Autowired
+    public EventWaitlistService(EventRsvpService rsvpService, EventRSVPRepository rsvpRepository,
+            EventRepository eventRepository, MemberRepository memberRepository,
+            PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher) {
+        this.rsvpService = rsvpService;
+        this.rsvpRepository = rsvpRepository;
+        this.eventRepository = eventRepository;
+        this.memberRepository = memberRepository;
+        // Promotions run after the freeing transaction committed, so they need their own
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * RSVP a member, or put them on the waitlist when the event is full.
+     * While others are waiting, newcomers join the waitlist too rather than
+     * taking a seat that frees up ahead of them.
+     *
+     * @return the member's RSVP, GOING or WAITLISTED
+     * @throws IllegalArgumentException if the member or event does not exist
+     *         or the event was cancelled
+     */
+    public EventRSVP join(Long eventId, Long memberId) {
+        Optional<EventRSVP> existing = rsvpRepository.findByEventIdAndMemberId(eventId, memberId);
+        if (existing.isPresent() && existing.get().getStatus() != RSVPStatus.CANCELLED) {
+            return existing.get();
+        }
+        if (!hasWaitlist(eventId)) {
+            Optional<EventRSVP> going = rsvpService.tryRsvp(eventId, memberId);
+            if (going.isPresent()) {
+                return going.get();
+            }
+        }
+
+        EventRSVP rsvp = existing.orElseGet(() -> new EventRSVP(eventId, memberId, RSVPStatus.WAITLISTED));
+        EventRSVP waiting = transactionTemplate.execute(status -> saveWaitlisted(rsvp));
+        addToWaitlist(eventId, new Entry(waiting));
+        // A seat may have freed up between the full check and joining the waitlist
+        if (promote(eventId) > 0) {
+            return rsvpRepository.findById(waiting.getId()).orElse(waiting);
+        }
+        return waiting;
+    }
+
+    /**
+     * RSVP a member without joining the waitlist. While others are waiting
+     * the event counts as full, so a freed seat goes to them rather than to
+     * whoever asks first.
+     *
+     * @throws IllegalArgumentException if the member or event does not exist,
+     *         the event was cancelled or it has no seats for newcomers
+     */
+    public EventRSVP rsvp(Long eventId, Long memberId) {
+        if (hasWaitlist(eventId)) {
+            Optional<EventRSVP> existing = rsvpRepository.findByEventIdAndMemberId(eventId, memberId);
+            if (existing.isPresent() && existing.get().getStatus() == RSVPStatus.GOING) {
+                return existing.get();
+            }
+            throw new IllegalArgumentException("Event is already at maximum capacity");
+        }
+        return rsvpService.rsvp(eventId, memberId);
+    }
+
+    /**
+     * Whether members are waiting for a seat at the event
+     */
+    public boolean hasWaitlist(Long eventId) {
+        Waitlist waitlist = waitlist(eventId);
+        return waitlist != null && !waitlist.isEmpty();
+    }
+
+    /**
+     * Take a member off the waitlist, or cancel their RSVP and give the seat
+     * to the next member waiting
+     */
+    public Optional<EventRSVP> leave(Long eventId, Long memberId) {
+        Integer left = transactionTemplate.execute(
+                status -> rsvpRepository.cancelWaitlisted(eventId, memberId, LocalDateTime.now()));
+        Waitlist waitlist = waitlist(eventId);
+        if (waitlist != null) {
+            waitlist.remove(memberId);
+            dropIfEmpty(eventId);
+        }
+        if (left == null || left == 0) {
+            // Not waitlisted, or promoted meanwhile: cancel the RSVP, giving its seat back
+            return rsvpService.cancelRsvp(eventId, memberId);
+        }
+        return rsvpRepository.findByEventIdAndMemberId(eventId, memberId);
+    }
+
+    /**
+     * Member ids on an event's waitlist, next to be promoted first
+     */
+    public List<Long> getWaitlist(Long eventId, Integer limit) {
+        int size = limit == null ? DEFAULT_LIST_LIMIT : Math.max(1, Math.min(limit, MAX_LIST_LIMIT));
+        Waitlist waitlist = waitlist(eventId);
+        return waitlist == null ? Collections.emptyList() : waitlist.firstMemberIds(size);
+    }
+
+    public int getWaitlistSize(Long eventId) {
+        Waitlist waitlist = waitlist(eventId);
+        return waitlist == null ? 0 : waitlist.size();
+    }
+
+    /**
+     * Number of events with members waiting
+     */
+    public int getWaitlistCount() {
+        loadWaitlists();
+        return waitlists.size();
+    }
+
+    @PostConstruct
+    void start() {
+        promoter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-waitlist-promoter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        promoter.scheduleWithFixedDelay(() -> {
+            try {
+                dropEndedWaitlists();
+            } catch (RuntimeException e) {
+                logger.error("Dropping waitlists of past events failed", e);
+            }
+        }, SWEEP_INTERVAL_MINUTES, SWEEP_INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    void stop() {
+        promoter.shutdownNow();
+    }
+
+    /**
+     * Hand the event to the promoter thread. Promoting here would need a
+     * second connection while the committed transaction still holds its
+     * own, which exhausts the pool when many seats are freed at once.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatsFreed(EventSeatsFreedEvent event) {
+        freed.add(event.getEventId());
+        if (promoter != null) {
+            promoter.execute(this::promoteFreed);
+        }
+    }
+
+    /**
+     * Drop the waitlist of an event that was cancelled or moved into the
+     * past; on the promoter thread, for the same reason as promotions
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(EventScheduleChangedEvent event) {
+        if (promoter != null && waitlists.containsKey(event.getEventId())) {
+            promoter.execute(this::dropEndedWaitlists);
+        }
+    }
+
+    /**
+     * Drop the waitlists of events that were cancelled, deleted or have
+     * started; their WAITLISTED rows stay as a record
+     *
+     * @return the number of waitlists dropped
+     */
+    int dropEndedWaitlists() {
+        loadWaitlists();
+        if (waitlists.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> ended = new HashSet<>(waitlists.keySet());
+        for (Event event : eventRepository.findAllById(new ArrayList<>(ended))) {
+            if (Boolean.TRUE.equals(event.getActive()) && event.getEventDateTime() != null
+                    && event.getEventDateTime().isAfter(now)) {
+                ended.remove(event.getId());
+            }
+        }
+        ended.forEach(waitlists::remove);
+        return ended.size();
+    }
+
+    /**
+     * Promote the waitlists of the events whose seats were freed
+     */
+    void promoteFreed() {
+        for (Iterator<Long> iterator = freed.iterator(); iterator.hasNext(); ) {
+            Long eventId = iterator.next();
+            iterator.remove();
+            try {
+                int promoted = promote(eventId);
+                if (promoted > 0) {
+                    logger.debug("Promoted {} waitlisted member(s) to event {}", promoted, eventId);
+                }
+            } catch (RuntimeException e) {
+                logger.error("Promoting the waitlist of event {} failed", eventId, e);
+            }
+        }
+    }
+
+    /**
+     * Promote waitlisted members while the event has free seats
+     *
+     * @return the number of members promoted
+     */
+    public int promote(Long eventId) {
+        Waitlist waitlist = waitlist(eventId);
+        if (waitlist == null) {
+            return 0;
+        }
+        int promoted = 0;
+        while (!waitlist.isEmpty()) {
+            List<Entry> polled = new ArrayList<>();
+            Integer batch;
+            try {
+                batch = transactionTemplate.execute(status -> promoteBatch(eventId, waitlist, polled));
+            } catch (RuntimeException e) {
+                // Rolled back; everybody keeps their place in line
+                polled.forEach(entry -> addToWaitlist(eventId, entry));
+                throw e;
+            }
+            if (batch == null || batch == 0) {
+                break;
+            }
+            promoted += batch;
+        }
+        dropIfEmpty(eventId);
+        return promoted;
+    }
+
+    // Give the event's free seats to the next members in line, with the event row locked
+    private int promoteBatch(Long eventId, Waitlist waitlist, List<Entry> polled) {
+        Optional<Event> event = eventRepository.findByIdForUpdate(eventId);
+        if (event.isEmpty() || !Boolean.TRUE.equals(event.get().getActive())) {
+            return 0;
+        }
+        Integer max = event.get().getMaxAttendees();
+        int current = event.get().getCurrentAttendees() == null ? 0 : event.get().getCurrentAttendees();
+        int seats = Math.min(PROMOTION_BATCH_SIZE, max == null ? PROMOTION_BATCH_SIZE : max - current);
+
+        int promoted = 0;
+        while (promoted < seats) {
+            List<Entry> next = waitlist.poll(seats - promoted);
+            if (next.isEmpty()) {
+                break;
+            }
+            polled.addAll(next);
+            List<Long> rsvpIds = new ArrayList<>(next.size());
+            next.forEach(entry -> rsvpIds.add(entry.rsvpId));
+            // RSVPs no longer waitlisted, e.g. cancelled or RSVPed directly, just drop out of line
+            promoted += rsvpRepository.promoteWaitlisted(rsvpIds, LocalDateTime.now());
+        }
+        if (promoted == 0) {
+            return 0;
+        }
+        if (eventRepository.reserveSeats(eventId, promoted) == 0) {
+            throw new IllegalStateException("Seats of locked event " + eventId + " changed during promotion");
+        }
+        eventPublisher.publishEvent(new EventCapacityChangedEvent(eventId));
+        return promoted;
+    }
+
+    private EventRSVP saveWaitlisted(EventRSVP rsvp) {
+        Long eventId = rsvp.getEventId();
+        Long memberId = rsvp.getMemberId();
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("Member not found with id: " + memberId));
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("Event not found with id: " + eventId));
+        if (!Boolean.TRUE.equals(event.getActive())) {
+            throw new IllegalArgumentException("Event has been cancelled");
+        }
+        rsvp.setStatus(RSVPStatus.WAITLISTED);
+        rsvp.setWaitlistPriority(priorityOf(member.getRole()));
+        rsvp.setWaitlistedAt(LocalDateTime.now());
+        return rsvpRepository.saveAndFlush(rsvp);
+    }
+
+    static int priorityOf(MemberRole role) {
+        return role == null || role == MemberRole.MEMBER ? MEMBER_PRIORITY : OFFICER_PRIORITY;
+    }
+
+    // The event's waitlist, null when nobody is waiting
+    private Waitlist waitlist(Long eventId) {
+        loadWaitlists();
+        return waitlists.get(eventId);
+    }
+
+    private void addToWaitlist(Long eventId, Entry entry) {
+        loadWaitlists();
+        waitlists.compute(eventId, (id, waitlist) -> {
+            Waitlist target = waitlist != null ? waitlist : new Waitlist();
+            target.add(entry);
+            return target;
+        });
+    }
+
+    private void dropIfEmpty(Long eventId) {
+        waitlists.computeIfPresent(eventId, (id, waitlist) -> waitlist.isEmpty() ? null : waitlist);
+    }
+
+    // The waitlists of upcoming events, loaded from the database on first use
+    private void loadWaitlists() {
+        if (loaded) {
+            return;
+        }
+        synchronized (waitlists) {
+            if (loaded) {
+                return;
+            }
+            for (EventRSVP rsvp : rsvpRepository.findWaitlistedForUpcomingEvents(LocalDateTime.now())) {
+                waitlists.computeIfAbsent(rsvp.getEventId(), id -> new Waitlist()).add(new Entry(rsvp));
+            }
+            loaded = true;
+        }
+    }
+
+    // One event's waiting members in promotion order
+    static final class Waitlist {
+        private final TreeSet<Entry> order = new TreeSet<>(PROMOTION_ORDER);
+        private final Map<Long, Entry> byMember = new HashMap<>();
+
+        synchronized void add(Entry entry) {
+            Entry previous = byMember.put(entry.memberId, entry);
+            if (previous != null) {
+                order.remove(previous);
+            }
+            order.add(entry);
+        }
+
+        synchronized List<Entry> poll(int count) {
+            List<Entry> first = new ArrayList<>(Math.min(count, order.size()));
+            Entry entry;
+            while (first.size() < count && (entry = order.pollFirst()) != null) {
+                byMember.remove(entry.memberId);
+                first.add(entry);
+            }
+            return first;
+        }
+
+        synchronized void remove(Long memberId) {
+            Entry entry = byMember.remove(memberId);
+            if (entry != null) {
+                order.remove(entry);
+            }
+        }
+
+        synchronized boolean isEmpty() {
+            return order.isEmpty();
+        }
+
+        synchronized int size() {
+            return order.size();
+        }
+
+        synchronized List<Long> firstMemberIds(int limit) {
+            List<Long> memberIds = new ArrayList<>(Math.min(limit, order.size()));
+            for (Entry entry : order) {
+                if (memberIds.size() == limit) {
+                    break;
+                }
+                memberIds.add(entry.memberId);
+            }
+            return memberIds;
+        }
+    }
+
+    static final class Entry {
+        private final long rsvpId;
+        private final Long memberId;
+        private final int priority;
+        private final LocalDateTime waitlistedAt;
+
+        Entry(long rsvpId, Long memberId, int priority, LocalDateTime waitlistedAt) {
+            this.rsvpId = rsvpId;
+            this.memberId = memberId;
+            this.priority = priority;
+            this.waitlistedAt = waitlistedAt;
+        }
+
+        private Entry(EventRSVP rsvp) {
+            this(rsvp.getId(), rsvp.getMemberId(),
+                    rsvp.getWaitlistPriority() == null ? MEMBER_PRIORITY : rsvp.getWaitlistPriority(),
+                    rsvp.getWaitlistedAt() != null ? rsvp.getWaitlistedAt()
+                            : rsvp.getCreatedAt() != null ? rsvp.getCreatedAt() : LocalDateTime.MIN);
+        }
+    }
+}
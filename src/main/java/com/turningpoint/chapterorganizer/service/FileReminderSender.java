@@ -0,0 +1,46 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.dto.EventReminderBatch;
+import com.turningpoint.chapterorganizer.util.DataFormat;
+import com.turningpoint.chapterorganizer.util.RecordWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Stand-in sender that appends reminders to a local NDJSON file, one line
+ * per member ({@code app.events.reminders.sender=file}), for testing
+ * without a mail server
+ */
+@Component
+@ConditionalOnProperty(name = "app.events.reminders.sender", havingValue = "file")
+public class FileReminderSender implements ReminderSender {
+
+    static final List<String> COLUMNS = List.of("eventId", "title", "eventDateTime", "minutesBefore", "memberId",
+            "firstName", "lastName", "email");
+
+    private final Path file;
+
+    public FileReminderSender(@Value("${app.events.reminders.file:reminders.ndjson}") String file) {
+        this.file = Path.of(file);
+    }
+
+    @Override
+    public synchronized void send(EventReminderBatch batch) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+             RecordWriter writer = RecordWriter.create(DataFormat.NDJSON, out, COLUMNS)) {
+            for (EventReminderBatch.Recipient recipient : batch.getRecipients()) {
+                writer.write(batch.getEventId(), batch.getTitle(), batch.getEventDateTime(),
+                        batch.getMinutesBefore(), recipient.getMemberId(), recipient.getFirstName(),
+                        recipient.getLastName(), recipient.getEmail());
+            }
+        }
+    }
+}
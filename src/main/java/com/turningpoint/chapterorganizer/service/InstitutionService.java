@@ -2,6 +2,8 @@ package com.turningpoint.chapterorganizer.service;
 
 import com.turningpoint.chapterorganizer.entity.Institution;
 import com.turningpoint.chapterorganizer.repository.InstitutionRepository;
+import com.turningpoint.chapterorganizer.util.BoundedCache;
+import com.turningpoint.chapterorganizer.util.TransactionHooks;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -14,16 +16,25 @@ public class InstitutionService {
     @Autowired
     private InstitutionRepository institutionRepository;
 
+    @Autowired
+    private BoundedCache<Long, Institution> institutionCache;
+
     public List<Institution> getAllInstitutions() {
         return institutionRepository.findAll();
     }
 
+    /**
+     * Served from the institution near-cache; writes below keep it current
+     */
     public Optional<Institution> getInstitutionById(Long id) {
-        return institutionRepository.findById(id);
+        return Optional.ofNullable(institutionCache.getOrLoad(id,
+                key -> institutionRepository.findById(key).orElse(null)));
     }
 
     public Institution createInstitution(Institution institution) {
-        return institutionRepository.save(institution);
+        Institution saved = institutionRepository.save(institution);
+        TransactionHooks.afterCommit(() -> institutionCache.put(saved.getId(), saved));
+        return saved;
     }
 
     public Institution updateInstitution(Long id, Institution updatedInstitution) {
@@ -36,13 +47,16 @@ public class InstitutionService {
                     institution.setCountry(updatedInstitution.getCountry());
                     institution.setWebsite(updatedInstitution.getWebsite());
                     institution.setStudentCount(updatedInstitution.getStudentCount());
-                    return institutionRepository.save(institution);
+                    Institution saved = institutionRepository.save(institution);
+                    TransactionHooks.afterCommit(() -> institutionCache.put(saved.getId(), saved));
+                    return saved;
                 })
                 .orElseThrow(() -> new RuntimeException("Institution not found with id " + id));
     }
 
     public void deleteInstitution(Long id) {
         institutionRepository.deleteById(id);
+        TransactionHooks.afterCommit(() -> institutionCache.invalidate(id));
     }
 
     public List<Institution> findByState(String state) {
@@ -0,0 +1,29 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.dto.EventReminderBatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stand-in sender that only logs reminders (the default,
+ * {@code app.events.reminders.sender=log})
+ */
+@Component
+@ConditionalOnProperty(name = "app.events.reminders.sender", havingValue = "log", matchIfMissing = true)
+public class LoggingReminderSender implements ReminderSender {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingReminderSender.class);
+
+    @Override
+    public void send(EventReminderBatch batch) {
+        logger.info("Reminder {} minutes before event {} ({}) to {} member(s)", batch.getMinutesBefore(),
+                batch.getEventId(), batch.getTitle(), batch.getRecipients().size());
+        if (logger.isDebugEnabled()) {
+            for (EventReminderBatch.Recipient recipient : batch.getRecipients()) {
+                logger.debug("Reminder for event {} to {}", batch.getEventId(), recipient.getEmail());
+            }
+        }
+    }
+}
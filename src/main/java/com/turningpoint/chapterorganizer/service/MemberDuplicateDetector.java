@@ -0,0 +1,492 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.util.Hashing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Finds members that are probably the same person without comparing every
+ * pair. Members are grouped into blocks that share a key, and only members
+ * within a block are compared:
+ * <ul>
+ *   <li>EMAIL: the email local part without dots, dashes, underscores and "+tag"</li>
+ *   <li>PHONE: the last ten digits of the phone number</li>
+ *   <li>NAME: the sound-alike keys of first and last name, in either order</li>
+ * </ul>
+ * Blocks larger than {@code maxBlockSize} (very common names) are sorted by
+ * name and each member is compared with the next {@code window} members
+ * only. A pair sharing several keys is compared only in the first block
+ * type that actually compares it, so a pair outside the window of a large
+ * block is still compared in a later block they share. Blocks are compared in parallel as fork-join tasks of
+ * roughly equal work.
+ *
+ * A pair scores the weighted average of name similarity (0.5), email local
+ * part similarity (0.3) and phone equality (0.2), leaving out the email or
+ * phone when either member lacks one; similarities are Jaro-Winkler. Pairs
+ * scoring at least {@code minScore} are reported.
+ *
+ * Not thread-safe while members are being added; {@link #detect} may be
+ * called once all are.
+ */
+public class MemberDuplicateDetector {
+
+    static final String REASON_NAME = "NAME";
+    static final String REASON_EMAIL = "EMAIL";
+    static final String REASON_PHONE = "PHONE";
+
+    static final double NAME_WEIGHT = 0.5;
+    static final double EMAIL_WEIGHT = 0.3;
+    static final double PHONE_WEIGHT = 0.2;
+    // Similarity from which a name or email counts as a matching signal
+    static final double SIGNAL_SIMILARITY = 0.9;
+
+    static final int MIN_EMAIL_KEY_LENGTH = 3;
+    static final int MIN_PHONE_DIGITS = 7;
+    static final int PHONE_DIGITS = 10;
+
+    // Comparisons a fork-join task does itself instead of splitting further
+    static final long TASK_COMPARISONS = 20_000;
+
+    private static final int EMAIL = 0;
+    private static final int PHONE = 1;
+    private static final int NAME = 2;
+    private static final int KEY_TYPES = 3;
+
+    private final double minScore;
+    private final int maxBlockSize;
+    private final int window;
+
+    private int size;
+    private long[] ids = new long[1024];
+    private String[] firstNames = new String[1024];
+    private String[] lastNames = new String[1024];
+    private String[] emailLocals = new String[1024];
+    private String[] phones = new String[1024];
+    // Hash of each member's key per type, 0 when the member has no key of that type
+    private long[][] keys = new long[KEY_TYPES][1024];
+    // Each member's position in its sorted block per type, -1 when that block is compared exhaustively
+    private int[][] windowPositions;
+
+    private final LongAdder comparisons = new LongAdder();
+    private int blockCount;
+    private int windowedBlocks;
+
+    public MemberDuplicateDetector(double minScore, int maxBlockSize, int window) {
+        if (maxBlockSize < 2 || window < 1) {
+            throw new IllegalArgumentException("Block size must be at least 2 and window at least 1");
+        }
+        this.minScore = minScore;
+        this.maxBlockSize = maxBlockSize;
+        this.window = window;
+    }
+
+    /**
+     * A pair of probable duplicates, lower member id first
+     */
+    public static final class Candidate {
+        private final long memberId;
+        private final long duplicateMemberId;
+        private final double score;
+        private final String reasons;
+
+        Candidate(long memberId, long duplicateMemberId, double score, String reasons) {
+            this.memberId = memberId;
+            this.duplicateMemberId = duplicateMemberId;
+            this.score = score;
+            this.reasons = reasons;
+        }
+
+        public long getMemberId() {
+            return memberId;
+        }
+
+        public long getDuplicateMemberId() {
+            return duplicateMemberId;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public String getReasons() {
+            return reasons;
+        }
+    }
+
+    public void add(long id, String firstName, String lastName, String email, String phoneNumber) {
+        if (size == ids.length) {
+            grow();
+        }
+        String first = normalizeName(firstName);
+        String last = normalizeName(lastName);
+        String emailLocal = emailLocalPart(email);
+        String phone = phoneDigits(phoneNumber);
+
+        ids[size] = id;
+        firstNames[size] = first;
+        lastNames[size] = last;
+        emailLocals[size] = emailLocal;
+        phones[size] = phone;
+        keys[EMAIL][size] = emailLocal != null && emailLocal.length() >= MIN_EMAIL_KEY_LENGTH ? keyHash(emailLocal) : 0;
+        keys[PHONE][size] = phone != null ? keyHash(phone) : 0;
+        keys[NAME][size] = nameKeyHash(first, last);
+        size++;
+    }
+
+    /**
+     * Compare the members of every block on the given pool and return the
+     * pairs scoring at least the minimum score
+     */
+    public List<Candidate> detect(ForkJoinPool pool) {
+        List<int[]> blocks = new ArrayList<>();
+        List<Integer> blockTypes = new ArrayList<>();
+        for (int type = 0; type < KEY_TYPES; type++) {
+            for (int[] block : blocksOf(type)) {
+                blocks.add(block);
+                blockTypes.add(type);
+            }
+        }
+        blockCount = blocks.size();
+
+        int[][] blockArray = blocks.toArray(new int[0][]);
+        int[] types = blockTypes.stream().mapToInt(Integer::intValue).toArray();
+        // Prefix sums of the comparisons per block, to split tasks by work rather than block count
+        long[] work = new long[blockArray.length + 1];
+        windowPositions = new int[KEY_TYPES][size];
+        for (int[] positions : windowPositions) {
+            Arrays.fill(positions, -1);
+        }
+        for (int i = 0; i < blockArray.length; i++) {
+            int n = blockArray[i].length;
+            if (n > maxBlockSize) {
+                sortByName(blockArray[i]);
+                windowedBlocks++;
+                for (int position = 0; position < n; position++) {
+                    windowPositions[types[i]][blockArray[i][position]] = position;
+                }
+            }
+            work[i + 1] = work[i] + comparisonsIn(n);
+        }
+        return pool.invoke(new CompareTask(blockArray, types, work, 0, blockArray.length));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getBlockCount() {
+        return blockCount;
+    }
+
+    public int getWindowedBlocks() {
+        return windowedBlocks;
+    }
+
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    private final class CompareTask extends RecursiveTask<List<Candidate>> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[][] blocks;
+        private final int[] types;
+        private final long[] work;
+        private final int from;
+        private final int to;
+
+        CompareTask(int[][] blocks, int[] types, long[] work, int from, int to) {
+            this.blocks = blocks;
+            this.types = types;
+            this.work = work;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<Candidate> compute() {
+            if (to - from <= 1 || work[to] - work[from] <= TASK_COMPARISONS) {
+                List<Candidate> found = new ArrayList<>();
+                for (int i = from; i < to; i++) {
+                    compareBlock(blocks[i], types[i], found);
+                }
+                return found;
+            }
+            // Split where half of the work is done
+            long half = work[from] + (work[to] - work[from]) / 2;
+            int mid = Arrays.binarySearch(work, from + 1, to, half);
+            mid = Math.max(from + 1, Math.min(to - 1, mid < 0 ? -mid - 1 : mid));
+            CompareTask left = new CompareTask(blocks, types, work, from, mid);
+            CompareTask right = new CompareTask(blocks, types, work, mid, to);
+            left.fork();
+            List<Candidate> found = right.compute();
+            found.addAll(left.join());
+            return found;
+        }
+    }
+
+    private void compareBlock(int[] block, int type, List<Candidate> found) {
+        int span = block.length > maxBlockSize ? window : block.length;
+        long compared = 0;
+        for (int i = 0; i < block.length; i++) {
+            int end = Math.min(block.length, i + 1 + span);
+            for (int j = i + 1; j < end; j++) {
+                int a = block[i];
+                int b = block[j];
+                if (comparedEarlier(a, b, type)) {
+                    continue;
+                }
+                compared++;
+                Candidate candidate = score(a, b);
+                if (candidate != null) {
+                    found.add(candidate);
+                }
+            }
+        }
+        comparisons.add(compared);
+    }
+
+    // True when the pair also shares a key of an earlier type and that block compares it, i.e. the
+    // block is compared exhaustively or the pair is within its window
+    private boolean comparedEarlier(int a, int b, int type) {
+        for (int earlier = 0; earlier < type; earlier++) {
+            long key = keys[earlier][a];
+            if (key != 0 && key == keys[earlier][b]) {
+                int positionA = windowPositions[earlier][a];
+                if (positionA < 0 || Math.abs(positionA - windowPositions[earlier][b]) <= window) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private Candidate score(int a, int b) {
+        double nameSimilarity = Math.max(
+                (jaroWinkler(firstNames[a], firstNames[b]) + jaroWinkler(lastNames[a], lastNames[b])) / 2,
+                (jaroWinkler(firstNames[a], lastNames[b]) + jaroWinkler(lastNames[a], firstNames[b])) / 2);
+        double total = NAME_WEIGHT * nameSimilarity;
+        double weights = NAME_WEIGHT;
+        StringBuilder reasons = new StringBuilder();
+        if (nameSimilarity >= SIGNAL_SIMILARITY) {
+            reasons.append(REASON_NAME);
+        }
+        if (emailLocals[a] != null && emailLocals[b] != null) {
+            double emailSimilarity = jaroWinkler(emailLocals[a], emailLocals[b]);
+            total += EMAIL_WEIGHT * emailSimilarity;
+            weights += EMAIL_WEIGHT;
+            if (emailSimilarity >= SIGNAL_SIMILARITY) {
+                appendReason(reasons, REASON_EMAIL);
+            }
+        }
+        if (phones[a] != null && phones[b] != null) {
+            boolean samePhone = phones[a].equals(phones[b]);
+            total += samePhone ? PHONE_WEIGHT : 0;
+            weights += PHONE_WEIGHT;
+            if (samePhone) {
+                appendReason(reasons, REASON_PHONE);
+            }
+        }
+        double score = total / weights;
+        if (score < minScore) {
+            return null;
+        }
+        // Round so reruns store identical scores regardless of summation order
+        score = Math.round(score * 10_000) / 10_000.0;
+        return ids[a] < ids[b]
+                ? new Candidate(ids[a], ids[b], score, reasons.toString())
+                : new Candidate(ids[b], ids[a], score, reasons.toString());
+    }
+
+    private static void appendReason(StringBuilder reasons, String reason) {
+        if (reasons.length() > 0) {
+            reasons.append(',');
+        }
+        reasons.append(reason);
+    }
+
+    // Members grouped by key hash: sort (hash, index) pairs packed into longs and cut runs of equal hashes
+    private List<int[]> blocksOf(int type) {
+        int indexBits = Math.max(1, 64 - Long.numberOfLeadingZeros(Math.max(1, size - 1)));
+        long indexMask = (1L << indexBits) - 1;
+        long[] packed = new long[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            long key = keys[type][i];
+            if (key != 0) {
+                packed[count++] = (key & ~indexMask) | i;
+            }
+        }
+        Arrays.parallelSort(packed, 0, count);
+
+        List<int[]> blocks = new ArrayList<>();
+        int start = 0;
+        for (int i = 1; i <= count; i++) {
+            if (i == count || (packed[i] & ~indexMask) != (packed[start] & ~indexMask)) {
+                if (i - start > 1) {
+                    int[] block = new int[i - start];
+                    for (int j = start; j < i; j++) {
+                        block[j - start] = (int) (packed[j] & indexMask);
+                    }
+                    blocks.add(block);
+                }
+                start = i;
+            }
+        }
+        return blocks;
+    }
+
+    private long comparisonsIn(int blockSize) {
+        if (blockSize > maxBlockSize) {
+            return (long) blockSize * window;
+        }
+        return (long) blockSize * (blockSize - 1) / 2;
+    }
+
+    private void sortByName(int[] block) {
+        Integer[] boxed = Arrays.stream(block).boxed().toArray(Integer[]::new);
+        Arrays.sort(boxed, Comparator.comparing((Integer i) -> lastNames[i]).thenComparing(i -> firstNames[i]));
+        for (int i = 0; i < block.length; i++) {
+            block[i] = boxed[i];
+        }
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        firstNames = Arrays.copyOf(firstNames, capacity);
+        lastNames = Arrays.copyOf(lastNames, capacity);
+        emailLocals = Arrays.copyOf(emailLocals, capacity);
+        phones = Arrays.copyOf(phones, capacity);
+        for (int type = 0; type < KEY_TYPES; type++) {
+            keys[type] = Arrays.copyOf(keys[type], capacity);
+        }
+    }
+
+    private static String normalizeName(String name) {
+        return String.join("", MemberNameIndex.tokenize(name));
+    }
+
+    private static long nameKeyHash(String first, String last) {
+        if (first.isEmpty() && last.isEmpty()) {
+            return 0;
+        }
+        String firstKey = soundKey(first);
+        String lastKey = soundKey(last);
+        // Order-independent, so swapped first and last names land in the same block
+        return firstKey.compareTo(lastKey) <= 0 ? keyHash(firstKey + '|' + lastKey) : keyHash(lastKey + '|' + firstKey);
+    }
+
+    private static String soundKey(String name) {
+        String key = MemberNameIndex.phoneticKey(name);
+        return key.isEmpty() ? name : key;
+    }
+
+    // Never 0, which marks a missing key
+    private static long keyHash(String key) {
+        long hash = Hashing.hash64(key);
+        return hash == 0 ? 1 : hash;
+    }
+
+    /**
+     * Email local part, lower-cased, without a "+tag" and without dots,
+     * dashes and underscores ("John.Smith+tpusa@x.edu" gives "johnsmith")
+     */
+    static String emailLocalPart(String email) {
+        if (email == null) {
+            return null;
+        }
+        int at = email.indexOf('@');
+        String local = (at < 0 ? email : email.substring(0, at)).toLowerCase(Locale.ROOT);
+        int plus = local.indexOf('+');
+        if (plus >= 0) {
+            local = local.substring(0, plus);
+        }
+        StringBuilder normalized = new StringBuilder(local.length());
+        for (int i = 0; i < local.length(); i++) {
+            char c = local.charAt(i);
+            if (c != '.' && c != '-' && c != '_') {
+                normalized.append(c);
+            }
+        }
+        return normalized.length() == 0 ? null : normalized.toString();
+    }
+
+    /**
+     * The last ten digits of a phone number, or null when it has fewer than
+     * seven digits
+     */
+    static String phoneDigits(String phoneNumber) {
+        if (phoneNumber == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(phoneNumber.length());
+        for (int i = 0; i < phoneNumber.length(); i++) {
+            char c = phoneNumber.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        if (digits.length() < MIN_PHONE_DIGITS) {
+            return null;
+        }
+        return digits.length() > PHONE_DIGITS ? digits.substring(digits.length() - PHONE_DIGITS) : digits.toString();
+    }
+
+    /**
+     * Jaro-Winkler similarity between 0 (nothing in common) and 1 (equal)
+     */
+    static double jaroWinkler(String a, String b) {
+        if (a.equals(b)) {
+            return a.isEmpty() ? 0 : 1;
+        }
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0;
+        }
+        int range = Math.max(0, Math.max(a.length(), b.length()) / 2 - 1);
+        boolean[] matchedA = new boolean[a.length()];
+        boolean[] matchedB = new boolean[b.length()];
+        int matches = 0;
+        for (int i = 0; i < a.length(); i++) {
+            int start = Math.max(0, i - range);
+            int end = Math.min(b.length(), i + range + 1);
+            for (int j = start; j < end; j++) {
+                if (!matchedB[j] && a.charAt(i) == b.charAt(j)) {
+                    matchedA[i] = true;
+                    matchedB[j] = true;
+                    matches++;
+                    break;
+                }
+            }
+        }
+        if (matches == 0) {
+            return 0;
+        }
+        int transpositions = 0;
+        for (int i = 0, j = 0; i < a.length(); i++) {
+            if (matchedA[i]) {
+                while (!matchedB[j]) {
+                    j++;
+                }
+                if (a.charAt(i) != b.charAt(j)) {
+                    transpositions++;
+                }
+                j++;
+            }
+        }
+        double m = matches;
+        double jaro = (m / a.length() + m / b.length() + (m - transpositions / 2.0) / m) / 3;
+        int prefix = 0;
+        while (prefix < 4 && prefix < a.length() && prefix < b.length() && a.charAt(prefix) == b.charAt(prefix)) {
+            prefix++;
+        }
+        return jaro + prefix * 0.1 * (1 - jaro);
+    }
+}
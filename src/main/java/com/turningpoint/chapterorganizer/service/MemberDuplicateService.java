@@ -0,0 +1,254 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.dto.DuplicateScanResult;
+import com.turningpoint.chapterorganizer.entity.DuplicateMemberCandidate;
+import com.turningpoint.chapterorganizer.entity.DuplicateReviewStatus;
+import com.turningpoint.chapterorganizer.repository.DuplicateMemberCandidateRepository;
+import com.turningpoint.chapterorganizer.repository.MemberRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Batch detection of members registered more than once, e.g. in several
+ * chapters with slightly different names, emails or phone numbers. A scan
+ * loads the members into a {@link MemberDuplicateDetector}, compares them
+ * block by block on a fork-join pool and replaces the pending rows of the
+ * member_duplicate_candidates review table with the pairs found. Pairs a
+ * reviewer already confirmed or dismissed are never queued again.
+ *
+ * Only one scan runs at a time. Scans are started on demand and, when
+ * {@code app.members.duplicates.cron} is set, on a schedule.
+ */
+@Service
+public class MemberDuplicateService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MemberDuplicateService.class);
+
+    static final int WRITE_BATCH_SIZE = 1000;
+    public static final int DEFAULT_REVIEW_LIMIT = 50;
+    public static final int MAX_REVIEW_LIMIT = 500;
+
+    private final MemberRepository memberRepository;
+    private final DuplicateMemberCandidateRepository candidateRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService scanExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "member-duplicate-scan");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile DuplicateScanResult lastScan;
+
+    private double minScore = 0.8;
+    private int maxBlockSize = 1000;
+    private int window = 20;
+    private int parallelism = 0;
+
+    @Autowired
+    public MemberDuplicateService(MemberRepository memberRepository,
+            DuplicateMemberCandidateRepository candidateRepository, EntityManager entityManager,
+            PlatformTransactionManager transactionManager) {
+        this.memberRepository = memberRepository;
+        this.candidateRepository = candidateRepository;
+        this.entityManager = entityManager;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Value("${app.members.duplicates.min-score:0.8}")
+    public void setMinScore(double minScore) {
+        this.minScore = minScore;
+    }
+
+    @Value("${app.members.duplicates.max-block-size:1000}")
+    public void setMaxBlockSize(int maxBlockSize) {
+        this.maxBlockSize = maxBlockSize;
+    }
+
+    @Value("${app.members.duplicates.window:20}")
+    public void setWindow(int window) {
+        this.window = window;
+    }
+
+    /**
+     * Threads comparing blocks; 0 uses one per available processor
+     */
+    @Value("${app.members.duplicates.parallelism:0}")
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Start a scan in the background; false if one is already running
+     */
+    public boolean startScan() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            scanExecutor.execute(() -> {
+                try {
+                    runScan();
+                } catch (RuntimeException e) {
+                    logger.error("Duplicate member scan failed", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    @Scheduled(cron = "${app.members.duplicates.cron:-}")
+    public void scheduledScan() {
+        if (!startScan()) {
+            logger.info("Skipping scheduled duplicate member scan: a scan is already running");
+        }
+    }
+
+    /**
+     * Run a scan on the calling thread
+     *
+     * @throws IllegalStateException if another scan is running
+     */
+    public DuplicateScanResult scan() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("A duplicate member scan is already running");
+        }
+        try {
+            return runScan();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public boolean isScanRunning() {
+        return running.get();
+    }
+
+    public DuplicateScanResult getLastScan() {
+        return lastScan;
+    }
+
+    @Transactional(readOnly = true)
+    public List<DuplicateMemberCandidate> getCandidates(DuplicateReviewStatus status, Integer limit) {
+        int size = limit == null ? DEFAULT_REVIEW_LIMIT : Math.max(1, Math.min(limit, MAX_REVIEW_LIMIT));
+        return candidateRepository.findByStatusOrderByScoreDescIdAsc(
+                status == null ? DuplicateReviewStatus.PENDING : status, PageRequest.of(0, size));
+    }
+
+    /**
+     * Record a reviewer's decision on a candidate pair
+     */
+    @Transactional
+    public DuplicateMemberCandidate reviewCandidate(Long id, DuplicateReviewStatus status) {
+        if (status == null || status == DuplicateReviewStatus.PENDING) {
+            throw new IllegalArgumentException("Review status must be CONFIRMED or DISMISSED");
+        }
+        DuplicateMemberCandidate candidate = candidateRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Duplicate candidate not found with id: " + id));
+        candidate.setStatus(status);
+        candidate.setReviewedAt(LocalDateTime.now());
+        return candidateRepository.save(candidate);
+    }
+
+    private DuplicateScanResult runScan() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+
+        MemberDuplicateDetector detector = new MemberDuplicateDetector(minScore, maxBlockSize, window);
+        readTransaction.executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = memberRepository.streamDuplicateScanRows()) {
+                rows.forEach(row -> detector.add((Long) row[0], (String) row[1], (String) row[2],
+                        (String) row[3], (String) row[4]));
+            }
+        });
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        List<MemberDuplicateDetector.Candidate> candidates;
+        try {
+            candidates = detector.detect(pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        Integer queued = writeTransaction.execute(status -> replacePendingCandidates(candidates));
+        DuplicateScanResult result = new DuplicateScanResult(startedAt, (System.nanoTime() - start) / 1_000_000,
+                detector.size(), detector.getBlockCount(), detector.getWindowedBlocks(), detector.getComparisons(),
+                candidates.size(), queued == null ? 0 : queued);
+        lastScan = result;
+        logger.info("Duplicate member scan: {} members, {} blocks ({} windowed), {} comparisons, "
+                        + "{} candidates, {} queued for review in {} ms",
+                result.getMembers(), result.getBlocks(), result.getWindowedBlocks(), result.getComparisons(),
+                result.getCandidates(), result.getQueued(), result.getDurationMs());
+        return result;
+    }
+
+    private int replacePendingCandidates(List<MemberDuplicateDetector.Candidate> candidates) {
+        candidateRepository.deleteByStatus(DuplicateReviewStatus.PENDING);
+        Set<String> reviewed = new HashSet<>();
+        for (Object[] pair : candidateRepository.findPairsByStatusNot(DuplicateReviewStatus.PENDING)) {
+            reviewed.add(pair[0] + ":" + pair[1]);
+        }
+
+        int queued = 0;
+        List<DuplicateMemberCandidate> batch = new ArrayList<>(WRITE_BATCH_SIZE);
+        for (MemberDuplicateDetector.Candidate candidate : candidates) {
+            if (reviewed.contains(candidate.getMemberId() + ":" + candidate.getDuplicateMemberId())) {
+                continue;
+            }
+            batch.add(new DuplicateMemberCandidate(candidate.getMemberId(), candidate.getDuplicateMemberId(),
+                    candidate.getScore(), candidate.getReasons()));
+            if (batch.size() == WRITE_BATCH_SIZE) {
+                queued += flush(batch);
+            }
+        }
+        return queued + flush(batch);
+    }
+
+    // Write a batch and detach it, so memory use does not grow with the number of candidates
+    private int flush(List<DuplicateMemberCandidate> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        candidateRepository.saveAll(batch);
+        candidateRepository.flush();
+        entityManager.clear();
+        int written = batch.size();
+        batch.clear();
+        return written;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scanExecutor.shutdownNow();
+    }
+}
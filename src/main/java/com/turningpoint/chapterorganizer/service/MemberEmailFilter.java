@@ -0,0 +1,200 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.repository.MemberRepository;
+import com.turningpoint.chapterorganizer.util.BloomFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filter of every member email (lower-cased), so the email uniqueness
+ * check on member writes only queries the database when the email might
+ * already be taken. Almost all new emails are ruled out in memory.
+ *
+ * The filter is built when the application is ready and emails are added as
+ * members are written. It has no false negatives for emails it has seen; an
+ * email written by another node or outside MemberService can be missed until
+ * the next rebuild, which is why the unique constraint on members.email
+ * stays the final guard. Changed and deleted emails cannot be removed and
+ * only cost an extra lookup. The filter is rebuilt, larger, once more emails
+ * were added than it was sized for. Until it is built every check goes to
+ * the database.
+ */
+@Component
+public class MemberEmailFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(MemberEmailFilter.class);
+
+    // Room for this many times the current member count before a rebuild is due
+    static final int GROWTH_HEADROOM = 2;
+    static final long MIN_CAPACITY = 10_000;
+
+    private final MemberRepository memberRepository;
+
+    // Swapped under this lock, so adds and the end of a rebuild cannot interleave
+    private volatile BloomFilter filter;
+    // Emails added while a rebuild is reading the table; guarded by this
+    private List<String> addedDuringRebuild;
+
+    private boolean enabled = true;
+    private double falsePositiveRate = 0.01;
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder ruledOut = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    @Autowired
+    public MemberEmailFilter(MemberRepository memberRepository) {
+        this.memberRepository = memberRepository;
+    }
+
+    @Value("${app.members.email-filter.enabled:true}")
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Value("${app.members.email-filter.false-positive-rate:0.01}")
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * (Re)build the filter from the members table
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!enabled) {
+            logger.info("Member email filter disabled; email checks always query the database");
+            return;
+        }
+        long capacity = Math.max(MIN_CAPACITY, memberRepository.count() * GROWTH_HEADROOM);
+        BloomFilter next = new BloomFilter(capacity, falsePositiveRate);
+        synchronized (this) {
+            addedDuringRebuild = new ArrayList<>();
+        }
+        try (Stream<String> emails = memberRepository.streamNormalizedEmails()) {
+            emails.forEach(next::put);
+            // Replay, swap and stop collecting in one step, so a concurrent add lands in one filter or the other
+            synchronized (this) {
+                addedDuringRebuild.forEach(next::put);
+                filter = next;
+                addedDuringRebuild = null;
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                addedDuringRebuild = null;
+            }
+            throw e;
+        }
+        logger.info("Member email filter built: {} emails, {} KB, capacity {}",
+                next.getInsertions(), next.getBitSize() / 8 / 1024, capacity);
+    }
+
+    /**
+     * Rebuild once more emails were added than the filter was sized for,
+     * before its false positive rate climbs
+     */
+    @Scheduled(initialDelayString = "${app.members.email-filter.check-interval-ms:600000}",
+            fixedDelayString = "${app.members.email-filter.check-interval-ms:600000}")
+    @Transactional(readOnly = true)
+    public void rebuildIfFull() {
+        BloomFilter current = filter;
+        if (current != null && current.getInsertions() > current.getExpectedInsertions()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Whether the email is taken: false straight away when the filter rules
+     * it out, otherwise the answer of {@code databaseCheck}
+     */
+    public boolean exists(String email, BooleanSupplier databaseCheck) {
+        BloomFilter current = filter;
+        if (current == null || email == null) {
+            return databaseCheck.getAsBoolean();
+        }
+        checks.increment();
+        if (!current.mightContain(normalize(email))) {
+            ruledOut.increment();
+            return false;
+        }
+        boolean exists = databaseCheck.getAsBoolean();
+        (exists ? duplicates : falsePositives).increment();
+        return exists;
+    }
+
+    /**
+     * Record a member email being written. Called before commit, so a
+     * concurrent check for the same email cannot be ruled out in memory.
+     */
+    public void add(String email) {
+        if (!enabled || email == null) {
+            return;
+        }
+        String normalized = normalize(email);
+        synchronized (this) {
+            if (filter != null) {
+                filter.put(normalized);
+            }
+            if (addedDuringRebuild != null) {
+                addedDuringRebuild.add(normalized);
+            }
+        }
+    }
+
+    public void addAll(Collection<String> emails) {
+        emails.forEach(this::add);
+    }
+
+    public boolean isReady() {
+        return filter != null;
+    }
+
+    public Map<String, Object> stats() {
+        BloomFilter current = filter;
+        long checked = checks.sum();
+        long skipped = ruledOut.sum();
+        long falseHits = falsePositives.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("name", "memberEmailFilter");
+        stats.put("ready", current != null);
+        if (current != null) {
+            stats.put("capacity", current.getExpectedInsertions());
+            stats.put("emails", current.getInsertions());
+            stats.put("sizeBytes", current.getBitSize() / 8);
+            stats.put("hashFunctions", current.getHashFunctions());
+            stats.put("expectedFalsePositiveRate", current.expectedFalsePositiveRate());
+        }
+        stats.put("checks", checked);
+        stats.put("ruledOut", skipped);
+        stats.put("duplicates", duplicates.sum());
+        stats.put("falsePositives", falseHits);
+        // Share of checks that still needed the database
+        stats.put("hitRate", checked == 0 ? 0.0 : (double) (checked - skipped) / checked);
+        // Share of emails not taken that the filter failed to rule out
+        stats.put("falsePositiveRate", skipped + falseHits == 0 ? 0.0 : (double) falseHits / (skipped + falseHits));
+        return stats;
+    }
+
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
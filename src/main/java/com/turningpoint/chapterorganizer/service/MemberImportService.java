@@ -0,0 +1,388 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turningpoint.chapterorganizer.dto.MemberImportResult;
+import com.turningpoint.chapterorganizer.dto.MemberImportRow;
+import com.turningpoint.chapterorganizer.entity.Chapter;
+import com.turningpoint.chapterorganizer.entity.Member;
+import com.turningpoint.chapterorganizer.entity.MemberRole;
+import com.turningpoint.chapterorganizer.repository.ChapterRepository;
+import com.turningpoint.chapterorganizer.repository.MemberRepository;
+import com.turningpoint.chapterorganizer.util.CsvReader;
+import com.turningpoint.chapterorganizer.util.DataFormat;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk member import from CSV or NDJSON. The input is parsed one record at a
+ * time and written in fixed-size batches, each in its own transaction (and
+ * therefore its own persistence context), so memory use does not grow with
+ * the file. Chapter ids are loaded once up front and every row is validated
+ * against them in memory. Emails are checked against the
+ * {@link MemberEmailFilter}, so only the few it cannot rule out are looked
+ * up in the database; until the filter is built, all existing emails are
+ * loaded up front instead.
+ *
+ * A batch that fails on insert is retried row by row so one bad row only
+ * rejects itself. Rows from batches that already committed stay imported.
+ */
+@Service
+public class MemberImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MemberImportService.class);
+
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final Set<String> CSV_COLUMNS = Set.of("firstname", "lastname", "email", "phonenumber",
+            "role", "major", "graduationyear", "chapterid");
+
+    // Columns of a member export that an import ignores, so exported files can be imported back
+    private static final Set<String> EXPORT_ONLY_COLUMNS = Set.of("id", "active", "createdat");
+
+    private final MemberRepository memberRepository;
+    private final ChapterRepository chapterRepository;
+    private final ChapterService chapterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberNameIndex nameIndex;
+    private final MemberEmailFilter emailFilter;
+
+    private int batchSize = 500;
+
+    @Autowired
+    public MemberImportService(MemberRepository memberRepository, ChapterRepository chapterRepository,
+            ChapterService chapterService, ApplicationEventPublisher eventPublisher, Validator validator,
+            ObjectMapper objectMapper, PlatformTransactionManager transactionManager, MemberNameIndex nameIndex,
+            MemberEmailFilter emailFilter) {
+        this.memberRepository = memberRepository;
+        this.chapterRepository = chapterRepository;
+        this.chapterService = chapterService;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.nameIndex = nameIndex;
+        this.emailFilter = emailFilter;
+    }
+
+    @Value("${app.members.import.batch-size:500}")
+    public void setBatchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Import members from the stream. Rows without a chapterId go to
+     * defaultChapterId when one is given.
+     */
+    public MemberImportResult importMembers(InputStream input, DataFormat format, Long defaultChapterId) {
+        // Emails of this file's rows, plus every existing one when the filter cannot rule emails out
+        Set<String> knownEmails = emailFilter.isReady()
+                ? new HashSet<>()
+                : new HashSet<>(memberRepository.findAllNormalizedEmails());
+        Set<Long> chapterIds = new HashSet<>(chapterRepository.findAllChapterIds());
+
+        MemberImportResult result = new MemberImportResult(MAX_REPORTED_ERRORS);
+        List<PendingMember> batch = new ArrayList<>(batchSize);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        try (RowSource source = format == DataFormat.CSV ? new CsvRowSource(reader) : new NdjsonRowSource(reader)) {
+            ParsedRow parsed;
+            while ((parsed = source.next()) != null) {
+                result.addRow();
+                if (parsed.error != null) {
+                    result.addError(parsed.line, null, parsed.error);
+                    continue;
+                }
+                PendingMember pending = validate(parsed, defaultChapterId, knownEmails, chapterIds, result);
+                if (pending != null) {
+                    knownEmails.add(normalizeEmail(pending.member.getEmail()));
+                    batch.add(pending);
+                    if (batch.size() >= batchSize) {
+                        writeBatch(batch, result);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // Malformed input past this point; report it and keep what was already read
+            result.addError(-1, null, e.getMessage());
+        } finally {
+            if (!batch.isEmpty()) {
+                writeBatch(batch, result);
+            }
+        }
+
+        logger.info("Member import finished: {} rows, {} imported, {} failed",
+                result.getTotalRows(), result.getImported(), result.getFailed());
+        return result;
+    }
+
+    private PendingMember validate(ParsedRow parsed, Long defaultChapterId, Set<String> knownEmails,
+            Set<Long> chapterIds, MemberImportResult result) {
+        MemberImportRow row = parsed.row;
+        String email = trimToNull(row.getEmail());
+
+        MemberRole role = MemberRole.MEMBER;
+        if (trimToNull(row.getRole()) != null) {
+            try {
+                role = MemberRole.valueOf(row.getRole().trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                result.addError(parsed.line, email, "Invalid role: " + row.getRole());
+                return null;
+            }
+        }
+
+        Long chapterId = row.getChapterId() != null ? row.getChapterId() : defaultChapterId;
+        if (chapterId == null) {
+            result.addError(parsed.line, email, "Chapter is required for member creation");
+            return null;
+        }
+        if (!chapterIds.contains(chapterId)) {
+            result.addError(parsed.line, email, "Chapter not found with id: " + chapterId);
+            return null;
+        }
+
+        Member member = new Member();
+        member.setFirstName(trimToNull(row.getFirstName()));
+        member.setLastName(trimToNull(row.getLastName()));
+        member.setEmail(email);
+        member.setPhoneNumber(trimToNull(row.getPhoneNumber()));
+        member.setRole(role);
+        member.setActive(true);
+        member.setMajor(trimToNull(row.getMajor()));
+        member.setGraduationYear(trimToNull(row.getGraduationYear()));
+
+        Set<ConstraintViolation<Member>> violations = validator.validate(member);
+        if (!violations.isEmpty()) {
+            result.addError(parsed.line, email, violations.iterator().next().getMessage());
+            return null;
+        }
+        if (knownEmails.contains(normalizeEmail(email)) || (emailFilter.isReady()
+                && emailFilter.exists(email, () -> memberRepository.existsByEmailIgnoreCase(email)))) {
+            result.addError(parsed.line, email, "Member with this email already exists");
+            return null;
+        }
+        return new PendingMember(parsed.line, chapterId, member);
+    }
+
+    private void writeBatch(List<PendingMember> batch, MemberImportResult result) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(batch));
+            result.addImported(batch.size());
+        } catch (RuntimeException batchFailure) {
+            logger.warn("Member import batch failed, retrying {} rows individually: {}",
+                    batch.size(), NestedExceptionUtils.getMostSpecificCause(batchFailure).getMessage());
+            for (PendingMember pending : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> persist(List.of(pending)));
+                    result.addImported(1);
+                } catch (RuntimeException rowFailure) {
+                    result.addError(pending.line, pending.member.getEmail(),
+                            NestedExceptionUtils.getMostSpecificCause(rowFailure).getMessage());
+                }
+            }
+        }
+        batch.clear();
+    }
+
+    private void persist(List<PendingMember> batch) {
+        List<Member> members = new ArrayList<>(batch.size());
+        Map<Long, Integer> addedByChapter = new HashMap<>();
+        for (PendingMember pending : batch) {
+            // Fresh instance per attempt, so a rolled-back batch can be retried row by row
+            Member member = pending.copyFor(chapterRepository.getReferenceById(pending.chapterId));
+            members.add(member);
+            emailFilter.add(member.getEmail());
+            addedByChapter.merge(pending.chapterId, 1, Integer::sum);
+        }
+        memberRepository.saveAll(members);
+        memberRepository.flush();
+        nameIndex.onMembersSaved(members);
+
+        addedByChapter.forEach((chapterId, added) -> {
+            chapterService.adjustActiveMemberCount(chapterId, added);
+            eventPublisher.publishEvent(new ChapterDataChangedEvent(chapterId));
+        });
+    }
+
+    private static String normalizeEmail(String email) {
+        return email == null ? null : email.toLowerCase(Locale.ROOT);
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static final class PendingMember {
+        private final long line;
+        private final Long chapterId;
+        private final Member member;
+
+        private PendingMember(long line, Long chapterId, Member member) {
+            this.line = line;
+            this.chapterId = chapterId;
+            this.member = member;
+        }
+
+        private Member copyFor(Chapter chapter) {
+            Member copy = new Member(member.getFirstName(), member.getLastName(), member.getEmail(), chapter);
+            copy.setPhoneNumber(member.getPhoneNumber());
+            copy.setRole(member.getRole());
+            copy.setActive(member.getActive());
+            copy.setMajor(member.getMajor());
+            copy.setGraduationYear(member.getGraduationYear());
+            return copy;
+        }
+    }
+
+    private static final class ParsedRow {
+        private final long line;
+        private final MemberImportRow row;
+        private final String error;
+
+        private ParsedRow(long line, MemberImportRow row, String error) {
+            this.line = line;
+            this.row = row;
+            this.error = error;
+        }
+    }
+
+    private interface RowSource extends AutoCloseable {
+        ParsedRow next() throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private static final class CsvRowSource implements RowSource {
+        private final CsvReader csv;
+        private final List<String> columns = new ArrayList<>();
+
+        private CsvRowSource(BufferedReader reader) throws IOException {
+            this.csv = new CsvReader(reader);
+            List<String> header = csv.readRecord();
+            if (header == null) {
+                return;
+            }
+            for (String name : header) {
+                String column = name.trim().replace("_", "").toLowerCase(Locale.ROOT);
+                if (!CSV_COLUMNS.contains(column) && !EXPORT_ONLY_COLUMNS.contains(column)) {
+                    throw new IllegalArgumentException("Unknown CSV column: " + name);
+                }
+                columns.add(column);
+            }
+            if (!columns.containsAll(List.of("firstname", "lastname", "email"))) {
+                throw new IllegalArgumentException("CSV header must include firstName, lastName and email");
+            }
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            List<String> fields;
+            do {
+                fields = csv.readRecord();
+                if (fields == null) {
+                    return null;
+                }
+            } while (fields.size() == 1 && fields.get(0).isBlank());
+
+            long line = csv.getRecordLine();
+            if (fields.size() != columns.size()) {
+                return new ParsedRow(line, null,
+                        "Expected " + columns.size() + " columns but found " + fields.size());
+            }
+            MemberImportRow row = new MemberImportRow();
+            for (int i = 0; i < columns.size(); i++) {
+                String value = fields.get(i);
+                switch (columns.get(i)) {
+                    case "firstname" -> row.setFirstName(value);
+                    case "lastname" -> row.setLastName(value);
+                    case "email" -> row.setEmail(value);
+                    case "phonenumber" -> row.setPhoneNumber(value);
+                    case "role" -> row.setRole(value);
+                    case "major" -> row.setMajor(value);
+                    case "graduationyear" -> row.setGraduationYear(value);
+                    case "chapterid" -> {
+                        if (!value.isBlank()) {
+                            try {
+                                row.setChapterId(Long.valueOf(value.trim()));
+                            } catch (NumberFormatException e) {
+                                return new ParsedRow(line, null, "Invalid chapterId: " + value);
+                            }
+                        }
+                    }
+                    case "id", "active", "createdat" -> {
+                        // Assigned by the import: new ids, active, created now
+                    }
+                    default -> throw new IllegalStateException(columns.get(i));
+                }
+            }
+            return new ParsedRow(line, row, null);
+        }
+
+        @Override
+        public void close() throws IOException {
+            csv.close();
+        }
+    }
+
+    private final class NdjsonRowSource implements RowSource {
+        private final BufferedReader reader;
+        private long line;
+
+        private NdjsonRowSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            String text;
+            do {
+                text = reader.readLine();
+                line++;
+                if (text == null) {
+                    return null;
+                }
+            } while (text.isBlank());
+
+            try {
+                return new ParsedRow(line, objectMapper.readValue(text, MemberImportRow.class), null);
+            } catch (JsonProcessingException e) {
+                return new ParsedRow(line, null, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
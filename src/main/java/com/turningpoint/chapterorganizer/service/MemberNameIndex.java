@@ -0,0 +1,828 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.dto.MemberPickerDto;
+import com.turningpoint.chapterorganizer.entity.Member;
+import com.turningpoint.chapterorganizer.repository.MemberRepository;
+import com.turningpoint.chapterorganizer.util.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * In-process member name index for the member picker. Each member's first
+ * and last name are split into lower-cased, accent-stripped tokens kept in a
+ * sorted map (for prefix range lookups) and in a phonetic-key map, so a
+ * lookup touches only the members whose name tokens can match.
+ *
+ * Every query token must match one of the member's name tokens: exactly
+ * (best), as a prefix, or by sound. Matches are ranked by that score, then by
+ * last name, first name and id, and only the top N are kept. Posting lists
+ * are kept in that name order, so candidates are walked exact matches first,
+ * then prefix, then sound-alike, stopping as soon as no remaining candidate
+ * can make the top N. Prefixes of up to three letters, which start many
+ * tokens, have their own lists.
+ *
+ * Like {@link ChapterSearchIndex}, the index is built when the application
+ * is ready, kept current by MemberService writes applied after commit, and
+ * disabled by {@code app.search.mode=database}.
+ */
+@Component
+public class MemberNameIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(MemberNameIndex.class);
+
+    static final int SCORE_EXACT = 3;
+    static final int SCORE_PREFIX = 2;
+    static final int SCORE_PHONETIC = 1;
+
+    // Shortest query token matched by sound; shorter ones only match as prefixes
+    static final int MIN_PHONETIC_LENGTH = 3;
+
+    // Prefixes up to this length get their own posting list instead of merging the many tokens they start
+    static final int SHORT_PREFIX_LENGTH = 3;
+
+    // Fewest consonant classes in a sound-alike key
+    static final int MIN_PHONETIC_CLASSES = 2;
+
+    // Sound-alike keys are coarse, so a query examines at most this many sound-alike candidates
+    static final int MAX_PHONETIC_CANDIDATES = 5000;
+
+    private static final Pattern NON_LETTERS = Pattern.compile("[^a-z]");
+    private static final Pattern SEPARATORS = Pattern.compile("[^a-z0-9]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+|['\u2019]");
+
+    private static final Comparator<Entry> NAME_ORDER = MemberNameIndex::compareNames;
+    private static final Comparator<Match> RANKING = Comparator.comparingInt((Match match) -> match.score)
+            .reversed()
+            .thenComparing(match -> match.entry, NAME_ORDER);
+
+    private final MemberRepository memberRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Long, Entry> entries = new HashMap<>();
+    private TreeMap<String, Postings> tokens = new TreeMap<>();
+    private Map<String, Postings> shortPrefixes = new HashMap<>();
+    private Map<String, Postings> phonetic = new HashMap<>();
+    private Map<Long, Postings> chapters = new HashMap<>();
+    private volatile boolean ready;
+    private boolean enabled = true;
+
+    @Autowired
+    public MemberNameIndex(MemberRepository memberRepository) {
+        this.memberRepository = memberRepository;
+    }
+
+    @Value("${app.search.mode:memory}")
+    public void setSearchMode(String searchMode) {
+        this.enabled = !"database".equalsIgnoreCase(searchMode);
+    }
+
+    /**
+     * (Re)build the index from the members table
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!enabled) {
+            logger.info("Member name index disabled; name searches use the database");
+            return;
+        }
+        lock.writeLock().lock();
+        try (Stream<Object[]> rows = memberRepository.streamNameIndexRows()) {
+            entries = new HashMap<>();
+            tokens = new TreeMap<>();
+            shortPrefixes = new HashMap<>();
+            phonetic = new HashMap<>();
+            chapters = new HashMap<>();
+            // Indexing members in name order leaves every posting list sorted without sorting each one
+            List<Entry> loaded = new ArrayList<>();
+            rows.forEach(row -> loaded.add(newEntry((Long) row[0], (Long) row[1], (String) row[2], (String) row[3],
+                    Boolean.TRUE.equals(row[4]))));
+            loaded.sort(NAME_ORDER);
+            for (Entry entry : loaded) {
+                add(entry, false);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Member name index built with {} members", size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Top {@code limit} members whose names match every token of the query,
+     * best first. chapterId (optional) restricts to one chapter and
+     * activeOnly skips inactive members. The chapter name of each result is
+     * left for the caller to fill in.
+     */
+    public List<MemberPickerDto> search(String query, Long chapterId, boolean activeOnly, int limit) {
+        String[] queryTokens = tokenize(query);
+        if (queryTokens.length == 0 || limit <= 0) {
+            return Collections.emptyList();
+        }
+        String[] queryCodes = new String[queryTokens.length];
+        for (int i = 0; i < queryTokens.length; i++) {
+            String code = queryTokens[i].length() >= MIN_PHONETIC_LENGTH ? phoneticKey(queryTokens[i]) : "";
+            queryCodes[i] = code.isEmpty() ? null : code;
+        }
+        Query q = new Query(queryTokens, queryCodes, chapterId, activeOnly, limit);
+
+        lock.readLock().lock();
+        try {
+            Postings chapter = null;
+            if (chapterId != null) {
+                chapter = chapters.get(chapterId);
+                if (chapter == null) {
+                    return Collections.emptyList();
+                }
+            }
+
+            // Candidates come from the query token with the fewest of them
+            int driver = 0;
+            long fewest = Long.MAX_VALUE;
+            if (queryTokens.length > 1 || chapter != null) {
+                for (int i = 0; i < queryTokens.length; i++) {
+                    long candidates = countCandidates(queryTokens[i], fewest);
+                    if (candidates < fewest) {
+                        fewest = candidates;
+                        driver = i;
+                    }
+                }
+            }
+
+            if (chapter != null && chapter.size <= fewest) {
+                // A chapter is usually smaller than the candidate lists; score its members directly
+                for (int i = 0; i < chapter.size; i++) {
+                    q.offer(chapter.entries[i], -1, 0);
+                }
+            } else {
+                collectCandidates(q, driver, chapter);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Match> ranked = new ArrayList<>(q.top);
+        ranked.sort(RANKING);
+        List<MemberPickerDto> results = new ArrayList<>(ranked.size());
+        for (Match match : ranked) {
+            Entry entry = match.entry;
+            results.add(new MemberPickerDto(entry.id, entry.firstName, entry.lastName, entry.chapterId, null));
+        }
+        return results;
+    }
+
+    /**
+     * Reflect a created or updated member once the current transaction commits
+     */
+    public void onMemberSaved(Member member) {
+        if (!enabled) {
+            return;
+        }
+        Long id = member.getId();
+        Long chapterId = member.getChapter() != null ? member.getChapter().getId() : null;
+        String firstName = member.getFirstName();
+        String lastName = member.getLastName();
+        boolean active = Boolean.TRUE.equals(member.getActive());
+        TransactionHooks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(id);
+                add(newEntry(id, chapterId, firstName, lastName, active), true);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Reflect a batch of created or updated members once the current transaction commits
+     */
+    public void onMembersSaved(Collection<Member> members) {
+        members.forEach(this::onMemberSaved);
+    }
+
+    /**
+     * Re-read a chapter's members once the current transaction commits, after
+     * a bulk update that changed them without loading them
+     */
+    public void onChapterMembersChanged(Long chapterId) {
+        if (!enabled) {
+            return;
+        }
+        TransactionHooks.afterCommit(() -> {
+            List<Object[]> rows = memberRepository.findNameIndexRowsByChapterId(chapterId);
+            lock.writeLock().lock();
+            try {
+                for (Object[] row : rows) {
+                    remove((Long) row[0]);
+                    add(newEntry((Long) row[0], (Long) row[1], (String) row[2], (String) row[3],
+                            Boolean.TRUE.equals(row[4])), true);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Drop a permanently deleted member once the current transaction commits
+     */
+    public void onMemberRemoved(Long memberId) {
+        if (!enabled) {
+            return;
+        }
+        TransactionHooks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(memberId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Walk the driver token's exact, prefix and sound-alike posting lists
+     * tier by tier in name order, stopping once no remaining candidate can
+     * enter the top N
+     */
+    private void collectCandidates(Query q, int driver, Postings chapter) {
+        String token = q.tokens[driver];
+        String code = q.codes[driver];
+        int rest = 0;
+        for (int i = 0; i < q.tokens.length; i++) {
+            if (i != driver) {
+                rest += bestScore(q.tokens[i]);
+            }
+        }
+
+        Postings exact = tokens.get(token);
+        if (exact != null) {
+            walkTier(q, driver, chapter, SCORE_EXACT, SCORE_EXACT + rest, Collections.singletonList(exact),
+                    Integer.MAX_VALUE);
+        }
+        // Short prefix lists also hold the exact matches, which the tier check skips
+        List<Postings> prefixed = prefixLists(token);
+        walkTier(q, driver, chapter, SCORE_PREFIX, SCORE_PREFIX + rest, prefixed, Integer.MAX_VALUE);
+
+        Postings soundsLike = code == null ? null : phonetic.get(code);
+        if (soundsLike != null) {
+            walkTier(q, driver, chapter, SCORE_PHONETIC, SCORE_PHONETIC + rest,
+                    Collections.singletonList(soundsLike), MAX_PHONETIC_CANDIDATES);
+        }
+    }
+
+    private static void walkTier(Query q, int driver, Postings chapter, int tierScore, int bestScore,
+            List<Postings> lists, int maxCandidates) {
+        if (lists.isEmpty() || !q.canImprove(bestScore, null)) {
+            return;
+        }
+        Union candidates = new Union(lists);
+        // Chapters are sparse in a token's list, so skip ahead to the chapter's next member
+        Union members = chapter == null ? null : new Union(Collections.singletonList(chapter));
+        Entry entry = candidates.current();
+        int examined = 0;
+        while (entry != null && examined++ < maxCandidates) {
+            if (!q.canImprove(bestScore, entry)) {
+                return;
+            }
+            if (members != null) {
+                members.seek(entry);
+                Entry member = members.current();
+                if (member == null) {
+                    return;
+                }
+                if (member != entry) {
+                    candidates.seek(member);
+                    entry = candidates.current();
+                    continue;
+                }
+            }
+            q.offer(entry, driver, tierScore);
+            candidates.next();
+            entry = candidates.current();
+        }
+    }
+
+    /**
+     * Posting lists of the members with a name token that starts with, but is
+     * not, the given one; for short tokens a single list that also holds the
+     * exact matches
+     */
+    private List<Postings> prefixLists(String token) {
+        if (token.length() <= SHORT_PREFIX_LENGTH) {
+            Postings postings = shortPrefixes.get(token);
+            return postings == null ? Collections.emptyList() : Collections.singletonList(postings);
+        }
+        return new ArrayList<>(tokens.subMap(token, false, token + Character.MAX_VALUE, false).values());
+    }
+
+    /**
+     * Best score a query token can reach against any member
+     */
+    private int bestScore(String token) {
+        if (tokens.containsKey(token)) {
+            return SCORE_EXACT;
+        }
+        String next = tokens.higherKey(token);
+        return next != null && next.startsWith(token) ? SCORE_PREFIX : SCORE_PHONETIC;
+    }
+
+    /**
+     * Number of members with a name token equal to or starting with the query
+     * token, or any value above {@code cap} once it is exceeded
+     */
+    private long countCandidates(String token, long cap) {
+        if (token.length() <= SHORT_PREFIX_LENGTH) {
+            Postings postings = shortPrefixes.get(token);
+            return postings == null ? 0 : postings.size;
+        }
+        long count = 0;
+        for (Postings postings : tokens.subMap(token, true, token + Character.MAX_VALUE, false).values()) {
+            count += postings.size;
+            if (count > cap) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    private static Entry newEntry(Long id, Long chapterId, String firstName, String lastName, boolean active) {
+        String[] nameTokens = distinct(concat(tokenize(firstName), tokenize(lastName)));
+        String[] codes = new String[nameTokens.length];
+        for (int i = 0; i < nameTokens.length; i++) {
+            codes[i] = phoneticKey(nameTokens[i]);
+        }
+        return new Entry(id, chapterId, firstName, lastName, active, nameTokens, codes);
+    }
+
+    /**
+     * Add the entry to every posting list it belongs to: in name order when
+     * sorted, else appended (the caller adds entries in name order)
+     */
+    private void add(Entry entry, boolean sorted) {
+        String[] nameTokens = entry.tokens;
+        for (int i = 0; i < nameTokens.length; i++) {
+            // Entries share the map's key instances, so each distinct token is stored once
+            Postings postings = tokens.computeIfAbsent(nameTokens[i], Postings::new);
+            nameTokens[i] = postings.key;
+            postings.add(entry, sorted);
+        }
+        for (String prefix : shortPrefixes(nameTokens)) {
+            shortPrefixes.computeIfAbsent(prefix, Postings::new).add(entry, sorted);
+        }
+        for (String code : distinct(entry.codes.clone())) {
+            if (!code.isEmpty()) {
+                phonetic.computeIfAbsent(code, Postings::new).add(entry, sorted);
+            }
+        }
+        chapters.computeIfAbsent(entry.chapterId, key -> new Postings(null)).add(entry, sorted);
+        entries.put(entry.id, entry);
+    }
+
+    private void remove(Long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        for (String token : entry.tokens) {
+            removeFrom(tokens, token, entry);
+        }
+        for (String prefix : shortPrefixes(entry.tokens)) {
+            removeFrom(shortPrefixes, prefix, entry);
+        }
+        for (String code : distinct(entry.codes.clone())) {
+            removeFrom(phonetic, code, entry);
+        }
+        removeFrom(chapters, entry.chapterId, entry);
+    }
+
+    private static <K> void removeFrom(Map<K, Postings> map, K key, Entry entry) {
+        Postings postings = map.get(key);
+        if (postings != null && postings.remove(entry) && postings.size == 0) {
+            map.remove(key);
+        }
+    }
+
+    private static String[] shortPrefixes(String[] nameTokens) {
+        List<String> prefixes = new ArrayList<>(nameTokens.length * SHORT_PREFIX_LENGTH);
+        for (String token : nameTokens) {
+            for (int length = 1; length <= Math.min(SHORT_PREFIX_LENGTH, token.length()); length++) {
+                prefixes.add(token.substring(0, length));
+            }
+        }
+        return prefixes.stream().distinct().toArray(String[]::new);
+    }
+
+    private static int compareNames(Entry a, Entry b) {
+        int result = String.CASE_INSENSITIVE_ORDER.compare(a.lastName, b.lastName);
+        if (result == 0) {
+            result = String.CASE_INSENSITIVE_ORDER.compare(a.firstName, b.firstName);
+        }
+        return result != 0 ? result : Long.compare(a.id, b.id);
+    }
+
+    /**
+     * Lower-cased, accent- and apostrophe-free name tokens ("O'Brien-N\u00fa\u00f1ez" gives "obrien", "nunez")
+     */
+    static String[] tokenize(String value) {
+        if (value == null || value.isBlank()) {
+            return new String[0];
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        return Arrays.stream(SEPARATORS.split(folded)).filter(token -> !token.isEmpty()).toArray(String[]::new);
+    }
+
+    /**
+     * Sound-alike key of a name token: a few Metaphone-style rewrites of silent
+     * or doubled initial clusters (KN, WR, PH, ...) followed by Soundex
+     * consonant classes for every letter, including the first, so that for
+     * example Smith/Smyth and Catherine/Kathryn share a key. At most four
+     * classes are kept; a leading vowel is kept as "0". Tokens with fewer than
+     * two consonant classes get no key ("") since a one-class key would group
+     * most short names together.
+     */
+    static String phoneticKey(String token) {
+        String word = NON_LETTERS.matcher(token).replaceAll("");
+        if (word.isEmpty()) {
+            return "";
+        }
+        if (word.startsWith("kn") || word.startsWith("gn") || word.startsWith("pn") || word.startsWith("wr")
+                || word.startsWith("ps")) {
+            word = word.substring(1);
+        } else if (word.startsWith("ph")) {
+            word = "f" + word.substring(2);
+        } else if (word.startsWith("wh")) {
+            word = "w" + word.substring(2);
+        } else if (word.startsWith("x")) {
+            word = "s" + word.substring(1);
+        }
+
+        StringBuilder key = new StringBuilder(4);
+        int consonants = 0;
+        char previous = 0;
+        for (int i = 0; i < word.length() && key.length() < 4; i++) {
+            char letter = word.charAt(i);
+            char code = soundexClass(letter);
+            if (code == 0) {
+                // Vowels separate repeated classes; H and W do not
+                if (letter != 'h' && letter != 'w') {
+                    previous = 0;
+                }
+                if (i == 0) {
+                    key.append('0');
+                }
+                continue;
+            }
+            if (code != previous) {
+                key.append(code);
+                consonants++;
+            }
+            previous = code;
+        }
+        return consonants >= MIN_PHONETIC_CLASSES ? key.toString() : "";
+    }
+
+    private static char soundexClass(char letter) {
+        switch (letter) {
+            case 'b': case 'f': case 'p': case 'v':
+                return '1';
+            case 'c': case 'g': case 'j': case 'k': case 'q': case 's': case 'x': case 'z':
+                return '2';
+            case 'd': case 't':
+                return '3';
+            case 'l':
+                return '4';
+            case 'm': case 'n':
+                return '5';
+            case 'r':
+                return '6';
+            default:
+                return 0;
+        }
+    }
+
+    private static String[] concat(String[] first, String[] second) {
+        String[] all = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, all, first.length, second.length);
+        return all;
+    }
+
+    private static String[] distinct(String[] values) {
+        return Arrays.stream(values).distinct().toArray(String[]::new);
+    }
+
+    private static final class Entry {
+        private final Long id;
+        private final Long chapterId;
+        private final String firstName;
+        private final String lastName;
+        private final boolean active;
+        private final String[] tokens;
+        private final String[] codes;
+
+        private Entry(Long id, Long chapterId, String firstName, String lastName, boolean active, String[] tokens,
+                String[] codes) {
+            this.id = id;
+            this.chapterId = chapterId;
+            this.firstName = firstName == null ? "" : firstName;
+            this.lastName = lastName == null ? "" : lastName;
+            this.active = active;
+            this.tokens = tokens;
+            this.codes = codes;
+        }
+
+        private int score(String queryToken, String queryCode) {
+            int best = 0;
+            for (int i = 0; i < tokens.length; i++) {
+                if (tokens[i].equals(queryToken)) {
+                    return SCORE_EXACT;
+                }
+                if (tokens[i].startsWith(queryToken)) {
+                    best = SCORE_PREFIX;
+                } else if (best == 0 && queryCode != null && queryCode.equals(codes[i])) {
+                    best = SCORE_PHONETIC;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * Growable list of the entries sharing a token, phonetic key or chapter,
+     * kept in name order
+     */
+    private static final class Postings {
+        private final String key;
+        private Entry[] entries = new Entry[2];
+        private int size;
+
+        private Postings(String key) {
+            this.key = key;
+        }
+
+        private void add(Entry entry, boolean sorted) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            int index = sorted ? -(Arrays.binarySearch(entries, 0, size, entry, NAME_ORDER) + 1) : size;
+            System.arraycopy(entries, index, entries, index + 1, size - index);
+            entries[index] = entry;
+            size++;
+        }
+
+        private boolean remove(Entry entry) {
+            int index = Arrays.binarySearch(entries, 0, size, entry, NAME_ORDER);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(entries, index + 1, entries, index, size - index - 1);
+            entries[--size] = null;
+            return true;
+        }
+    }
+
+    /**
+     * Name-ordered union of posting lists, read forward only. Several lists
+     * are kept in a heap by their next entry; seeking gallops through each
+     * list behind the target, so skipping far ahead costs a few comparisons.
+     */
+    private static final class Union {
+        private final Cursor single;
+        private final PriorityQueue<Cursor> cursors;
+
+        private Union(List<Postings> lists) {
+            if (lists.size() == 1) {
+                single = new Cursor(lists.get(0));
+                cursors = null;
+            } else {
+                single = null;
+                cursors = new PriorityQueue<>(Math.max(1, lists.size()));
+                for (Postings postings : lists) {
+                    if (postings.size > 0) {
+                        cursors.add(new Cursor(postings));
+                    }
+                }
+            }
+        }
+
+        /**
+         * Smallest entry not yet passed, or null when every list is exhausted
+         */
+        private Entry current() {
+            if (single != null) {
+                return single.exhausted() ? null : single.current();
+            }
+            Cursor first = cursors.peek();
+            return first == null ? null : first.current();
+        }
+
+        /**
+         * Move past the current entry, which may head several lists
+         */
+        private void next() {
+            if (single != null) {
+                single.position++;
+                return;
+            }
+            Entry entry = current();
+            while (!cursors.isEmpty() && cursors.peek().current() == entry) {
+                Cursor cursor = cursors.poll();
+                cursor.position++;
+                if (!cursor.exhausted()) {
+                    cursors.add(cursor);
+                }
+            }
+        }
+
+        /**
+         * Move to the first entry at or after the target
+         */
+        private void seek(Entry target) {
+            if (single != null) {
+                if (!single.exhausted()) {
+                    single.gallop(target);
+                }
+                return;
+            }
+            while (!cursors.isEmpty() && compareNames(cursors.peek().current(), target) < 0) {
+                Cursor cursor = cursors.poll();
+                cursor.gallop(target);
+                if (!cursor.exhausted()) {
+                    cursors.add(cursor);
+                }
+            }
+        }
+    }
+
+    /**
+     * Position in one posting list
+     */
+    private static final class Cursor implements Comparable<Cursor> {
+        private final Postings postings;
+        private int position;
+
+        private Cursor(Postings postings) {
+            this.postings = postings;
+        }
+
+        private Entry current() {
+            return postings.entries[position];
+        }
+
+        private boolean exhausted() {
+            return position >= postings.size;
+        }
+
+        /**
+         * Advance to the first entry at or after the target: exponential, then binary search
+         */
+        private void gallop(Entry target) {
+            Entry[] entries = postings.entries;
+            int size = postings.size;
+            int low = position;
+            int high = position;
+            int step = 1;
+            while (high < size && compareNames(entries[high], target) < 0) {
+                low = high + 1;
+                high = position + step;
+                step <<= 1;
+            }
+            high = Math.min(high, size);
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (compareNames(entries[middle], target) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            position = low;
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            return compareNames(current(), other.current());
+        }
+    }
+
+    /**
+     * One search: the query tokens, filters and the running top N
+     */
+    private static final class Query {
+        private final String[] tokens;
+        private final String[] codes;
+        private final Long chapterId;
+        private final boolean activeOnly;
+        private final int limit;
+        // Min-heap on rank, so the weakest of the current top N is dropped first
+        private final PriorityQueue<Match> top;
+
+        private Query(String[] tokens, String[] codes, Long chapterId, boolean activeOnly, int limit) {
+            this.tokens = tokens;
+            this.codes = codes;
+            this.chapterId = chapterId;
+            this.activeOnly = activeOnly;
+            this.limit = limit;
+            this.top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        }
+
+        /**
+         * Whether a member scoring at most bestScore, and sorting after
+         * {@code next} by name (when given), could still enter the top N
+         */
+        private boolean canImprove(int bestScore, Entry next) {
+            if (top.size() < limit) {
+                return true;
+            }
+            Match weakest = top.peek();
+            return weakest.score < bestScore
+                    || (weakest.score == bestScore && next != null && compareNames(next, weakest.entry) < 0);
+        }
+
+        /**
+         * Score the member against every query token and keep it if it makes
+         * the top N. When driver is given (not -1), the member is skipped
+         * unless the driver token scores exactly tierScore: better matches
+         * were handled in an earlier tier.
+         */
+        private void offer(Entry entry, int driver, int tierScore) {
+            if ((activeOnly && !entry.active) || (chapterId != null && !chapterId.equals(entry.chapterId))) {
+                return;
+            }
+            int score = 0;
+            if (driver >= 0) {
+                score = entry.score(tokens[driver], codes[driver]);
+                if (score != tierScore) {
+                    return;
+                }
+            }
+            for (int i = 0; i < tokens.length; i++) {
+                if (i == driver) {
+                    continue;
+                }
+                int tokenScore = entry.score(tokens[i], codes[i]);
+                if (tokenScore == 0) {
+                    return;
+                }
+                score += tokenScore;
+            }
+            if (top.size() < limit) {
+                top.add(new Match(entry, score));
+                return;
+            }
+            Match weakest = top.peek();
+            if (score > weakest.score || (score == weakest.score && compareNames(entry, weakest.entry) < 0)) {
+                top.poll();
+                top.add(new Match(entry, score));
+            }
+        }
+    }
+
+    private static final class Match {
+        private final Entry entry;
+        private final int score;
+
+        private Match(Entry entry, int score) {
+            this.entry = entry;
+            this.score = score;
+        }
+    }
+}
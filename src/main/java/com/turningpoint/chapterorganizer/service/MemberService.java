@@ -1,35 +1,95 @@
 package com.turningpoint.chapterorganizer.service;
 
+import com.turningpoint.chapterorganizer.dto.CursorPage;
+import com.turningpoint.chapterorganizer.dto.MemberPickerDto;
+import com.turningpoint.chapterorganizer.dto.MemberSearchCriteria;
+import com.turningpoint.chapterorganizer.dto.MemberSummaryDto;
+import com.turningpoint.chapterorganizer.dto.MemberTransferRequest;
+import com.turningpoint.chapterorganizer.dto.MemberTransferResult;
+import com.turningpoint.chapterorganizer.dto.RoleCountDto;
 import com.turningpoint.chapterorganizer.entity.Chapter;
 import com.turningpoint.chapterorganizer.entity.Member;
 import com.turningpoint.chapterorganizer.entity.MemberRole;
 import com.turningpoint.chapterorganizer.repository.MemberRepository;
+import com.turningpoint.chapterorganizer.repository.MemberSpecifications;
+import com.turningpoint.chapterorganizer.util.BoundedCache;
+import com.turningpoint.chapterorganizer.util.DataFormat;
+import com.turningpoint.chapterorganizer.util.RecordWriter;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class MemberService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final int MAX_TRANSFER_MEMBER_IDS = 10000;
+    public static final int MAX_HISTOGRAM_CHAPTERS = 500;
+    public static final int DEFAULT_PICKER_SIZE = 10;
+    public static final int MAX_PICKER_SIZE = 50;
+
+    /**
+     * Columns of a member export, in output order
+     */
+    public static final List<String> EXPORT_COLUMNS = List.of("id", "chapterId", "firstName", "lastName",
+            "email", "phoneNumber", "role", "active", "major", "graduationYear", "createdAt");
+
+    // Rows between persistence context clears while streaming an export
+    static final int EXPORT_CLEAR_INTERVAL = 1000;
+
     private final MemberRepository memberRepository;
     private final ChapterService chapterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final BoundedCache<Long, List<MemberSummaryDto>> officerRosterCache;
+    private final MemberNameIndex nameIndex;
+    private final MemberEmailFilter emailFilter;
 
     @Autowired
-    public MemberService(MemberRepository memberRepository, ChapterService chapterService) {
+    public MemberService(MemberRepository memberRepository, ChapterService chapterService,
+            ApplicationEventPublisher eventPublisher, EntityManager entityManager,
+            BoundedCache<Long, List<MemberSummaryDto>> officerRosterCache, MemberNameIndex nameIndex,
+            MemberEmailFilter emailFilter) {
         this.memberRepository = memberRepository;
         this.chapterService = chapterService;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.officerRosterCache = officerRosterCache;
+        this.nameIndex = nameIndex;
+        this.emailFilter = emailFilter;
     }
 
     /**
      * Create a new member
      */
     public Member createMember(Member member) {
-        // Check if email already exists
-        if (memberRepository.existsByEmail(member.getEmail())) {
+        // Check if email already exists; the email filter rules out most new emails without a query
+        if (emailFilter.exists(member.getEmail(), () -> memberRepository.existsByEmail(member.getEmail()))) {
             throw new IllegalArgumentException("Member with this email already exists");
         }
 
@@ -52,7 +112,14 @@ public class MemberService {
             member.setRole(MemberRole.MEMBER);
         }
 
-        return memberRepository.save(member);
+        emailFilter.add(member.getEmail());
+        Member savedMember = memberRepository.save(member);
+        if (Boolean.TRUE.equals(member.getActive())) {
+            chapterService.adjustActiveMemberCount(member.getChapter().getId(), 1);
+        }
+        publishChapterChanged(member);
+        nameIndex.onMemberSaved(member);
+        return savedMember;
     }
 
     /**
@@ -103,6 +170,63 @@ public class MemberService {
         return memberRepository.findChapterOfficers(chapterId);
     }
 
+    /**
+     * Active officers of a chapter as summaries, highest office first, served
+     * from the officer roster cache. The cached roster is dropped whenever a
+     * change to the chapter's members commits (role updates, deactivations,
+     * transfers, imports).
+     */
+    @Transactional(readOnly = true)
+    public List<MemberSummaryDto> getOfficerRoster(Long chapterId) {
+        return officerRosterCache.getOrLoad(chapterId, key -> {
+            List<MemberSummaryDto> officers = new ArrayList<>(memberRepository.findActiveOfficerSummaries(key));
+            officers.sort(Comparator.comparing(MemberSummaryDto::getRole)
+                    .thenComparing(MemberSummaryDto::getLastName, Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(MemberSummaryDto::getId));
+            return Collections.unmodifiableList(officers);
+        });
+    }
+
+    /**
+     * Active member counts by role for each of the given chapters, from one
+     * grouped query. Every requested chapter and every role is present in the
+     * result, with zero where there are no members.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Map<MemberRole, Long>> getRoleHistograms(Collection<Long> chapterIds) {
+        if (chapterIds.size() > MAX_HISTOGRAM_CHAPTERS) {
+            throw new IllegalArgumentException("At most " + MAX_HISTOGRAM_CHAPTERS + " chapters per request");
+        }
+        Map<Long, Map<MemberRole, Long>> histograms = new LinkedHashMap<>();
+        for (Long chapterId : chapterIds) {
+            Map<MemberRole, Long> histogram = new EnumMap<>(MemberRole.class);
+            for (MemberRole role : MemberRole.values()) {
+                histogram.put(role, 0L);
+            }
+            histograms.put(chapterId, histogram);
+        }
+        if (histograms.isEmpty()) {
+            return histograms;
+        }
+        for (RoleCountDto count : memberRepository.countActiveMembersByRoleForChapters(histograms.keySet())) {
+            histograms.get(count.getChapterId()).put(count.getRole(), count.getCount());
+        }
+        return histograms;
+    }
+
+    /**
+     * Drop cached officer rosters once a change to a chapter's members commits
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onChapterDataChanged(ChapterDataChangedEvent event) {
+        if (event.isAllChapters()) {
+            officerRosterCache.invalidateAll();
+        } else {
+            officerRosterCache.invalidate(event.getChapterId());
+        }
+    }
+
     /**
      * Get the chapter president
      */
@@ -120,15 +244,19 @@ public class MemberService {
 
         // Check if email is changing and if new email already exists
         if (!existingMember.getEmail().equals(updatedMember.getEmail())) {
-            if (memberRepository.existsByEmailAndIdNot(updatedMember.getEmail(), id)) {
+            if (emailFilter.exists(updatedMember.getEmail(),
+                    () -> memberRepository.existsByEmailAndIdNot(updatedMember.getEmail(), id))) {
                 throw new IllegalArgumentException("Member with this email already exists");
             }
         }
 
+        boolean wasActive = Boolean.TRUE.equals(existingMember.getActive());
+
         // Update fields
         existingMember.setFirstName(updatedMember.getFirstName());
         existingMember.setLastName(updatedMember.getLastName());
         existingMember.setEmail(updatedMember.getEmail());
+        emailFilter.add(updatedMember.getEmail());
         existingMember.setPhoneNumber(updatedMember.getPhoneNumber());
         existingMember.setMajor(updatedMember.getMajor());
         existingMember.setGraduationYear(updatedMember.getGraduationYear());
@@ -137,7 +265,11 @@ public class MemberService {
             existingMember.setActive(updatedMember.getActive());
         }
 
-        return memberRepository.save(existingMember);
+        Member savedMember = memberRepository.save(existingMember);
+        adjustActiveCountOnStatusChange(existingMember, wasActive);
+        publishChapterChanged(existingMember);
+        nameIndex.onMemberSaved(existingMember);
+        return savedMember;
     }
 
     /**
@@ -148,7 +280,9 @@ public class MemberService {
                 .orElseThrow(() -> new IllegalArgumentException("Member not found with id: " + id));
 
         member.setRole(newRole);
-        return memberRepository.save(member);
+        Member savedMember = memberRepository.save(member);
+        publishChapterChanged(member);
+        return savedMember;
     }
 
     /**
@@ -158,8 +292,12 @@ public class MemberService {
         Member member = memberRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Member not found with id: " + id));
 
+        boolean wasActive = Boolean.TRUE.equals(member.getActive());
         member.setActive(false);
         memberRepository.save(member);
+        adjustActiveCountOnStatusChange(member, wasActive);
+        publishChapterChanged(member);
+        nameIndex.onMemberSaved(member);
     }
 
     /**
@@ -169,39 +307,121 @@ public class MemberService {
         Member member = memberRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Member not found with id: " + id));
 
+        boolean wasActive = Boolean.TRUE.equals(member.getActive());
         member.setActive(true);
-        return memberRepository.save(member);
+        Member savedMember = memberRepository.save(member);
+        adjustActiveCountOnStatusChange(member, wasActive);
+        publishChapterChanged(member);
+        nameIndex.onMemberSaved(member);
+        return savedMember;
     }
 
     /**
      * Permanently delete member (use with caution)
      */
     public void permanentlyDeleteMember(Long id) {
-        if (!memberRepository.existsById(id)) {
-            throw new IllegalArgumentException("Member not found with id: " + id);
+        Member member = memberRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Member not found with id: " + id));
+
+        memberRepository.delete(member);
+        if (Boolean.TRUE.equals(member.getActive())) {
+            chapterService.adjustActiveMemberCount(member.getChapter().getId(), -1);
         }
-        memberRepository.deleteById(id);
+        publishChapterChanged(member);
+        nameIndex.onMemberRemoved(id);
     }
 
     /**
-     * Search members by criteria
+     * Search members by any combination of criteria, as a keyset page ordered
+     * by id. Pass the previous page's nextCursor to continue. Only the
+     * supplied criteria are turned into predicates, and text criteria are
+     * prefix matches. The total match count is computed on the first page
+     * only, and only when there is more than one page.
      */
     @Transactional(readOnly = true)
-    public List<Member> searchMembers(Long chapterId, String firstName, String lastName,
-            String email, MemberRole role, String major,
-            String graduationYear, Boolean active) {
-        return memberRepository.findMembersByCriteria(chapterId, firstName, lastName, email,
-                role, major, graduationYear, active);
+    public CursorPage<MemberSummaryDto> searchMembers(MemberSearchCriteria criteria, Long cursor, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        Specification<Member> matching = MemberSpecifications.matchingCriteria(criteria);
+        Specification<Member> spec = cursor == null ? matching : matching.and(MemberSpecifications.idAfter(cursor));
+
+        // Fetch one extra row to learn whether another page exists
+        List<Member> rows = memberRepository.findBy(spec,
+                query -> query.sortBy(Sort.by("id")).limit(pageSize + 1).all());
+        boolean hasMore = rows.size() > pageSize;
+        List<Member> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        Long totalCount = null;
+        if (cursor == null) {
+            totalCount = hasMore ? memberRepository.count(matching) : page.size();
+        }
+
+        List<MemberSummaryDto> items = page.stream()
+                .map(member -> new MemberSummaryDto(member.getId(),
+                        member.getChapter() != null ? member.getChapter().getId() : null,
+                        member.getFirstName(), member.getLastName(), member.getRole()))
+                .collect(Collectors.toList());
+        Long nextCursor = hasMore ? page.get(page.size() - 1).getId() : null;
+        return new CursorPage<>(items, nextCursor, hasMore, pageSize, totalCount);
     }
 
     /**
-     * Search members by name
+     * Search members by name. Served from the in-memory name index once it is
+     * built (prefix, exact and sound-alike matches on name tokens, best
+     * {@value #MAX_PAGE_SIZE} first); until then, or in database search mode,
+     * falls back to a substring query.
      */
     @Transactional(readOnly = true)
     public List<Member> searchMembersByName(String name) {
+        if (nameIndex.isReady()) {
+            List<Long> ids = nameIndex.search(name, null, false, MAX_PAGE_SIZE).stream()
+                    .map(MemberPickerDto::getId)
+                    .collect(Collectors.toList());
+            Map<Long, Member> membersById = memberRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Member::getId, member -> member));
+            return ids.stream().map(membersById::get).filter(Objects::nonNull).collect(Collectors.toList());
+        }
         return memberRepository.findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(name, name);
     }
 
+    /**
+     * Member picker suggestions: the best matching active members for a
+     * partially typed name, optionally within one chapter. Answered from the
+     * in-memory name index without touching the database (chapter names come
+     * from the chapter near-cache); falls back to an indexed prefix query
+     * while the index is not available.
+     */
+    @Transactional(readOnly = true)
+    public List<MemberPickerDto> searchMemberPicker(String query, Long chapterId, Integer limit) {
+        int size = limit == null ? DEFAULT_PICKER_SIZE : Math.max(1, Math.min(limit, MAX_PICKER_SIZE));
+        if (query == null || query.isBlank()) {
+            return Collections.emptyList();
+        }
+
+        List<MemberPickerDto> results;
+        if (nameIndex.isReady()) {
+            results = nameIndex.search(query, chapterId, true, size);
+        } else {
+            MemberSearchCriteria criteria = new MemberSearchCriteria();
+            criteria.setName(query);
+            criteria.setChapterId(chapterId);
+            criteria.setActive(true);
+            results = memberRepository.findBy(MemberSpecifications.matchingCriteria(criteria),
+                    q -> q.sortBy(Sort.by("lastName", "firstName", "id")).limit(size).all()).stream()
+                    .map(member -> new MemberPickerDto(member.getId(), member.getFirstName(), member.getLastName(),
+                            member.getChapter() != null ? member.getChapter().getId() : null, null))
+                    .collect(Collectors.toList());
+        }
+
+        Map<Long, String> chapterNames = new HashMap<>();
+        for (MemberPickerDto result : results) {
+            if (result.getChapterId() != null) {
+                result.setChapterName(chapterNames.computeIfAbsent(result.getChapterId(),
+                        id -> chapterService.getChapterById(id).map(Chapter::getName).orElse(null)));
+            }
+        }
+        return results;
+    }
+
     /**
      * Count active members by chapter
      */
@@ -228,7 +448,106 @@ public class MemberService {
         Chapter newChapter = chapterService.getChapterById(newChapterId)
                 .orElseThrow(() -> new IllegalArgumentException("Chapter not found with id: " + newChapterId));
 
+        Long oldChapterId = member.getChapter() != null ? member.getChapter().getId() : null;
         member.setChapter(newChapter);
-        return memberRepository.save(member);
+        Member savedMember = memberRepository.save(member);
+
+        // Move the member's weight in the active counters from the old chapter to the new one
+        if (Boolean.TRUE.equals(member.getActive()) && !newChapterId.equals(oldChapterId)) {
+            chapterService.adjustActiveMemberCount(oldChapterId, -1);
+            chapterService.adjustActiveMemberCount(newChapterId, 1);
+        }
+        if (oldChapterId != null) {
+            eventPublisher.publishEvent(new ChapterDataChangedEvent(oldChapterId));
+        }
+        publishChapterChanged(member);
+        nameIndex.onMemberSaved(member);
+        return savedMember;
+    }
+
+    /**
+     * Move all members of a chapter, or the subset selected by memberIds, role
+     * and/or active, to another chapter with set-based UPDATEs (one per active
+     * state, so the active counters can be shifted by exact deltas) instead
+     * of loading and saving each member.
+     */
+    public MemberTransferResult transferMembers(MemberTransferRequest request) {
+        Long sourceChapterId = request.getSourceChapterId();
+        Long targetChapterId = request.getTargetChapterId();
+        if (sourceChapterId == null || targetChapterId == null) {
+            throw new IllegalArgumentException("Source and target chapter are required");
+        }
+        if (sourceChapterId.equals(targetChapterId)) {
+            throw new IllegalArgumentException("Source and target chapter must be different");
+        }
+        if (request.getMemberIds() != null && request.getMemberIds().size() > MAX_TRANSFER_MEMBER_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_TRANSFER_MEMBER_IDS + " member ids per transfer");
+        }
+        chapterService.getChapterById(sourceChapterId)
+                .orElseThrow(() -> new IllegalArgumentException("Chapter not found with id: " + sourceChapterId));
+        chapterService.getChapterById(targetChapterId)
+                .orElseThrow(() -> new IllegalArgumentException("Chapter not found with id: " + targetChapterId));
+
+        Boolean active = request.getActive();
+        int activeMoved = active == null || active
+                ? memberRepository.moveMembersToChapter(sourceChapterId, targetChapterId, true,
+                        request.getMemberIds(), request.getRole())
+                : 0;
+        int inactiveMoved = active == null || !active
+                ? memberRepository.moveMembersToChapter(sourceChapterId, targetChapterId, false,
+                        request.getMemberIds(), request.getRole())
+                : 0;
+
+        chapterService.adjustActiveMemberCount(sourceChapterId, -activeMoved);
+        chapterService.adjustActiveMemberCount(targetChapterId, activeMoved);
+        if (activeMoved + inactiveMoved > 0) {
+            eventPublisher.publishEvent(new ChapterDataChangedEvent(sourceChapterId));
+            eventPublisher.publishEvent(new ChapterDataChangedEvent(targetChapterId));
+            nameIndex.onChapterMembersChanged(targetChapterId);
+        }
+        return new MemberTransferResult(sourceChapterId, targetChapterId, activeMoved + inactiveMoved, activeMoved);
+    }
+
+    /**
+     * Stream members (all, or one chapter's when chapterId is given, including
+     * inactive) to the output as CSV or NDJSON. Rows are read through a
+     * forward-only cursor and the persistence context is cleared every
+     * {@value #EXPORT_CLEAR_INTERVAL} rows, so heap use does not grow with the
+     * export. Returns the number of rows written.
+     */
+    @Transactional(readOnly = true)
+    public long exportMembers(Long chapterId, DataFormat format, OutputStream out) throws IOException {
+        long rows = 0;
+        try (Stream<Member> members = chapterId == null
+                ? memberRepository.streamAll()
+                : memberRepository.streamByChapterId(chapterId);
+                RecordWriter writer = RecordWriter.create(format, out, EXPORT_COLUMNS)) {
+            Iterator<Member> it = members.iterator();
+            while (it.hasNext()) {
+                Member member = it.next();
+                writer.write(member.getId(),
+                        member.getChapter() != null ? member.getChapter().getId() : null,
+                        member.getFirstName(), member.getLastName(), member.getEmail(),
+                        member.getPhoneNumber(), member.getRole() != null ? member.getRole().name() : null,
+                        member.getActive(), member.getMajor(), member.getGraduationYear(), member.getCreatedAt());
+                if (++rows % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return rows;
+    }
+
+    private void adjustActiveCountOnStatusChange(Member member, boolean wasActive) {
+        boolean isActive = Boolean.TRUE.equals(member.getActive());
+        if (wasActive != isActive) {
+            chapterService.adjustActiveMemberCount(member.getChapter().getId(), isActive ? 1 : -1);
+        }
+    }
+
+    private void publishChapterChanged(Member member) {
+        if (member.getChapter() != null && member.getChapter().getId() != null) {
+            eventPublisher.publishEvent(new ChapterDataChangedEvent(member.getChapter().getId()));
+        }
     }
-}
\ No newline at end of file
+}
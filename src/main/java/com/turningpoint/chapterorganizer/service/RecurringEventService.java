@@ -0,0 +1,406 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.dto.EventSummaryDto;
+import com.turningpoint.chapterorganizer.entity.Chapter;
+import com.turningpoint.chapterorganizer.entity.Event;
+import com.turningpoint.chapterorganizer.entity.EventType;
+import com.turningpoint.chapterorganizer.entity.RecurringEvent;
+import com.turningpoint.chapterorganizer.repository.EventRepository;
+import com.turningpoint.chapterorganizer.repository.RecurringEventRepository;
+import com.turningpoint.chapterorganizer.util.BoundedCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Recurring events: rules stored once, whose occurrences are expanded
+ * lazily for the window being listed. The occurrences of a rule are cached
+ * per calendar month, keyed by the rule's version, so editing a rule or its
+ * excluded dates never serves stale occurrences. The first occurrence in a
+ * window is computed directly, so listing a window costs the same for a
+ * rule that repeats ten times as for one that repeats a thousand times.
+ *
+ * An occurrence can be overridden by materializing it as an {@link Event}
+ * (to change its details or take RSVPs); the event then replaces the
+ * occurrence in listings.
+ */
+@Service
+@Transactional
+public class RecurringEventService {
+
+    // Occurrence cursors are negative, event ids positive; the low bits hold the occurrence's epoch day
+    private static final int CURSOR_DATE_BITS = 20;
+
+    private static final Comparator<EventSummaryDto> OCCURRENCE_ORDER = Comparator
+            .comparing(EventSummaryDto::getEventDateTime)
+            .thenComparing(EventSummaryDto::getRecurringEventId);
+
+    private final RecurringEventRepository recurringEventRepository;
+    private final EventRepository eventRepository;
+    private final ChapterService chapterService;
+    private final BoundedCache<String, List<LocalDateTime>> occurrenceCache;
+    private final EventScheduleIndex scheduleIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public RecurringEventService(RecurringEventRepository recurringEventRepository, EventRepository eventRepository,
+            ChapterService chapterService, BoundedCache<String, List<LocalDateTime>> recurringOccurrenceCache,
+            EventScheduleIndex scheduleIndex, ApplicationEventPublisher eventPublisher) {
+        this.recurringEventRepository = recurringEventRepository;
+        this.eventRepository = eventRepository;
+        this.chapterService = chapterService;
+        this.occurrenceCache = recurringOccurrenceCache;
+        this.scheduleIndex = scheduleIndex;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Create a recurring event for an existing chapter
+     */
+    public RecurringEvent createRecurringEvent(RecurringEvent recurringEvent) {
+        if (recurringEvent.getChapter() == null || recurringEvent.getChapter().getId() == null) {
+            throw new IllegalArgumentException("Chapter is required for event creation");
+        }
+        Long chapterId = recurringEvent.getChapter().getId();
+        Chapter chapter = chapterService.getChapterById(chapterId)
+                .orElseThrow(() -> new IllegalArgumentException("Chapter not found with id: " + chapterId));
+        recurringEvent.setChapter(chapter);
+
+        if (recurringEvent.getStartDateTime() == null) {
+            throw new IllegalArgumentException("Start date and time is required");
+        }
+        if (recurringEvent.getStartDateTime().isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Start date and time cannot be in the past");
+        }
+        if (recurringEvent.getActive() == null) {
+            recurringEvent.setActive(true);
+        }
+        if (recurringEvent.getRepeatInterval() == null) {
+            recurringEvent.setRepeatInterval(1);
+        }
+        recurringEvent.setSeriesEnd(validateSeries(recurringEvent));
+        return recurringEventRepository.save(recurringEvent);
+    }
+
+    /**
+     * Get recurring event by ID
+     */
+    @Transactional(readOnly = true)
+    public Optional<RecurringEvent> getRecurringEventById(Long id) {
+        return recurringEventRepository.findById(id);
+    }
+
+    /**
+     * A chapter's active recurring events, by start date
+     */
+    @Transactional(readOnly = true)
+    public List<RecurringEvent> getRecurringEventsByChapter(Long chapterId) {
+        return recurringEventRepository.findByChapterIdAndActiveTrueOrderByStartDateTimeAsc(chapterId);
+    }
+
+    /**
+     * Update the rule fields present in {@code updated}. Occurrences already
+     * materialized as events keep their own details.
+     */
+    public RecurringEvent updateRecurringEvent(Long id, RecurringEvent updated) {
+        RecurringEvent existing = findRecurringEvent(id);
+
+        if (updated.getTitle() != null) {
+            existing.setTitle(updated.getTitle());
+        }
+        if (updated.getDescription() != null) {
+            existing.setDescription(updated.getDescription());
+        }
+        if (updated.getLocation() != null) {
+            existing.setLocation(updated.getLocation());
+        }
+        if (updated.getType() != null) {
+            existing.setType(updated.getType());
+        }
+        if (updated.getMaxAttendees() != null) {
+            existing.setMaxAttendees(updated.getMaxAttendees());
+        }
+        if (updated.getStartDateTime() != null) {
+            existing.setStartDateTime(updated.getStartDateTime());
+        }
+        if (updated.getPattern() != null) {
+            existing.setPattern(updated.getPattern());
+        }
+        if (updated.getRepeatInterval() != null) {
+            existing.setRepeatInterval(updated.getRepeatInterval());
+        }
+        if (updated.getOccurrenceLimit() != null) {
+            existing.setOccurrenceLimit(updated.getOccurrenceLimit());
+        }
+        if (updated.getUntilDateTime() != null) {
+            existing.setUntilDateTime(updated.getUntilDateTime());
+        }
+        existing.setSeriesEnd(validateSeries(existing));
+        return recurringEventRepository.save(existing);
+    }
+
+    /**
+     * End the series (soft delete). Occurrences materialized as events are
+     * not affected.
+     */
+    public void cancelRecurringEvent(Long id) {
+        RecurringEvent recurringEvent = findRecurringEvent(id);
+        recurringEvent.setActive(false);
+        recurringEventRepository.save(recurringEvent);
+    }
+
+    /**
+     * Skip the occurrence on {@code date}. If the occurrence was
+     * materialized, its event is cancelled as well.
+     */
+    public RecurringEvent skipOccurrence(Long id, LocalDate date) {
+        RecurringEvent recurringEvent = findRecurringEvent(id);
+        occurrenceStart(recurringEvent, date);
+        recurringEvent.getExcludedDates().add(date);
+        eventRepository.findByRecurringEventIdAndOccurrenceDate(id, date).ifPresent(event -> {
+            event.setActive(false);
+            eventRepository.save(event);
+            scheduleIndex.onEventSaved(event);
+            publishChapterChanged(event);
+            eventPublisher.publishEvent(new EventCapacityChangedEvent(event.getId()));
+            eventPublisher.publishEvent(new EventScheduleChangedEvent(event.getId()));
+        });
+        return recurringEventRepository.save(recurringEvent);
+    }
+
+    /**
+     * Undo skipping the occurrence on {@code date}
+     */
+    public RecurringEvent restoreOccurrence(Long id, LocalDate date) {
+        RecurringEvent recurringEvent = findRecurringEvent(id);
+        recurringEvent.getExcludedDates().remove(date);
+        return recurringEventRepository.save(recurringEvent);
+    }
+
+    /**
+     * The event for the occurrence on {@code date}, creating it from the rule
+     * if the occurrence has not been materialized yet. The event can then be
+     * edited, cancelled and RSVPed to like any other. Concurrent calls for
+     * the same rule are serialized on its row, so an occurrence is only
+     * materialized once.
+     */
+    public Event materializeOccurrence(Long id, LocalDate date) {
+        Optional<Event> existing = eventRepository.findByRecurringEventIdAndOccurrenceDate(id, date);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        RecurringEvent recurringEvent = recurringEventRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new IllegalArgumentException("Recurring event not found with id: " + id));
+        // Another call may have materialized the occurrence while we waited for the lock
+        existing = eventRepository.findByRecurringEventIdAndOccurrenceDate(id, date);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        if (!Boolean.TRUE.equals(recurringEvent.getActive())) {
+            throw new IllegalArgumentException("Recurring event has been cancelled");
+        }
+        if (recurringEvent.getExcludedDates().contains(date)) {
+            throw new IllegalArgumentException("Occurrence on " + date + " has been skipped");
+        }
+        LocalDateTime start = occurrenceStart(recurringEvent, date);
+        if (start.isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Event date and time cannot be in the past");
+        }
+
+        Event event = new Event(recurringEvent.getTitle(), start, recurringEvent.getChapter());
+        event.setDescription(recurringEvent.getDescription());
+        event.setLocation(recurringEvent.getLocation());
+        event.setType(recurringEvent.getType());
+        event.setMaxAttendees(recurringEvent.getMaxAttendees());
+        event.setCurrentAttendees(0);
+        event.setActive(true);
+        event.setRecurringEventId(id);
+        event.setOccurrenceDate(date);
+        Event savedEvent = eventRepository.save(event);
+        scheduleIndex.onEventSaved(savedEvent);
+        publishChapterChanged(savedEvent);
+        return savedEvent;
+    }
+
+    /**
+     * Summaries of the occurrences starting in [{@code start}, {@code end})
+     * that are neither skipped nor materialized as events, ordered by start
+     * and then by recurring event id, at most {@code limit}. Occurrences
+     * starting exactly at {@code start} are only included for recurring
+     * events with an id above {@code afterRecurringEventId}, if given, which
+     * lets keyset pagination resume after an occurrence.
+     */
+    @Transactional(readOnly = true)
+    public List<EventSummaryDto> getOccurrenceSummaries(Long chapterId, EventType type, LocalDateTime start,
+            LocalDateTime end, Long afterRecurringEventId, int limit) {
+        if (!start.isBefore(end)) {
+            return Collections.emptyList();
+        }
+        List<RecurringEvent> recurringEvents = recurringEventRepository.findActiveOverlapping(chapterId, type,
+                start, end);
+        if (recurringEvents.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, Set<LocalDate>> overridden = findOverriddenDates(recurringEvents, start, end);
+
+        List<EventSummaryDto> occurrences = new ArrayList<>();
+        for (RecurringEvent recurringEvent : recurringEvents) {
+            Long id = recurringEvent.getId();
+            Set<LocalDate> overriddenDates = overridden.getOrDefault(id, Collections.emptySet());
+            boolean includeStart = afterRecurringEventId == null || id > afterRecurringEventId;
+            YearMonth month = YearMonth.from(later(start, recurringEvent.getStartDateTime()));
+            LocalDateTime lastStart = end.minusNanos(1);
+            YearMonth lastMonth = YearMonth.from(recurringEvent.getSeriesEnd() == null
+                    ? lastStart : earlier(lastStart, recurringEvent.getSeriesEnd()));
+            for (; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+                for (LocalDateTime occurrence : occurrencesInMonth(recurringEvent, month)) {
+                    if (occurrence.isBefore(start) || !occurrence.isBefore(end)
+                            || (!includeStart && occurrence.equals(start))
+                            || overriddenDates.contains(occurrence.toLocalDate())) {
+                        continue;
+                    }
+                    occurrences.add(new EventSummaryDto(null, recurringEvent.getChapter().getId(),
+                            recurringEvent.getTitle(), occurrence, recurringEvent.getLocation(),
+                            recurringEvent.getType(), id, occurrence.toLocalDate()));
+                }
+            }
+        }
+        occurrences.sort(OCCURRENCE_ORDER);
+        return occurrences.size() > limit ? new ArrayList<>(occurrences.subList(0, limit)) : occurrences;
+    }
+
+    /**
+     * Start of the occurrence a listing cursor points at
+     *
+     * @see #occurrenceCursor(Long, LocalDate)
+     */
+    @Transactional(readOnly = true)
+    public LocalDateTime getCursorOccurrenceStart(long cursor) {
+        Long id = cursorRecurringEventId(cursor);
+        return occurrenceStart(findRecurringEvent(id), cursorOccurrenceDate(cursor));
+    }
+
+    /**
+     * Listing cursor for an occurrence that has no event id. It is always
+     * negative, so it cannot be mistaken for an event id.
+     */
+    public static long occurrenceCursor(Long recurringEventId, LocalDate occurrenceDate) {
+        return -((recurringEventId << CURSOR_DATE_BITS) | occurrenceDate.toEpochDay());
+    }
+
+    public static Long cursorRecurringEventId(long cursor) {
+        return -cursor >>> CURSOR_DATE_BITS;
+    }
+
+    private static LocalDate cursorOccurrenceDate(long cursor) {
+        return LocalDate.ofEpochDay(-cursor & ((1L << CURSOR_DATE_BITS) - 1));
+    }
+
+    // Occurrences of the rule in one calendar month, without skipped dates
+    private List<LocalDateTime> occurrencesInMonth(RecurringEvent recurringEvent, YearMonth month) {
+        String key = recurringEvent.getId() + ":" + recurringEvent.getVersion() + ":" + month;
+        return occurrenceCache.getOrLoad(key, k -> {
+            LocalDateTime monthStart = later(month.atDay(1).atStartOfDay(), recurringEvent.getStartDateTime());
+            LocalDateTime monthEnd = month.plusMonths(1).atDay(1).atStartOfDay();
+            Set<LocalDate> excluded = recurringEvent.getExcludedDates();
+            List<LocalDateTime> occurrences = new ArrayList<>();
+            long index = recurringEvent.getPattern().firstIndexAtOrAfter(recurringEvent.getStartDateTime(),
+                    recurringEvent.getRepeatInterval(), monthStart);
+            for (LocalDateTime occurrence = recurringEvent.occurrence(index);
+                    occurrence.isBefore(monthEnd) && withinSeries(recurringEvent, occurrence);
+                    occurrence = recurringEvent.occurrence(++index)) {
+                if (!excluded.contains(occurrence.toLocalDate())) {
+                    occurrences.add(occurrence);
+                }
+            }
+            return Collections.unmodifiableList(occurrences);
+        });
+    }
+
+    private Map<Long, Set<LocalDate>> findOverriddenDates(List<RecurringEvent> recurringEvents, LocalDateTime start,
+            LocalDateTime end) {
+        List<Long> ids = new ArrayList<>(recurringEvents.size());
+        recurringEvents.forEach(recurringEvent -> ids.add(recurringEvent.getId()));
+        Map<Long, Set<LocalDate>> overridden = new HashMap<>();
+        for (Object[] row : eventRepository.findOccurrenceOverrides(ids, start.toLocalDate(), end.toLocalDate())) {
+            overridden.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((LocalDate) row[1]);
+        }
+        return overridden;
+    }
+
+    // Start of the rule's occurrence on the given date
+    private static LocalDateTime occurrenceStart(RecurringEvent recurringEvent, LocalDate date) {
+        long index = recurringEvent.getPattern().firstIndexAtOrAfter(recurringEvent.getStartDateTime(),
+                recurringEvent.getRepeatInterval(), date.atStartOfDay());
+        LocalDateTime occurrence = recurringEvent.occurrence(index);
+        if (!occurrence.toLocalDate().equals(date) || !withinSeries(recurringEvent, occurrence)) {
+            throw new IllegalArgumentException("Recurring event " + recurringEvent.getId()
+                    + " has no occurrence on " + date);
+        }
+        return occurrence;
+    }
+
+    private static boolean withinSeries(RecurringEvent recurringEvent, LocalDateTime occurrence) {
+        return recurringEvent.getSeriesEnd() == null || !occurrence.isAfter(recurringEvent.getSeriesEnd());
+    }
+
+    // Checks the rule's limits and returns the start of its last occurrence, or null if it never ends
+    private static LocalDateTime validateSeries(RecurringEvent recurringEvent) {
+        if (recurringEvent.getPattern() == null) {
+            throw new IllegalArgumentException("Recurrence pattern is required");
+        }
+        if (recurringEvent.getRepeatInterval() < 1) {
+            throw new IllegalArgumentException("Repeat interval must be at least 1");
+        }
+        LocalDateTime seriesEnd = null;
+        if (recurringEvent.getOccurrenceLimit() != null) {
+            if (recurringEvent.getOccurrenceLimit() < 1) {
+                throw new IllegalArgumentException("Occurrence limit must be at least 1");
+            }
+            seriesEnd = recurringEvent.occurrence(recurringEvent.getOccurrenceLimit() - 1L);
+        }
+        if (recurringEvent.getUntilDateTime() != null) {
+            if (recurringEvent.getUntilDateTime().isBefore(recurringEvent.getStartDateTime())) {
+                throw new IllegalArgumentException("Series cannot end before it starts");
+            }
+            long afterUntil = recurringEvent.getPattern().firstIndexAtOrAfter(recurringEvent.getStartDateTime(),
+                    recurringEvent.getRepeatInterval(), recurringEvent.getUntilDateTime().plusNanos(1));
+            LocalDateTime lastBeforeUntil = recurringEvent.occurrence(afterUntil - 1);
+            seriesEnd = seriesEnd == null ? lastBeforeUntil : earlier(seriesEnd, lastBeforeUntil);
+        }
+        return seriesEnd;
+    }
+
+    private RecurringEvent findRecurringEvent(Long id) {
+        return recurringEventRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Recurring event not found with id: " + id));
+    }
+
+    private void publishChapterChanged(Event event) {
+        if (event.getChapter() != null && event.getChapter().getId() != null) {
+            eventPublisher.publishEvent(new ChapterDataChangedEvent(event.getChapter().getId()));
+        }
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDateTime earlier(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,13 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.dto.EventReminderBatch;
+
+/**
+ * Delivers event reminders, e.g. by email. Called one batch at a time from
+ * the reminder thread; a batch that throws is logged and not retried.
+ * Chosen with {@code app.events.reminders.sender}.
+ */
+public interface ReminderSender {
+
+    void send(EventReminderBatch batch) throws Exception;
+}
@@ -0,0 +1,263 @@
+package com.turningpoint.chapterorganizer.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Durable append-only log of single-line text records in a local file,
+ * with a checkpoint recording how far the records have been applied.
+ *
+ * Each record is written as one line followed by its CRC-32, so a line
+ * torn by a crash is recognised and cut off when the log is opened.
+ * {@link #write} only appends; {@link #sync} forces the file to disk up to
+ * a position. Writers that sync at the same time share one force (group
+ * commit), so many small appends cost few disk flushes. Once everything
+ * written has been applied and the file exceeds {@code compactBytes}, the
+ * next {@link #checkpoint} empties it.
+ *
+ * Records must not contain line breaks.
+ */
+public class AppendLog implements Closeable {
+
+    private static final String LOG_SUFFIX = ".log";
+    private static final String CHECKPOINT_SUFFIX = ".checkpoint";
+
+    private final Path checkpointFile;
+    private final FileChannel channel;
+    private final long compactBytes;
+    private final Object syncLock = new Object();
+    private final Object checkpointLock = new Object();
+
+    // Guarded by this
+    private long written;
+    private long applied;
+    private long synced;
+    // Bumped when the log is emptied, so a force that started before does not count for the new records
+    private long generation;
+
+    /**
+     * Open or create {@code <name>.log} and {@code <name>.checkpoint} in
+     * the directory, cutting off a torn last record
+     */
+    public AppendLog(Path directory, String name, long compactBytes) throws IOException {
+        Files.createDirectories(directory);
+        this.checkpointFile = directory.resolve(name + CHECKPOINT_SUFFIX);
+        this.compactBytes = compactBytes;
+        this.channel = FileChannel.open(directory.resolve(name + LOG_SUFFIX), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long checkpoint = Files.exists(checkpointFile)
+                ? Long.parseLong(Files.readString(checkpointFile, StandardCharsets.US_ASCII).trim())
+                : 0;
+        long validEnd = scan(0, null);
+        // A checkpoint past the end means the log was emptied and the new checkpoint not yet written
+        this.applied = checkpoint <= validEnd ? checkpoint : 0;
+        this.written = validEnd;
+        this.synced = validEnd;
+        if (channel.size() > validEnd) {
+            channel.truncate(validEnd);
+            channel.force(true);
+        }
+        channel.position(validEnd);
+    }
+
+    /**
+     * Records written but not yet checkpointed as applied, oldest first
+     */
+    public synchronized List<Entry> unapplied() throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        scan(applied, entries);
+        return entries;
+    }
+
+    /**
+     * Append a record; not durable until {@link #sync} returns for its end
+     *
+     * @return the log position just after the record
+     */
+    public synchronized long write(String record) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(encode(record));
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            // Drop the partial record so the next one starts on a clean line
+            channel.truncate(written);
+            channel.position(written);
+            throw e;
+        }
+        written = channel.position();
+        return written;
+    }
+
+    /**
+     * Make everything up to {@code position} durable. One caller forces
+     * the file for all records written so far; the others find their
+     * records already covered.
+     */
+    public void sync(long position) throws IOException {
+        synchronized (syncLock) {
+            long target;
+            long forcedGeneration;
+            synchronized (this) {
+                if (synced >= position) {
+                    return;
+                }
+                target = written;
+                forcedGeneration = generation;
+            }
+            channel.force(false);
+            synchronized (this) {
+                if (generation == forcedGeneration) {
+                    synced = Math.max(synced, target);
+                }
+            }
+        }
+    }
+
+    /**
+     * Record that the records up to {@code position} have been applied.
+     * Empties the log if that is all of it and it has grown past
+     * {@code compactBytes}.
+     */
+    public void checkpoint(long position) throws IOException {
+        synchronized (checkpointLock) {
+            synchronized (this) {
+                if (position <= applied) {
+                    return;
+                }
+                if (position == written && written >= compactBytes) {
+                    channel.truncate(0);
+                    channel.position(0);
+                    channel.force(true);
+                    written = 0;
+                    synced = 0;
+                    generation++;
+                    applied = 0;
+                    // Written before new records, which the old checkpoint would skip
+                    writeCheckpoint(0);
+                    return;
+                }
+                applied = position;
+            }
+            // Outside the lock, so writers are not held up by the checkpoint's own flush
+            writeCheckpoint(position);
+        }
+    }
+
+    public synchronized long size() {
+        return written;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Read the valid records from {@code from}, collecting them if
+     * {@code entries} is given
+     *
+     * @return the position after the last valid record
+     */
+    private long scan(long from, List<Entry> entries) throws IOException {
+        long size = channel.size();
+        long position = from;
+        long lineStart = from;
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                byte b = buffer.get(i);
+                if (b != '\n') {
+                    line.write(b);
+                    continue;
+                }
+                String record = decode(line.toString(StandardCharsets.UTF_8));
+                if (record == null) {
+                    return lineStart;
+                }
+                lineStart = position + i + 1;
+                if (entries != null) {
+                    entries.add(new Entry(record, lineStart));
+                }
+                line.reset();
+            }
+            position += read;
+        }
+        return lineStart;
+    }
+
+    private void writeCheckpoint(long position) throws IOException {
+        Path temporary = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            out.write(ByteBuffer.wrap(Long.toString(position).getBytes(StandardCharsets.US_ASCII)));
+            out.force(true);
+        }
+        Files.move(temporary, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static byte[] encode(String record) {
+        if (record.indexOf('\n') >= 0 || record.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException("Log records cannot contain line breaks");
+        }
+        return (record + ' ' + Long.toHexString(crc(record)) + '\n').getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String decode(String line) {
+        int separator = line.lastIndexOf(' ');
+        if (separator < 0) {
+            return null;
+        }
+        String record = line.substring(0, separator);
+        try {
+            return Long.parseLong(line.substring(separator + 1), 16) == crc(record) ? record : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static long crc(String record) {
+        CRC32 crc = new CRC32();
+        crc.update(record.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    /**
+     * A record and the log position just after it
+     */
+    public static final class Entry {
+        private final String record;
+        private final long end;
+
+        private Entry(String record, long end) {
+            this.record = record;
+            this.end = end;
+        }
+
+        public String getRecord() {
+            return record;
+        }
+
+        public long getEnd() {
+            return end;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.turningpoint.chapterorganizer.util;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Small in-process near-cache: least-recently-used eviction once
+ * {@code maximumSize} entries are held, expiry {@code timeToLive} after an
+ * entry was written, and hit/miss/eviction counters for the metrics endpoint.
+ *
+ * Every write ({@link #put}, {@link #invalidate}, {@link #invalidateAll})
+ * bumps a version number. {@link #getOrLoad} only stores what it loaded if
+ * no write happened while the loader ran, so a read racing a write can never
+ * put the pre-write value back. Null values are never cached.
+ */
+public class BoundedCache<K, V> {
+
+    private final String name;
+    private final int maximumSize;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoClock;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long version;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    public BoundedCache(String name, int maximumSize, Duration timeToLive) {
+        this(name, maximumSize, timeToLive, System::nanoTime);
+    }
+
+    BoundedCache(String name, int maximumSize, Duration timeToLive, LongSupplier nanoClock) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Cache maximum size must be positive");
+        }
+        this.name = name;
+        this.maximumSize = maximumSize;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Cached value for the key, or null on a miss
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && isExpired(entry)) {
+            entries.remove(key);
+            expirations++;
+            entry = null;
+        }
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value;
+    }
+
+    /**
+     * Cached value for the key, loading and caching it on a miss. The loader
+     * runs outside the cache lock and may return null for "not found".
+     */
+    public V getOrLoad(K key, Function<? super K, ? extends V> loader) {
+        long versionBeforeLoad;
+        synchronized (this) {
+            V cached = get(key);
+            if (cached != null) {
+                return cached;
+            }
+            versionBeforeLoad = version;
+        }
+
+        V loaded = loader.apply(key);
+        if (loaded != null) {
+            synchronized (this) {
+                if (version == versionBeforeLoad) {
+                    store(key, loaded);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Write-through: replace the cached value for the key
+     */
+    public synchronized void put(K key, V value) {
+        version++;
+        if (value == null) {
+            entries.remove(key);
+        } else {
+            store(key, value);
+        }
+    }
+
+    public synchronized void invalidate(K key) {
+        version++;
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        version++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Snapshot of the cache's size and counters
+     */
+    public synchronized Map<String, Object> stats() {
+        long requests = hits + misses;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("name", name);
+        stats.put("size", entries.size());
+        stats.put("maximumSize", maximumSize);
+        stats.put("timeToLiveSeconds", timeToLiveNanos / 1_000_000_000L);
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("hitRate", requests == 0 ? 0.0 : (double) hits / requests);
+        stats.put("evictions", evictions);
+        stats.put("expirations", expirations);
+        return stats;
+    }
+
+    private void store(K key, V value) {
+        entries.put(key, new Entry<>(value, nanoClock.getAsLong()));
+        if (entries.size() > maximumSize) {
+            // Drop expired entries first, then the least recently used ones
+            Iterator<Entry<V>> iterator = entries.values().iterator();
+            while (iterator.hasNext() && entries.size() > maximumSize) {
+                if (isExpired(iterator.next())) {
+                    iterator.remove();
+                    expirations++;
+                }
+            }
+            iterator = entries.values().iterator();
+            while (iterator.hasNext() && entries.size() > maximumSize) {
+                iterator.next();
+                iterator.remove();
+                evictions++;
+            }
+        }
+    }
+
+    private boolean isExpired(Entry<V> entry) {
+        return nanoClock.getAsLong() - entry.writtenAt >= timeToLiveNanos;
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long writtenAt;
+
+        private Entry(V value, long writtenAt) {
+            this.value = value;
+            this.writtenAt = writtenAt;
+        }
+    }
+}
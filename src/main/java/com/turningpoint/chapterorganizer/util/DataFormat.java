@@ -0,0 +1,53 @@
+package com.turningpoint.chapterorganizer.util;
+
+import java.util.Locale;
+
+/**
+ * Line-oriented formats used for bulk member/chapter imports and exports.
+ */
+public enum DataFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    DataFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Format for a request Content-Type header
+     */
+    public static DataFormat fromContentType(String contentType) {
+        String type = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+        if (type.startsWith("text/csv")) {
+            return CSV;
+        }
+        if (type.startsWith("application/x-ndjson") || type.startsWith("application/jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Unsupported content type: " + contentType);
+    }
+
+    /**
+     * Format for a {@code format} query parameter such as "csv" or "ndjson"
+     */
+    public static DataFormat fromName(String name) {
+        for (DataFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(name) || format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported format: " + name);
+    }
+}
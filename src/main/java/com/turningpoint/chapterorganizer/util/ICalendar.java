@@ -0,0 +1,95 @@
+package com.turningpoint.chapterorganizer.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writing iCalendar (RFC 5545) content lines: text escaping, CRLF line
+ * endings and folding of lines longer than 75 octets.
+ */
+public final class ICalendar {
+
+    public static final String CONTENT_TYPE = "text/calendar;charset=UTF-8";
+
+    private static final String CRLF = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+
+    private ICalendar() {
+    }
+
+    /**
+     * Append {@code name:value} as a folded content line. The value is
+     * written as is; use {@link #text} for free text.
+     */
+    public static void line(StringBuilder out, String name, String value) {
+        String line = name + ":" + value;
+        int octets = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            boolean pair = Character.isHighSurrogate(c) && i + 1 < line.length();
+            int size = pair ? 4 : utf8Length(c);
+            if (octets + size > MAX_LINE_OCTETS) {
+                // Continuation lines start with a space, which counts towards their length
+                out.append(CRLF).append(' ');
+                octets = 1;
+            }
+            out.append(c);
+            if (pair) {
+                out.append(line.charAt(++i));
+            }
+            octets += size;
+        }
+        out.append(CRLF);
+    }
+
+    /**
+     * A TEXT value with backslashes, semicolons, commas and line breaks escaped
+     */
+    public static String text(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> escaped.append("\\\\");
+                case ';' -> escaped.append("\\;");
+                case ',' -> escaped.append("\\,");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> {
+                }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * A floating DATE-TIME (no time zone), shown in the subscriber's local time
+     */
+    public static String dateTime(LocalDateTime value) {
+        return LOCAL_DATE_TIME.format(value);
+    }
+
+    /**
+     * A UTC DATE-TIME, as required for DTSTAMP and LAST-MODIFIED
+     */
+    public static String utcDateTime(Instant value) {
+        return UTC_DATE_TIME.format(value);
+    }
+
+    public static byte[] toBytes(CharSequence content) {
+        return content.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int utf8Length(char c) {
+        return c < 0x80 ? 1 : c < 0x800 ? 2 : 3;
+    }
+}
@@ -0,0 +1,117 @@
+package com.turningpoint.chapterorganizer.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes flat records as CSV (header row first) or NDJSON (one object per
+ * line, keyed by column name) straight to an output stream, one record at a
+ * time. Values are written as numbers/booleans where they are ones and as
+ * their {@code toString()} otherwise (ISO-8601 for dates). Closing flushes
+ * but does not close the underlying stream.
+ */
+public abstract class RecordWriter implements Closeable {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    protected final List<String> columns;
+
+    protected RecordWriter(List<String> columns) {
+        this.columns = columns;
+    }
+
+    public static RecordWriter create(DataFormat format, OutputStream out, List<String> columns) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        return format == DataFormat.CSV ? new Csv(writer, columns) : new Ndjson(writer, columns);
+    }
+
+    /**
+     * Write one record; values must be in column order
+     */
+    public abstract void write(Object... values) throws IOException;
+
+    private static final class Csv extends RecordWriter {
+        private final Writer writer;
+
+        private Csv(Writer writer, List<String> columns) throws IOException {
+            super(columns);
+            this.writer = writer;
+            write(columns.toArray());
+        }
+
+        @Override
+        public void write(Object... values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (values[i] != null) {
+                    writer.write(escape(values[i].toString()));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                    && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private static final class Ndjson extends RecordWriter {
+        private final Writer writer;
+        private final JsonGenerator generator;
+
+        private Ndjson(Writer writer, List<String> columns) throws IOException {
+            super(columns);
+            this.writer = writer;
+            this.generator = JSON_FACTORY.createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(Object... values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < values.length; i++) {
+                Object value = values[i];
+                generator.writeFieldName(columns.get(i));
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof Long || value instanceof Integer) {
+                    generator.writeNumber(((Number) value).longValue());
+                } else if (value instanceof Boolean) {
+                    generator.writeBoolean((Boolean) value);
+                } else {
+                    generator.writeString(value.toString());
+                }
+            }
+            generator.writeEndObject();
+            generator.flush();
+            writer.write('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.turningpoint.chapterorganizer.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel for large numbers of timers. Time is counted in
+ * ticks of {@code tickMillis}; each level has 64 slots, a slot of level n
+ * spanning 64^n ticks, so {@code levels} levels cover 64^levels ticks.
+ * Timers further out wait in the last level and are placed again when it
+ * comes round.
+ *
+ * Scheduling and cancelling are O(1): a timer is linked into the slot its
+ * deadline falls in. {@link #advance} moves the wheel up to a time and
+ * returns what expired; whenever a level's slot comes up, its timers are
+ * spread over the level below. A timer never expires before its deadline,
+ * and at most one tick after it.
+ */
+public class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private final long tickMillis;
+    private final int levels;
+    // One sentinel per slot, level by level
+    private final Timer<T>[] slots;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public TimingWheel(long tickMillis, int levels, long startMillis) {
+        if (tickMillis <= 0 || levels <= 0 || SLOT_BITS * levels >= Long.SIZE - 2) {
+            throw new IllegalArgumentException("Invalid timing wheel tick or levels");
+        }
+        this.tickMillis = tickMillis;
+        this.levels = levels;
+        this.slots = new Timer[levels * SLOTS];
+        for (int i = 0; i < slots.length; i++) {
+            Timer<T> sentinel = new Timer<>(0, null);
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+            slots[i] = sentinel;
+        }
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * Add a timer expiring at {@code dueMillis}; due times already passed
+     * expire at the next tick
+     */
+    public synchronized Timer<T> schedule(long dueMillis, T payload) {
+        // Rounded up so a timer never expires early
+        Timer<T> timer = new Timer<>(Math.floorDiv(dueMillis + tickMillis - 1, tickMillis), payload);
+        link(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * Remove a pending timer
+     *
+     * @return false if it already expired or was cancelled
+     */
+    public synchronized boolean cancel(Timer<T> timer) {
+        if (!timer.isPending()) {
+            return false;
+        }
+        unlink(timer);
+        size--;
+        return true;
+    }
+
+    /**
+     * Move the wheel up to {@code nowMillis}
+     *
+     * @return payloads of the timers that expired, in deadline order
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        List<T> expired = new ArrayList<>();
+        if (size == 0) {
+            // Nothing to cascade, so the wheel can jump ahead
+            currentTick = Math.max(currentTick, targetTick + 1);
+            return expired;
+        }
+        while (currentTick <= targetTick) {
+            for (int level = 1; level < levels && (currentTick & lowBits(level)) == 0; level++) {
+                cascade(level, slotIndex(currentTick, level));
+            }
+            Timer<T> sentinel = slots[(int) (currentTick & SLOT_MASK)];
+            while (sentinel.next != sentinel) {
+                Timer<T> timer = sentinel.next;
+                unlink(timer);
+                size--;
+                expired.add(timer.payload);
+            }
+            currentTick++;
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void link(Timer<T> timer) {
+        long delta = timer.deadline - currentTick;
+        int level = 0;
+        long slotTick = Math.max(timer.deadline, currentTick);
+        while (level < levels - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        if (delta >= 1L << (SLOT_BITS * levels)) {
+            // Beyond the wheel: park in the last slot of the top level, placed again when it cascades
+            slotTick = currentTick + (1L << (SLOT_BITS * levels)) - 1;
+        }
+        Timer<T> sentinel = slots[level * SLOTS + slotIndex(slotTick, level)];
+        timer.prev = sentinel.prev;
+        timer.next = sentinel;
+        sentinel.prev.next = timer;
+        sentinel.prev = timer;
+    }
+
+    private void unlink(Timer<T> timer) {
+        timer.prev.next = timer.next;
+        timer.next.prev = timer.prev;
+        timer.prev = null;
+        timer.next = null;
+    }
+
+    private void cascade(int level, int index) {
+        Timer<T> sentinel = slots[level * SLOTS + index];
+        Timer<T> timer = sentinel.next;
+        sentinel.prev = sentinel;
+        sentinel.next = sentinel;
+        while (timer != sentinel) {
+            Timer<T> next = timer.next;
+            link(timer);
+            timer = next;
+        }
+    }
+
+    private static int slotIndex(long tick, int level) {
+        return (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+    }
+
+    private static long lowBits(int level) {
+        return (1L << (SLOT_BITS * level)) - 1;
+    }
+
+    /**
+     * Handle of a scheduled timer, for cancelling it
+     */
+    public static final class Timer<T> {
+        private final long deadline;
+        private final T payload;
+        private Timer<T> prev;
+        private Timer<T> next;
+
+        private Timer(long deadline, T payload) {
+            this.deadline = deadline;
+            this.payload = payload;
+        }
+
+        public T getPayload() {
+            return payload;
+        }
+
+        /**
+         * Whether the timer has neither expired nor been cancelled
+         */
+        public boolean isPending() {
+            return next != null;
+        }
+    }
+}
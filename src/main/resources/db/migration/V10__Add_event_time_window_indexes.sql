@@ -0,0 +1,4 @@
+-- Event listings are bounded by a time window and keyset-paginated in
+-- (event_date_time, id) order, across all chapters or within one chapter.
+CREATE INDEX IF NOT EXISTS idx_events_event_date_time_id ON events (event_date_time, id);
+CREATE INDEX IF NOT EXISTS idx_events_chapter_id_event_date_time_id ON events (chapter_id, event_date_time, id);
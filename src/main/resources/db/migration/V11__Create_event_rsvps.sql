@@ -0,0 +1,17 @@
+-- Member RSVPs to events. A GOING row holds one of the event's seats, which
+-- are counted in events.current_attendees and taken with a conditional
+-- UPDATE (current_attendees < max_attendees) so concurrent RSVPs cannot
+-- oversell an event. One row per event and member.
+CREATE SEQUENCE IF NOT EXISTS event_rsvps_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS event_rsvps (
+    id BIGINT PRIMARY KEY,
+    event_id BIGINT NOT NULL REFERENCES events (id) ON DELETE CASCADE,
+    member_id BIGINT NOT NULL REFERENCES members (id) ON DELETE CASCADE,
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    CONSTRAINT uk_event_rsvps_event_member UNIQUE (event_id, member_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_event_rsvps_event_id_status ON event_rsvps (event_id, status);
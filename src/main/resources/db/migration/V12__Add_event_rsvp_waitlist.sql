@@ -0,0 +1,5 @@
+-- Event waitlists. A WAITLISTED RSVP waits for a seat and is promoted to
+-- GOING when one frees up, lowest waitlist_priority first, then earliest
+-- waitlisted_at. The waitlist is read back by (event_id, status).
+ALTER TABLE event_rsvps ADD COLUMN IF NOT EXISTS waitlist_priority INTEGER;
+ALTER TABLE event_rsvps ADD COLUMN IF NOT EXISTS waitlisted_at TIMESTAMP;
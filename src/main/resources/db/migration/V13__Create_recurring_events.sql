@@ -0,0 +1,41 @@
+-- Recurring events. A rule is stored once and its occurrences are expanded
+-- for the queried window only. Listings select the rules whose series
+-- overlaps the window by (start_date_time, series_end); series_end is the
+-- start of the last occurrence, NULL for open-ended series.
+CREATE SEQUENCE IF NOT EXISTS recurring_events_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS recurring_events (
+    id BIGINT PRIMARY KEY,
+    title VARCHAR(150) NOT NULL,
+    description VARCHAR(1000),
+    location VARCHAR(200),
+    type VARCHAR(50) NOT NULL,
+    max_attendees INTEGER,
+    start_date_time TIMESTAMP NOT NULL,
+    pattern VARCHAR(20) NOT NULL,
+    repeat_interval INTEGER NOT NULL DEFAULT 1,
+    occurrence_limit INTEGER,
+    until_date_time TIMESTAMP,
+    series_end TIMESTAMP,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    chapter_id BIGINT NOT NULL REFERENCES chapters (id) ON DELETE CASCADE,
+    version BIGINT,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_recurring_events_window ON recurring_events (active, start_date_time, series_end);
+CREATE INDEX IF NOT EXISTS idx_recurring_events_chapter_id ON recurring_events (chapter_id);
+
+-- Skipped occurrences, one row per occurrence date
+CREATE TABLE IF NOT EXISTS recurring_event_exceptions (
+    recurring_event_id BIGINT NOT NULL REFERENCES recurring_events (id) ON DELETE CASCADE,
+    excluded_date DATE NOT NULL,
+    PRIMARY KEY (recurring_event_id, excluded_date)
+);
+
+-- An event row can override one occurrence of a rule (a changed time,
+-- place or capacity, or RSVPs to that occurrence)
+ALTER TABLE events ADD COLUMN IF NOT EXISTS recurring_event_id BIGINT REFERENCES recurring_events (id) ON DELETE SET NULL;
+ALTER TABLE events ADD COLUMN IF NOT EXISTS occurrence_date DATE;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_events_recurring_event_occurrence ON events (recurring_event_id, occurrence_date);
@@ -0,0 +1,5 @@
+-- Calendar feeds are revalidated on every poll with an aggregate over a
+-- chapter's events (count, latest updated_at) or a member's RSVPs, and a
+-- changed chapter feed re-reads only its events updated since the last one.
+CREATE INDEX IF NOT EXISTS idx_events_chapter_id_updated_at ON events (chapter_id, updated_at);
+CREATE INDEX IF NOT EXISTS idx_event_rsvps_member_id ON event_rsvps (member_id);
@@ -0,0 +1,5 @@
+-- Reminders before events: the lead (minutes before the start) of the last
+-- reminder sent and the start time it was sent for, so a restart does not
+-- remind members twice and a moved event is reminded again.
+ALTER TABLE events ADD COLUMN IF NOT EXISTS reminder_sent_minutes INTEGER;
+ALTER TABLE events ADD COLUMN IF NOT EXISTS reminder_sent_for TIMESTAMP;
@@ -0,0 +1,4 @@
+-- Check-ins at the door: when each member was scanned in, and a running
+-- count per event. Both are written only by the batched check-in apply.
+ALTER TABLE event_rsvps ADD COLUMN IF NOT EXISTS checked_in_at TIMESTAMP;
+ALTER TABLE events ADD COLUMN IF NOT EXISTS checked_in_count INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,10 @@
+-- Denormalized active member counter used to rank chapters within a state
+ALTER TABLE chapters ADD COLUMN IF NOT EXISTS active_member_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE chapters c
+SET active_member_count = (
+    SELECT COUNT(*) FROM members m WHERE m.chapter_id = c.id AND m.active = TRUE
+);
+
+CREATE INDEX IF NOT EXISTS idx_chapters_state_active_member_count
+    ON chapters (state, active, active_member_count);
@@ -0,0 +1,29 @@
+-- Trigram indexes for case-insensitive substring search (PostgreSQL only).
+--
+-- Spring Data renders *ContainingIgnoreCase derived queries as
+-- UPPER(col) LIKE UPPER(?), and the Specification-based criteria searches
+-- use the same shape, so every index is built on UPPER(col). A GIN
+-- gin_trgm_ops index can serve LIKE '%x%' patterns, which a btree index
+-- cannot. The dev profile runs on H2 with Hibernate-managed schema and never
+-- applies this script; the same queries simply run as scans there.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Chapters: findChaptersByCriteria / ChapterSpecifications, findByUniversityNameContainingIgnoreCase
+CREATE INDEX IF NOT EXISTS idx_chapters_name_trgm ON chapters USING gin (UPPER(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_chapters_university_name_trgm ON chapters USING gin (UPPER(university_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_chapters_upper_state ON chapters (UPPER(state));
+CREATE INDEX IF NOT EXISTS idx_chapters_upper_city ON chapters (UPPER(city));
+
+-- Members: findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase,
+-- findByMajorContainingIgnoreCase, findMembersByCriteria
+CREATE INDEX IF NOT EXISTS idx_members_first_name_trgm ON members USING gin (UPPER(first_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_members_last_name_trgm ON members USING gin (UPPER(last_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_members_email_trgm ON members USING gin (UPPER(email) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_members_major_trgm ON members USING gin (UPPER(major) gin_trgm_ops);
+
+-- Events: findByTitleContainingIgnoreCase, findByLocationContainingIgnoreCase, findEventsByCriteria
+CREATE INDEX IF NOT EXISTS idx_events_title_trgm ON events USING gin (UPPER(title) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_events_location_trgm ON events USING gin (UPPER(location) gin_trgm_ops);
+
+-- Institutions: findByNameContainingIgnoreCase
+CREATE INDEX IF NOT EXISTS idx_institutions_name_trgm ON institutions USING gin (UPPER(name) gin_trgm_ops);
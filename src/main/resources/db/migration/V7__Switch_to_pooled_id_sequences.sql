@@ -0,0 +1,27 @@
+-- Chapters, members, events and institutions switch from IDENTITY columns to
+-- pooled sequences (allocationSize = 50) so Hibernate can batch inserts.
+-- Each sequence starts past the current maximum id plus one full block, so
+-- the first block Hibernate reserves can never overlap existing rows.
+-- The id columns lose their database default: ids are assigned by the
+-- application, and mixing plain nextval() defaults with pooled blocks would
+-- hand out colliding ids.
+
+CREATE SEQUENCE IF NOT EXISTS chapters_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS members_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS events_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS institutions_seq INCREMENT BY 50;
+
+SELECT setval('chapters_seq', COALESCE((SELECT MAX(id) FROM chapters), 0) + 50);
+SELECT setval('members_seq', COALESCE((SELECT MAX(id) FROM members), 0) + 50);
+SELECT setval('events_seq', COALESCE((SELECT MAX(id) FROM events), 0) + 50);
+SELECT setval('institutions_seq', COALESCE((SELECT MAX(id) FROM institutions), 0) + 50);
+
+ALTER TABLE chapters ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE members ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE events ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE institutions ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+ALTER TABLE chapters ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE members ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE events ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE institutions ALTER COLUMN id DROP DEFAULT;
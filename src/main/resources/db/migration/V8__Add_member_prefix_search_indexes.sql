@@ -0,0 +1,14 @@
+-- Prefix search indexes for the member search (PostgreSQL only).
+--
+-- MemberSpecifications emits only the supplied criteria, and text criteria
+-- as anchored UPPER(col) LIKE 'X%' patterns. With a non-C collation a plain
+-- btree cannot serve LIKE, so these use text_pattern_ops (UPPER() yields
+-- text); the planner turns the prefix into an index range scan. The V6
+-- trigram indexes remain for substring searches.
+CREATE INDEX IF NOT EXISTS idx_members_upper_first_name_prefix ON members (UPPER(first_name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_members_upper_last_name_prefix ON members (UPPER(last_name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_members_upper_email_prefix ON members (UPPER(email) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_members_upper_major_prefix ON members (UPPER(major) text_pattern_ops);
+
+-- Chapter-scoped searches page through a chapter's members in id order
+CREATE INDEX IF NOT EXISTS idx_members_chapter_id_id ON members (chapter_id, id);
@@ -0,0 +1,19 @@
+-- Review queue for the batch duplicate member scan. Each pair is stored once,
+-- lower member id first. Pending rows are replaced by every scan; confirmed
+-- and dismissed rows are kept so a pair is not queued again.
+CREATE SEQUENCE IF NOT EXISTS member_duplicate_candidates_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS member_duplicate_candidates (
+    id BIGINT PRIMARY KEY,
+    member_id BIGINT NOT NULL REFERENCES members (id) ON DELETE CASCADE,
+    duplicate_member_id BIGINT NOT NULL REFERENCES members (id) ON DELETE CASCADE,
+    score DOUBLE PRECISION NOT NULL,
+    reasons VARCHAR(255) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    detected_at TIMESTAMP NOT NULL,
+    reviewed_at TIMESTAMP,
+    CONSTRAINT uk_member_duplicate_candidates_pair UNIQUE (member_id, duplicate_member_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_member_duplicate_candidates_status_score
+    ON member_duplicate_candidates (status, score DESC);
@@ -0,0 +1,187 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.entity.Chapter;
+import com.turningpoint.chapterorganizer.entity.Event;
+import com.turningpoint.chapterorganizer.entity.RecurrencePattern;
+import com.turningpoint.chapterorganizer.entity.RecurringEvent;
+import com.turningpoint.chapterorganizer.repository.EventRSVPRepository;
+import com.turningpoint.chapterorganizer.repository.EventRepository;
+import com.turningpoint.chapterorganizer.repository.MemberRepository;
+import com.turningpoint.chapterorganizer.repository.RecurringEventRepository;
+import com.turningpoint.chapterorganizer.util.BoundedCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarFeedServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventRSVPRepository rsvpRepository;
+
+    @Mock
+    private RecurringEventRepository recurringEventRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private ChapterService chapterService;
+
+    private CalendarFeedService calendarFeedService;
+    private Chapter chapter;
+    private LocalDateTime updated;
+
+    @BeforeEach
+    void setUp() {
+        chapter = new Chapter();
+        chapter.setId(1L);
+        chapter.setName("Davis");
+        updated = LocalDateTime.of(2030, 1, 1, 12, 0);
+        lenient().when(chapterService.getChapterById(1L)).thenReturn(Optional.of(chapter));
+        calendarFeedService = new CalendarFeedService(eventRepository, rsvpRepository, recurringEventRepository,
+                memberRepository, chapterService, new BoundedCache<>("calendarFeeds", 10, Duration.ofHours(1)));
+    }
+
+    @Test
+    void getChapterFeed_ShouldRenderEventsAndRecurringEvents() {
+        // Given
+        RecurringEvent weekly = new RecurringEvent("Weekly Meeting", LocalDateTime.of(2030, 1, 7, 19, 0),
+                RecurrencePattern.WEEKLY, chapter);
+        weekly.setId(7L);
+        weekly.setSeriesEnd(LocalDateTime.of(2030, 3, 25, 19, 0));
+        weekly.getExcludedDates().add(LocalDate.of(2030, 1, 14));
+        Event override = event(11L, "Weekly Meeting, moved", LocalDateTime.of(2030, 1, 21, 20, 0));
+        override.setRecurringEventId(7L);
+        override.setOccurrenceDate(LocalDate.of(2030, 1, 21));
+        stamp(1, updated);
+        when(recurringEventRepository.findByChapterIdAndActiveTrueOrderByStartDateTimeAsc(1L))
+                .thenReturn(List.of(weekly));
+        when(eventRepository.findByChapterIdAndEventDateTimeGreaterThanEqualOrderByEventDateTimeAsc(eq(1L),
+                any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(override));
+
+        // When
+        String ics = content(calendarFeedService.getChapterFeed(1L));
+
+        // Then
+        assertThat(ics).startsWith("BEGIN:VCALENDAR\r\n").endsWith("END:VCALENDAR\r\n")
+                .contains("X-WR-CALNAME:Davis Events\r\n")
+                .contains("RRULE:FREQ=WEEKLY;UNTIL=20300325T190000\r\n")
+                .contains("EXDATE:20300114T190000\r\n")
+                .contains("RECURRENCE-ID:20300121T190000\r\n")
+                .contains("SUMMARY:Weekly Meeting\\, moved\r\n");
+        assertThat(ics.split("UID:recurring-7@chapter-organizer", -1)).hasSize(3);
+    }
+
+    @Test
+    void getChapterFeed_WhenUnchanged_ShouldServeCachedFeedWithSameETag() {
+        // Given
+        stamp(1, updated);
+        when(eventRepository.findByChapterIdAndEventDateTimeGreaterThanEqualOrderByEventDateTimeAsc(eq(1L),
+                any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(event(1L, "Social", LocalDateTime.of(2030, 2, 1, 18, 0))));
+
+        // When
+        CalendarFeed first = calendarFeedService.getChapterFeed(1L);
+        CalendarFeed second = calendarFeedService.getChapterFeed(1L);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(second.getETag()).startsWith("W/\"");
+        verify(eventRepository, times(1)).findByChapterIdAndEventDateTimeGreaterThanEqualOrderByEventDateTimeAsc(
+                eq(1L), any(LocalDateTime.class), any(Pageable.class));
+    }
+
+    @Test
+    void getChapterFeed_WhenEventsChange_ShouldRenderOnlyChangedEvents() {
+        // Given
+        Event social = event(1L, "Social", LocalDateTime.of(2030, 2, 1, 18, 0));
+        stamp(1, updated);
+        when(eventRepository.findByChapterIdAndEventDateTimeGreaterThanEqualOrderByEventDateTimeAsc(eq(1L),
+                any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(social));
+        CalendarFeed first = calendarFeedService.getChapterFeed(1L);
+
+        LocalDateTime later = updated.plusMinutes(5);
+        Event added = event(2L, "Fundraiser", LocalDateTime.of(2030, 2, 8, 18, 0));
+        added.setUpdatedAt(later);
+        stamp(2, later);
+        when(eventRepository.findByChapterIdAndUpdatedAtGreaterThanEqual(1L, updated)).thenReturn(List.of(added));
+
+        // When
+        CalendarFeed second = calendarFeedService.getChapterFeed(1L);
+
+        // Then
+        assertThat(second.getETag()).isNotEqualTo(first.getETag());
+        assertThat(content(second)).contains("SUMMARY:Social").contains("SUMMARY:Fundraiser");
+        verify(eventRepository, times(1)).findByChapterIdAndEventDateTimeGreaterThanEqualOrderByEventDateTimeAsc(
+                eq(1L), any(LocalDateTime.class), any(Pageable.class));
+    }
+
+    @Test
+    void getChapterFeed_WhenEventsWereDeleted_ShouldRebuild() {
+        // Given
+        Event social = event(1L, "Social", LocalDateTime.of(2030, 2, 1, 18, 0));
+        Event fundraiser = event(2L, "Fundraiser", LocalDateTime.of(2030, 2, 8, 18, 0));
+        stamp(2, updated);
+        when(eventRepository.findByChapterIdAndEventDateTimeGreaterThanEqualOrderByEventDateTimeAsc(eq(1L),
+                any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(social, fundraiser))
+                .thenReturn(List.of(social));
+        calendarFeedService.getChapterFeed(1L);
+        stamp(1, updated);
+
+        // When
+        CalendarFeed rebuilt = calendarFeedService.getChapterFeed(1L);
+
+        // Then
+        assertThat(content(rebuilt)).contains("SUMMARY:Social").doesNotContain("Fundraiser");
+    }
+
+    @Test
+    void recurrenceRule_ShouldFallOnLastDayOfShortMonths() {
+        // Given
+        RecurringEvent monthly = new RecurringEvent("Board", LocalDateTime.of(2030, 1, 31, 19, 0),
+                RecurrencePattern.MONTHLY, chapter);
+        monthly.setRepeatInterval(2);
+
+        // When & Then
+        assertThat(CalendarFeedService.recurrenceRule(monthly))
+                .isEqualTo("FREQ=MONTHLY;INTERVAL=2;BYMONTHDAY=28,29,30,31;BYSETPOS=-1");
+    }
+
+    private void stamp(long eventCount, LocalDateTime lastEventUpdate) {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] {eventCount, Timestamp.valueOf(lastEventUpdate), 0L, null, null});
+        when(eventRepository.findChapterFeedStamp(1L)).thenReturn(rows);
+    }
+
+    private Event event(Long id, String title, LocalDateTime start) {
+        Event event = new Event(title, start, chapter);
+        event.setId(id);
+        event.setActive(true);
+        event.setUpdatedAt(updated);
+        return event;
+    }
+
+    private static String content(CalendarFeed feed) {
+        return new String(feed.getContent(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,149 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.dto.ChapterDetailDto;
+import com.turningpoint.chapterorganizer.dto.EventSummaryDto;
+import com.turningpoint.chapterorganizer.entity.EventType;
+import com.turningpoint.chapterorganizer.entity.MemberRole;
+import com.turningpoint.chapterorganizer.repository.ChapterRepository;
+import com.turningpoint.chapterorganizer.repository.EventRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChapterDetailServiceTest {
+
+    @Mock
+    private ChapterRepository chapterRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @InjectMocks
+    private ChapterDetailService chapterDetailService;
+
+    @Test
+    void getChapterDetail_ShouldAssembleOfficersAndEvents_WhenChapterExists() {
+        // Given
+        when(chapterRepository.findChapterWithOfficers(1L)).thenReturn(Arrays.asList(
+                row(5L, "Tom", "Treasurer", MemberRole.TREASURER),
+                row(3L, "Pat", "President", MemberRole.PRESIDENT)));
+        EventSummaryDto event = new EventSummaryDto(7L, 1L, "Kickoff", LocalDateTime.now().plusDays(2),
+                "Union", EventType.MEETING);
+        when(eventRepository.findUpcomingEventSummariesByChapter(eq(1L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(event));
+
+        // When
+        Optional<ChapterDetailDto> result = chapterDetailService.getChapterDetail(1L);
+
+        // Then
+        assertThat(result).isPresent();
+        ChapterDetailDto detail = result.get();
+        assertThat(detail.getName()).isEqualTo("Test Chapter");
+        assertThat(detail.getActiveMemberCount()).isEqualTo(12);
+        assertThat(detail.getOfficers()).extracting("role")
+                .containsExactly(MemberRole.PRESIDENT, MemberRole.TREASURER);
+        assertThat(detail.getPresident().getId()).isEqualTo(3L);
+        assertThat(detail.getUpcomingEvents()).containsExactly(event);
+    }
+
+    @Test
+    void getChapterDetail_ShouldReturnEmptyOfficers_WhenChapterHasNone() {
+        // Given
+        when(chapterRepository.findChapterWithOfficers(1L))
+                .thenReturn(Collections.singletonList(row(null, null, null, null)));
+        when(eventRepository.findUpcomingEventSummariesByChapter(eq(1L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        ChapterDetailDto detail = chapterDetailService.getChapterDetail(1L).orElseThrow();
+
+        // Then
+        assertThat(detail.getOfficers()).isEmpty();
+        assertThat(detail.getPresident()).isNull();
+    }
+
+    @Test
+    void getChapterDetail_ShouldReturnEmpty_WhenChapterNotFound() {
+        // Given
+        when(chapterRepository.findChapterWithOfficers(999L)).thenReturn(Collections.emptyList());
+
+        // When
+        Optional<ChapterDetailDto> result = chapterDetailService.getChapterDetail(999L);
+
+        // Then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void getChapterDetail_ShouldServeFromCache_UntilChapterChanges() {
+        // Given
+        when(chapterRepository.findChapterWithOfficers(1L))
+                .thenReturn(Collections.singletonList(row(null, null, null, null)));
+        when(eventRepository.findUpcomingEventSummariesByChapter(eq(1L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        chapterDetailService.getChapterDetail(1L);
+        chapterDetailService.getChapterDetail(1L);
+        chapterDetailService.onChapterDataChanged(new ChapterDataChangedEvent(1L));
+        chapterDetailService.getChapterDetail(1L);
+
+        // Then
+        verify(chapterRepository, times(2)).findChapterWithOfficers(1L);
+    }
+
+    @Test
+    void getChapterDetail_ShouldNotCache_WhenChapterChangesDuringLoad() {
+        // Given
+        when(chapterRepository.findChapterWithOfficers(1L)).thenAnswer(invocation -> {
+            // A write to the chapter commits while this read is in flight
+            chapterDetailService.onChapterDataChanged(new ChapterDataChangedEvent(1L));
+            return Collections.singletonList(row(null, null, null, null));
+        });
+        when(eventRepository.findUpcomingEventSummariesByChapter(eq(1L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        Optional<ChapterDetailDto> result = chapterDetailService.getChapterDetail(1L);
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(chapterDetailService.cachedCount()).isZero();
+    }
+
+    @Test
+    void onChapterDataChanged_ShouldClearEverything_ForAllChaptersEvent() {
+        // Given
+        when(chapterRepository.findChapterWithOfficers(1L))
+                .thenReturn(Collections.singletonList(row(null, null, null, null)));
+        when(eventRepository.findUpcomingEventSummariesByChapter(eq(1L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+        chapterDetailService.getChapterDetail(1L);
+
+        // When
+        chapterDetailService.onChapterDataChanged(ChapterDataChangedEvent.allChapters());
+
+        // Then
+        assertThat(chapterDetailService.cachedCount()).isZero();
+    }
+
+    private static Object[] row(Long memberId, String firstName, String lastName, MemberRole role) {
+        return new Object[] { 1L, "Test Chapter", "Test University", "California", "Los Angeles",
+                "A chapter", true, 12, memberId, firstName, lastName, role };
+    }
+}
@@ -0,0 +1,132 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.dto.ChapterSummaryDto;
+import com.turningpoint.chapterorganizer.entity.Chapter;
+import com.turningpoint.chapterorganizer.repository.ChapterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChapterSearchIndexTest {
+
+    @Mock
+    private ChapterRepository chapterRepository;
+
+    @InjectMocks
+    private ChapterSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(chapterRepository.findAllChapterSummaries()).thenReturn(Arrays.asList(
+                summary(1L, "Bruins Chapter", "University of California, Los Angeles", "CA", "Los Angeles", true),
+                summary(2L, "Trojans Chapter", "University of Southern California", "CA", "Los Angeles", true),
+                summary(3L, "Longhorns Chapter", "University of Texas at Austin", "TX", "Austin", true),
+                summary(4L, "Old Bears", "University of California, Berkeley", "CA", "Berkeley", false)));
+        searchIndex.rebuild();
+    }
+
+    @Test
+    void rebuild_ShouldMarkIndexReady() {
+        assertThat(searchIndex.isReady()).isTrue();
+        assertThat(searchIndex.size()).isEqualTo(4);
+    }
+
+    @Test
+    void search_ShouldMatchSubstringsIgnoringCase() {
+        assertThat(searchIndex.search(null, "CALIFORNIA", null, null, null)).containsExactly(1L, 2L, 4L);
+        assertThat(searchIndex.search("horn", null, null, null, null)).containsExactly(3L);
+    }
+
+    @Test
+    void search_ShouldHandleQueriesShorterThanOneGram() {
+        assertThat(searchIndex.search("tr", null, null, null, null)).containsExactly(2L);
+    }
+
+    @Test
+    void search_ShouldCombineCriteria() {
+        assertThat(searchIndex.search("chapter", "california", "ca", "los angeles", true)).containsExactly(1L, 2L);
+        assertThat(searchIndex.search(null, null, "CA", null, true)).containsExactly(1L, 2L);
+        assertThat(searchIndex.search(null, null, "CA", null, false)).containsExactly(4L);
+    }
+
+    @Test
+    void search_ShouldReturnEmpty_WhenNoGramMatches() {
+        assertThat(searchIndex.search("xyz", null, null, null, null)).isEmpty();
+    }
+
+    @Test
+    void onChapterSaved_ShouldReplacePreviousEntry() {
+        // Given
+        Chapter renamed = new Chapter("Aggies Chapter", "Texas A&M University", "TX", "College Station");
+        renamed.setId(3L);
+        renamed.setActive(true);
+
+        // When
+        searchIndex.onChapterSaved(renamed);
+
+        // Then
+        assertThat(searchIndex.search("horn", null, null, null, null)).isEmpty();
+        assertThat(searchIndex.search("aggie", null, null, "college station", null)).containsExactly(3L);
+        assertThat(searchIndex.size()).isEqualTo(4);
+    }
+
+    @Test
+    void onChapterRemoved_ShouldDropEntry() {
+        searchIndex.onChapterRemoved(1L);
+
+        assertThat(searchIndex.search("bruins", null, null, null, null)).isEmpty();
+        assertThat(searchIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    void rebuild_ShouldKeepChaptersSavedWhileReadingTheTable() throws Exception {
+        // Given
+        Chapter created = new Chapter("Aggies Chapter", "Texas A&M University", "TX", "College Station");
+        created.setId(5L);
+        created.setActive(true);
+        Thread saver = new Thread(() -> searchIndex.onChapterSaved(created));
+        when(chapterRepository.findAllChapterSummaries()).thenAnswer(invocation -> {
+            saver.start();
+            saver.join(200);
+            return Arrays.asList(summary(1L, "Bruins Chapter", "University of California, Los Angeles", "CA",
+                    "Los Angeles", true));
+        });
+
+        // When
+        searchIndex.rebuild();
+        saver.join();
+
+        // Then
+        assertThat(searchIndex.search("aggie", null, null, null, null)).containsExactly(5L);
+        assertThat(searchIndex.size()).isEqualTo(2);
+    }
+
+    private ChapterSummaryDto summary(Long id, String name, String university, String state, String city,
+            boolean active) {
+        return new ChapterSummaryDto(id, name, university, state, city, active, 0, LocalDateTime.now());
+    }
+
+    @Test
+    void rebuild_ShouldSkip_WhenDatabaseSearchModeSelected() {
+        // Given
+        ChapterSearchIndex disabledIndex = new ChapterSearchIndex(chapterRepository);
+        disabledIndex.setSearchMode("database");
+
+        // When
+        disabledIndex.rebuild();
+
+        // Then
+        assertThat(disabledIndex.isReady()).isFalse();
+        verify(chapterRepository, times(1)).findAllChapterSummaries();
+    }
+}
@@ -1,17 +1,39 @@
 package com.turningpoint.chapterorganizer.service;
 
+import com.turningpoint.chapterorganizer.dto.ChapterDto;
+import com.turningpoint.chapterorganizer.dto.ChapterSummaryDto;
+import com.turningpoint.chapterorganizer.dto.CursorPage;
+import com.turningpoint.chapterorganizer.dto.MemberSummaryDto;
 import com.turningpoint.chapterorganizer.entity.Chapter;
+import com.turningpoint.chapterorganizer.entity.MemberRole;
 import com.turningpoint.chapterorganizer.repository.ChapterRepository;
+import com.turningpoint.chapterorganizer.repository.EventRepository;
+import com.turningpoint.chapterorganizer.repository.MemberRepository;
+import com.turningpoint.chapterorganizer.util.BoundedCache;
+import com.turningpoint.chapterorganizer.util.DataFormat;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -23,6 +45,27 @@ class ChapterServiceTest {
     @Mock
     private ChapterRepository chapterRepository;
 
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private ChapterSearchIndex searchIndex;
+
+    @Mock
+    private EventScheduleIndex scheduleIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private BoundedCache<Long, Chapter> chapterCache = new BoundedCache<>("chapters", 100, Duration.ofMinutes(10));
+
     @InjectMocks
     private ChapterService chapterService;
 
@@ -95,6 +138,76 @@ class ChapterServiceTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void getChapterById_ShouldServeRepeatLookupsFromCache() {
+        // Given
+        when(chapterRepository.findById(1L)).thenReturn(Optional.of(testChapter));
+
+        // When
+        chapterService.getChapterById(1L);
+        Optional<Chapter> result = chapterService.getChapterById(1L);
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get()).isNotSameAs(testChapter);
+        assertThat(result.get().getId()).isEqualTo(1L);
+        verify(chapterRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void updateChapter_ShouldWriteThroughToCache() {
+        // Given
+        Chapter updated = new Chapter("Renamed Chapter", "Test University", "California", "Los Angeles");
+        when(chapterRepository.findById(1L)).thenReturn(Optional.of(testChapter));
+        when(chapterRepository.existsByNameIgnoreCaseAndUniversityNameIgnoreCase(anyString(), anyString()))
+                .thenReturn(false);
+        when(chapterRepository.save(any(Chapter.class))).thenReturn(testChapter);
+        chapterService.getChapterById(1L);
+
+        // When
+        chapterService.updateChapter(1L, updated);
+        Optional<Chapter> result = chapterService.getChapterById(1L);
+
+        // Then
+        assertThat(result.get().getName()).isEqualTo("Renamed Chapter");
+        verify(chapterRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void getChapter_ShouldReadActiveMemberCountAlongsideCachedChapter() {
+        // Given
+        testChapter.setActiveMemberCount(5);
+        when(chapterRepository.findById(1L)).thenReturn(Optional.of(testChapter));
+        when(chapterRepository.findActiveMemberCountById(1L)).thenReturn(Optional.of(5)).thenReturn(Optional.of(6));
+
+        // When
+        Optional<ChapterDto> first = chapterService.getChapter(1L);
+        Optional<ChapterDto> second = chapterService.getChapter(1L);
+
+        // Then
+        assertThat(first.get().getName()).isEqualTo(testChapter.getName());
+        assertThat(first.get().getActiveMemberCount()).isEqualTo(5);
+        assertThat(second.get().getActiveMemberCount()).isEqualTo(6);
+        assertThat(chapterService.getChapterById(1L).get().getActiveMemberCount()).isNull();
+        verify(chapterRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void permanentlyDeleteChapter_ShouldEvictCachedChapter() {
+        // Given
+        when(chapterRepository.findById(1L)).thenReturn(Optional.of(testChapter)).thenReturn(Optional.empty());
+        when(chapterRepository.existsById(1L)).thenReturn(true);
+        chapterService.getChapterById(1L);
+
+        // When
+        chapterService.permanentlyDeleteChapter(1L);
+        Optional<Chapter> result = chapterService.getChapterById(1L);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(chapterRepository, times(2)).findById(1L);
+    }
+
     @Test
     void getAllActiveChapters_ShouldReturnActiveChapters() {
         // Given
@@ -182,6 +295,64 @@ class ChapterServiceTest {
         assertThat(result.get(0).getState()).isEqualToIgnoringCase("California");
     }
 
+    @Test
+    void searchChaptersByState_ShouldAnswerFromIndex_WhenIndexReady() {
+        // Given
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search(null, null, "California", null, true)).thenReturn(Arrays.asList(1L));
+        when(chapterRepository.findAllById(Arrays.asList(1L))).thenReturn(Arrays.asList(testChapter));
+
+        // When
+        List<Chapter> result = chapterService.searchChaptersByState("California");
+
+        // Then
+        assertThat(result).containsExactly(testChapter);
+        verify(chapterRepository, never()).findByStateIgnoreCaseAndActive(anyString(), any());
+    }
+
+    @Test
+    void searchChapters_ShouldSkipDatabase_WhenIndexFindsNothing() {
+        // Given
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search("zzz", null, null, null, true)).thenReturn(Collections.emptyList());
+
+        // When
+        List<Chapter> result = chapterService.searchChapters("zzz", null, null, null, true);
+
+        // Then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(chapterRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void searchChapters_ShouldUseDynamicQuery_WhenIndexNotReady() {
+        // Given
+        when(searchIndex.isReady()).thenReturn(false);
+        when(chapterRepository.findAll(any(Specification.class), any(Sort.class))).thenReturn(Arrays.asList(testChapter));
+
+        // When
+        List<Chapter> result = chapterService.searchChapters("test", null, null, null, true);
+
+        // Then
+        assertThat(result).containsExactly(testChapter);
+        verify(chapterRepository, never()).findChaptersByCriteria(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void updateChapter_ShouldRefreshSearchIndex() {
+        // Given
+        Chapter updatedChapter = new Chapter("Test Chapter", "Test University", "Texas", "Austin");
+        when(chapterRepository.findById(1L)).thenReturn(Optional.of(testChapter));
+        when(chapterRepository.save(any(Chapter.class))).thenReturn(testChapter);
+
+        // When
+        chapterService.updateChapter(1L, updatedChapter);
+
+        // Then
+        verify(searchIndex).onChapterSaved(testChapter);
+    }
+
     @Test
     void getChapterByName_ShouldReturnChapter_WhenExists() {
         // Given
@@ -194,4 +365,81 @@ class ChapterServiceTest {
         assertThat(result).isPresent();
         assertThat(result.get().getName()).isEqualTo("Test Chapter");
     }
-}
\ No newline at end of file
+
+    @Test
+    void getActiveChapterSummaries_ShouldReturnNextCursor_WhenMoreRowsExist() {
+        // Given
+        List<ChapterSummaryDto> rows = Arrays.asList(summary(11L), summary(12L), summary(13L));
+        when(chapterRepository.findActiveChapterSummariesAfter(eq(10L), any(Pageable.class))).thenReturn(rows);
+
+        // When
+        CursorPage<ChapterSummaryDto> result = chapterService.getActiveChapterSummaries(10L, 2, Collections.emptySet());
+
+        // Then
+        assertThat(result.getItems()).extracting(ChapterSummaryDto::getId).containsExactly(11L, 12L);
+        assertThat(result.isHasMore()).isTrue();
+        assertThat(result.getNextCursor()).isEqualTo(12L);
+        verifyNoInteractions(memberRepository, eventRepository);
+    }
+
+    @Test
+    void getActiveChapterSummaries_ShouldEndListing_WhenLastPage() {
+        // Given
+        when(chapterRepository.findActiveChapterSummariesAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(summary(1L)));
+
+        // When
+        CursorPage<ChapterSummaryDto> result = chapterService.getActiveChapterSummaries(null, null, null);
+
+        // Then
+        assertThat(result.getItems()).hasSize(1);
+        assertThat(result.isHasMore()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.getLimit()).isEqualTo(ChapterService.DEFAULT_PAGE_SIZE);
+    }
+
+    @Test
+    void getActiveChapterSummaries_ShouldAttachMembers_WhenExpanded() {
+        // Given
+        when(chapterRepository.findActiveChapterSummariesAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(summary(1L), summary(2L)));
+        when(memberRepository.findActiveMemberSummariesByChapterIds(Arrays.asList(1L, 2L)))
+                .thenReturn(Arrays.asList(new MemberSummaryDto(5L, 1L, "John", "Doe", MemberRole.PRESIDENT)));
+
+        // When
+        CursorPage<ChapterSummaryDto> result = chapterService.getActiveChapterSummaries(
+                null, 10, Set.of(ChapterService.EXPAND_MEMBERS));
+
+        // Then
+        assertThat(result.getItems().get(0).getMembers()).extracting(MemberSummaryDto::getId).containsExactly(5L);
+        assertThat(result.getItems().get(1).getMembers()).isEmpty();
+        assertThat(result.getItems().get(0).getEvents()).isNull();
+        verifyNoInteractions(eventRepository);
+    }
+
+    private ChapterSummaryDto summary(Long id) {
+        return new ChapterSummaryDto(id, "Chapter " + id, "University " + id, "California", "Los Angeles",
+                true, 0, LocalDateTime.now());
+    }
+
+    @Test
+    void exportChapters_ShouldWriteOneJsonObjectPerLine() throws Exception {
+        // Given
+        Chapter other = new Chapter("Other \"Quoted\" Chapter", "Other University", "Texas", "Austin");
+        other.setId(2L);
+        other.setActive(false);
+        when(chapterRepository.streamAll()).thenReturn(Stream.of(testChapter, other));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long rows = chapterService.exportChapters(DataFormat.NDJSON, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"id\":1,\"name\":\"Test Chapter\"");
+        assertThat(lines[1]).contains("\"name\":\"Other \\\"Quoted\\\" Chapter\"", "\"active\":false");
+        verify(entityManager, never()).clear();
+    }
+}
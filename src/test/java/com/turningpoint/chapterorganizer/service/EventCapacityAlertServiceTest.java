@@ -0,0 +1,175 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.dto.CapacityAlert;
+import com.turningpoint.chapterorganizer.dto.CapacityAlert.Level;
+import com.turningpoint.chapterorganizer.entity.Chapter;
+import com.turningpoint.chapterorganizer.entity.Event;
+import com.turningpoint.chapterorganizer.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventCapacityAlertServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private EventCapacityAlertService alertService;
+
+    private final LocalDateTime eventTime = LocalDateTime.now().plusDays(7);
+
+    @BeforeEach
+    void setUp() {
+        // The dispatcher thread is not started; the tests dispatch explicitly
+        alertService = new EventCapacityAlertService(eventRepository);
+    }
+
+    @Test
+    void dispatchChanges_ShouldAlertOnlyWhenLevelChanges() {
+        // Given
+        when(eventRepository.findCapacityRows(anyCollection()))
+                .thenReturn(rows(row(1L, 10L, 14, 20, true)))
+                .thenReturn(rows(row(1L, 10L, 16, 20, true)))
+                .thenReturn(rows(row(1L, 10L, 18, 20, true)))
+                .thenReturn(rows(row(1L, 10L, 20, 20, true)));
+
+        // When
+        List<CapacityAlert> belowThreshold = changeAndDispatch(1L);
+        List<CapacityAlert> nearlyFull = changeAndDispatch(1L);
+        List<CapacityAlert> stillNearlyFull = changeAndDispatch(1L);
+        List<CapacityAlert> full = changeAndDispatch(1L);
+
+        // Then
+        assertThat(belowThreshold).isEmpty();
+        assertThat(nearlyFull).singleElement().satisfies(alert -> {
+            assertThat(alert.getLevel()).isEqualTo(Level.NEARLY_FULL);
+            assertThat(alert.getPreviousLevel()).isEqualTo(Level.AVAILABLE);
+            assertThat(alert.getRemainingSeats()).isEqualTo(4);
+        });
+        assertThat(stillNearlyFull).isEmpty();
+        assertThat(full).singleElement().satisfies(alert -> {
+            assertThat(alert.getLevel()).isEqualTo(Level.FULL);
+            assertThat(alert.getPreviousLevel()).isEqualTo(Level.NEARLY_FULL);
+        });
+        assertThat(alertService.getAlertingEvents(null)).singleElement()
+                .satisfies(alert -> assertThat(alert.getCurrentAttendees()).isEqualTo(20));
+    }
+
+    @Test
+    void dispatchChanges_WhenSeatsFreed_ShouldAlertAvailableAndDropFromSnapshot() {
+        // Given
+        when(eventRepository.findCapacityRows(anyCollection()))
+                .thenReturn(rows(row(1L, 10L, 20, 20, true)))
+                .thenReturn(rows(row(1L, 10L, 12, 20, true)));
+        changeAndDispatch(1L);
+
+        // When
+        alertService.onSeatsFreed(new EventSeatsFreedEvent(1L));
+        List<CapacityAlert> alerts = alertService.dispatchChanges();
+
+        // Then
+        assertThat(alerts).singleElement().satisfies(alert -> {
+            assertThat(alert.getLevel()).isEqualTo(Level.AVAILABLE);
+            assertThat(alert.getPreviousLevel()).isEqualTo(Level.FULL);
+        });
+        assertThat(alertService.getAlertingEvents(null)).isEmpty();
+    }
+
+    @Test
+    void dispatchChanges_WhenAlertingEventCancelled_ShouldAlertClosed() {
+        // Given
+        when(eventRepository.findCapacityRows(anyCollection()))
+                .thenReturn(rows(row(1L, 10L, 18, 20, true), row(2L, 10L, 18, 20, true)))
+                .thenReturn(rows(row(1L, 10L, 18, 20, false), row(2L, 10L, 3, 20, false)));
+        changeAndDispatch(1L, 2L);
+
+        // When
+        List<CapacityAlert> alerts = changeAndDispatch(1L, 2L, 3L);
+
+        // Then
+        assertThat(alerts).hasSize(2).allSatisfy(alert -> {
+            assertThat(alert.getLevel()).isEqualTo(Level.CLOSED);
+            assertThat(alert.getPreviousLevel()).isEqualTo(Level.NEARLY_FULL);
+        });
+        assertThat(alertService.getAlertingEvents(null)).isEmpty();
+    }
+
+    @Test
+    void getAlertingEvents_ShouldFilterByChapterAndOrderByDate() {
+        // Given
+        Object[] later = row(1L, 10L, 20, 20, true);
+        later[3] = eventTime.plusDays(1);
+        when(eventRepository.findCapacityRows(anyCollection()))
+                .thenReturn(rows(later, row(2L, 10L, 17, 20, true), row(3L, 11L, 19, 20, true)));
+        changeAndDispatch(1L, 2L, 3L);
+
+        // When
+        List<CapacityAlert> chapterEvents = alertService.getAlertingEvents(10L);
+
+        // Then
+        assertThat(chapterEvents).extracting(CapacityAlert::getEventId).containsExactly(2L, 1L);
+        assertThat(alertService.getAlertingEvents(null)).hasSize(3);
+    }
+
+    @Test
+    void seed_ShouldLoadNearlyFullEvents() {
+        // Given
+        Chapter chapter = new Chapter();
+        chapter.setId(10L);
+        Event event = new Event("Kickoff", eventTime, chapter);
+        event.setId(1L);
+        event.setMaxAttendees(20);
+        event.setCurrentAttendees(16);
+        when(eventRepository.findEventsNearlyFull(any(LocalDateTime.class))).thenReturn(List.of(event));
+        when(eventRepository.findCapacityRows(anyCollection())).thenReturn(rows(row(1L, 10L, 20, 20, true)));
+
+        // When
+        alertService.seed();
+        List<CapacityAlert> alerts = changeAndDispatch(1L);
+
+        // Then
+        assertThat(alerts).singleElement().satisfies(alert -> {
+            assertThat(alert.getLevel()).isEqualTo(Level.FULL);
+            assertThat(alert.getPreviousLevel()).isEqualTo(Level.NEARLY_FULL);
+        });
+    }
+
+    @Test
+    void dispatchChanges_WithoutChanges_ShouldNotQuery() {
+        // When
+        List<CapacityAlert> alerts = alertService.dispatchChanges();
+
+        // Then
+        assertThat(alerts).isEmpty();
+        verify(eventRepository, never()).findCapacityRows(anyCollection());
+    }
+
+    private List<CapacityAlert> changeAndDispatch(Long... eventIds) {
+        for (Long eventId : eventIds) {
+            alertService.onCapacityChanged(new EventCapacityChangedEvent(eventId));
+        }
+        return alertService.dispatchChanges();
+    }
+
+    private Object[] row(Long eventId, Long chapterId, int current, int max, boolean active) {
+        return new Object[] { eventId, chapterId, "Event " + eventId, eventTime, current, max, active };
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        List<Object[]> list = new ArrayList<>();
+        Collections.addAll(list, rows);
+        return list;
+    }
+}
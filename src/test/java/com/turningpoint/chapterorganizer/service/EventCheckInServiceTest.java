@@ -0,0 +1,184 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.dto.CheckInAck;
+import com.turningpoint.chapterorganizer.repository.EventRSVPRepository;
+import com.turningpoint.chapterorganizer.repository.EventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventCheckInServiceTest {
+
+    @Mock
+    private EventRSVPRepository rsvpRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path directory;
+
+    private final List<EventCheckInService> started = new ArrayList<>();
+
+    private EventCheckInService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        // Scans left over at the end of a test are applied at shutdown
+        lenient().when(rsvpRepository.checkIn(anyList(), anyList(), anyList()))
+                .thenAnswer(invocation -> new boolean[invocation.<List<Long>>getArgument(0).size()]);
+        service = start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (EventCheckInService each : started) {
+            each.shutdown();
+        }
+    }
+
+    @Test
+    void checkIn_ShouldAcceptOnceAndReportRepeatsAsDuplicates() {
+        // When
+        CheckInAck first = service.checkIn(1L, 10L);
+        CheckInAck repeat = service.checkIn(1L, 10L);
+        CheckInAck otherEvent = service.checkIn(2L, 10L);
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(CheckInAck.Status.ACCEPTED);
+        assertThat(repeat.getStatus()).isEqualTo(CheckInAck.Status.DUPLICATE);
+        assertThat(otherEvent.getStatus()).isEqualTo(CheckInAck.Status.ACCEPTED);
+        assertThat(service.getStats()).containsEntry("accepted", 2L).containsEntry("duplicates", 1L)
+                .containsEntry("pending", 2L);
+    }
+
+    @Test
+    void applyPending_ShouldCheckInInBatchesAndCountPerEvent() {
+        // Given
+        when(rsvpRepository.checkIn(anyList(), anyList(), anyList()))
+                .thenReturn(new boolean[] { true, true })
+                .thenReturn(new boolean[] { true });
+        service.checkIn(1L, 10L);
+        service.checkIn(1L, 11L);
+        service.checkIn(2L, 10L);
+
+        // When
+        int checkedIn = service.applyPending();
+
+        // Then
+        assertThat(checkedIn).isEqualTo(3);
+        verify(rsvpRepository).checkIn(eq(List.of(1L, 1L)), eq(List.of(10L, 11L)), anyList());
+        verify(rsvpRepository).checkIn(eq(List.of(2L)), eq(List.of(10L)), anyList());
+        verify(eventRepository).addCheckIns(1L, 2);
+        verify(eventRepository).addCheckIns(2L, 1);
+        assertThat(service.getStats()).containsEntry("applied", 3L).containsEntry("pending", 0L);
+        assertThat(service.checkIn(1L, 10L).getStatus()).isEqualTo(CheckInAck.Status.DUPLICATE);
+    }
+
+    @Test
+    void applyPending_WhenNoGoingRsvp_ShouldLetMemberBeScannedAgain() {
+        // Given
+        when(rsvpRepository.checkIn(anyList(), anyList(), anyList())).thenReturn(new boolean[] { false });
+        service.checkIn(1L, 10L);
+
+        // When
+        service.applyPending();
+        CheckInAck rescan = service.checkIn(1L, 10L);
+
+        // Then
+        verify(eventRepository, never()).addCheckIns(anyLong(), anyInt());
+        assertThat(service.getStats()).containsEntry("unmatched", 1L);
+        assertThat(rescan.getStatus()).isEqualTo(CheckInAck.Status.ACCEPTED);
+    }
+
+    @Test
+    void applyPending_WhenCheckedInBeforeRestart_ShouldKeepRescansDuplicate() {
+        // Given
+        when(rsvpRepository.checkIn(anyList(), anyList(), anyList())).thenReturn(new boolean[] { false, false });
+        List<Object[]> checkedIn = new ArrayList<>();
+        checkedIn.add(new Object[] { 1L, 10L });
+        when(rsvpRepository.findCheckedIn(Set.of(1L), Set.of(10L, 11L))).thenReturn(checkedIn);
+        service.checkIn(1L, 10L);
+        service.checkIn(1L, 11L);
+
+        // When
+        service.applyPending();
+
+        // Then
+        verify(eventRepository, never()).addCheckIns(anyLong(), anyInt());
+        assertThat(service.getStats()).containsEntry("alreadyCheckedIn", 1L).containsEntry("unmatched", 1L);
+        assertThat(service.checkIn(1L, 10L).getStatus()).isEqualTo(CheckInAck.Status.DUPLICATE);
+        assertThat(service.checkIn(1L, 11L).getStatus()).isEqualTo(CheckInAck.Status.ACCEPTED);
+    }
+
+    @Test
+    void applyPending_WhenDatabaseFails_ShouldKeepScansForNextAttempt() {
+        // Given
+        when(rsvpRepository.checkIn(anyList(), anyList(), anyList()))
+                .thenThrow(new IllegalStateException("database down"))
+                .thenReturn(new boolean[] { true });
+        service.checkIn(1L, 10L);
+
+        // When
+        Throwable failure = catchThrowable(service::applyPending);
+        int retried = service.applyPending();
+
+        // Then
+        assertThat(failure).isInstanceOf(IllegalStateException.class);
+        assertThat(retried).isEqualTo(1);
+        verify(eventRepository).addCheckIns(1L, 1);
+    }
+
+    @Test
+    void start_ShouldReplayScansNotAppliedBeforeCrash() throws Exception {
+        // Given: scans logged, one batch applied, then the process dies
+        when(rsvpRepository.checkIn(anyList(), anyList(), anyList())).thenReturn(new boolean[] { true, true });
+        service.checkIn(1L, 10L);
+        service.checkIn(1L, 11L);
+        service.applyPending();
+        service.checkIn(1L, 12L);
+        service.checkIn(1L, 13L);
+
+        // When
+        EventCheckInService restarted = start();
+        CheckInAck repeat = restarted.checkIn(1L, 12L);
+        int replayed = restarted.applyPending();
+
+        // Then
+        assertThat(repeat.getStatus()).isEqualTo(CheckInAck.Status.DUPLICATE);
+        assertThat(replayed).isEqualTo(2);
+        verify(rsvpRepository).checkIn(eq(List.of(1L, 1L)), eq(List.of(12L, 13L)), anyList());
+        assertThat(start().getStats()).containsEntry("pending", 0L);
+    }
+
+    private EventCheckInService start() throws Exception {
+        EventCheckInService checkIns = new EventCheckInService(rsvpRepository, eventRepository, transactionManager);
+        checkIns.setLogDirectory(directory.toString());
+        checkIns.setBatchSize(2);
+        // The applier thread stays idle; the tests apply explicitly
+        checkIns.setApplyIntervalMs(3_600_000);
+        checkIns.start();
+        started.add(checkIns);
+        return checkIns;
+    }
+}
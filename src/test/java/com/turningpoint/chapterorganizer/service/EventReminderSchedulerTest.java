@@ -0,0 +1,220 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.dto.EventReminderBatch;
+import com.turningpoint.chapterorganizer.entity.Event;
+import com.turningpoint.chapterorganizer.entity.RSVPStatus;
+import com.turningpoint.chapterorganizer.repository.EventRSVPRepository;
+import com.turningpoint.chapterorganizer.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventReminderSchedulerTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventRSVPRepository rsvpRepository;
+
+    @Mock
+    private ReminderSender sender;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-10-01T12:00:00Z"));
+
+    private EventReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        // The dispatcher thread is not started; the tests dispatch explicitly
+        scheduler = new EventReminderScheduler(eventRepository, rsvpRepository, sender, transactionManager, clock);
+        scheduler.setBatchSize(2);
+    }
+
+    @Test
+    void dispatchDue_ShouldSendEachReminderInBatchesWhenDue() throws Exception {
+        // Given
+        LocalDateTime start = now().plusDays(2);
+        when(eventRepository.findReminderRows(any(LocalDateTime.class), eq(RSVPStatus.GOING)))
+                .thenReturn(rows(row(1L, start, true, null, null)));
+        when(eventRepository.claimReminder(1L, start, 1440)).thenReturn(1);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event(1L, start)));
+        when(rsvpRepository.findMemberContacts(eq(1L), eq(RSVPStatus.GOING), anyLong(), any(Pageable.class)))
+                .thenReturn(rows(contact(10L), contact(11L)))
+                .thenReturn(rows(contact(12L)));
+        scheduler.load();
+
+        // When
+        clock.advance(Duration.ofHours(24).minusSeconds(5));
+        int early = scheduler.dispatchDue();
+        clock.advance(Duration.ofSeconds(5));
+        int due = scheduler.dispatchDue();
+
+        // Then
+        assertThat(early).isZero();
+        assertThat(due).isEqualTo(1);
+        ArgumentCaptor<EventReminderBatch> batches = ArgumentCaptor.forClass(EventReminderBatch.class);
+        verify(sender, times(2)).send(batches.capture());
+        assertThat(batches.getAllValues()).extracting(batch -> batch.getRecipients().size()).containsExactly(2, 1);
+        assertThat(batches.getValue().getMinutesBefore()).isEqualTo(1440);
+        verify(rsvpRepository).findMemberContacts(eq(1L), eq(RSVPStatus.GOING), eq(11L), any(Pageable.class));
+        assertThat(scheduler.getSentCount()).isEqualTo(3);
+        assertThat(scheduler.getPendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void dispatchDue_WhenAlreadyClaimed_ShouldNotSend() throws Exception {
+        // Given
+        LocalDateTime start = now().plusHours(3);
+        when(eventRepository.findReminderRows(any(LocalDateTime.class), eq(RSVPStatus.GOING)))
+                .thenReturn(rows(row(1L, start, true, null, null)));
+        when(eventRepository.claimReminder(1L, start, 60)).thenReturn(0);
+        scheduler.load();
+
+        // When
+        clock.advance(Duration.ofHours(2));
+        int due = scheduler.dispatchDue();
+
+        // Then
+        assertThat(due).isEqualTo(1);
+        verify(sender, never()).send(any());
+        assertThat(scheduler.isScheduled(1L)).isFalse();
+    }
+
+    @Test
+    void load_ShouldSkipSentRemindersAndSendOnlyRecentlyMissedOne() {
+        // Given
+        LocalDateTime sentDayBefore = now().plusMinutes(45);
+        LocalDateTime missedLongAgo = now().plusMinutes(10);
+        LocalDateTime upcoming = now().plusDays(3);
+        when(eventRepository.findReminderRows(any(LocalDateTime.class), eq(RSVPStatus.GOING))).thenReturn(rows(
+                row(1L, sentDayBefore, true, sentDayBefore, 1440),
+                row(2L, missedLongAgo, true, null, null),
+                row(3L, upcoming, true, upcoming.minusDays(1), 60)));
+
+        // When
+        scheduler.load();
+        scheduler.dispatchDue();
+
+        // Then
+        verify(eventRepository).claimReminder(1L, sentDayBefore, 60);
+        verify(eventRepository, never()).claimReminder(eq(2L), any(), anyInt());
+        assertThat(scheduler.isScheduled(2L)).isFalse();
+        // Sent for an earlier start, so the moved event is reminded again
+        assertThat(scheduler.isScheduled(3L)).isTrue();
+        assertThat(scheduler.getPendingCount()).isEqualTo(2);
+    }
+
+    @Test
+    void onScheduleChanged_WhenEventCancelledOrMoved_ShouldReschedule() {
+        // Given
+        LocalDateTime start = now().plusDays(2);
+        when(eventRepository.findReminderRows(any(LocalDateTime.class), eq(RSVPStatus.GOING)))
+                .thenReturn(rows(row(1L, start, true, null, null), row(2L, start, true, null, null)));
+        when(eventRepository.findReminderRow(1L)).thenReturn(rows(row(1L, start, false, null, null)));
+        when(eventRepository.findReminderRow(2L)).thenReturn(rows(row(2L, start.plusHours(10), true, null, null)));
+        scheduler.load();
+
+        // When
+        scheduler.onScheduleChanged(new EventScheduleChangedEvent(1L));
+        scheduler.onScheduleChanged(new EventScheduleChangedEvent(2L));
+        clock.advance(Duration.ofHours(24));
+        int dueAtOldTime = scheduler.dispatchDue();
+
+        // Then
+        assertThat(scheduler.isScheduled(1L)).isFalse();
+        assertThat(dueAtOldTime).isZero();
+        assertThat(scheduler.getPendingCount()).isEqualTo(2);
+    }
+
+    @Test
+    void onCapacityChanged_ShouldScheduleOnlyEventsWithoutReminders() {
+        // Given
+        LocalDateTime start = now().plusDays(2);
+        when(eventRepository.findReminderRow(1L)).thenReturn(rows(row(1L, start, true, null, null)));
+
+        // When
+        scheduler.onCapacityChanged(new EventCapacityChangedEvent(1L));
+        scheduler.onCapacityChanged(new EventCapacityChangedEvent(1L));
+
+        // Then
+        assertThat(scheduler.isScheduled(1L)).isTrue();
+        assertThat(scheduler.getPendingCount()).isEqualTo(2);
+        verify(eventRepository, times(1)).findReminderRow(1L);
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private static Object[] row(Long id, LocalDateTime start, boolean active, LocalDateTime sentFor,
+            Integer sentMinutes) {
+        return new Object[] { id, start, active, sentFor, sentMinutes };
+    }
+
+    private static Object[] contact(Long memberId) {
+        return new Object[] { memberId, "First" + memberId, "Last", "member" + memberId + "@example.edu" };
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+
+    private static Event event(Long id, LocalDateTime start) {
+        Event event = new Event("Kickoff", start, null);
+        event.setId(id);
+        return event;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.entity.Chapter;
+import com.turningpoint.chapterorganizer.entity.Event;
+import com.turningpoint.chapterorganizer.entity.Member;
+import com.turningpoint.chapterorganizer.repository.ChapterRepository;
+import com.turningpoint.chapterorganizer.repository.EventRepository;
+import com.turningpoint.chapterorganizer.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Many members RSVP to one event at the same moment; the event must end up
+ * with exactly maxAttendees seats taken, never more. Repeated concurrent
+ * cancels and re-RSVPs of the same members must move each seat once.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EventRsvpConcurrencyTest {
+
+    private static final int CAPACITY = 300;
+    private static final int MEMBERS = 1200;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private EventRsvpService rsvpService;
+
+    @Autowired
+    private ChapterRepository chapterRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Test
+    void concurrentRsvps_ShouldNeverOversellEvent() throws Exception {
+        // Given
+        Chapter chapter = chapterRepository.save(new Chapter("RSVP Stress Chapter", "Stress University", "CA", "Davis"));
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            members.add(new Member("Stress", "Member" + i, "rsvp.stress" + i + "@example.edu", chapter));
+        }
+        List<Long> memberIds = memberRepository.saveAll(members).stream().map(Member::getId).toList();
+        Event event = new Event("Popular Event", LocalDateTime.now().plusDays(7), chapter);
+        event.setMaxAttendees(CAPACITY);
+        Long eventId = eventRepository.save(event).getId();
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        ConcurrentHashMap<String, Integer> rejections = new ConcurrentHashMap<>();
+        try {
+            for (Long memberId : memberIds) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                        rsvpService.rsvp(eventId, memberId);
+                        accepted.incrementAndGet();
+                    } catch (Exception e) {
+                        rejections.merge(String.valueOf(e.getMessage()), 1, Integer::sum);
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+
+        // Then
+        assertThat(accepted.get()).isEqualTo(CAPACITY);
+        assertThat(rejections).containsOnlyKeys("Event is already at maximum capacity");
+        assertThat(eventRepository.findById(eventId).orElseThrow().getCurrentAttendees()).isEqualTo(CAPACITY);
+        assertThat(rsvpService.countGoing(eventId)).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    void concurrentCancelsAndReRsvps_ShouldMoveEachSeatOnce() throws Exception {
+        // Given: 100 members going, each of the first 50 cancelled by 4 requests at once
+        Chapter chapter = chapterRepository.save(new Chapter("Cancel Stress Chapter", "Stress University", "CA", "Davis"));
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            members.add(new Member("Cancel", "Member" + i, "cancel.stress" + i + "@example.edu", chapter));
+        }
+        List<Long> memberIds = memberRepository.saveAll(members).stream().map(Member::getId).toList();
+        Event event = new Event("Cancelled Often", LocalDateTime.now().plusDays(7), chapter);
+        event.setMaxAttendees(100);
+        Long eventId = eventRepository.save(event).getId();
+        memberIds.forEach(memberId -> rsvpService.rsvp(eventId, memberId));
+        List<Long> leaving = memberIds.subList(0, 50);
+
+        // When
+        runConcurrently(leaving, 4, memberId -> rsvpService.cancelRsvp(eventId, memberId));
+        long afterCancels = eventRepository.findById(eventId).orElseThrow().getCurrentAttendees();
+        runConcurrently(leaving, 4, memberId -> rsvpService.rsvp(eventId, memberId));
+
+        // Then
+        assertThat(afterCancels).isEqualTo(50);
+        assertThat(eventRepository.findById(eventId).orElseThrow().getCurrentAttendees()).isEqualTo(100);
+        assertThat(rsvpService.countGoing(eventId)).isEqualTo(100);
+    }
+
+    // Run the action for every member, repeated times each, all released at once
+    private void runConcurrently(List<Long> memberIds, int repeats, Consumer<Long> action)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int i = 0; i < repeats; i++) {
+                for (Long memberId : memberIds) {
+                    executor.execute(() -> {
+                        try {
+                            start.await();
+                            action.accept(memberId);
+                        } catch (Exception e) {
+                            // A concurrent duplicate insert loses; the seat count is what is checked
+                        }
+                    });
+                }
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+    }
+}
@@ -0,0 +1,260 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.dto.ProvisionalRsvp;
+import com.turningpoint.chapterorganizer.entity.Event;
+import com.turningpoint.chapterorganizer.entity.EventRSVP;
+import com.turningpoint.chapterorganizer.entity.RSVPStatus;
+import com.turningpoint.chapterorganizer.repository.EventRSVPRepository;
+import com.turningpoint.chapterorganizer.repository.EventRepository;
+import com.turningpoint.chapterorganizer.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventRsvpQueueTest {
+
+    @Mock
+    private EventRSVPRepository rsvpRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private EventWaitlistService waitlistService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private EventRsvpQueue rsvpQueue;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        rsvpQueue = new EventRsvpQueue(rsvpRepository, eventRepository, memberRepository, waitlistService,
+                transactionManager, eventPublisher);
+        rsvpQueue.setCapacity(10);
+        rsvpQueue.setFlushSize(100);
+        // Flushed explicitly by the tests
+        rsvpQueue.setFlushIntervalMs(3_600_000);
+        rsvpQueue.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        rsvpQueue.shutdown();
+    }
+
+    @Test
+    void rsvp_ShouldHoldSeatsUntilEventIsFull() {
+        // Given
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event(3, 1)));
+
+        // When
+        ProvisionalRsvp first = rsvpQueue.rsvp(1L, 10L);
+        ProvisionalRsvp second = rsvpQueue.rsvp(1L, 11L);
+        ProvisionalRsvp third = rsvpQueue.rsvp(1L, 12L);
+
+        // Then
+        assertThat(first.getDecision()).isEqualTo(ProvisionalRsvp.Decision.ACCEPTED);
+        assertThat(second.getDecision()).isEqualTo(ProvisionalRsvp.Decision.ACCEPTED);
+        assertThat(third.getDecision()).isEqualTo(ProvisionalRsvp.Decision.FULL);
+        assertThat(rsvpQueue.rsvp(1L, 10L).getDecision()).isEqualTo(ProvisionalRsvp.Decision.ALREADY_QUEUED);
+        assertThat(rsvpQueue.getQueued()).isEqualTo(2);
+        verify(eventRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void rsvp_WhenMembersAreWaitlisted_ShouldBeFull() {
+        // Given
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event(3, 1)));
+        when(waitlistService.hasWaitlist(1L)).thenReturn(true);
+
+        // When
+        ProvisionalRsvp result = rsvpQueue.rsvp(1L, 10L);
+
+        // Then
+        assertThat(result.getDecision()).isEqualTo(ProvisionalRsvp.Decision.FULL);
+        assertThat(rsvpQueue.getQueued()).isZero();
+    }
+
+    @Test
+    void rsvp_WhenEventCancelled_ShouldBeUnavailable() {
+        // Given
+        Event cancelled = event(10, 0);
+        cancelled.setActive(false);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(cancelled));
+
+        // When
+        ProvisionalRsvp result = rsvpQueue.rsvp(1L, 10L);
+
+        // Then
+        assertThat(result.getDecision()).isEqualTo(ProvisionalRsvp.Decision.UNAVAILABLE);
+        assertThat(rsvpQueue.getQueued()).isZero();
+    }
+
+    @Test
+    void rsvp_WhenQueueFull_ShouldBeBusyAndGiveSeatBack() {
+        // Given
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event(null, 0)));
+        for (long member = 0; member < 10; member++) {
+            rsvpQueue.rsvp(1L, member);
+        }
+
+        // When
+        ProvisionalRsvp result = rsvpQueue.rsvp(1L, 99L);
+
+        // Then
+        assertThat(result.getDecision()).isEqualTo(ProvisionalRsvp.Decision.BUSY);
+        assertThat(rsvpQueue.getQueued()).isEqualTo(10);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_ShouldTakeBatchSeatsInOneUpdateAndInsertRsvps() {
+        // Given
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event(100, 0)));
+        rsvpQueue.rsvp(1L, 10L);
+        rsvpQueue.rsvp(1L, 11L);
+        rsvpQueue.rsvp(1L, 12L);
+        when(eventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(event(100, 0)));
+        when(memberRepository.findExistingIds(anyCollection())).thenReturn(List.of(10L, 11L, 12L));
+        when(rsvpRepository.findByEventIdAndMemberIdIn(eq(1L), anyCollection())).thenReturn(Collections.emptyList());
+        when(eventRepository.reserveSeats(1L, 3)).thenReturn(1);
+
+        // When
+        int written = rsvpQueue.flush();
+
+        // Then
+        assertThat(written).isEqualTo(3);
+        assertThat(rsvpQueue.getQueued()).isZero();
+        ArgumentCaptor<List<EventRSVP>> saved = ArgumentCaptor.forClass(List.class);
+        verify(rsvpRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(EventRSVP::getMemberId).containsExactly(10L, 11L, 12L);
+        verify(eventRepository, never()).reserveSeat(anyLong());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_WhenSeatsTakenElsewhere_ShouldWriteWhatFitsAndDropTheRest() {
+        // Given
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event(100, 0)));
+        rsvpQueue.rsvp(1L, 10L);
+        rsvpQueue.rsvp(1L, 11L);
+        when(eventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(event(100, 99)));
+        when(memberRepository.findExistingIds(anyCollection())).thenReturn(List.of(10L, 11L));
+        when(rsvpRepository.findByEventIdAndMemberIdIn(eq(1L), anyCollection())).thenReturn(Collections.emptyList());
+        when(eventRepository.reserveSeats(1L, 1)).thenReturn(1);
+
+        // When
+        int written = rsvpQueue.flush();
+
+        // Then
+        assertThat(written).isEqualTo(1);
+        assertThat(rsvpQueue.getDropped()).isEqualTo(1);
+        ArgumentCaptor<List<EventRSVP>> saved = ArgumentCaptor.forClass(List.class);
+        verify(rsvpRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(EventRSVP::getMemberId).containsExactly(10L);
+    }
+
+    @Test
+    void flush_WhenBatchFails_ShouldWriteOneByOne() {
+        // Given
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event(100, 0)));
+        rsvpQueue.rsvp(1L, 10L);
+        rsvpQueue.rsvp(1L, 11L);
+        when(eventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(event(100, 0)));
+        when(memberRepository.findExistingIds(anyCollection())).thenReturn(List.of(10L, 11L));
+        when(rsvpRepository.findByEventIdAndMemberIdIn(eq(1L), anyCollection())).thenReturn(Collections.emptyList());
+        when(eventRepository.reserveSeats(1L, 2)).thenReturn(1);
+        when(rsvpRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("duplicate RSVP"));
+        when(waitlistService.rsvp(1L, 10L)).thenReturn(new EventRSVP(1L, 10L, RSVPStatus.GOING));
+        when(waitlistService.rsvp(1L, 11L)).thenThrow(new IllegalArgumentException("Event is already at maximum capacity"));
+
+        // When
+        int written = rsvpQueue.flush();
+
+        // Then
+        assertThat(written).isEqualTo(1);
+        assertThat(rsvpQueue.getDropped()).isEqualTo(1);
+        assertThat(rsvpQueue.getFlushed()).isEqualTo(1);
+    }
+
+    @Test
+    void rsvp_WhenLedgerIsRetiredByConcurrentFlush_ShouldTakeSeatFromReloadedLedger() {
+        // Given: two seats, one of them already queued
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event(2, 0))).thenReturn(Optional.of(event(2, 1)));
+        assertThat(rsvpQueue.rsvp(1L, 10L).getDecision()).isEqualTo(ProvisionalRsvp.Decision.ACCEPTED);
+        when(eventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(event(2, 0)));
+        when(memberRepository.findExistingIds(anyCollection())).thenReturn(List.of(10L));
+        when(rsvpRepository.findByEventIdAndMemberIdIn(eq(1L), anyCollection())).thenReturn(Collections.emptyList());
+        when(eventRepository.reserveSeats(1L, 1)).thenReturn(1);
+        // The next RSVP has fetched the ledger when the flusher writes the queued one and retires it
+        AtomicInteger checks = new AtomicInteger();
+        when(waitlistService.hasWaitlist(1L)).thenAnswer(invocation -> {
+            if (checks.incrementAndGet() == 1) {
+                assertThat(rsvpQueue.flush()).isEqualTo(1);
+            }
+            return false;
+        });
+
+        // When
+        ProvisionalRsvp second = rsvpQueue.rsvp(1L, 11L);
+        ProvisionalRsvp third = rsvpQueue.rsvp(1L, 12L);
+
+        // Then: the last seat is handed out once
+        assertThat(second.getDecision()).isEqualTo(ProvisionalRsvp.Decision.ACCEPTED);
+        assertThat(third.getDecision()).isEqualTo(ProvisionalRsvp.Decision.FULL);
+        assertThat(rsvpQueue.getQueued()).isEqualTo(1);
+    }
+
+    @Test
+    void shutdown_ShouldDrainQueueAndStopAccepting() throws InterruptedException {
+        // Given
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event(100, 0)));
+        rsvpQueue.rsvp(1L, 10L);
+        when(eventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(event(100, 0)));
+        when(memberRepository.findExistingIds(anyCollection())).thenReturn(List.of(10L));
+        when(rsvpRepository.findByEventIdAndMemberIdIn(eq(1L), anyCollection())).thenReturn(Collections.emptyList());
+        when(eventRepository.reserveSeats(1L, 1)).thenReturn(1);
+
+        // When
+        rsvpQueue.shutdown();
+
+        // Then
+        assertThat(rsvpQueue.getQueued()).isZero();
+        assertThat(rsvpQueue.getFlushed()).isEqualTo(1);
+        assertThat(rsvpQueue.rsvp(1L, 11L).getDecision()).isEqualTo(ProvisionalRsvp.Decision.BUSY);
+    }
+
+    private static Event event(Integer maxAttendees, int currentAttendees) {
+        Event event = new Event();
+        event.setActive(true);
+        event.setMaxAttendees(maxAttendees);
+        event.setCurrentAttendees(currentAttendees);
+        return event;
+    }
+}
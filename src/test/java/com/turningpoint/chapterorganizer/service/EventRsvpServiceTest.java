@@ -0,0 +1,194 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.entity.Event;
+import com.turningpoint.chapterorganizer.entity.EventRSVP;
+import com.turningpoint.chapterorganizer.entity.RSVPStatus;
+import com.turningpoint.chapterorganizer.repository.EventRSVPRepository;
+import com.turningpoint.chapterorganizer.repository.EventRepository;
+import com.turningpoint.chapterorganizer.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventRsvpServiceTest {
+
+    @Mock
+    private EventRSVPRepository rsvpRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private EventRsvpService rsvpService;
+
+    @Test
+    void rsvp_ShouldReserveSeatThenSaveRsvp() {
+        // Given
+        when(rsvpRepository.findByEventIdAndMemberId(1L, 2L)).thenReturn(Optional.empty());
+        when(memberRepository.existsById(2L)).thenReturn(true);
+        when(rsvpRepository.saveAndFlush(any(EventRSVP.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(eventRepository.reserveSeat(1L)).thenReturn(1);
+
+        // When
+        EventRSVP result = rsvpService.rsvp(1L, 2L);
+
+        // Then
+        assertThat(result.getEventId()).isEqualTo(1L);
+        assertThat(result.getMemberId()).isEqualTo(2L);
+        assertThat(result.getStatus()).isEqualTo(RSVPStatus.GOING);
+        InOrder inOrder = inOrder(rsvpRepository, eventRepository);
+        inOrder.verify(eventRepository).reserveSeat(1L);
+        inOrder.verify(rsvpRepository).saveAndFlush(result);
+    }
+
+    @Test
+    void rsvp_WhenAlreadyGoing_ShouldNotTakeAnotherSeat() {
+        // Given
+        EventRSVP existing = new EventRSVP(1L, 2L, RSVPStatus.GOING);
+        when(rsvpRepository.findByEventIdAndMemberId(1L, 2L)).thenReturn(Optional.of(existing));
+
+        // When
+        EventRSVP result = rsvpService.rsvp(1L, 2L);
+
+        // Then
+        assertThat(result).isSameAs(existing);
+        verify(rsvpRepository, never()).saveAndFlush(any());
+        verify(eventRepository, never()).reserveSeat(anyLong());
+    }
+
+    @Test
+    void rsvp_WhenEventFull_ShouldThrowException() {
+        // Given
+        Event event = new Event();
+        event.setActive(true);
+        when(rsvpRepository.findByEventIdAndMemberId(1L, 2L)).thenReturn(Optional.empty());
+        when(memberRepository.existsById(2L)).thenReturn(true);
+        when(eventRepository.reserveSeat(1L)).thenReturn(0);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+
+        // When & Then
+        assertThatThrownBy(() -> rsvpService.rsvp(1L, 2L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Event is already at maximum capacity");
+        verify(rsvpRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void tryRsvp_WhenEventFull_ShouldBeEmpty() {
+        // Given
+        Event event = new Event();
+        event.setActive(true);
+        when(rsvpRepository.findByEventIdAndMemberId(1L, 2L)).thenReturn(Optional.empty());
+        when(memberRepository.existsById(2L)).thenReturn(true);
+        when(eventRepository.reserveSeat(1L)).thenReturn(0);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+
+        // When
+        Optional<EventRSVP> result = rsvpService.tryRsvp(1L, 2L);
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void rsvp_WhenMemberNotFound_ShouldThrowException() {
+        // Given
+        when(rsvpRepository.findByEventIdAndMemberId(1L, 99L)).thenReturn(Optional.empty());
+        when(memberRepository.existsById(99L)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> rsvpService.rsvp(1L, 99L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Member not found with id: 99");
+        verify(eventRepository, never()).reserveSeat(anyLong());
+    }
+
+    @Test
+    void rsvp_WhenCancelledBefore_ShouldMakeExistingRsvpGoing() {
+        // Given
+        EventRSVP cancelled = new EventRSVP(1L, 2L, RSVPStatus.CANCELLED);
+        EventRSVP going = new EventRSVP(1L, 2L, RSVPStatus.GOING);
+        when(rsvpRepository.findByEventIdAndMemberId(1L, 2L))
+                .thenReturn(Optional.of(cancelled))
+                .thenReturn(Optional.of(going));
+        when(eventRepository.reserveSeat(1L)).thenReturn(1);
+        when(rsvpRepository.markGoing(eq(1L), eq(2L), any(LocalDateTime.class))).thenReturn(1);
+
+        // When
+        EventRSVP result = rsvpService.rsvp(1L, 2L);
+
+        // Then
+        assertThat(result).isSameAs(going);
+        verify(eventRepository, never()).releaseSeat(anyLong());
+        verify(rsvpRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void rsvp_WhenMadeGoingConcurrently_ShouldGiveBackSeat() {
+        // Given
+        EventRSVP cancelled = new EventRSVP(1L, 2L, RSVPStatus.CANCELLED);
+        EventRSVP going = new EventRSVP(1L, 2L, RSVPStatus.GOING);
+        when(rsvpRepository.findByEventIdAndMemberId(1L, 2L))
+                .thenReturn(Optional.of(cancelled))
+                .thenReturn(Optional.of(going));
+        when(eventRepository.reserveSeat(1L)).thenReturn(1);
+        when(rsvpRepository.markGoing(eq(1L), eq(2L), any(LocalDateTime.class))).thenReturn(0);
+
+        // When
+        EventRSVP result = rsvpService.rsvp(1L, 2L);
+
+        // Then
+        assertThat(result).isSameAs(going);
+        verify(eventRepository).releaseSeat(1L);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void cancelRsvp_ShouldReleaseSeat() {
+        // Given
+        EventRSVP cancelled = new EventRSVP(1L, 2L, RSVPStatus.CANCELLED);
+        when(rsvpRepository.cancelGoing(eq(1L), eq(2L), any(LocalDateTime.class))).thenReturn(1);
+        when(rsvpRepository.findByEventIdAndMemberId(1L, 2L)).thenReturn(Optional.of(cancelled));
+        when(eventRepository.releaseSeat(1L)).thenReturn(1);
+
+        // When
+        Optional<EventRSVP> result = rsvpService.cancelRsvp(1L, 2L);
+
+        // Then
+        assertThat(result).contains(cancelled);
+        verify(eventPublisher).publishEvent(any(EventSeatsFreedEvent.class));
+    }
+
+    @Test
+    void cancelRsvp_WhenNotGoing_ShouldNotReleaseSeat() {
+        // Given: already cancelled, possibly by a concurrent cancel
+        when(rsvpRepository.cancelGoing(eq(1L), eq(2L), any(LocalDateTime.class))).thenReturn(0);
+        when(rsvpRepository.findByEventIdAndMemberId(1L, 2L))
+                .thenReturn(Optional.of(new EventRSVP(1L, 2L, RSVPStatus.CANCELLED)));
+
+        // When
+        rsvpService.cancelRsvp(1L, 2L);
+
+        // Then
+        verify(eventRepository, never()).releaseSeat(anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+}
@@ -0,0 +1,131 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.dto.EventSummaryDto;
+import com.turningpoint.chapterorganizer.entity.Chapter;
+import com.turningpoint.chapterorganizer.entity.Event;
+import com.turningpoint.chapterorganizer.entity.EventType;
+import com.turningpoint.chapterorganizer.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventScheduleIndexTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @InjectMocks
+    private EventScheduleIndex scheduleIndex;
+
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        base = LocalDateTime.now().plusDays(7).withHour(18).withMinute(0).withSecond(0).withNano(0);
+        when(eventRepository.findActiveEventSummariesFrom(any(LocalDateTime.class))).thenReturn(List.of(
+                summary(1L, 1L, base, "Room 101", EventType.MEETING),
+                summary(2L, 1L, base.plusMinutes(30), "Quad", EventType.SOCIAL),
+                summary(3L, 2L, base.plusMinutes(45), " room 101 ", EventType.MEETING),
+                summary(4L, 2L, base.plusHours(1), "Room 101", EventType.FUNDRAISER),
+                summary(5L, 1L, base.plusDays(2), null, EventType.MEETING)));
+        scheduleIndex.rebuild();
+    }
+
+    @Test
+    void rebuild_ShouldMarkIndexReady() {
+        assertThat(scheduleIndex.isReady()).isTrue();
+        assertThat(scheduleIndex.size()).isEqualTo(5);
+    }
+
+    @Test
+    void find_ShouldReturnRangeInStartOrder_WithFilters() {
+        assertThat(ids(scheduleIndex.find(null, null, base, null, base.plusHours(1), 10).orElseThrow()))
+                .containsExactly(1L, 2L, 3L);
+        assertThat(ids(scheduleIndex.find(1L, null, base, null, base.plusDays(3), 10).orElseThrow()))
+                .containsExactly(1L, 2L, 5L);
+        assertThat(ids(scheduleIndex.find(null, EventType.MEETING, base, null, base.plusDays(3), 2).orElseThrow()))
+                .containsExactly(1L, 3L);
+    }
+
+    @Test
+    void find_ShouldResumeAfterCursorEvent() {
+        assertThat(ids(scheduleIndex.find(null, null, base.plusMinutes(30), 2L, base.plusDays(3), 2).orElseThrow()))
+                .containsExactly(3L, 4L);
+    }
+
+    @Test
+    void find_ShouldReturnNothing_ForRangesBeforeTheIndex() {
+        assertThat(scheduleIndex.find(1L, null, LocalDateTime.now().minusDays(30), null, base, 10)).isEmpty();
+        assertThat(scheduleIndex.findOverlapping(1L, null, LocalDateTime.now().minusDays(30), null)).isEmpty();
+    }
+
+    @Test
+    void findOverlapping_ShouldMatchSameChapterOrVenueWithinAnHour() {
+        // When: event 1 at 18:00 in Room 101 of chapter 1
+        List<EventSummaryDto> conflicts = scheduleIndex.findOverlapping(1L, "ROOM 101", base, 1L).orElseThrow();
+
+        // Then: 2 (same chapter, 18:30) and 3 (same room, 18:45); 4 starts as event 1 ends
+        assertThat(ids(conflicts)).containsExactly(2L, 3L);
+        assertThat(scheduleIndex.findOverlapping(3L, "Library", base.plusHours(5), null)).contains(List.of());
+    }
+
+    @Test
+    void onEventSaved_ShouldMoveAndDropEvents() {
+        // Given
+        Chapter chapter = new Chapter();
+        chapter.setId(2L);
+        Event moved = new Event("Moved", base.plusDays(1), chapter);
+        moved.setId(3L);
+        moved.setLocation("Room 101");
+        moved.setActive(true);
+        Event cancelled = new Event("Cancelled", base.plusHours(1), chapter);
+        cancelled.setId(4L);
+        cancelled.setActive(false);
+
+        // When: no transaction is active, so the changes apply at once
+        scheduleIndex.onEventSaved(moved);
+        scheduleIndex.onEventSaved(cancelled);
+
+        // Then
+        assertThat(ids(scheduleIndex.findOverlapping(1L, "Room 101", base, 1L).orElseThrow())).containsExactly(2L);
+        assertThat(ids(scheduleIndex.find(2L, null, base, null, base.plusDays(3), 10).orElseThrow()))
+                .containsExactly(3L);
+        assertThat(scheduleIndex.getStart(3L)).contains(base.plusDays(1));
+        assertThat(scheduleIndex.getStart(4L)).isEmpty();
+    }
+
+    @Test
+    void disabledIndex_ShouldNeverBuild() {
+        // Given
+        EventScheduleIndex disabledIndex = new EventScheduleIndex(eventRepository);
+        disabledIndex.setSearchMode("database");
+
+        // When
+        disabledIndex.rebuild();
+
+        // Then
+        assertThat(disabledIndex.isReady()).isFalse();
+        assertThat(disabledIndex.find(null, null, base, null, base.plusDays(1), 10)).isEmpty();
+        verify(eventRepository, times(1)).findActiveEventSummariesFrom(any(LocalDateTime.class));
+    }
+
+    private static EventSummaryDto summary(Long id, Long chapterId, LocalDateTime start, String location,
+            EventType type) {
+        return new EventSummaryDto(id, chapterId, "Event " + id, start, location, type);
+    }
+
+    private static List<Long> ids(List<EventSummaryDto> summaries) {
+        return summaries.stream().map(EventSummaryDto::getId).toList();
+    }
+}
@@ -1,5 +1,7 @@
 package com.turningpoint.chapterorganizer.service;
 
+import com.turningpoint.chapterorganizer.dto.CursorPage;
+import com.turningpoint.chapterorganizer.dto.EventSummaryDto;
 import com.turningpoint.chapterorganizer.entity.Chapter;
 import com.turningpoint.chapterorganizer.entity.Event;
 import com.turningpoint.chapterorganizer.entity.EventType;
@@ -10,7 +12,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -29,6 +36,15 @@ class EventServiceTest {
     @Mock
     private ChapterService chapterService;
 
+    @Mock
+    private RecurringEventService recurringEventService;
+
+    @Mock
+    private EventScheduleIndex scheduleIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private EventService eventService;
 
@@ -162,17 +178,18 @@ class EventServiceTest {
     @Test
     void registerAttendee_ShouldIncrementAttendees_WhenSpaceAvailable() {
         // Given
-        testEvent.setCurrentAttendees(10);
+        testEvent.setCurrentAttendees(11);
         testEvent.setMaxAttendees(50);
+        when(eventRepository.reserveSeat(1L)).thenReturn(1);
         when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
-        when(eventRepository.save(any(Event.class))).thenReturn(testEvent);
 
         // When
         Event result = eventService.registerAttendee(1L);
 
         // Then
         assertThat(result.getCurrentAttendees()).isEqualTo(11);
-        verify(eventRepository).save(testEvent);
+        verify(eventRepository).reserveSeat(1L);
+        verify(eventRepository, never()).save(any(Event.class));
     }
 
     @Test
@@ -180,6 +197,7 @@ class EventServiceTest {
         // Given
         testEvent.setCurrentAttendees(50);
         testEvent.setMaxAttendees(50);
+        when(eventRepository.reserveSeat(1L)).thenReturn(0);
         when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
 
         // When & Then
@@ -191,16 +209,17 @@ class EventServiceTest {
     @Test
     void unregisterAttendee_ShouldDecrementAttendees_WhenAttendeesExist() {
         // Given
-        testEvent.setCurrentAttendees(10);
+        testEvent.setCurrentAttendees(9);
+        when(eventRepository.releaseSeat(1L)).thenReturn(1);
         when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
-        when(eventRepository.save(any(Event.class))).thenReturn(testEvent);
 
         // When
         Event result = eventService.unregisterAttendee(1L);
 
         // Then
         assertThat(result.getCurrentAttendees()).isEqualTo(9);
-        verify(eventRepository).save(testEvent);
+        verify(eventRepository).releaseSeat(1L);
+        verify(eventPublisher).publishEvent(any(EventSeatsFreedEvent.class));
     }
 
     @Test
@@ -242,4 +261,161 @@ class EventServiceTest {
         // Then
         assertThat(result).isEqualTo(5L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void createEvent_ShouldPublishChapterDataChanged() {
+        // Given
+        Event newEvent = new Event("New Event", futureDateTime, testChapter);
+        when(chapterService.getChapterById(1L)).thenReturn(Optional.of(testChapter));
+        when(eventRepository.save(any(Event.class))).thenReturn(newEvent);
+
+        // When
+        eventService.createEvent(newEvent);
+
+        // Then
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof ChapterDataChangedEvent
+                && Long.valueOf(1L).equals(((ChapterDataChangedEvent) event).getChapterId())));
+    }
+
+    @Test
+    void updateEvent_WhenCapacityRaised_ShouldPublishSeatsFreed() {
+        // Given
+        Event updatedEvent = new Event();
+        updatedEvent.setMaxAttendees(80);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+        when(eventRepository.save(testEvent)).thenReturn(testEvent);
+
+        // When
+        eventService.updateEvent(1L, updatedEvent);
+
+        // Then
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof EventSeatsFreedEvent
+                && Long.valueOf(1L).equals(((EventSeatsFreedEvent) event).getEventId())));
+    }
+
+    @Test
+    void updateEvent_ShouldRejectCapacityBelowCurrentAttendees() {
+        // Given
+        testEvent.setCurrentAttendees(30);
+        Event updatedEvent = new Event();
+        updatedEvent.setMaxAttendees(20);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+
+        // When & Then
+        assertThatThrownBy(() -> eventService.updateEvent(1L, updatedEvent))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Max attendees cannot be less than current attendees");
+        verify(eventRepository, never()).save(any(Event.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getEvents_ShouldReturnKeysetPage() {
+        // Given
+        Event second = new Event("Second", futureDateTime.plusDays(1), testChapter);
+        second.setId(2L);
+        when(eventRepository.findBy(any(Specification.class), any())).thenReturn(Arrays.asList(testEvent, second));
+
+        // When
+        CursorPage<EventSummaryDto> page = eventService.getEvents(1L, null, null, null, false, null, 1);
+
+        // Then
+        assertThat(page.getItems()).extracting(EventSummaryDto::getId).containsExactly(1L);
+        assertThat(page.getItems().get(0).getChapterId()).isEqualTo(1L);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo(1L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getEvents_ShouldMergeRecurringOccurrencesInDateOrder() {
+        // Given
+        EventSummaryDto occurrence = new EventSummaryDto(null, 1L, "Weekly Meeting", futureDateTime.minusHours(1),
+                "Room 1", EventType.MEETING, 7L, futureDateTime.toLocalDate());
+        when(eventRepository.findBy(any(Specification.class), any())).thenReturn(List.of(testEvent));
+        when(recurringEventService.getOccurrenceSummaries(eq(1L), isNull(), any(LocalDateTime.class),
+                any(LocalDateTime.class), isNull(), eq(2))).thenReturn(List.of(occurrence));
+
+        // When
+        CursorPage<EventSummaryDto> page = eventService.getEvents(1L, null, null, null, false, null, 1);
+
+        // Then
+        assertThat(page.getItems()).containsExactly(occurrence);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(page.getNextCursor())
+                .isEqualTo(RecurringEventService.occurrenceCursor(7L, futureDateTime.toLocalDate()))
+                .isNegative();
+    }
+
+    @Test
+    void getEvents_ShouldRejectWindowsLongerThanLimit() {
+        // Given
+        LocalDateTime from = LocalDateTime.now();
+
+        // When & Then
+        assertThatThrownBy(() -> eventService.getEvents(1L, null, from,
+                from.plusDays(EventService.MAX_WINDOW_DAYS + 1), false, null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Time window cannot exceed");
+        assertThatThrownBy(() -> eventService.getEvents(1L, null, from, from.minusDays(1), false, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void getChapterCalendar_ShouldQueryRequestedRange_WithRowCap() {
+        // Given
+        LocalDate from = LocalDate.of(2030, 3, 1);
+        when(eventRepository.findEventSummariesByChapterBetween(eq(1L), any(LocalDateTime.class),
+                any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of());
+
+        // When
+        eventService.getChapterCalendar(1L, from, null);
+
+        // Then
+        verify(eventRepository).findEventSummariesByChapterBetween(1L, from.atStartOfDay(),
+                LocalDate.of(2030, 4, 1).atStartOfDay(),
+                PageRequest.of(0, EventService.MAX_CALENDAR_EVENTS));
+    }
+
+    @Test
+    void getChapterCalendar_ShouldAnswerFromScheduleIndex_WhenItCoversTheRange() {
+        // Given
+        LocalDate from = LocalDate.now().plusDays(1);
+        EventSummaryDto indexed = new EventSummaryDto(1L, 1L, "Test Event", futureDateTime, "Test Location",
+                EventType.MEETING);
+        when(scheduleIndex.find(1L, null, from.atStartOfDay(), null, from.plusMonths(1).atStartOfDay(),
+                EventService.MAX_CALENDAR_EVENTS)).thenReturn(Optional.of(List.of(indexed)));
+
+        // When
+        List<EventSummaryDto> calendar = eventService.getChapterCalendar(1L, from, null);
+
+        // Then
+        assertThat(calendar).containsExactly(indexed);
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void findConflicts_ShouldFallBackToDatabase_AndIncludeOccurrencesAtTheVenue() {
+        // Given: the index does not cover the time, and a recurring event of another chapter uses the room
+        EventSummaryDto other = new EventSummaryDto(2L, 1L, "Other", futureDateTime.plusMinutes(30), "Elsewhere",
+                EventType.SOCIAL);
+        EventSummaryDto self = new EventSummaryDto(1L, 1L, "Test Event", futureDateTime, "Test Location",
+                EventType.MEETING);
+        EventSummaryDto occurrence = new EventSummaryDto(null, 9L, "Weekly Meeting", futureDateTime.minusMinutes(30),
+                " test location ", EventType.MEETING, 7L, futureDateTime.toLocalDate());
+        EventSummaryDto unrelated = new EventSummaryDto(null, 9L, "Board", futureDateTime, "Hall",
+                EventType.MEETING, 8L, futureDateTime.toLocalDate());
+        when(scheduleIndex.findOverlapping(1L, "Test Location", futureDateTime, 1L)).thenReturn(Optional.empty());
+        when(eventRepository.findEventSummariesOverlapping(1L, "test location", futureDateTime.minusHours(1),
+                futureDateTime.plusHours(1))).thenReturn(List.of(self, other));
+        when(recurringEventService.getOccurrenceSummaries(isNull(), isNull(), any(LocalDateTime.class),
+                eq(futureDateTime.plusHours(1)), isNull(), anyInt())).thenReturn(List.of(occurrence, unrelated));
+
+        // When
+        List<EventSummaryDto> conflicts = eventService.findConflicts(1L, "Test Location", futureDateTime, 1L);
+
+        // Then
+        assertThat(conflicts).containsExactly(occurrence, other);
+    }
+}
@@ -0,0 +1,338 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.entity.Event;
+import com.turningpoint.chapterorganizer.entity.EventRSVP;
+import com.turningpoint.chapterorganizer.entity.Member;
+import com.turningpoint.chapterorganizer.entity.MemberRole;
+import com.turningpoint.chapterorganizer.entity.RSVPStatus;
+import com.turningpoint.chapterorganizer.repository.EventRSVPRepository;
+import com.turningpoint.chapterorganizer.repository.EventRepository;
+import com.turningpoint.chapterorganizer.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventWaitlistServiceTest {
+
+    @Mock
+    private EventRsvpService rsvpService;
+
+    @Mock
+    private EventRSVPRepository rsvpRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private EventWaitlistService waitlistService;
+
+    private final AtomicLong rsvpIds = new AtomicLong(100);
+    private final Map<Long, EventRSVP> savedRsvps = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        waitlistService = new EventWaitlistService(rsvpService, rsvpRepository, eventRepository, memberRepository,
+                transactionManager, eventPublisher);
+    }
+
+    @Test
+    void join_WhenSeatAvailable_ShouldRsvpDirectly() {
+        // Given
+        EventRSVP going = new EventRSVP(1L, 10L, RSVPStatus.GOING);
+        when(rsvpRepository.findByEventIdAndMemberId(1L, 10L)).thenReturn(Optional.empty());
+        when(rsvpRepository.findWaitlistedForUpcomingEvents(any())).thenReturn(Collections.emptyList());
+        when(rsvpService.tryRsvp(1L, 10L)).thenReturn(Optional.of(going));
+
+        // When
+        EventRSVP result = waitlistService.join(1L, 10L);
+
+        // Then
+        assertThat(result).isSameAs(going);
+        assertThat(waitlistService.getWaitlistSize(1L)).isZero();
+    }
+
+    @Test
+    void join_WhenEventFull_ShouldWaitlistOfficersAheadOfMembers() {
+        // Given
+        fullEvent();
+        member(10L, MemberRole.MEMBER);
+        member(11L, MemberRole.MEMBER);
+        member(12L, MemberRole.TREASURER);
+
+        // When
+        EventRSVP first = waitlistService.join(1L, 10L);
+        waitlistService.join(1L, 11L);
+        waitlistService.join(1L, 12L);
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(RSVPStatus.WAITLISTED);
+        assertThat(first.getWaitlistPriority()).isEqualTo(EventWaitlistService.MEMBER_PRIORITY);
+        assertThat(waitlistService.getWaitlist(1L, null)).containsExactly(12L, 10L, 11L);
+    }
+
+    @Test
+    void onSeatsFreed_ShouldPromoteNextMemberAndKeepTheRestWaiting() {
+        // Given
+        EventRSVP first = waitlisted(201L, 10L, EventWaitlistService.MEMBER_PRIORITY, LocalDateTime.now().minusHours(2));
+        EventRSVP second = waitlisted(202L, 11L, EventWaitlistService.MEMBER_PRIORITY, LocalDateTime.now().minusHours(1));
+        when(rsvpRepository.findWaitlistedForUpcomingEvents(any())).thenReturn(List.of(second, first));
+        when(eventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(event(10, 9))).thenReturn(Optional.of(event(10, 10)));
+        when(rsvpRepository.promoteWaitlisted(eq(List.of(201L)), any())).thenReturn(1);
+        when(eventRepository.reserveSeats(1L, 1)).thenReturn(1);
+
+        // When
+        // The promoter thread is not started; the test promotes explicitly
+        waitlistService.onSeatsFreed(new EventSeatsFreedEvent(1L));
+        waitlistService.promoteFreed();
+
+        // Then
+        assertThat(waitlistService.getWaitlist(1L, null)).containsExactly(11L);
+        verify(rsvpRepository).promoteWaitlisted(eq(List.of(201L)), any());
+        verify(eventRepository).reserveSeats(1L, 1);
+    }
+
+    @Test
+    void promote_WhenCapacityRaised_ShouldFillAllFreeSeatsInOneBatch() {
+        // Given
+        EventRSVP officer = waitlisted(201L, 10L, EventWaitlistService.OFFICER_PRIORITY, LocalDateTime.now());
+        EventRSVP member = waitlisted(202L, 11L, EventWaitlistService.MEMBER_PRIORITY, LocalDateTime.now().minusHours(1));
+        EventRSVP last = waitlisted(203L, 12L, EventWaitlistService.MEMBER_PRIORITY, LocalDateTime.now());
+        when(rsvpRepository.findWaitlistedForUpcomingEvents(any())).thenReturn(List.of(last, member, officer));
+        when(eventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(event(12, 10))).thenReturn(Optional.of(event(12, 12)));
+        when(rsvpRepository.promoteWaitlisted(eq(List.of(201L, 202L)), any())).thenReturn(2);
+        when(eventRepository.reserveSeats(1L, 2)).thenReturn(1);
+
+        // When
+        int promoted = waitlistService.promote(1L);
+
+        // Then
+        assertThat(promoted).isEqualTo(2);
+        assertThat(waitlistService.getWaitlist(1L, null)).containsExactly(12L);
+        verify(eventRepository, never()).reserveSeat(anyLong());
+    }
+
+    @Test
+    void promote_ShouldSkipRsvpsNoLongerWaitlisted() {
+        // Given
+        EventRSVP cancelled = waitlisted(201L, 10L, EventWaitlistService.MEMBER_PRIORITY, LocalDateTime.now().minusHours(2));
+        EventRSVP waiting = waitlisted(202L, 11L, EventWaitlistService.MEMBER_PRIORITY, LocalDateTime.now().minusHours(1));
+        when(rsvpRepository.findWaitlistedForUpcomingEvents(any())).thenReturn(List.of(cancelled, waiting));
+        when(eventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(event(10, 9)));
+        // Cancelled meanwhile, so the conditional update leaves it alone
+        when(rsvpRepository.promoteWaitlisted(eq(List.of(201L)), any())).thenReturn(0);
+        when(rsvpRepository.promoteWaitlisted(eq(List.of(202L)), any())).thenReturn(1);
+        when(eventRepository.reserveSeats(1L, 1)).thenReturn(1);
+
+        // When
+        int promoted = waitlistService.promote(1L);
+
+        // Then
+        assertThat(promoted).isEqualTo(1);
+        assertThat(waitlistService.getWaitlistSize(1L)).isZero();
+        verify(eventRepository).reserveSeats(1L, 1);
+    }
+
+    @Test
+    void leave_WhenWaitlisted_ShouldRemoveFromWaitlistWithoutReleasingSeat() {
+        // Given
+        EventRSVP waiting = waitlisted(201L, 10L, EventWaitlistService.MEMBER_PRIORITY, LocalDateTime.now());
+        when(rsvpRepository.findWaitlistedForUpcomingEvents(any())).thenReturn(List.of(waiting));
+        assertThat(waitlistService.getWaitlistSize(1L)).isEqualTo(1);
+        when(rsvpRepository.cancelWaitlisted(eq(1L), eq(10L), any())).thenReturn(1);
+        when(rsvpRepository.findByEventIdAndMemberId(1L, 10L))
+                .thenReturn(Optional.of(new EventRSVP(1L, 10L, RSVPStatus.CANCELLED)));
+
+        // When
+        Optional<EventRSVP> result = waitlistService.leave(1L, 10L);
+
+        // Then
+        assertThat(result).map(EventRSVP::getStatus).contains(RSVPStatus.CANCELLED);
+        assertThat(waitlistService.getWaitlistSize(1L)).isZero();
+        verify(rsvpService, never()).cancelRsvp(anyLong(), anyLong());
+    }
+
+    @Test
+    void leave_WhenGoing_ShouldCancelRsvp() {
+        // Given
+        EventRSVP cancelled = new EventRSVP(1L, 10L, RSVPStatus.CANCELLED);
+        when(rsvpRepository.cancelWaitlisted(eq(1L), eq(10L), any())).thenReturn(0);
+        when(rsvpService.cancelRsvp(1L, 10L)).thenReturn(Optional.of(cancelled));
+
+        // When
+        Optional<EventRSVP> result = waitlistService.leave(1L, 10L);
+
+        // Then
+        assertThat(result).contains(cancelled);
+        verify(rsvpService).cancelRsvp(1L, 10L);
+    }
+
+    @Test
+    void leave_WhenPromotedMeanwhile_ShouldCancelRsvpAndGiveSeatBack() {
+        // Given
+        EventRSVP waiting = waitlisted(201L, 10L, EventWaitlistService.MEMBER_PRIORITY, LocalDateTime.now());
+        when(rsvpRepository.findWaitlistedForUpcomingEvents(any())).thenReturn(List.of(waiting));
+        assertThat(waitlistService.getWaitlistSize(1L)).isEqualTo(1);
+        // The promoter made the RSVP GOING after the member looked at it
+        when(rsvpRepository.cancelWaitlisted(eq(1L), eq(10L), any())).thenReturn(0);
+        when(rsvpService.cancelRsvp(1L, 10L)).thenReturn(Optional.of(new EventRSVP(1L, 10L, RSVPStatus.CANCELLED)));
+
+        // When
+        Optional<EventRSVP> result = waitlistService.leave(1L, 10L);
+
+        // Then
+        assertThat(result).map(EventRSVP::getStatus).contains(RSVPStatus.CANCELLED);
+        assertThat(waitlistService.getWaitlistSize(1L)).isZero();
+        verify(rsvpService).cancelRsvp(1L, 10L);
+        verify(rsvpRepository, never()).save(any(EventRSVP.class));
+    }
+
+    @Test
+    void rsvp_WhenOthersAreWaiting_ShouldCountEventAsFull() {
+        // Given
+        EventRSVP waiting = waitlisted(201L, 11L, EventWaitlistService.MEMBER_PRIORITY, LocalDateTime.now());
+        when(rsvpRepository.findWaitlistedForUpcomingEvents(any())).thenReturn(List.of(waiting));
+        when(rsvpRepository.findByEventIdAndMemberId(1L, 10L)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThatThrownBy(() -> waitlistService.rsvp(1L, 10L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Event is already at maximum capacity");
+        verify(rsvpService, never()).rsvp(anyLong(), anyLong());
+    }
+
+    @Test
+    void rsvp_WhenNobodyIsWaiting_ShouldRsvpDirectly() {
+        // Given
+        EventRSVP going = new EventRSVP(1L, 10L, RSVPStatus.GOING);
+        when(rsvpRepository.findWaitlistedForUpcomingEvents(any())).thenReturn(Collections.emptyList());
+        when(rsvpService.rsvp(1L, 10L)).thenReturn(going);
+
+        // When
+        EventRSVP result = waitlistService.rsvp(1L, 10L);
+
+        // Then
+        assertThat(result).isSameAs(going);
+    }
+
+    @Test
+    void waitlists_ShouldOnlyBeKeptForEventsWithMembersWaiting() {
+        // Given
+        EventRSVP waiting = waitlisted(201L, 10L, EventWaitlistService.MEMBER_PRIORITY, LocalDateTime.now());
+        when(rsvpRepository.findWaitlistedForUpcomingEvents(any())).thenReturn(List.of(waiting));
+        when(rsvpRepository.cancelWaitlisted(eq(1L), eq(10L), any())).thenReturn(1);
+
+        // When
+        boolean others = waitlistService.hasWaitlist(2L);
+        waitlistService.leave(1L, 10L);
+
+        // Then
+        assertThat(others).isFalse();
+        assertThat(waitlistService.hasWaitlist(1L)).isFalse();
+        assertThat(waitlistService.getWaitlistCount()).isZero();
+        verify(rsvpRepository, times(1)).findWaitlistedForUpcomingEvents(any());
+    }
+
+    @Test
+    void dropEndedWaitlists_ShouldDropCancelledAndStartedEvents() {
+        // Given
+        when(rsvpRepository.findWaitlistedForUpcomingEvents(any())).thenReturn(List.of(
+                waitlisted(201L, 1L, 10L),
+                waitlisted(202L, 2L, 10L),
+                waitlisted(203L, 3L, 10L)));
+        Event upcoming = event(10, 10);
+        upcoming.setId(1L);
+        upcoming.setEventDateTime(LocalDateTime.now().plusDays(1));
+        Event cancelled = event(10, 10);
+        cancelled.setId(2L);
+        cancelled.setActive(false);
+        cancelled.setEventDateTime(LocalDateTime.now().plusDays(1));
+        Event started = event(10, 10);
+        started.setId(3L);
+        started.setEventDateTime(LocalDateTime.now().minusMinutes(5));
+        when(eventRepository.findAllById(anyList())).thenReturn(List.of(upcoming, cancelled, started));
+
+        // When
+        int dropped = waitlistService.dropEndedWaitlists();
+
+        // Then
+        assertThat(dropped).isEqualTo(2);
+        assertThat(waitlistService.hasWaitlist(1L)).isTrue();
+        assertThat(waitlistService.hasWaitlist(2L)).isFalse();
+        assertThat(waitlistService.hasWaitlist(3L)).isFalse();
+    }
+
+    private void fullEvent() {
+        Event event = new Event();
+        event.setActive(true);
+        lenient().when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        when(rsvpRepository.findWaitlistedForUpcomingEvents(any())).thenReturn(Collections.emptyList());
+        lenient().when(rsvpService.tryRsvp(eq(1L), anyLong())).thenReturn(Optional.empty());
+        when(rsvpRepository.findByEventIdAndMemberId(eq(1L), anyLong())).thenReturn(Optional.empty());
+        lenient().when(rsvpRepository.saveAndFlush(any(EventRSVP.class))).thenAnswer(invocation -> {
+            EventRSVP rsvp = invocation.getArgument(0);
+            rsvp.setId(rsvpIds.incrementAndGet());
+            savedRsvps.put(rsvp.getId(), rsvp);
+            return rsvp;
+        });
+        lenient().when(rsvpRepository.findById(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(savedRsvps.get(invocation.<Long>getArgument(0))));
+        // The seat check after joining finds no seat
+        lenient().when(eventRepository.reserveSeat(1L)).thenReturn(0);
+    }
+
+    private static Event event(int maxAttendees, int currentAttendees) {
+        Event event = new Event();
+        event.setActive(true);
+        event.setMaxAttendees(maxAttendees);
+        event.setCurrentAttendees(currentAttendees);
+        return event;
+    }
+
+    private void member(Long id, MemberRole role) {
+        Member member = new Member();
+        member.setId(id);
+        member.setRole(role);
+        when(memberRepository.findById(id)).thenReturn(Optional.of(member));
+    }
+
+    private static EventRSVP waitlisted(Long id, Long eventId, Long memberId) {
+        EventRSVP rsvp = waitlisted(id, memberId, EventWaitlistService.MEMBER_PRIORITY, LocalDateTime.now());
+        rsvp.setEventId(eventId);
+        return rsvp;
+    }
+
+    private static EventRSVP waitlisted(Long id, Long memberId, int priority, LocalDateTime waitlistedAt) {
+        EventRSVP rsvp = new EventRSVP(1L, memberId, RSVPStatus.WAITLISTED);
+        rsvp.setId(id);
+        rsvp.setWaitlistPriority(priority);
+        rsvp.setWaitlistedAt(waitlistedAt);
+        return rsvp;
+    }
+}
@@ -0,0 +1,146 @@
+package com.turningpoint.chapterorganizer.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MemberDuplicateDetectorTest {
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void detect_ShouldFindVariantsSharingEmailPhoneOrName() {
+        // Given
+        MemberDuplicateDetector detector = new MemberDuplicateDetector(0.8, 1000, 20);
+        detector.add(1L, "John", "Smith", "john.smith@ucla.edu", "(555) 123-4567");
+        detector.add(2L, "Jon", "Smith", "johnsmith+tpusa@gmail.com", null);
+        detector.add(3L, "Catherine", "Jones", "cjones@usc.edu", "555-987-6543");
+        detector.add(4L, "Katherine", "Jones", "kat.j@berkeley.edu", "+1 555 987 6543");
+        detector.add(5L, "Smith", "John", "js1999@asu.edu", "5551234567");
+        detector.add(6L, "Mary", "Smith", "msmith@ucla.edu", "555-123-4567");
+
+        // When
+        List<MemberDuplicateDetector.Candidate> candidates = detector.detect(pool);
+
+        // Then
+        assertThat(pairs(candidates)).containsExactlyInAnyOrder("1:2", "3:4", "1:5", "2:5");
+        MemberDuplicateDetector.Candidate emailMatch = candidates.stream()
+                .filter(c -> c.getMemberId() == 1L && c.getDuplicateMemberId() == 2L).findFirst().orElseThrow();
+        assertThat(emailMatch.getReasons()).isEqualTo("NAME,EMAIL");
+        assertThat(emailMatch.getScore()).isGreaterThan(0.9);
+    }
+
+    @Test
+    void detect_ShouldCompareEachPairOnce_WhenItSharesSeveralKeys() {
+        // Given
+        MemberDuplicateDetector detector = new MemberDuplicateDetector(0.8, 1000, 20);
+        detector.add(1L, "John", "Smith", "jsmith@ucla.edu", "555-123-4567");
+        detector.add(2L, "John", "Smith", "jsmith@asu.edu", "555-123-4567");
+
+        // When
+        List<MemberDuplicateDetector.Candidate> candidates = detector.detect(pool);
+
+        // Then
+        assertThat(pairs(candidates)).containsExactly("1:2");
+        assertThat(candidates.get(0).getReasons()).isEqualTo("NAME,EMAIL,PHONE");
+        assertThat(detector.getBlockCount()).isEqualTo(3);
+        assertThat(detector.getComparisons()).isEqualTo(1);
+    }
+
+    @Test
+    void detect_ShouldOnlyCompareNeighbours_InOversizedBlocks() {
+        // Given
+        MemberDuplicateDetector detector = new MemberDuplicateDetector(0.8, 10, 2);
+        for (long id = 1; id <= 50; id++) {
+            detector.add(id, "John", "Smith", "member" + id + "@example.com", null);
+        }
+
+        // When
+        detector.detect(pool);
+
+        // Then: each of the 50 members is compared with at most the next 2, not all 49 others
+        assertThat(detector.getWindowedBlocks()).isEqualTo(1);
+        assertThat(detector.getComparisons()).isEqualTo(49 + 48);
+    }
+
+    @Test
+    void detect_ShouldComparePairInLaterBlock_WhenOutsideWindowOfEarlierOne() {
+        // Given: one oversized email block, in which the pair is sorted far apart, and a shared phone
+        MemberDuplicateDetector detector = new MemberDuplicateDetector(0.8, 10, 2);
+        detector.add(1L, "Jon", "Smith", "jsmith@ucla.edu", "555-123-4567");
+        detector.add(2L, "John", "Smyth", "jsmith@asu.edu", "555-123-4567");
+        for (int i = 0; i < 20; i++) {
+            String lastName = "Smo" + (char) ('a' + i / 26) + (char) ('a' + i % 26);
+            detector.add(100L + i, "Member" + (char) ('a' + i), lastName, "jsmith@school" + i + ".edu",
+                    String.format("555%07d", i));
+        }
+
+        // When
+        List<MemberDuplicateDetector.Candidate> candidates = detector.detect(pool);
+
+        // Then
+        assertThat(detector.getWindowedBlocks()).isEqualTo(1);
+        assertThat(pairs(candidates)).containsOnlyOnce("1:2");
+    }
+
+    @Test
+    void detect_ShouldSplitWorkAcrossTasks_AndFindEveryPair() {
+        // Given: 5000 distinct people, every 10th registered twice with a different email
+        MemberDuplicateDetector detector = new MemberDuplicateDetector(0.8, 1000, 20);
+        long id = 1;
+        int expected = 0;
+        for (int person = 0; person < 5000; person++) {
+            String phone = String.format("555%07d", person);
+            detector.add(id++, "First" + person, "Last" + person, "person" + person + "@a.edu", phone);
+            if (person % 10 == 0) {
+                detector.add(id++, "First" + person, "Last" + person, "p" + person + "@b.edu", phone);
+                expected++;
+            }
+        }
+
+        // When
+        List<MemberDuplicateDetector.Candidate> candidates = detector.detect(pool);
+
+        // Then
+        assertThat(candidates).hasSize(expected);
+        assertThat(candidates).allMatch(c -> c.getDuplicateMemberId() == c.getMemberId() + 1);
+    }
+
+    @Test
+    void normalization_ShouldIgnoreFormatting() {
+        assertThat(MemberDuplicateDetector.emailLocalPart("John.Smith+tpusa@UCLA.edu")).isEqualTo("johnsmith");
+        assertThat(MemberDuplicateDetector.emailLocalPart("j_s-mith@x.org")).isEqualTo("jsmith");
+        assertThat(MemberDuplicateDetector.phoneDigits("+1 (555) 123-4567")).isEqualTo("5551234567");
+        assertThat(MemberDuplicateDetector.phoneDigits("123")).isNull();
+    }
+
+    @Test
+    void jaroWinkler_ShouldRateCloseSpellingsHigh() {
+        assertThat(MemberDuplicateDetector.jaroWinkler("martha", "marhta")).isCloseTo(0.961, within(0.001));
+        assertThat(MemberDuplicateDetector.jaroWinkler("smith", "smith")).isEqualTo(1.0);
+        assertThat(MemberDuplicateDetector.jaroWinkler("smith", "jones")).isLessThan(0.5);
+        assertThat(MemberDuplicateDetector.jaroWinkler("", "jones")).isZero();
+    }
+
+    private static List<String> pairs(List<MemberDuplicateDetector.Candidate> candidates) {
+        return candidates.stream()
+                .map(c -> c.getMemberId() + ":" + c.getDuplicateMemberId())
+                .collect(Collectors.toList());
+    }
+}
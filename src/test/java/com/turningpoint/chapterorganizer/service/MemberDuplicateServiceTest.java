@@ -0,0 +1,129 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.dto.DuplicateScanResult;
+import com.turningpoint.chapterorganizer.entity.DuplicateMemberCandidate;
+import com.turningpoint.chapterorganizer.entity.DuplicateReviewStatus;
+import com.turningpoint.chapterorganizer.repository.DuplicateMemberCandidateRepository;
+import com.turningpoint.chapterorganizer.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberDuplicateServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private DuplicateMemberCandidateRepository candidateRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MemberDuplicateService duplicateService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        duplicateService = new MemberDuplicateService(memberRepository, candidateRepository, entityManager,
+                transactionManager);
+        duplicateService.setParallelism(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void scan_ShouldReplacePendingCandidates_SkippingReviewedPairs() {
+        // Given
+        when(memberRepository.streamDuplicateScanRows()).thenReturn(Stream.of(
+                row(1L, "John", "Smith", "john.smith@ucla.edu", "555-123-4567"),
+                row(2L, "Jon", "Smith", "johnsmith@gmail.com", "5551234567"),
+                row(3L, "Catherine", "Jones", "cjones@usc.edu", null),
+                row(4L, "Katherine", "Jones", "c.jones@asu.edu", null),
+                row(5L, "Maria", "Lopez", "mlopez@asu.edu", null)));
+        when(candidateRepository.findPairsByStatusNot(DuplicateReviewStatus.PENDING))
+                .thenReturn(Collections.singletonList(new Object[] { 3L, 4L }));
+        List<DuplicateMemberCandidate> saved = new ArrayList<>();
+        when(candidateRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            saved.addAll(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+
+        // When
+        DuplicateScanResult result = duplicateService.scan();
+
+        // Then
+        verify(candidateRepository).deleteByStatus(DuplicateReviewStatus.PENDING);
+        assertThat(saved).singleElement().satisfies(candidate -> {
+            assertThat(candidate.getMemberId()).isEqualTo(1L);
+            assertThat(candidate.getDuplicateMemberId()).isEqualTo(2L);
+            assertThat(candidate.getStatus()).isEqualTo(DuplicateReviewStatus.PENDING);
+        });
+        assertThat(result.getMembers()).isEqualTo(5);
+        assertThat(result.getCandidates()).isEqualTo(2);
+        assertThat(result.getQueued()).isEqualTo(1);
+        assertThat(duplicateService.getLastScan()).isSameAs(result);
+        assertThat(duplicateService.isScanRunning()).isFalse();
+    }
+
+    @Test
+    void reviewCandidate_ShouldRecordDecision() {
+        // Given
+        DuplicateMemberCandidate candidate = new DuplicateMemberCandidate(1L, 2L, 0.95, "NAME,EMAIL");
+        when(candidateRepository.findById(7L)).thenReturn(Optional.of(candidate));
+        when(candidateRepository.save(candidate)).thenReturn(candidate);
+
+        // When
+        DuplicateMemberCandidate reviewed = duplicateService.reviewCandidate(7L, DuplicateReviewStatus.DISMISSED);
+
+        // Then
+        assertThat(reviewed.getStatus()).isEqualTo(DuplicateReviewStatus.DISMISSED);
+        assertThat(reviewed.getReviewedAt()).isNotNull();
+    }
+
+    @Test
+    void reviewCandidate_ShouldRejectPendingStatusAndUnknownCandidate() {
+        when(candidateRepository.findById(999L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> duplicateService.reviewCandidate(7L, DuplicateReviewStatus.PENDING))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> duplicateService.reviewCandidate(999L, DuplicateReviewStatus.CONFIRMED))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Duplicate candidate not found with id: 999");
+    }
+
+    @Test
+    void getCandidates_ShouldDefaultToPendingAndCapLimit() {
+        // When
+        duplicateService.getCandidates(null, 10_000);
+
+        // Then
+        ArgumentCaptor<Pageable> page = ArgumentCaptor.forClass(Pageable.class);
+        verify(candidateRepository).findByStatusOrderByScoreDescIdAsc(eq(DuplicateReviewStatus.PENDING), page.capture());
+        assertThat(page.getValue().getPageSize()).isEqualTo(MemberDuplicateService.MAX_REVIEW_LIMIT);
+    }
+
+    private static Object[] row(Long id, String firstName, String lastName, String email, String phone) {
+        return new Object[] { id, firstName, lastName, email, phone };
+    }
+}
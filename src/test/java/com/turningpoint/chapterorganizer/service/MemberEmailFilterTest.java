@@ -0,0 +1,114 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberEmailFilterTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @InjectMocks
+    private MemberEmailFilter emailFilter;
+
+    private final AtomicInteger databaseChecks = new AtomicInteger();
+
+    @Test
+    void exists_ShouldQueryDatabase_UntilFilterIsBuilt() {
+        assertThat(emailFilter.exists("new@example.com", () -> databaseCheck(false))).isFalse();
+        assertThat(databaseChecks.get()).isEqualTo(1);
+        assertThat(emailFilter.isReady()).isFalse();
+    }
+
+    @Test
+    void exists_ShouldRuleOutUnknownEmails_WithoutQueryingDatabase() {
+        // Given
+        buildWith("taken@example.com");
+
+        // When
+        boolean exists = emailFilter.exists("new@example.com", () -> databaseCheck(false));
+
+        // Then
+        assertThat(exists).isFalse();
+        assertThat(databaseChecks.get()).isZero();
+        assertThat(emailFilter.stats()).containsEntry("checks", 1L).containsEntry("ruledOut", 1L);
+    }
+
+    @Test
+    void exists_ShouldAskDatabase_ForKnownEmailsIgnoringCase() {
+        // Given
+        buildWith("taken@example.com");
+
+        // When
+        boolean exists = emailFilter.exists("Taken@Example.com", () -> databaseCheck(true));
+
+        // Then
+        assertThat(exists).isTrue();
+        assertThat(databaseChecks.get()).isEqualTo(1);
+        assertThat(emailFilter.stats()).containsEntry("duplicates", 1L).containsEntry("hitRate", 1.0);
+    }
+
+    @Test
+    void add_ShouldMakeEmailReachDatabaseCheck() {
+        // Given
+        buildWith();
+        emailFilter.add("later@example.com");
+
+        // When
+        emailFilter.exists("later@example.com", () -> databaseCheck(false));
+
+        // Then
+        assertThat(databaseChecks.get()).isEqualTo(1);
+        assertThat(emailFilter.stats()).containsEntry("falsePositives", 1L);
+    }
+
+    @Test
+    void rebuild_ShouldKeepEmailsAddedWhileReadingTheTable() {
+        // Given
+        buildWith("taken@example.com");
+        when(memberRepository.streamNormalizedEmails()).thenReturn(Stream.of("taken@example.com")
+                .peek(email -> emailFilter.add("during@example.com")));
+
+        // When
+        emailFilter.rebuild();
+        emailFilter.exists("during@example.com", () -> databaseCheck(true));
+
+        // Then
+        assertThat(databaseChecks.get()).isEqualTo(1);
+    }
+
+    @Test
+    void rebuild_ShouldDoNothing_WhenDisabled() {
+        // Given
+        emailFilter.setEnabled(false);
+
+        // When
+        emailFilter.rebuild();
+
+        // Then
+        assertThat(emailFilter.isReady()).isFalse();
+        verifyNoInteractions(memberRepository);
+    }
+
+    private void buildWith(String... emails) {
+        when(memberRepository.count()).thenReturn((long) emails.length);
+        when(memberRepository.streamNormalizedEmails()).thenReturn(Stream.of(emails));
+        emailFilter.rebuild();
+    }
+
+    private boolean databaseCheck(boolean result) {
+        databaseChecks.incrementAndGet();
+        return result;
+    }
+}
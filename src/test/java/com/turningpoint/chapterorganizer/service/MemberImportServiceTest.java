@@ -0,0 +1,244 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turningpoint.chapterorganizer.dto.MemberImportResult;
+import com.turningpoint.chapterorganizer.entity.Member;
+import com.turningpoint.chapterorganizer.entity.MemberRole;
+import com.turningpoint.chapterorganizer.repository.ChapterRepository;
+import com.turningpoint.chapterorganizer.repository.MemberRepository;
+import com.turningpoint.chapterorganizer.util.DataFormat;
+import com.turningpoint.chapterorganizer.util.RecordWriter;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberImportServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private ChapterRepository chapterRepository;
+
+    @Mock
+    private ChapterService chapterService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private MemberNameIndex memberNameIndex;
+
+    @Mock
+    private MemberEmailFilter memberEmailFilter;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private MemberImportService memberImportService;
+
+    @BeforeEach
+    void setUp() {
+        memberImportService.setBatchSize(2);
+        // Until the email filter is built, existing emails are loaded up front
+        lenient().when(memberRepository.findAllNormalizedEmails()).thenReturn(List.of("taken@example.com"));
+        when(chapterRepository.findAllChapterIds()).thenReturn(List.of(1L, 2L));
+    }
+
+    @Test
+    void importMembers_ShouldWriteCsvRowsInBatches_AndAdjustCounters() {
+        // Given
+        String csv = "firstName,lastName,email,role,chapterId\n" +
+                "Ann,Lee,ann@example.com,officer,1\n" +
+                "Bob,Ray,bob@example.com,,1\n" +
+                "\"Cy, Jr.\",Day,cy@example.com,MEMBER,2\n";
+
+        // When
+        MemberImportResult result = memberImportService.importMembers(
+                stream(csv), DataFormat.CSV, null);
+
+        // Then
+        assertThat(result.getTotalRows()).isEqualTo(3);
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getFailed()).isZero();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Member>> batches = ArgumentCaptor.forClass(List.class);
+        verify(memberRepository, times(2)).saveAll(batches.capture());
+        assertThat(batches.getAllValues().get(0)).hasSize(2);
+        assertThat(batches.getAllValues().get(1).get(0).getFirstName()).isEqualTo("Cy, Jr.");
+        verify(chapterService).adjustActiveMemberCount(1L, 2);
+        verify(chapterService).adjustActiveMemberCount(2L, 1);
+    }
+
+    @Test
+    void importMembers_ShouldReportRowErrors_AndImportTheRest() {
+        // Given
+        String csv = "first_name,last_name,email,role,chapter_id\n" +
+                "Ann,Lee,TAKEN@example.com,,1\n" +
+                "Bob,Ray,bob@example.com,,9\n" +
+                "Cy,Day,cy@example.com,CAPTAIN,1\n" +
+                "Di,Fox,not-an-email,,1\n" +
+                "Ed,Kim,ed@example.com,,1\n" +
+                "Ed,Again,ED@example.com,,1\n";
+
+        // When
+        MemberImportResult result = memberImportService.importMembers(
+                stream(csv), DataFormat.CSV, null);
+
+        // Then
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(5);
+        assertThat(result.getErrors()).extracting(MemberImportResult.RowError::getLine)
+                .containsExactly(2L, 3L, 4L, 5L, 7L);
+        assertThat(result.getErrors()).extracting(MemberImportResult.RowError::getMessage)
+                .containsExactly("Member with this email already exists",
+                        "Chapter not found with id: 9",
+                        "Invalid role: CAPTAIN",
+                        "Email should be valid",
+                        "Member with this email already exists");
+    }
+
+    @Test
+    void importMembers_ShouldUseDefaultChapter_AndReportMalformedNdjson() {
+        // Given
+        String ndjson = "{\"firstName\":\"Ann\",\"lastName\":\"Lee\",\"email\":\"ann@example.com\"}\n" +
+                "{not json}\n" +
+                "\n" +
+                "{\"firstName\":\"Bob\",\"lastName\":\"Ray\",\"email\":\"bob@example.com\",\"chapterId\":2}\n";
+
+        // When
+        MemberImportResult result = memberImportService.importMembers(
+                stream(ndjson), DataFormat.NDJSON, 1L);
+
+        // Then
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getErrors()).hasSize(1);
+        assertThat(result.getErrors().get(0).getLine()).isEqualTo(2L);
+        assertThat(result.getErrors().get(0).getMessage()).startsWith("Malformed JSON");
+        verify(chapterService).adjustActiveMemberCount(1L, 1);
+        verify(chapterService).adjustActiveMemberCount(2L, 1);
+    }
+
+    @Test
+    void importMembers_ShouldRetryRowByRow_WhenBatchInsertFails() {
+        // Given
+        String csv = "firstName,lastName,email\n" +
+                "Ann,Lee,ann@example.com\n" +
+                "Bob,Ray,bob@example.com\n";
+        when(memberRepository.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                .thenReturn(List.of())
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // When
+        MemberImportResult result = memberImportService.importMembers(
+                stream(csv), DataFormat.CSV, 1L);
+
+        // Then
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getEmail()).isEqualTo("bob@example.com"));
+        verify(memberRepository, times(3)).saveAll(anyList());
+    }
+
+    @Test
+    void importMembers_WhenEmailFilterReady_ShouldOnlyLookUpEmailsItCannotRuleOut() {
+        // Given
+        when(memberEmailFilter.isReady()).thenReturn(true);
+        when(memberEmailFilter.exists(anyString(), any())).thenAnswer(invocation ->
+                !invocation.getArgument(0).equals("new@example.com")
+                        && invocation.<BooleanSupplier>getArgument(1).getAsBoolean());
+        when(memberRepository.existsByEmailIgnoreCase("Taken@example.com")).thenReturn(true);
+        String csv = "firstName,lastName,email\n" +
+                "Ann,Lee,new@example.com\n" +
+                "Bob,Ray,Taken@example.com\n" +
+                "Ann,Lee,NEW@example.com\n";
+
+        // When
+        MemberImportResult result = memberImportService.importMembers(stream(csv), DataFormat.CSV, 1L);
+
+        // Then
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(MemberImportResult.RowError::getLine).containsExactly(3L, 4L);
+        verify(memberRepository, never()).findAllNormalizedEmails();
+        verify(memberRepository, never()).existsByEmailIgnoreCase("new@example.com");
+    }
+
+    @Test
+    void importMembers_ShouldRejectUnknownCsvColumn() {
+        // Given
+        String csv = "firstName,lastName,email,shoeSize\n";
+
+        // When & Then
+        assertThatThrownBy(() -> memberImportService.importMembers(
+                stream(csv), DataFormat.CSV, 1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown CSV column: shoeSize");
+    }
+
+    @Test
+    void importMembers_ShouldImportMemberExportBack() throws Exception {
+        for (DataFormat format : DataFormat.values()) {
+            // Given
+            String email = "exported-" + format.name().toLowerCase() + "@example.com";
+            ByteArrayOutputStream export = new ByteArrayOutputStream();
+            try (RecordWriter writer = RecordWriter.create(format, export, MemberService.EXPORT_COLUMNS)) {
+                writer.write(7L, 2L, "Ann", "Lee", email, null, "SECRETARY", false, "History", 2026,
+                        LocalDateTime.of(2024, 9, 1, 12, 0));
+            }
+
+            // When
+            MemberImportResult result = memberImportService.importMembers(
+                    new ByteArrayInputStream(export.toByteArray()), format, null);
+
+            // Then
+            assertThat(result.getImported()).as(format.name()).isEqualTo(1);
+            assertThat(result.getErrors()).as(format.name()).isEmpty();
+        }
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Member>> batches = ArgumentCaptor.forClass(List.class);
+        verify(memberRepository, times(DataFormat.values().length)).saveAll(batches.capture());
+        for (List<Member> batch : batches.getAllValues()) {
+            Member member = batch.get(0);
+            assertThat(member.getId()).isNull();
+            assertThat(member.getFirstName()).isEqualTo("Ann");
+            assertThat(member.getRole()).isEqualTo(MemberRole.SECRETARY);
+            assertThat(member.getGraduationYear()).isEqualTo("2026");
+        }
+        verify(chapterService, times(DataFormat.values().length)).adjustActiveMemberCount(2L, 1);
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,172 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.dto.MemberPickerDto;
+import com.turningpoint.chapterorganizer.entity.Chapter;
+import com.turningpoint.chapterorganizer.entity.Member;
+import com.turningpoint.chapterorganizer.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberNameIndexTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @InjectMocks
+    private MemberNameIndex nameIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(memberRepository.streamNameIndexRows()).thenReturn(Stream.of(
+                row(1L, 10L, "John", "Smith", true),
+                row(2L, 10L, "Jane", "Smyth", true),
+                row(3L, 20L, "Johnny", "Smithers", true),
+                row(4L, 20L, "Catherine", "O'Brien-N\u00fa\u00f1ez", true),
+                row(5L, 10L, "Kathryn", "Jones", false),
+                row(6L, 20L, "Jon", "Smith", true)));
+        nameIndex.rebuild();
+    }
+
+    @Test
+    void rebuild_ShouldMarkIndexReady() {
+        assertThat(nameIndex.isReady()).isTrue();
+        assertThat(nameIndex.size()).isEqualTo(6);
+    }
+
+    @Test
+    void search_ShouldMatchNamePrefixesIgnoringCaseAndAccents() {
+        assertThat(ids(nameIndex.search("JOH", null, false, 10))).containsExactly(1L, 3L);
+        assertThat(ids(nameIndex.search("nunez", null, false, 10))).containsExactly(4L);
+        assertThat(ids(nameIndex.search("obri", null, false, 10))).containsExactly(4L);
+    }
+
+    @Test
+    void search_ShouldRequireEveryQueryToken() {
+        assertThat(ids(nameIndex.search("john smith", null, false, 10))).startsWith(1L).doesNotContain(4L, 5L);
+        assertThat(ids(nameIndex.search("smith jon", null, false, 10))).startsWith(6L);
+        assertThat(nameIndex.search("john jones", null, false, 10)).isEmpty();
+    }
+
+    @Test
+    void search_ShouldMatchSoundAlikeNames() {
+        assertThat(ids(nameIndex.search("smyth", null, false, 10))).containsExactly(2L, 1L, 6L);
+        assertThat(ids(nameIndex.search("kathryn", null, false, 10))).containsExactly(5L, 4L);
+    }
+
+    @Test
+    void search_ShouldRankExactBeforePrefixBeforeSoundAlike() {
+        // Given / When
+        List<MemberPickerDto> results = nameIndex.search("smith", null, false, 10);
+
+        // Then
+        assertThat(ids(results)).containsExactly(1L, 6L, 3L, 2L);
+        assertThat(results.get(0).getFullName()).isEqualTo("John Smith");
+        assertThat(results.get(0).getChapterId()).isEqualTo(10L);
+        assertThat(results.get(0).getChapterName()).isNull();
+    }
+
+    @Test
+    void search_ShouldKeepOnlyTopResults() {
+        assertThat(ids(nameIndex.search("smith", null, false, 2))).containsExactly(1L, 6L);
+    }
+
+    @Test
+    void search_ShouldFilterByChapterAndActiveStatus() {
+        assertThat(ids(nameIndex.search("smith", 20L, false, 10))).containsExactly(6L, 3L);
+        assertThat(ids(nameIndex.search("kathryn", null, true, 10))).containsExactly(4L);
+    }
+
+    @Test
+    void search_ShouldReturnEmpty_ForBlankQueryOrNoMatch() {
+        assertThat(nameIndex.search("  ", null, false, 10)).isEmpty();
+        assertThat(nameIndex.search("zzz", null, false, 10)).isEmpty();
+    }
+
+    @Test
+    void onMemberSaved_ShouldReplacePreviousEntry() {
+        // Given
+        Member renamed = member(1L, 20L, "John", "Walker", true);
+
+        // When
+        nameIndex.onMemberSaved(renamed);
+
+        // Then
+        assertThat(ids(nameIndex.search("smith", null, false, 10))).containsExactly(6L, 3L, 2L);
+        assertThat(ids(nameIndex.search("walk", 20L, false, 10))).containsExactly(1L);
+        assertThat(nameIndex.size()).isEqualTo(6);
+    }
+
+    @Test
+    void onMemberRemoved_ShouldDropEntry() {
+        nameIndex.onMemberRemoved(2L);
+
+        assertThat(ids(nameIndex.search("jane", null, false, 10))).doesNotContain(2L);
+        assertThat(nameIndex.size()).isEqualTo(5);
+    }
+
+    @Test
+    void onChapterMembersChanged_ShouldReloadChapterRows() {
+        // Given
+        when(memberRepository.findNameIndexRowsByChapterId(30L)).thenReturn(Collections.singletonList(
+                row(1L, 30L, "John", "Smith", true)));
+
+        // When
+        nameIndex.onChapterMembersChanged(30L);
+
+        // Then
+        assertThat(ids(nameIndex.search("smith", 30L, false, 10))).containsExactly(1L);
+        assertThat(ids(nameIndex.search("smith", 10L, false, 10))).containsExactly(2L);
+    }
+
+    @Test
+    void phoneticKey_ShouldGroupCommonSpellingVariants() {
+        assertThat(MemberNameIndex.phoneticKey("smith")).isEqualTo(MemberNameIndex.phoneticKey("smyth"));
+        assertThat(MemberNameIndex.phoneticKey("catherine")).isEqualTo(MemberNameIndex.phoneticKey("kathryn"));
+        assertThat(MemberNameIndex.phoneticKey("philip")).isEqualTo(MemberNameIndex.phoneticKey("filip"));
+        assertThat(MemberNameIndex.phoneticKey("smith")).isNotEqualTo(MemberNameIndex.phoneticKey("jones"));
+    }
+
+    @Test
+    void rebuild_ShouldDoNothing_InDatabaseMode() {
+        // Given
+        MemberNameIndex disabled = new MemberNameIndex(memberRepository);
+        disabled.setSearchMode("database");
+
+        // When
+        disabled.rebuild();
+
+        // Then
+        assertThat(disabled.isReady()).isFalse();
+        verify(memberRepository, times(1)).streamNameIndexRows();
+    }
+
+    private static Object[] row(Long id, Long chapterId, String firstName, String lastName, boolean active) {
+        return new Object[] { id, chapterId, firstName, lastName, active };
+    }
+
+    private static Member member(Long id, Long chapterId, String firstName, String lastName, boolean active) {
+        Chapter chapter = new Chapter();
+        chapter.setId(chapterId);
+        Member member = new Member(firstName, lastName, firstName.toLowerCase() + "@example.com", chapter);
+        member.setId(id);
+        member.setActive(active);
+        return member;
+    }
+
+    private static List<Long> ids(List<MemberPickerDto> results) {
+        return results.stream().map(MemberPickerDto::getId).collect(Collectors.toList());
+    }
+}
@@ -1,19 +1,40 @@
 package com.turningpoint.chapterorganizer.service;
 
+import com.turningpoint.chapterorganizer.dto.CursorPage;
+import com.turningpoint.chapterorganizer.dto.MemberPickerDto;
+import com.turningpoint.chapterorganizer.dto.MemberSearchCriteria;
+import com.turningpoint.chapterorganizer.dto.MemberSummaryDto;
+import com.turningpoint.chapterorganizer.dto.MemberTransferRequest;
+import com.turningpoint.chapterorganizer.dto.MemberTransferResult;
+import com.turningpoint.chapterorganizer.dto.RoleCountDto;
 import com.turningpoint.chapterorganizer.entity.Chapter;
 import com.turningpoint.chapterorganizer.entity.Member;
 import com.turningpoint.chapterorganizer.entity.MemberRole;
 import com.turningpoint.chapterorganizer.repository.MemberRepository;
+import com.turningpoint.chapterorganizer.util.BoundedCache;
+import com.turningpoint.chapterorganizer.util.DataFormat;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -28,6 +49,23 @@ class MemberServiceTest {
     @Mock
     private ChapterService chapterService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private MemberNameIndex memberNameIndex;
+
+    // Never built, so every email check reaches the repository unless stubbed
+    @Spy
+    private MemberEmailFilter memberEmailFilter = new MemberEmailFilter(null);
+
+    @Spy
+    private BoundedCache<Long, List<MemberSummaryDto>> officerRosterCache =
+            new BoundedCache<>("officerRosters", 100, Duration.ofMinutes(10));
+
     @InjectMocks
     private MemberService memberService;
 
@@ -73,6 +111,22 @@ class MemberServiceTest {
         verify(memberRepository).save(newMember);
     }
 
+    @Test
+    void createMember_ShouldSkipEmailQuery_WhenEmailFilterRulesItOut() {
+        // Given
+        Member newMember = new Member("Jane", "Smith", "jane.smith@example.com", testChapter);
+        doReturn(false).when(memberEmailFilter).exists(eq("jane.smith@example.com"), any());
+        when(chapterService.getChapterById(testChapter.getId())).thenReturn(Optional.of(testChapter));
+        when(memberRepository.save(any(Member.class))).thenReturn(newMember);
+
+        // When
+        memberService.createMember(newMember);
+
+        // Then
+        verify(memberRepository, never()).existsByEmail(any());
+        verify(memberEmailFilter).add("jane.smith@example.com");
+    }
+
     @Test
     void createMember_ShouldThrowException_WhenEmailAlreadyExists() {
         // Given
@@ -203,4 +257,328 @@ class MemberServiceTest {
         // Then
         assertThat(result).isEqualTo(5L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void createMember_ShouldIncrementChapterCounter_WhenMemberActive() {
+        // Given
+        Member newMember = new Member("Jane", "Smith", "jane.smith@example.com", testChapter);
+        when(memberRepository.existsByEmail(newMember.getEmail())).thenReturn(false);
+        when(chapterService.getChapterById(testChapter.getId())).thenReturn(Optional.of(testChapter));
+        when(memberRepository.save(any(Member.class))).thenReturn(newMember);
+
+        // When
+        memberService.createMember(newMember);
+
+        // Then
+        verify(chapterService).adjustActiveMemberCount(1L, 1);
+    }
+
+    @Test
+    void deactivateMember_ShouldNotTouchCounter_WhenAlreadyInactive() {
+        // Given
+        testMember.setActive(false);
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(testMember));
+
+        // When
+        memberService.deactivateMember(1L);
+
+        // Then
+        verify(chapterService, never()).adjustActiveMemberCount(anyLong(), anyInt());
+    }
+
+    @Test
+    void reactivateMember_ShouldIncrementCounter_WhenPreviouslyInactive() {
+        // Given
+        testMember.setActive(false);
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(testMember));
+        when(memberRepository.save(any(Member.class))).thenReturn(testMember);
+
+        // When
+        memberService.reactivateMember(1L);
+
+        // Then
+        verify(chapterService).adjustActiveMemberCount(1L, 1);
+    }
+
+    @Test
+    void transferMemberToChapter_ShouldMoveCounter_BetweenChapters() {
+        // Given
+        Chapter otherChapter = new Chapter("Other Chapter", "Other University", "Texas", "Austin");
+        otherChapter.setId(2L);
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(testMember));
+        when(chapterService.getChapterById(2L)).thenReturn(Optional.of(otherChapter));
+        when(memberRepository.save(any(Member.class))).thenReturn(testMember);
+
+        // When
+        Member result = memberService.transferMemberToChapter(1L, 2L);
+
+        // Then
+        assertThat(result.getChapter().getId()).isEqualTo(2L);
+        verify(chapterService).adjustActiveMemberCount(1L, -1);
+        verify(chapterService).adjustActiveMemberCount(2L, 1);
+    }
+
+    @Test
+    void updateMemberRole_ShouldPublishChapterChange() {
+        // Given
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(testMember));
+        when(memberRepository.save(any(Member.class))).thenReturn(testMember);
+
+        // When
+        memberService.updateMemberRole(1L, MemberRole.TREASURER);
+
+        // Then
+        ArgumentCaptor<ChapterDataChangedEvent> event = ArgumentCaptor.forClass(ChapterDataChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getChapterId()).isEqualTo(1L);
+    }
+
+    @Test
+    void transferMemberToChapter_ShouldPublishChange_ForBothChapters() {
+        // Given
+        Chapter otherChapter = new Chapter("Other Chapter", "Other University", "Texas", "Austin");
+        otherChapter.setId(2L);
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(testMember));
+        when(chapterService.getChapterById(2L)).thenReturn(Optional.of(otherChapter));
+        when(memberRepository.save(any(Member.class))).thenReturn(testMember);
+
+        // When
+        memberService.transferMemberToChapter(1L, 2L);
+
+        // Then
+        ArgumentCaptor<ChapterDataChangedEvent> events = ArgumentCaptor.forClass(ChapterDataChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).extracting(ChapterDataChangedEvent::getChapterId)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void exportMembers_ShouldWriteCsvWithHeader_AndQuoteSpecialCharacters() throws Exception {
+        // Given
+        testMember.setMajor("Economics, Finance");
+        when(memberRepository.streamByChapterId(1L)).thenReturn(Stream.of(testMember));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long rows = memberService.exportMembers(1L, DataFormat.CSV, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(rows).isEqualTo(1);
+        assertThat(lines[0]).isEqualTo(String.join(",", MemberService.EXPORT_COLUMNS));
+        assertThat(lines[1]).isEqualTo("1,1,John,Doe,john.doe@example.com,,MEMBER,true,\"Economics, Finance\",,");
+        verify(memberRepository, never()).streamAll();
+    }
+
+    @Test
+    void exportMembers_ShouldClearPersistenceContext_Periodically() throws Exception {
+        // Given
+        int total = MemberService.EXPORT_CLEAR_INTERVAL * 2 + 1;
+        when(memberRepository.streamAll()).thenReturn(IntStream.range(0, total).mapToObj(i -> testMember));
+
+        // When
+        long rows = memberService.exportMembers(null, DataFormat.NDJSON, new ByteArrayOutputStream());
+
+        // Then
+        assertThat(rows).isEqualTo(total);
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void searchMembers_ShouldReturnFirstPage_WithCursorAndTotalCount() {
+        // Given
+        Member second = new Member("Jane", "Doe", "jane.doe@example.com", testChapter);
+        second.setId(2L);
+        Member third = new Member("Jim", "Doe", "jim.doe@example.com", testChapter);
+        third.setId(3L);
+        when(memberRepository.findBy(ArgumentMatchers.<Specification<Member>>any(), any())).thenReturn(List.of(testMember, second, third));
+        when(memberRepository.count(ArgumentMatchers.<Specification<Member>>any())).thenReturn(7L);
+        MemberSearchCriteria criteria = new MemberSearchCriteria();
+        criteria.setLastName("do");
+
+        // When
+        CursorPage<MemberSummaryDto> page = memberService.searchMembers(criteria, null, 2);
+
+        // Then
+        assertThat(page.getItems()).extracting(MemberSummaryDto::getId).containsExactly(1L, 2L);
+        assertThat(page.getItems().get(0).getChapterId()).isEqualTo(1L);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo(2L);
+        assertThat(page.getTotalCount()).isEqualTo(7L);
+    }
+
+    @Test
+    void searchMembers_ShouldSkipCount_OnContinuationAndLastPages() {
+        // Given
+        when(memberRepository.findBy(ArgumentMatchers.<Specification<Member>>any(), any())).thenReturn(List.of(testMember));
+
+        // When
+        CursorPage<MemberSummaryDto> continuation = memberService.searchMembers(new MemberSearchCriteria(), 0L, 10);
+        CursorPage<MemberSummaryDto> onlyPage = memberService.searchMembers(new MemberSearchCriteria(), null, 10);
+
+        // Then
+        assertThat(continuation.getTotalCount()).isNull();
+        assertThat(continuation.isHasMore()).isFalse();
+        assertThat(continuation.getNextCursor()).isNull();
+        assertThat(onlyPage.getTotalCount()).isEqualTo(1L);
+        verify(memberRepository, never()).count(ArgumentMatchers.<Specification<Member>>any());
+    }
+
+    @Test
+    void transferMembers_ShouldMoveInBulk_AndShiftActiveCounters() {
+        // Given
+        Chapter otherChapter = new Chapter("Other Chapter", "Other University", "Texas", "Austin");
+        otherChapter.setId(2L);
+        when(chapterService.getChapterById(1L)).thenReturn(Optional.of(testChapter));
+        when(chapterService.getChapterById(2L)).thenReturn(Optional.of(otherChapter));
+        when(memberRepository.moveMembersToChapter(1L, 2L, true, null, null)).thenReturn(3);
+        when(memberRepository.moveMembersToChapter(1L, 2L, false, null, null)).thenReturn(2);
+        MemberTransferRequest request = new MemberTransferRequest();
+        request.setSourceChapterId(1L);
+        request.setTargetChapterId(2L);
+
+        // When
+        MemberTransferResult result = memberService.transferMembers(request);
+
+        // Then
+        assertThat(result.getTransferred()).isEqualTo(5);
+        assertThat(result.getActiveTransferred()).isEqualTo(3);
+        verify(chapterService).adjustActiveMemberCount(1L, -3);
+        verify(chapterService).adjustActiveMemberCount(2L, 3);
+        verify(memberRepository, never()).save(any(Member.class));
+        ArgumentCaptor<ChapterDataChangedEvent> events = ArgumentCaptor.forClass(ChapterDataChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).extracting(ChapterDataChangedEvent::getChapterId)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void transferMembers_ShouldOnlyMoveInactiveMembers_WhenFilteredByActiveFalse() {
+        // Given
+        Chapter otherChapter = new Chapter("Other Chapter", "Other University", "Texas", "Austin");
+        otherChapter.setId(2L);
+        when(chapterService.getChapterById(1L)).thenReturn(Optional.of(testChapter));
+        when(chapterService.getChapterById(2L)).thenReturn(Optional.of(otherChapter));
+        when(memberRepository.moveMembersToChapter(1L, 2L, false, List.of(5L, 6L), MemberRole.MEMBER)).thenReturn(2);
+        MemberTransferRequest request = new MemberTransferRequest();
+        request.setSourceChapterId(1L);
+        request.setTargetChapterId(2L);
+        request.setMemberIds(List.of(5L, 6L));
+        request.setRole(MemberRole.MEMBER);
+        request.setActive(false);
+
+        // When
+        MemberTransferResult result = memberService.transferMembers(request);
+
+        // Then
+        assertThat(result.getTransferred()).isEqualTo(2);
+        assertThat(result.getActiveTransferred()).isZero();
+        verify(memberRepository, never()).moveMembersToChapter(anyLong(), anyLong(), eq(true), any(), any());
+        verify(chapterService).adjustActiveMemberCount(1L, 0);
+    }
+
+    @Test
+    void transferMembers_ShouldThrowException_WhenTargetChapterNotFound() {
+        // Given
+        when(chapterService.getChapterById(1L)).thenReturn(Optional.of(testChapter));
+        when(chapterService.getChapterById(999L)).thenReturn(Optional.empty());
+        MemberTransferRequest request = new MemberTransferRequest();
+        request.setSourceChapterId(1L);
+        request.setTargetChapterId(999L);
+
+        // When & Then
+        assertThatThrownBy(() -> memberService.transferMembers(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Chapter not found with id: 999");
+        verify(memberRepository, never()).moveMembersToChapter(anyLong(), anyLong(), anyBoolean(), any(), any());
+    }
+
+    @Test
+    void getOfficerRoster_ShouldSortByOffice_AndServeRepeatLookupsFromCache() {
+        // Given
+        when(memberRepository.findActiveOfficerSummaries(1L)).thenReturn(List.of(
+                new MemberSummaryDto(3L, 1L, "Tom", "Young", MemberRole.TREASURER),
+                new MemberSummaryDto(2L, 1L, "Ann", "Zane", MemberRole.PRESIDENT),
+                new MemberSummaryDto(4L, 1L, "Bea", "Adams", MemberRole.TREASURER)));
+
+        // When
+        List<MemberSummaryDto> first = memberService.getOfficerRoster(1L);
+        List<MemberSummaryDto> second = memberService.getOfficerRoster(1L);
+
+        // Then
+        assertThat(first).extracting(MemberSummaryDto::getId).containsExactly(2L, 4L, 3L);
+        assertThat(second).isSameAs(first);
+        verify(memberRepository, times(1)).findActiveOfficerSummaries(1L);
+    }
+
+    @Test
+    void onChapterDataChanged_ShouldEvictOfficerRoster() {
+        // Given
+        when(memberRepository.findActiveOfficerSummaries(1L)).thenReturn(List.of());
+        memberService.getOfficerRoster(1L);
+
+        // When
+        memberService.onChapterDataChanged(new ChapterDataChangedEvent(1L));
+        memberService.getOfficerRoster(1L);
+
+        // Then
+        verify(memberRepository, times(2)).findActiveOfficerSummaries(1L);
+    }
+
+    @Test
+    void getRoleHistograms_ShouldFillEveryRole_ForEveryRequestedChapter() {
+        // Given
+        when(memberRepository.countActiveMembersByRoleForChapters(any())).thenReturn(List.of(
+                new RoleCountDto(1L, MemberRole.MEMBER, 40L),
+                new RoleCountDto(1L, MemberRole.PRESIDENT, 1L)));
+
+        // When
+        Map<Long, Map<MemberRole, Long>> histograms = memberService.getRoleHistograms(List.of(1L, 2L));
+
+        // Then
+        assertThat(histograms).containsOnlyKeys(1L, 2L);
+        assertThat(histograms.get(1L)).hasSize(MemberRole.values().length)
+                .containsEntry(MemberRole.MEMBER, 40L)
+                .containsEntry(MemberRole.PRESIDENT, 1L)
+                .containsEntry(MemberRole.TREASURER, 0L);
+        assertThat(histograms.get(2L).values()).containsOnly(0L);
+        verify(memberRepository, times(1)).countActiveMembersByRoleForChapters(any());
+    }
+
+    @Test
+    void searchMembersByName_ShouldUseNameIndexOrder_WhenIndexReady() {
+        // Given
+        Member other = new Member("Jon", "Doe", "jon.doe@example.com", testChapter);
+        other.setId(2L);
+        when(memberNameIndex.isReady()).thenReturn(true);
+        when(memberNameIndex.search("doe", null, false, MemberService.MAX_PAGE_SIZE)).thenReturn(List.of(
+                new MemberPickerDto(2L, "Jon", "Doe", 1L, null),
+                new MemberPickerDto(1L, "John", "Doe", 1L, null)));
+        when(memberRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(testMember, other));
+
+        // When
+        List<Member> result = memberService.searchMembersByName("doe");
+
+        // Then
+        assertThat(result).containsExactly(other, testMember);
+        verify(memberRepository, never()).findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(any(), any());
+    }
+
+    @Test
+    void searchMemberPicker_ShouldFillChapterNames_FromIndexResults() {
+        // Given
+        when(memberNameIndex.isReady()).thenReturn(true);
+        when(memberNameIndex.search("jo d", 1L, true, MemberService.MAX_PICKER_SIZE)).thenReturn(List.of(
+                new MemberPickerDto(1L, "John", "Doe", 1L, null),
+                new MemberPickerDto(2L, "Jon", "Doe", 1L, null)));
+        when(chapterService.getChapterById(1L)).thenReturn(Optional.of(testChapter));
+
+        // When
+        List<MemberPickerDto> result = memberService.searchMemberPicker("jo d", 1L, 500);
+
+        // Then
+        assertThat(result).extracting(MemberPickerDto::getChapterName).containsOnly("Test Chapter");
+        verify(chapterService, times(1)).getChapterById(1L);
+        verifyNoInteractions(memberRepository);
+    }
+}
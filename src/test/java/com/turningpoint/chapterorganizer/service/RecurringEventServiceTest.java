@@ -0,0 +1,223 @@
+package com.turningpoint.chapterorganizer.service;
+
+import com.turningpoint.chapterorganizer.dto.EventSummaryDto;
+import com.turningpoint.chapterorganizer.entity.Chapter;
+import com.turningpoint.chapterorganizer.entity.Event;
+import com.turningpoint.chapterorganizer.entity.RecurrencePattern;
+import com.turningpoint.chapterorganizer.entity.RecurringEvent;
+import com.turningpoint.chapterorganizer.repository.EventRepository;
+import com.turningpoint.chapterorganizer.repository.RecurringEventRepository;
+import com.turningpoint.chapterorganizer.util.BoundedCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecurringEventServiceTest {
+
+    @Mock
+    private RecurringEventRepository recurringEventRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private ChapterService chapterService;
+
+    @Mock
+    private EventScheduleIndex scheduleIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private BoundedCache<String, List<LocalDateTime>> occurrenceCache;
+    private RecurringEventService recurringEventService;
+    private Chapter chapter;
+
+    @BeforeEach
+    void setUp() {
+        chapter = new Chapter();
+        chapter.setId(1L);
+        occurrenceCache = new BoundedCache<>("recurringOccurrences", 100, Duration.ofHours(1));
+        recurringEventService = new RecurringEventService(recurringEventRepository, eventRepository, chapterService,
+                occurrenceCache, scheduleIndex, eventPublisher);
+    }
+
+    @Test
+    void createRecurringEvent_WithOccurrenceLimit_ShouldDeriveSeriesEnd() {
+        // Given
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+        RecurringEvent weekly = new RecurringEvent("Weekly Meeting", start, RecurrencePattern.WEEKLY, chapter);
+        weekly.setRepeatInterval(2);
+        weekly.setOccurrenceLimit(10);
+        when(chapterService.getChapterById(1L)).thenReturn(Optional.of(chapter));
+        when(recurringEventRepository.save(weekly)).thenReturn(weekly);
+
+        // When
+        RecurringEvent result = recurringEventService.createRecurringEvent(weekly);
+
+        // Then
+        assertThat(result.getSeriesEnd()).isEqualTo(start.plusWeeks(18));
+        assertThat(result.getActive()).isTrue();
+    }
+
+    @Test
+    void createRecurringEvent_ShouldRejectSeriesEndingBeforeItStarts() {
+        // Given
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        RecurringEvent weekly = new RecurringEvent("Weekly Meeting", start, RecurrencePattern.WEEKLY, chapter);
+        weekly.setUntilDateTime(start.minusDays(1));
+        when(chapterService.getChapterById(1L)).thenReturn(Optional.of(chapter));
+
+        // When & Then
+        assertThatThrownBy(() -> recurringEventService.createRecurringEvent(weekly))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Series cannot end before it starts");
+        verify(recurringEventRepository, never()).save(any());
+    }
+
+    @Test
+    void getOccurrenceSummaries_ShouldExpandOnlyTheWindow_WithoutSkippedOrOverriddenDates() {
+        // Given: a weekly series started ten years before the window
+        RecurringEvent weekly = rule(7L, LocalDateTime.of(2030, 1, 7, 18, 0), RecurrencePattern.WEEKLY);
+        weekly.getExcludedDates().add(LocalDate.of(2040, 3, 12));
+        LocalDateTime start = LocalDateTime.of(2040, 3, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2040, 4, 1, 0, 0);
+        when(recurringEventRepository.findActiveOverlapping(1L, null, start, end)).thenReturn(List.of(weekly));
+        when(eventRepository.findOccurrenceOverrides(List.of(7L), start.toLocalDate(), end.toLocalDate()))
+                .thenReturn(List.<Object[]>of(new Object[] {7L, LocalDate.of(2040, 3, 19)}));
+
+        // When
+        List<EventSummaryDto> occurrences = recurringEventService.getOccurrenceSummaries(1L, null, start, end,
+                null, 100);
+
+        // Then
+        assertThat(occurrences).extracting(EventSummaryDto::getEventDateTime).containsExactly(
+                LocalDateTime.of(2040, 3, 5, 18, 0), LocalDateTime.of(2040, 3, 26, 18, 0));
+        assertThat(occurrences.get(0).getId()).isNull();
+        assertThat(occurrences.get(0).getRecurringEventId()).isEqualTo(7L);
+        assertThat(occurrences.get(0).getOccurrenceDate()).isEqualTo(LocalDate.of(2040, 3, 5));
+    }
+
+    @Test
+    void getOccurrenceSummaries_ShouldCacheMonthsPerRuleVersion() {
+        // Given
+        RecurringEvent daily = rule(7L, LocalDateTime.of(2030, 1, 1, 8, 0), RecurrencePattern.DAILY);
+        LocalDateTime start = LocalDateTime.of(2030, 1, 10, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2030, 1, 20, 0, 0);
+        when(recurringEventRepository.findActiveOverlapping(null, null, start, end)).thenReturn(List.of(daily));
+
+        // When
+        recurringEventService.getOccurrenceSummaries(null, null, start, end, null, 100);
+        recurringEventService.getOccurrenceSummaries(null, null, start, end, null, 100);
+        daily.setVersion(1L);
+        List<EventSummaryDto> afterEdit = recurringEventService.getOccurrenceSummaries(null, null, start, end,
+                null, 100);
+
+        // Then
+        assertThat(afterEdit).hasSize(10);
+        assertThat(occurrenceCache.stats()).containsEntry("hits", 1L).containsEntry("misses", 2L);
+    }
+
+    @Test
+    void getOccurrenceSummaries_ShouldResumeAfterTheCursorRule() {
+        // Given: two rules with an occurrence at the same time
+        LocalDateTime first = LocalDateTime.of(2030, 1, 7, 18, 0);
+        RecurringEvent a = rule(7L, first, RecurrencePattern.WEEKLY);
+        RecurringEvent b = rule(8L, first, RecurrencePattern.WEEKLY);
+        LocalDateTime end = first.plusDays(7);
+        when(recurringEventRepository.findActiveOverlapping(null, null, first, end)).thenReturn(List.of(b, a));
+
+        // When
+        List<EventSummaryDto> all = recurringEventService.getOccurrenceSummaries(null, null, first, end, null, 10);
+        List<EventSummaryDto> afterA = recurringEventService.getOccurrenceSummaries(null, null, first, end, 7L, 10);
+
+        // Then
+        assertThat(all).extracting(EventSummaryDto::getRecurringEventId).containsExactly(7L, 8L);
+        assertThat(afterA).extracting(EventSummaryDto::getRecurringEventId).containsExactly(8L);
+    }
+
+    @Test
+    void monthlyPattern_ShouldKeepDayOfMonthAfterShortMonths() {
+        // Given
+        LocalDateTime first = LocalDateTime.of(2030, 1, 31, 19, 0);
+
+        // When
+        long index = RecurrencePattern.MONTHLY.firstIndexAtOrAfter(first, 1, LocalDateTime.of(2030, 2, 1, 0, 0));
+
+        // Then
+        assertThat(index).isEqualTo(1);
+        assertThat(RecurrencePattern.MONTHLY.occurrence(first, 1, 1)).isEqualTo(LocalDateTime.of(2030, 2, 28, 19, 0));
+        assertThat(RecurrencePattern.MONTHLY.occurrence(first, 1, 2)).isEqualTo(LocalDateTime.of(2030, 3, 31, 19, 0));
+    }
+
+    @Test
+    void occurrenceCursor_ShouldRoundTrip() {
+        // Given
+        RecurringEvent weekly = rule(123456L, LocalDateTime.of(2030, 1, 7, 18, 0), RecurrencePattern.WEEKLY);
+        when(recurringEventRepository.findById(123456L)).thenReturn(Optional.of(weekly));
+
+        // When
+        long cursor = RecurringEventService.occurrenceCursor(123456L, LocalDate.of(2031, 6, 2));
+
+        // Then
+        assertThat(cursor).isNegative();
+        assertThat(RecurringEventService.cursorRecurringEventId(cursor)).isEqualTo(123456L);
+        assertThat(recurringEventService.getCursorOccurrenceStart(cursor))
+                .isEqualTo(LocalDateTime.of(2031, 6, 2, 18, 0));
+    }
+
+    @Test
+    void materializeOccurrence_ShouldRejectDatesWithoutAnOccurrence() {
+        // Given
+        RecurringEvent weekly = rule(7L, LocalDateTime.now().plusDays(1), RecurrencePattern.WEEKLY);
+        LocalDate wrongDay = weekly.getStartDateTime().toLocalDate().plusDays(1);
+        when(eventRepository.findByRecurringEventIdAndOccurrenceDate(7L, wrongDay)).thenReturn(Optional.empty());
+        when(recurringEventRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(weekly));
+
+        // When & Then
+        assertThatThrownBy(() -> recurringEventService.materializeOccurrence(7L, wrongDay))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("has no occurrence on");
+        verify(eventRepository, never()).save(any());
+    }
+
+    @Test
+    void materializeOccurrence_WhenMaterializedWhileWaitingForLock_ShouldReturnExistingEvent() {
+        // Given
+        RecurringEvent weekly = rule(7L, LocalDateTime.now().plusDays(1), RecurrencePattern.WEEKLY);
+        LocalDate date = weekly.getStartDateTime().toLocalDate();
+        Event winner = new Event(weekly.getTitle(), weekly.getStartDateTime(), chapter);
+        winner.setId(70L);
+        when(eventRepository.findByRecurringEventIdAndOccurrenceDate(7L, date)).thenReturn(Optional.empty())
+                .thenReturn(Optional.of(winner));
+        when(recurringEventRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(weekly));
+
+        // When
+        Event result = recurringEventService.materializeOccurrence(7L, date);
+
+        // Then
+        assertThat(result).isSameAs(winner);
+        verify(eventRepository, never()).save(any());
+    }
+
+    private RecurringEvent rule(Long id, LocalDateTime start, RecurrencePattern pattern) {
+        RecurringEvent recurringEvent = new RecurringEvent("Meeting " + id, start, pattern, chapter);
+        recurringEvent.setId(id);
+        recurringEvent.setVersion(0L);
+        return recurringEvent;
+    }
+}
@@ -0,0 +1,112 @@
+package com.turningpoint.chapterorganizer.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AppendLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void unapplied_ShouldReturnRecordsAfterCheckpoint_AcrossReopen() throws Exception {
+        // Given
+        long first;
+        try (AppendLog log = new AppendLog(directory, "scans", 1024 * 1024)) {
+            first = log.write("1,10");
+            long second = log.write("1,11");
+            log.write("2,10");
+            log.sync(second);
+            log.checkpoint(first);
+        }
+
+        // When
+        List<AppendLog.Entry> entries;
+        try (AppendLog log = new AppendLog(directory, "scans", 1024 * 1024)) {
+            entries = log.unapplied();
+        }
+
+        // Then
+        assertThat(entries).extracting(AppendLog.Entry::getRecord).containsExactly("1,11", "2,10");
+        assertThat(entries.get(0).getEnd()).isGreaterThan(first);
+    }
+
+    @Test
+    void open_ShouldCutOffTornLastRecord() throws Exception {
+        // Given
+        long end;
+        try (AppendLog log = new AppendLog(directory, "scans", 1024 * 1024)) {
+            log.write("1,10");
+            end = log.write("1,11");
+        }
+        Files.write(directory.resolve("scans.log"), "1,12 5f3".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        // When
+        try (AppendLog log = new AppendLog(directory, "scans", 1024 * 1024)) {
+            List<AppendLog.Entry> entries = log.unapplied();
+            long next = log.write("1,13");
+
+            // Then
+            assertThat(entries).extracting(AppendLog.Entry::getRecord).containsExactly("1,10", "1,11");
+            assertThat(log.size()).isEqualTo(next);
+            assertThat(next).isGreaterThan(end);
+        }
+        try (AppendLog log = new AppendLog(directory, "scans", 1024 * 1024)) {
+            assertThat(log.unapplied()).extracting(AppendLog.Entry::getRecord).containsExactly("1,10", "1,11", "1,13");
+        }
+    }
+
+    @Test
+    void open_ShouldStopAtCorruptedRecord() throws Exception {
+        // Given
+        try (AppendLog log = new AppendLog(directory, "scans", 1024 * 1024)) {
+            log.write("1,10");
+            log.write("1,11");
+        }
+        Path file = directory.resolve("scans.log");
+        Files.writeString(file, Files.readString(file).replace("1,11", "1,99"));
+
+        // When
+        try (AppendLog log = new AppendLog(directory, "scans", 1024 * 1024)) {
+
+            // Then
+            assertThat(log.unapplied()).extracting(AppendLog.Entry::getRecord).containsExactly("1,10");
+        }
+    }
+
+    @Test
+    void checkpoint_WhenAllAppliedAndLogLarge_ShouldEmptyLog() throws Exception {
+        // Given
+        try (AppendLog log = new AppendLog(directory, "scans", 10)) {
+            log.write("1,10");
+            long end = log.write("1,11");
+
+            // When
+            log.checkpoint(end);
+            long next = log.write("2,10");
+
+            // Then
+            assertThat(log.unapplied()).extracting(AppendLog.Entry::getRecord).containsExactly("2,10");
+            assertThat(log.size()).isEqualTo(next);
+        }
+        try (AppendLog log = new AppendLog(directory, "scans", 10)) {
+            assertThat(log.unapplied()).extracting(AppendLog.Entry::getRecord).containsExactly("2,10");
+        }
+    }
+
+    @Test
+    void write_ShouldRejectLineBreaks() throws Exception {
+        try (AppendLog log = new AppendLog(directory, "scans", 1024)) {
+            assertThatThrownBy(() -> log.write("1,10\n2,10")).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.turningpoint.chapterorganizer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_ShouldNeverMissAddedValues() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        // When
+        IntStream.range(0, 10_000).forEach(i -> filter.put("member" + i + "@example.com"));
+
+        // Then
+        assertThat(IntStream.range(0, 10_000).allMatch(i -> filter.mightContain("member" + i + "@example.com")))
+                .isTrue();
+        assertThat(filter.getInsertions()).isBetween(9_900L, 10_000L);
+    }
+
+    @Test
+    void mightContain_ShouldKeepFalsePositivesNearConfiguredRate() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("member" + i + "@example.com"));
+
+        // When
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("new" + i + "@example.org"))
+                .count();
+
+        // Then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.015);
+    }
+
+    @Test
+    void put_ShouldReportWhetherFilterChanged() {
+        BloomFilter filter = new BloomFilter(100, 0.01);
+
+        assertThat(filter.put("a@example.com")).isTrue();
+        assertThat(filter.put("a@example.com")).isFalse();
+        assertThat(filter.getInsertions()).isEqualTo(1);
+    }
+
+    @Test
+    void constructor_ShouldRejectInvalidSizing() {
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(100, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,94 @@
+package com.turningpoint.chapterorganizer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BoundedCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private BoundedCache<Long, String> cache(int maximumSize) {
+        return new BoundedCache<>("test", maximumSize, Duration.ofSeconds(60), clock::get);
+    }
+
+    @Test
+    void getOrLoad_ShouldLoadOnce_AndCountHitsAndMisses() {
+        // Given
+        BoundedCache<Long, String> cache = cache(10);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        cache.getOrLoad(1L, key -> "one#" + loads.incrementAndGet());
+        String result = cache.getOrLoad(1L, key -> "one#" + loads.incrementAndGet());
+
+        // Then
+        assertThat(result).isEqualTo("one#1");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.stats()).containsEntry("hits", 1L).containsEntry("misses", 1L);
+    }
+
+    @Test
+    void getOrLoad_ShouldNotCacheNull() {
+        // Given
+        BoundedCache<Long, String> cache = cache(10);
+
+        // When
+        cache.getOrLoad(1L, key -> null);
+
+        // Then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void put_ShouldEvictLeastRecentlyUsed_WhenFull() {
+        // Given
+        BoundedCache<Long, String> cache = cache(2);
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+        cache.get(1L);
+
+        // When
+        cache.put(3L, "three");
+
+        // Then
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(1L)).isEqualTo("one");
+        assertThat(cache.get(3L)).isEqualTo("three");
+        assertThat(cache.stats()).containsEntry("evictions", 1L);
+    }
+
+    @Test
+    void get_ShouldExpireEntries_AfterTimeToLive() {
+        // Given
+        BoundedCache<Long, String> cache = cache(10);
+        cache.put(1L, "one");
+
+        // When
+        clock.addAndGet(Duration.ofSeconds(61).toNanos());
+
+        // Then
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.stats()).containsEntry("expirations", 1L);
+    }
+
+    @Test
+    void getOrLoad_ShouldDiscardLoadedValue_WhenInvalidatedDuringLoad() {
+        // Given
+        BoundedCache<Long, String> cache = cache(10);
+
+        // When
+        String result = cache.getOrLoad(1L, key -> {
+            cache.invalidate(1L);
+            return "stale";
+        });
+
+        // Then
+        assertThat(result).isEqualTo("stale");
+        assertThat(cache.get(1L)).isNull();
+    }
+}
@@ -0,0 +1,38 @@
+package com.turningpoint.chapterorganizer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CsvReaderTest {
+
+    @Test
+    void readRecord_ShouldHandleQuotesEscapesAndEmbeddedNewlines() throws IOException {
+        // Given
+        CsvReader reader = new CsvReader(new StringReader(
+                "a,\"b,c\",\"say \"\"hi\"\"\"\r\n\"multi\nline\",,end\nlast"));
+
+        // When & Then
+        assertThat(reader.readRecord()).containsExactly("a", "b,c", "say \"hi\"");
+        assertThat(reader.getRecordLine()).isEqualTo(1);
+        assertThat(reader.readRecord()).containsExactly("multi\nline", "", "end");
+        assertThat(reader.getRecordLine()).isEqualTo(2);
+        assertThat(reader.readRecord()).containsExactly("last");
+        assertThat(reader.getRecordLine()).isEqualTo(4);
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @Test
+    void readRecord_ShouldFail_OnUnterminatedQuote() {
+        // Given
+        CsvReader reader = new CsvReader(new StringReader("a,\"never closed\n"));
+
+        // When & Then
+        assertThatThrownBy(reader::readRecord)
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("line 1");
+    }
+}
@@ -0,0 +1,42 @@
+package com.turningpoint.chapterorganizer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ICalendarTest {
+
+    @Test
+    void text_ShouldEscapeSpecialCharacters() {
+        // When & Then
+        assertThat(ICalendar.text("Pizza, games; fun\\more\r\nnext")).isEqualTo("Pizza\\, games\\; fun\\\\more\\nnext");
+        assertThat(ICalendar.text(null)).isEmpty();
+    }
+
+    @Test
+    void line_ShouldFoldAt75OctetsWithoutSplittingCharacters() {
+        // Given
+        StringBuilder out = new StringBuilder();
+        String value = "\u00e9".repeat(100);
+
+        // When
+        ICalendar.line(out, "SUMMARY", value);
+
+        // Then
+        String[] lines = out.toString().split("\r\n");
+        assertThat(lines.length).isGreaterThan(1);
+        for (String line : lines) {
+            assertThat(line.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75);
+        }
+        assertThat(out.toString().replace("\r\n ", "")).isEqualTo("SUMMARY:" + value + "\r\n");
+    }
+
+    @Test
+    void dateTime_ShouldFormatFloatingTime() {
+        // When & Then
+        assertThat(ICalendar.dateTime(LocalDateTime.of(2030, 3, 5, 18, 30, 5))).isEqualTo("20300305T183005");
+    }
+}
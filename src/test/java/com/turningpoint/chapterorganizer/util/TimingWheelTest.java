@@ -0,0 +1,112 @@
+package com.turningpoint.chapterorganizer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    void advance_ShouldExpireTimersAtTheirDeadline() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(10, 3, START);
+        wheel.schedule(START + 25, "soon");
+        wheel.schedule(START + 5_000, "later");
+        wheel.schedule(START + 300_000, "much later");
+
+        // When
+        // Deadlines are rounded up to the 10ms tick
+        List<String> early = wheel.advance(START + 29);
+        List<String> first = wheel.advance(START + 30);
+        List<String> second = wheel.advance(START + 4_999);
+        List<String> third = wheel.advance(START + 5_000);
+
+        // Then
+        assertThat(early).isEmpty();
+        assertThat(first).containsExactly("soon");
+        assertThat(second).isEmpty();
+        assertThat(third).containsExactly("later");
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(START + 300_000)).containsExactly("much later");
+    }
+
+    @Test
+    void cancel_ShouldRemovePendingTimerOnce() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(10, 3, START);
+        TimingWheel.Timer<String> timer = wheel.schedule(START + 100_000, "cancelled");
+        wheel.schedule(START + 100_000, "kept");
+
+        // When
+        boolean cancelled = wheel.cancel(timer);
+        boolean cancelledAgain = wheel.cancel(timer);
+
+        // Then
+        assertThat(cancelled).isTrue();
+        assertThat(cancelledAgain).isFalse();
+        assertThat(timer.isPending()).isFalse();
+        assertThat(wheel.advance(START + 100_000)).containsExactly("kept");
+    }
+
+    @Test
+    void schedule_WhenDueTimePassed_ShouldExpireOnNextTick() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(10, 3, START);
+        wheel.advance(START + 1_000);
+
+        // When
+        wheel.schedule(START + 500, "missed");
+
+        // Then
+        assertThat(wheel.advance(START + 1_010)).containsExactly("missed");
+    }
+
+    @Test
+    void schedule_BeyondTheWheel_ShouldStillExpireOnTime() {
+        // Given: 2 levels of 64 ticks of 10ms span 40.96s
+        TimingWheel<String> wheel = new TimingWheel<>(10, 2, START);
+        wheel.schedule(START + 100_000, "far");
+
+        // When
+        List<String> before = wheel.advance(START + 99_990);
+        List<String> due = wheel.advance(START + 100_000);
+
+        // Then
+        assertThat(before).isEmpty();
+        assertThat(due).containsExactly("far");
+    }
+
+    @Test
+    void advance_ShouldMatchSortedDeadlines_ForRandomTimers() {
+        // Given
+        TimingWheel<Long> wheel = new TimingWheel<>(1, 3, START);
+        Random random = new Random(42);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            long deadline = START + random.nextInt(400_000);
+            deadlines.add(deadline);
+            wheel.schedule(deadline, deadline);
+        }
+
+        // When
+        List<Long> expired = new ArrayList<>();
+        for (long now = START; now <= START + 400_000; now += 1 + random.nextInt(2_000)) {
+            for (Long deadline : wheel.advance(now)) {
+                assertThat(deadline).isLessThanOrEqualTo(now);
+                expired.add(deadline);
+            }
+        }
+        expired.addAll(wheel.advance(START + 400_000));
+
+        // Then
+        deadlines.sort(null);
+        assertThat(expired).isEqualTo(deadlines);
+        assertThat(wheel.size()).isZero();
+    }
+}